@@ -0,0 +1,58 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point for the NatTable core JMH benchmarks. The benchmarks only
+ * operate on the headless parts of the layer stack, so no SWT Display is
+ * needed to execute them.
+ * <p>
+ * Build and execute the benchmarks from the repository root via
+ * </p>
+ *
+ * <pre>
+ * mvn -Pbenchmark verify -Dbenchmark.skip=false
+ * </pre>
+ * <p>
+ * or run the created <code>target/benchmarks.jar</code> directly. The optional
+ * first argument specifies the file the JSON results are written to, the
+ * optional second argument is a regular expression to select the benchmarks
+ * to execute.
+ * </p>
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+        // private default constructor for main class
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        ChainedOptionsBuilder builder = new OptionsBuilder()
+                .include(args.length > 1 ? args[1] : BenchmarkRunner.class.getPackage().getName() + ".*Benchmark") //$NON-NLS-1$
+                .addProfiler(GCProfiler.class)
+                .jvmArgsAppend("-Djava.awt.headless=true"); //$NON-NLS-1$
+
+        if (args.length > 0) {
+            builder.resultFormat(ResultFormatType.JSON).result(args[0]);
+        }
+
+        new Runner(builder.build()).run();
+    }
+}
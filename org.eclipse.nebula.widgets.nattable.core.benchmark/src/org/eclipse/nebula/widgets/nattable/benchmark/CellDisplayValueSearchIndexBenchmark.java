@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.nebula.widgets.nattable.config.CellConfigAttributes;
+import org.eclipse.nebula.widgets.nattable.config.ConfigRegistry;
+import org.eclipse.nebula.widgets.nattable.coordinate.PositionCoordinate;
+import org.eclipse.nebula.widgets.nattable.data.IDataProvider;
+import org.eclipse.nebula.widgets.nattable.data.convert.DefaultDisplayConverter;
+import org.eclipse.nebula.widgets.nattable.layer.DataLayer;
+import org.eclipse.nebula.widgets.nattable.search.CellValueAsStringComparator;
+import org.eclipse.nebula.widgets.nattable.search.SearchDirection;
+import org.eclipse.nebula.widgets.nattable.search.strategy.CellDisplayValueSearchIndex;
+import org.eclipse.nebula.widgets.nattable.search.strategy.GridSearchStrategy;
+import org.eclipse.nebula.widgets.nattable.selection.SelectionLayer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a grid search for a value that is not contained in the table, with
+ * and without {@link CellDisplayValueSearchIndex}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class CellDisplayValueSearchIndexBenchmark {
+
+    private static final int COLUMN_COUNT = 40;
+
+    @Param({ "100000" })
+    public int rowCount;
+
+    private SelectionLayer selectionLayer;
+
+    private ConfigRegistry configRegistry;
+
+    private CellDisplayValueSearchIndex searchIndex;
+
+    @Setup
+    public void setup() throws InterruptedException {
+        IDataProvider dataProvider = new IDataProvider() {
+
+            @Override
+            public Object getDataValue(int columnIndex, int rowIndex) {
+                return "Value " + ((rowIndex * 31 + columnIndex) % 10000);
+            }
+
+            @Override
+            public void setDataValue(int columnIndex, int rowIndex, Object newValue) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public int getColumnCount() {
+                return COLUMN_COUNT;
+            }
+
+            @Override
+            public int getRowCount() {
+                return CellDisplayValueSearchIndexBenchmark.this.rowCount;
+            }
+        };
+        this.selectionLayer = new SelectionLayer(new DataLayer(dataProvider), false);
+        this.configRegistry = new ConfigRegistry();
+        this.configRegistry.registerConfigAttribute(
+                CellConfigAttributes.DISPLAY_CONVERTER,
+                new DefaultDisplayConverter());
+
+        this.searchIndex = new CellDisplayValueSearchIndex(this.selectionLayer, this.configRegistry);
+        while (!this.searchIndex.isComplete()) {
+            Thread.sleep(100);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.searchIndex.dispose();
+    }
+
+    private PositionCoordinate search(CellDisplayValueSearchIndex index) {
+        GridSearchStrategy strategy = new GridSearchStrategy(this.configRegistry, true, SearchDirection.SEARCH_FORWARD, false);
+        strategy.setContextLayer(this.selectionLayer);
+        strategy.setComparator(new CellValueAsStringComparator<>());
+        strategy.setSearchIndex(index);
+        return strategy.executeSearch("missing");
+    }
+
+    @Benchmark
+    public PositionCoordinate searchWithoutIndex() {
+        return search(null);
+    }
+
+    @Benchmark
+    public PositionCoordinate searchWithIndex() {
+        return search(this.searchIndex);
+    }
+}
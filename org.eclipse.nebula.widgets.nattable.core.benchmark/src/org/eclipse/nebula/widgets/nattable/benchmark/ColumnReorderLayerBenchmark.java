@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.nebula.widgets.nattable.benchmark.DataLayerBenchmark.BenchmarkDataProvider;
+import org.eclipse.nebula.widgets.nattable.layer.DataLayer;
+import org.eclipse.nebula.widgets.nattable.reorder.ColumnReorderLayer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the index/position mapping of a {@link ColumnReorderLayer} with a
+ * shuffled column order, and the cost of a single reorder operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ColumnReorderLayerBenchmark {
+
+    @Param({ "150", "5000" })
+    public int columnCount;
+
+    private ColumnReorderLayer reorderLayer;
+
+    private int[] positions;
+
+    private int next;
+
+    @Setup
+    public void setup() {
+        this.reorderLayer = new ColumnReorderLayer(new DataLayer(new BenchmarkDataProvider(this.columnCount, 10)), false);
+
+        Random random = new Random(42);
+        for (int i = 0; i < this.columnCount; i++) {
+            this.reorderLayer.reorderColumnPosition(random.nextInt(this.columnCount), random.nextInt(this.columnCount));
+        }
+
+        this.positions = new int[1024];
+        for (int i = 0; i < this.positions.length; i++) {
+            this.positions[i] = random.nextInt(this.columnCount);
+        }
+    }
+
+    private int nextPosition() {
+        this.next = (this.next + 1) & (this.positions.length - 1);
+        return this.positions[this.next];
+    }
+
+    @Benchmark
+    public int getColumnIndexByPosition() {
+        return this.reorderLayer.getColumnIndexByPosition(nextPosition());
+    }
+
+    @Benchmark
+    public int getColumnPositionByIndex() {
+        return this.reorderLayer.getColumnPositionByIndex(nextPosition());
+    }
+
+    @Benchmark
+    public int getStartXOfColumnPosition() {
+        return this.reorderLayer.getStartXOfColumnPosition(nextPosition());
+    }
+
+    @Benchmark
+    public int reorderColumnPosition() {
+        int from = nextPosition();
+        int to = nextPosition();
+        this.reorderLayer.reorderColumnPosition(from, to);
+        return this.reorderLayer.getColumnIndexByPosition(to);
+    }
+}
@@ -0,0 +1,28 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.benchmark;
+
+import org.eclipse.nebula.widgets.nattable.config.CompiledConfigRegistry;
+import org.eclipse.nebula.widgets.nattable.config.IConfigRegistry;
+
+/**
+ * Executes the {@link ConfigRegistryBenchmark} against the
+ * {@link CompiledConfigRegistry}.
+ */
+public class CompiledConfigRegistryBenchmark extends ConfigRegistryBenchmark {
+
+    @Override
+    protected IConfigRegistry createConfigRegistry() {
+        return new CompiledConfigRegistry();
+    }
+}
@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.nebula.widgets.nattable.config.CellConfigAttributes;
+import org.eclipse.nebula.widgets.nattable.config.ConfigRegistry;
+import org.eclipse.nebula.widgets.nattable.config.IConfigRegistry;
+import org.eclipse.nebula.widgets.nattable.data.convert.DefaultDisplayConverter;
+import org.eclipse.nebula.widgets.nattable.layer.LabelStack;
+import org.eclipse.nebula.widgets.nattable.style.DisplayMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link IConfigRegistry#getConfigAttribute(org.eclipse.nebula.widgets.nattable.style.ConfigAttribute, DisplayMode, List)}
+ * as it is performed for every painted cell. The registry contains values for
+ * a number of labels in different display modes, and a cell carries a typical
+ * number of labels of which only the last one has a registered value.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ConfigRegistryBenchmark {
+
+    @Param({ "3", "12" })
+    public int labelCount;
+
+    /**
+     * Number of labels for which a value is registered in the registry.
+     */
+    @Param({ "50" })
+    public int registeredLabelCount;
+
+    protected IConfigRegistry configRegistry;
+
+    private LabelStack labels;
+
+    private List<String> missLabels;
+
+    @Setup
+    public void setup() {
+        this.configRegistry = createConfigRegistry();
+
+        for (int i = 0; i < this.registeredLabelCount; i++) {
+            String label = "REGISTERED_" + i; //$NON-NLS-1$
+            this.configRegistry.registerConfigAttribute(CellConfigAttributes.DISPLAY_CONVERTER, new DefaultDisplayConverter(), DisplayMode.NORMAL, label);
+            this.configRegistry.registerConfigAttribute(CellConfigAttributes.DISPLAY_CONVERTER, new DefaultDisplayConverter(), DisplayMode.SELECT, label);
+            this.configRegistry.registerConfigAttribute(CellConfigAttributes.RENDER_GRID_LINES, Boolean.FALSE, DisplayMode.NORMAL, label);
+        }
+
+        this.labels = new LabelStack();
+        for (int i = 0; i < this.labelCount; i++) {
+            this.labels.addLabel("LABEL_" + i); //$NON-NLS-1$
+        }
+
+        this.missLabels = new ArrayList<>();
+        for (int i = 0; i < this.labelCount; i++) {
+            this.missLabels.add("MISS_" + i); //$NON-NLS-1$
+        }
+
+        // register a value for the last label only, so every label is probed
+        this.configRegistry.registerConfigAttribute(
+                CellConfigAttributes.DISPLAY_CONVERTER,
+                new DefaultDisplayConverter(),
+                DisplayMode.NORMAL,
+                "LABEL_" + (this.labelCount - 1)); //$NON-NLS-1$
+        this.configRegistry.registerConfigAttribute(
+                CellConfigAttributes.RENDER_GRID_LINES,
+                Boolean.TRUE);
+    }
+
+    /**
+     * @return The {@link IConfigRegistry} to measure.
+     */
+    protected IConfigRegistry createConfigRegistry() {
+        return new ConfigRegistry();
+    }
+
+    @Benchmark
+    public Object getConfigAttributeLabelMatch() {
+        return this.configRegistry.getConfigAttribute(CellConfigAttributes.DISPLAY_CONVERTER, DisplayMode.SELECT_HOVER, this.labels);
+    }
+
+    @Benchmark
+    public Object getConfigAttributeDefaultFallback() {
+        return this.configRegistry.getConfigAttribute(CellConfigAttributes.RENDER_GRID_LINES, DisplayMode.SELECT_HOVER, this.missLabels);
+    }
+
+    @Benchmark
+    public Object getConfigAttributeMiss() {
+        return this.configRegistry.getConfigAttribute(CellConfigAttributes.CELL_PAINTER, DisplayMode.HOVER, this.missLabels);
+    }
+}
@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.nebula.widgets.nattable.data.IDataProvider;
+import org.eclipse.nebula.widgets.nattable.layer.DataLayer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the cost of reading a full viewport of values via
+ * {@link DataLayer#getDataValueByPosition(int, int)}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class DataLayerBenchmark {
+
+    @Param({ "1000000" })
+    public int rowCount;
+
+    @Param({ "60" })
+    public int columnCount;
+
+    /**
+     * Number of rows visible in the simulated viewport.
+     */
+    @Param({ "200" })
+    public int viewportRows;
+
+    private DataLayer dataLayer;
+
+    private int startRow;
+
+    @Setup
+    public void setup() {
+        this.dataLayer = new DataLayer(new BenchmarkDataProvider(this.columnCount, this.rowCount));
+        this.startRow = this.rowCount / 2;
+    }
+
+    @Benchmark
+    public void getDataValueByPosition(Blackhole bh) {
+        int endRow = this.startRow + this.viewportRows;
+        for (int row = this.startRow; row < endRow; row++) {
+            for (int column = 0; column < this.columnCount; column++) {
+                bh.consume(this.dataLayer.getDataValueByPosition(column, row));
+            }
+        }
+    }
+
+    /**
+     * Simple {@link IDataProvider} that calculates values without holding any
+     * data, so the measurement is not dominated by the data structure.
+     */
+    static class BenchmarkDataProvider implements IDataProvider {
+
+        private final int columnCount;
+        private final int rowCount;
+
+        BenchmarkDataProvider(int columnCount, int rowCount) {
+            this.columnCount = columnCount;
+            this.rowCount = rowCount;
+        }
+
+        @Override
+        public Object getDataValue(int columnIndex, int rowIndex) {
+            return Integer.valueOf(columnIndex * rowIndex);
+        }
+
+        @Override
+        public void setDataValue(int columnIndex, int rowIndex, Object newValue) {
+            // read-only
+        }
+
+        @Override
+        public int getColumnCount() {
+            return this.columnCount;
+        }
+
+        @Override
+        public int getRowCount() {
+            return this.rowCount;
+        }
+    }
+}
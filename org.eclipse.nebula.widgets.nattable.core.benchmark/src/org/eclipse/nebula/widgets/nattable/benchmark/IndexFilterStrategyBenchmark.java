@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.nebula.widgets.nattable.config.ConfigRegistry;
+import org.eclipse.nebula.widgets.nattable.data.IDataProvider;
+import org.eclipse.nebula.widgets.nattable.data.convert.DefaultIntegerDisplayConverter;
+import org.eclipse.nebula.widgets.nattable.filterrow.FilterRowDataLayer;
+import org.eclipse.nebula.widgets.nattable.filterrow.TextMatchingMode;
+import org.eclipse.nebula.widgets.nattable.filterrow.config.FilterRowConfigAttributes;
+import org.eclipse.nebula.widgets.nattable.filterrow.index.IndexFilterStrategy;
+import org.eclipse.nebula.widgets.nattable.style.DisplayMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the {@link IndexFilterStrategy} for a text filter that is typed
+ * character by character, a threshold filter on a numeric column, and the
+ * incremental update of the filter result after a single value update.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class IndexFilterStrategyBenchmark {
+
+    @Param({ "1000000", "5000000" })
+    public int rowCount;
+
+    private Object[][] data;
+
+    private IndexFilterStrategy<Object> filterStrategy;
+
+    private IndexFilterStrategy<Object> filteredStrategy;
+
+    private Random random;
+
+    @Setup
+    public void setup() {
+        this.random = new Random(42);
+        this.data = new Object[2][this.rowCount];
+        for (int row = 0; row < this.rowCount; row++) {
+            this.data[0][row] = "Value " + this.random.nextInt(100000);
+            this.data[1][row] = Integer.valueOf(this.random.nextInt(1000000));
+        }
+
+        IDataProvider dataProvider = new IDataProvider() {
+
+            @Override
+            public Object getDataValue(int columnIndex, int rowIndex) {
+                return IndexFilterStrategyBenchmark.this.data[columnIndex][rowIndex];
+            }
+
+            @Override
+            public void setDataValue(int columnIndex, int rowIndex, Object newValue) {
+                IndexFilterStrategyBenchmark.this.data[columnIndex][rowIndex] = newValue;
+            }
+
+            @Override
+            public int getColumnCount() {
+                return 2;
+            }
+
+            @Override
+            public int getRowCount() {
+                return IndexFilterStrategyBenchmark.this.rowCount;
+            }
+        };
+
+        ConfigRegistry configRegistry = new ConfigRegistry();
+        configRegistry.registerConfigAttribute(
+                FilterRowConfigAttributes.TEXT_MATCHING_MODE,
+                TextMatchingMode.REGULAR_EXPRESSION,
+                DisplayMode.NORMAL,
+                FilterRowDataLayer.FILTER_ROW_COLUMN_LABEL_PREFIX + 1);
+        configRegistry.registerConfigAttribute(
+                FilterRowConfigAttributes.FILTER_DISPLAY_CONVERTER,
+                new DefaultIntegerDisplayConverter(false),
+                DisplayMode.NORMAL,
+                FilterRowDataLayer.FILTER_ROW_COLUMN_LABEL_PREFIX + 1);
+
+        this.filterStrategy = new IndexFilterStrategy<>(dataProvider, configRegistry);
+        this.filteredStrategy = new IndexFilterStrategy<>(dataProvider, configRegistry);
+        Map<Integer, Object> filter = new HashMap<>();
+        filter.put(0, "12");
+        filter.put(1, "< 500000");
+        this.filteredStrategy.applyFilter(filter);
+    }
+
+    @Benchmark
+    public int typeTextFilter() {
+        Map<Integer, Object> filter = new HashMap<>();
+        String text = "";
+        for (char c : "1234".toCharArray()) {
+            text += c;
+            filter.put(0, text);
+            this.filterStrategy.applyFilter(filter);
+        }
+        filter.clear();
+        this.filterStrategy.applyFilter(filter);
+        return this.filterStrategy.getMatchingRowCount();
+    }
+
+    @Benchmark
+    public int applyThresholdFilter() {
+        Map<Integer, Object> filter = new HashMap<>();
+        filter.put(1, "< " + this.random.nextInt(1000000));
+        this.filterStrategy.applyFilter(filter);
+        return this.filterStrategy.getMatchingRowCount();
+    }
+
+    @Benchmark
+    public boolean updateSingleRow() {
+        int row = this.random.nextInt(this.rowCount);
+        this.data[0][row] = "Value " + this.random.nextInt(100000);
+        this.filteredStrategy.updateRows(row);
+        return this.filteredStrategy.isRowIndexMatching(row);
+    }
+}
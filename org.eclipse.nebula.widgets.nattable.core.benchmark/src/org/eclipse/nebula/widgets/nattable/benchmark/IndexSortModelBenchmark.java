@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.nebula.widgets.nattable.data.IDataProvider;
+import org.eclipse.nebula.widgets.nattable.sort.SortDirectionEnum;
+import org.eclipse.nebula.widgets.nattable.sort.index.IndexSortModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a full sort of the {@link IndexSortModel} on a numeric and a text
+ * column, and the incremental re-sort after a single value update.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class IndexSortModelBenchmark {
+
+    @Param({ "1000000", "10000000" })
+    public int rowCount;
+
+    private Object[][] data;
+
+    private IndexSortModel sortModel;
+
+    private IndexSortModel sortedModel;
+
+    private Random random;
+
+    @Setup
+    public void setup() {
+        this.random = new Random(42);
+        this.data = new Object[2][this.rowCount];
+        for (int row = 0; row < this.rowCount; row++) {
+            this.data[0][row] = Integer.valueOf(this.random.nextInt());
+            this.data[1][row] = "Value " + this.random.nextInt(100000);
+        }
+
+        IDataProvider dataProvider = new IDataProvider() {
+
+            @Override
+            public Object getDataValue(int columnIndex, int rowIndex) {
+                return IndexSortModelBenchmark.this.data[columnIndex][rowIndex];
+            }
+
+            @Override
+            public void setDataValue(int columnIndex, int rowIndex, Object newValue) {
+                IndexSortModelBenchmark.this.data[columnIndex][rowIndex] = newValue;
+            }
+
+            @Override
+            public int getColumnCount() {
+                return 2;
+            }
+
+            @Override
+            public int getRowCount() {
+                return IndexSortModelBenchmark.this.rowCount;
+            }
+        };
+        this.sortModel = new IndexSortModel(dataProvider, null, null);
+        this.sortedModel = new IndexSortModel(dataProvider, null, null);
+        this.sortedModel.sort(0, SortDirectionEnum.ASC, false);
+    }
+
+    @Benchmark
+    public int sortNumericColumn() {
+        this.sortModel.sort(0, SortDirectionEnum.ASC, false);
+        return this.sortModel.getRowIndexByPosition(0);
+    }
+
+    @Benchmark
+    public int sortTextColumn() {
+        this.sortModel.sort(1, SortDirectionEnum.ASC, false);
+        return this.sortModel.getRowIndexByPosition(0);
+    }
+
+    @Benchmark
+    public int updateSingleRow() {
+        int row = this.random.nextInt(this.rowCount);
+        this.data[0][row] = Integer.valueOf(this.random.nextInt());
+        this.sortedModel.updateRows(row);
+        return this.sortedModel.getRowPositionByIndex(row);
+    }
+}
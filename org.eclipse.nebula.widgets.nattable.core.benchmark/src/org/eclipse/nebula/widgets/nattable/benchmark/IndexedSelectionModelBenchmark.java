@@ -0,0 +1,30 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.benchmark;
+
+import org.eclipse.nebula.widgets.nattable.selection.ISelectionModel;
+import org.eclipse.nebula.widgets.nattable.selection.IndexedSelectionModel;
+import org.eclipse.nebula.widgets.nattable.selection.SelectionLayer;
+
+/**
+ * Runs the {@link SelectionModelBenchmark} against the
+ * {@link IndexedSelectionModel} to compare it with the default
+ * {@link org.eclipse.nebula.widgets.nattable.selection.SelectionModel}.
+ */
+public class IndexedSelectionModelBenchmark extends SelectionModelBenchmark {
+
+    @Override
+    protected ISelectionModel createSelectionModel(SelectionLayer selectionLayer) {
+        return new IndexedSelectionModel(selectionLayer);
+    }
+}
@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.nebula.widgets.nattable.coordinate.PositionUtil;
+import org.eclipse.nebula.widgets.nattable.coordinate.Range;
+import org.eclipse.nebula.widgets.nattable.util.ArrayUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the {@link PositionUtil} conversions between positions and ranges
+ * that are used when processing structural changes, on one million positions
+ * split into ten contiguous blocks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PositionUtilBenchmark {
+
+    private int[] positions;
+
+    private List<Integer> positionList;
+
+    private List<Range> ranges;
+
+    @Setup
+    public void setup() {
+        this.positions = new int[999_991];
+        int index = 0;
+        for (int i = 0; i < 1_000_000; i++) {
+            if (i == 0 || i % 100_000 != 0) {
+                this.positions[index] = i;
+                index++;
+            }
+        }
+        this.positionList = ArrayUtil.asIntegerList(this.positions);
+        this.ranges = PositionUtil.getRanges(this.positions);
+    }
+
+    @Benchmark
+    public List<Range> getRangesPrimitive() {
+        return PositionUtil.getRanges(this.positions);
+    }
+
+    @Benchmark
+    public List<Range> getRangesCollection() {
+        return PositionUtil.getRanges(this.positionList);
+    }
+
+    @Benchmark
+    public int[][] getGroupedByContiguous() {
+        return PositionUtil.getGroupedByContiguous(this.positions);
+    }
+
+    @Benchmark
+    public int[] getPositions() {
+        return PositionUtil.getPositions(this.ranges);
+    }
+}
@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.benchmark;
+
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.nebula.widgets.nattable.data.ExtendedReflectiveColumnPropertyAccessor;
+import org.eclipse.nebula.widgets.nattable.data.ReflectiveColumnPropertyAccessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures reading a viewport of values via
+ * {@link ReflectiveColumnPropertyAccessor#getDataValue(Object, int)} compared
+ * to plain reflective {@link Method#invoke(Object, Object...)} calls.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ReflectiveColumnPropertyAccessorBenchmark {
+
+    private static final String[] PROPERTIES = { "name", "count", "value", "active" };
+
+    private List<Row> rows;
+    private ReflectiveColumnPropertyAccessor<Row> accessor;
+    private ExtendedReflectiveColumnPropertyAccessor<Row> extendedAccessor;
+    private Method[] readMethods;
+
+    @Setup
+    public void setup() throws Exception {
+        this.rows = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            this.rows.add(new Row("row" + i, i, i * 0.5d, i % 2 == 0));
+        }
+        this.accessor = new ReflectiveColumnPropertyAccessor<>(PROPERTIES);
+        this.extendedAccessor = new ExtendedReflectiveColumnPropertyAccessor<>(
+                "name", "count", "value", "active", "self.name");
+
+        this.readMethods = new Method[PROPERTIES.length];
+        for (PropertyDescriptor descriptor : Introspector.getBeanInfo(Row.class).getPropertyDescriptors()) {
+            for (int i = 0; i < PROPERTIES.length; i++) {
+                if (PROPERTIES[i].equals(descriptor.getName())) {
+                    this.readMethods[i] = descriptor.getReadMethod();
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void methodInvoke(Blackhole bh) throws Exception {
+        for (Row row : this.rows) {
+            for (Method method : this.readMethods) {
+                bh.consume(method.invoke(row));
+            }
+        }
+    }
+
+    @Benchmark
+    public void getDataValue(Blackhole bh) {
+        for (Row row : this.rows) {
+            for (int column = 0; column < PROPERTIES.length; column++) {
+                bh.consume(this.accessor.getDataValue(row, column));
+            }
+        }
+    }
+
+    @Benchmark
+    public void getNestedDataValue(Blackhole bh) {
+        for (Row row : this.rows) {
+            bh.consume(this.extendedAccessor.getDataValue(row, 4));
+        }
+    }
+
+    /**
+     * Simple bean with object and primitive properties.
+     */
+    public static class Row {
+
+        private String name;
+        private int count;
+        private double value;
+        private boolean active;
+
+        public Row(String name, int count, double value, boolean active) {
+            this.name = name;
+            this.count = count;
+            this.value = value;
+            this.active = active;
+        }
+
+        public String getName() {
+            return this.name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getCount() {
+            return this.count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        public double getValue() {
+            return this.value;
+        }
+
+        public void setValue(double value) {
+            this.value = value;
+        }
+
+        public boolean isActive() {
+            return this.active;
+        }
+
+        public void setActive(boolean active) {
+            this.active = active;
+        }
+
+        public Row getSelf() {
+            return this;
+        }
+    }
+}
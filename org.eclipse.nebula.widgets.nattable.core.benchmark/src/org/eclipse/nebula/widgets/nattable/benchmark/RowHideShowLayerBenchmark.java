@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.nebula.widgets.nattable.benchmark.DataLayerBenchmark.BenchmarkDataProvider;
+import org.eclipse.nebula.widgets.nattable.hideshow.AbstractRowHideShowLayer;
+import org.eclipse.nebula.widgets.nattable.hideshow.RowHideShowLayer;
+import org.eclipse.nebula.widgets.nattable.layer.DataLayer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the index/position mapping of the {@link AbstractRowHideShowLayer}
+ * with hidden rows, and the cost of hiding and showing a single row, which
+ * invalidates the cached mappings.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RowHideShowLayerBenchmark {
+
+    @Param({ "100000", "1000000" })
+    public int rowCount;
+
+    @Param({ "1000" })
+    public int hiddenCount;
+
+    private RowHideShowLayer hideShowLayer;
+
+    private int[] indexes;
+
+    private int next;
+
+    @Setup
+    public void setup() {
+        this.hideShowLayer = new RowHideShowLayer(new DataLayer(new BenchmarkDataProvider(10, this.rowCount)));
+
+        Random random = new Random(42);
+        int[] hidden = new int[this.hiddenCount];
+        for (int i = 0; i < hidden.length; i++) {
+            hidden[i] = random.nextInt(this.rowCount);
+        }
+        this.hideShowLayer.hideRowIndexes(hidden);
+
+        this.indexes = new int[1024];
+        for (int i = 0; i < this.indexes.length; i++) {
+            this.indexes[i] = random.nextInt(this.rowCount);
+        }
+    }
+
+    private int nextIndex() {
+        this.next = (this.next + 1) & (this.indexes.length - 1);
+        return this.indexes[this.next];
+    }
+
+    @Benchmark
+    public int getRowPositionByIndex() {
+        return this.hideShowLayer.getRowPositionByIndex(nextIndex());
+    }
+
+    @Benchmark
+    public int getRowIndexByPosition() {
+        return this.hideShowLayer.getRowIndexByPosition(nextIndex() % this.hideShowLayer.getRowCount());
+    }
+
+    @Benchmark
+    public int hideShowSingleRow() {
+        int index = nextIndex();
+        if (this.hideShowLayer.isRowIndexHidden(index)) {
+            return 0;
+        }
+        this.hideShowLayer.hideRowIndexes(index);
+        int position = this.hideShowLayer.getRowPositionByIndex(this.rowCount - 1);
+        this.hideShowLayer.showRowIndexes(index);
+        return position;
+    }
+}
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.nebula.widgets.nattable.benchmark.DataLayerBenchmark.BenchmarkDataProvider;
+import org.eclipse.nebula.widgets.nattable.layer.DataLayer;
+import org.eclipse.nebula.widgets.nattable.reorder.RowReorderLayer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the index/position mapping of a {@link RowReorderLayer} with a
+ * partially shuffled row order, and the cost of reordering a single row and a
+ * block of rows.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RowReorderLayerBenchmark {
+
+    @Param({ "100000", "1000000" })
+    public int rowCount;
+
+    private static final int BLOCK_SIZE = 10000;
+
+    private RowReorderLayer reorderLayer;
+
+    private int[] positions;
+
+    private int next;
+
+    @Setup
+    public void setup() {
+        this.reorderLayer = new RowReorderLayer(new DataLayer(new BenchmarkDataProvider(10, this.rowCount)), false);
+
+        Random random = new Random(42);
+        for (int i = 0; i < 1000; i++) {
+            this.reorderLayer.reorderRowPosition(random.nextInt(this.rowCount), random.nextInt(this.rowCount));
+        }
+
+        this.positions = new int[1024];
+        for (int i = 0; i < this.positions.length; i++) {
+            this.positions[i] = random.nextInt(this.rowCount);
+        }
+    }
+
+    private int nextPosition() {
+        this.next = (this.next + 1) & (this.positions.length - 1);
+        return this.positions[this.next];
+    }
+
+    @Benchmark
+    public int getRowIndexByPosition() {
+        return this.reorderLayer.getRowIndexByPosition(nextPosition());
+    }
+
+    @Benchmark
+    public int getRowPositionByIndex() {
+        return this.reorderLayer.getRowPositionByIndex(nextPosition());
+    }
+
+    @Benchmark
+    public int getStartYOfRowPosition() {
+        return this.reorderLayer.getStartYOfRowPosition(nextPosition());
+    }
+
+    @Benchmark
+    public int reorderRowPosition() {
+        int from = nextPosition();
+        int to = nextPosition();
+        this.reorderLayer.reorderRowPosition(from, to);
+        return this.reorderLayer.getRowIndexByPosition(to);
+    }
+
+    @Benchmark
+    public int reorderRowBlock() {
+        int from = nextPosition() % (this.rowCount - BLOCK_SIZE);
+        int[] block = new int[BLOCK_SIZE];
+        for (int i = 0; i < block.length; i++) {
+            block[i] = from + i;
+        }
+        int to = (from + BLOCK_SIZE + nextPosition()) % this.rowCount;
+        if (to >= from && to < from + BLOCK_SIZE) {
+            to = from + BLOCK_SIZE;
+        }
+        this.reorderLayer.reorderMultipleRowPositions(block, to);
+        return this.reorderLayer.getRowIndexByPosition(to);
+    }
+}
@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.nebula.widgets.nattable.benchmark.DataLayerBenchmark.BenchmarkDataProvider;
+import org.eclipse.nebula.widgets.nattable.layer.DataLayer;
+import org.eclipse.nebula.widgets.nattable.selection.ISelectionModel;
+import org.eclipse.nebula.widgets.nattable.selection.SelectionLayer;
+import org.eclipse.nebula.widgets.nattable.selection.SelectionModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the selection checks performed by the paint loop on an
+ * {@link ISelectionModel} that contains a number of single cell selections,
+ * as created by ctrl-clicking.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SelectionModelBenchmark {
+
+    @Param({ "10", "1000", "5000" })
+    public int selectionCount;
+
+    @Param({ "100000" })
+    public int rowCount;
+
+    @Param({ "50" })
+    public int columnCount;
+
+    protected ISelectionModel selectionModel;
+
+    private int[] columns;
+    private int[] rows;
+
+    private int next;
+
+    @Setup
+    public void setup() {
+        SelectionLayer selectionLayer = new SelectionLayer(new DataLayer(new BenchmarkDataProvider(this.columnCount, this.rowCount)), false);
+        this.selectionModel = createSelectionModel(selectionLayer);
+        selectionLayer.setSelectionModel(this.selectionModel);
+
+        Random random = new Random(42);
+        for (int i = 0; i < this.selectionCount; i++) {
+            this.selectionModel.addSelection(random.nextInt(this.columnCount), random.nextInt(this.rowCount));
+        }
+
+        this.columns = new int[1024];
+        this.rows = new int[1024];
+        for (int i = 0; i < this.columns.length; i++) {
+            this.columns[i] = random.nextInt(this.columnCount);
+            this.rows[i] = random.nextInt(this.rowCount);
+        }
+    }
+
+    /**
+     * @param selectionLayer
+     *            The {@link SelectionLayer} to which the model belongs.
+     * @return The {@link ISelectionModel} to measure.
+     */
+    protected ISelectionModel createSelectionModel(SelectionLayer selectionLayer) {
+        return new SelectionModel(selectionLayer);
+    }
+
+    private int nextSample() {
+        this.next = (this.next + 1) & (this.columns.length - 1);
+        return this.next;
+    }
+
+    @Benchmark
+    public boolean isCellPositionSelected() {
+        int sample = nextSample();
+        return this.selectionModel.isCellPositionSelected(this.columns[sample], this.rows[sample]);
+    }
+
+    @Benchmark
+    public boolean isRowPositionSelected() {
+        return this.selectionModel.isRowPositionSelected(this.rows[nextSample()]);
+    }
+
+    @Benchmark
+    public void getSelectedRowPositions(Blackhole bh) {
+        bh.consume(this.selectionModel.getSelectedRowPositions());
+    }
+
+    @Benchmark
+    public void getFullySelectedRowPositions(Blackhole bh) {
+        bh.consume(this.selectionModel.getFullySelectedRowPositions(this.columnCount));
+    }
+}
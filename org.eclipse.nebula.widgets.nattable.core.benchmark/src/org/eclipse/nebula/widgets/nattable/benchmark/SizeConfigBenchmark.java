@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.nebula.widgets.nattable.layer.SizeConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link SizeConfig#getAggregateSize(int)} with variable sizes, once
+ * on a stable configuration and once interleaved with a single resize, which
+ * is the typical pattern when a user resizes a row and scrolls afterwards.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SizeConfigBenchmark {
+
+    @Param({ "100000", "1000000" })
+    public int positionCount;
+
+    /**
+     * Number of positions with a configured size that differs from the
+     * default size.
+     */
+    @Param({ "1000" })
+    public int resizedCount;
+
+    private SizeConfig sizeConfig;
+
+    private int[] positions;
+
+    private int next;
+
+    @Setup
+    public void setup() {
+        this.sizeConfig = new SizeConfig(20);
+        Random random = new Random(42);
+        for (int i = 0; i < this.resizedCount; i++) {
+            this.sizeConfig.setSize(random.nextInt(this.positionCount), 10 + random.nextInt(50));
+        }
+
+        this.positions = new int[1024];
+        for (int i = 0; i < this.positions.length; i++) {
+            this.positions[i] = random.nextInt(this.positionCount);
+        }
+    }
+
+    private int nextPosition() {
+        this.next = (this.next + 1) & (this.positions.length - 1);
+        return this.positions[this.next];
+    }
+
+    @Benchmark
+    public int getAggregateSize() {
+        return this.sizeConfig.getAggregateSize(nextPosition());
+    }
+
+    @Benchmark
+    public int getAggregateSizeAfterResize() {
+        int position = nextPosition();
+        this.sizeConfig.setSize(position, 10 + (position & 31));
+        return this.sizeConfig.getAggregateSize(this.positionCount - 1);
+    }
+}
@@ -13,6 +13,7 @@
 package org.eclipse.nebula.widgets.nattable.blink;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
@@ -149,6 +150,22 @@ public void accumulateConfigLabels(LabelStack configLabels,
         assertEquals(TEST_LABEL, blinkLabels.get(0));
     }
 
+    @Test
+    public void shouldNotBlinkTheRowForAPropertyWithoutColumn() {
+        this.layerUnderTest.setBlinkDurationInMilis(100);
+
+        BlinkingRowDataFixture rowObject = this.dataList.get(0);
+        this.layerUnderTest.handleLayerEvent(
+                new PropertyUpdateEvent<BlinkingRowDataFixture>(
+                        new DataLayerFixture(), rowObject, "notDisplayed", 1, 2));
+
+        for (int column = 0; column < this.layerUnderTest.getColumnCount(); column++) {
+            LabelStack blinkLabels = this.layerUnderTest.getConfigLabelsByPosition(column, 0);
+            assertFalse(blinkLabels.hasLabel(BLINKING_LABEL));
+            assertFalse(blinkLabels.hasLabel(NOT_BLINKING_LABEL));
+        }
+    }
+
     /**
      * Sets the even rows to blink
      */
@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.blink;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.nebula.widgets.nattable.blink.BlinkTimingWheel.BlinkEntry;
+import org.eclipse.nebula.widgets.nattable.dataset.fixture.data.RowDataFixture;
+import org.eclipse.nebula.widgets.nattable.dataset.fixture.data.RowDataListFixture;
+import org.eclipse.nebula.widgets.nattable.layer.event.PropertyUpdateEvent;
+import org.eclipse.nebula.widgets.nattable.test.fixture.layer.DataLayerFixture;
+import org.junit.Before;
+import org.junit.Test;
+
+public class BlinkTimingWheelTest {
+
+    private long nanos;
+    private AtomicInteger blinkStopped;
+    private BlinkTimingWheel<RowDataFixture> wheel;
+    private PropertyUpdateEvent<RowDataFixture> event;
+
+    @Before
+    public void setup() {
+        this.nanos = 0;
+        this.blinkStopped = new AtomicInteger();
+        this.wheel = new BlinkTimingWheel<>(null, this.blinkStopped::incrementAndGet, () -> this.nanos);
+        this.event = new PropertyUpdateEvent<>(
+                new DataLayerFixture(),
+                RowDataListFixture.getList().get(0),
+                "bid_price", 1.0, 2.0);
+    }
+
+    private void advanceMillis(long millis) {
+        this.nanos += TimeUnit.MILLISECONDS.toNanos(millis);
+        this.wheel.advance(this.nanos);
+    }
+
+    @Test
+    public void shouldTrackUpdatesPerRowAndColumn() {
+        assertTrue(this.wheel.isEmpty());
+
+        this.wheel.putUpdate("A", 2, this.event, 500);
+
+        assertFalse(this.wheel.isEmpty());
+        assertTrue(this.wheel.containsRow("A"));
+        assertFalse(this.wheel.containsRow("B"));
+        assertSame(this.event, this.wheel.get("A", 2).event);
+        assertNull(this.wheel.get("A", 3));
+    }
+
+    @Test
+    public void shouldFallbackToRowEntry() {
+        this.wheel.putUpdate("A", BlinkTimingWheel.ROW_COLUMN_INDEX, this.event, 500);
+
+        assertSame(this.event, this.wheel.get("A", 0).event);
+        assertSame(this.event, this.wheel.get("A", 7).event);
+    }
+
+    @Test
+    public void shouldExpirePendingUpdatesWithoutBlinkStoppedNotification() {
+        this.wheel.putUpdate("A", 2, this.event, 500);
+
+        advanceMillis(400);
+        assertTrue(this.wheel.containsRow("A"));
+
+        advanceMillis(200);
+        assertTrue(this.wheel.isEmpty());
+        assertFalse(this.wheel.containsRow("A"));
+        assertEquals(0, this.blinkStopped.get());
+    }
+
+    @Test
+    public void shouldStopBlinkingAfterDuration() {
+        this.wheel.putUpdate("A", 2, this.event, 500);
+        this.wheel.putUpdate("B", 2, this.event, 500);
+
+        this.wheel.startBlinking(this.wheel.get("A", 2), 100);
+        this.wheel.startBlinking(this.wheel.get("B", 2), 100);
+        BlinkEntry<RowDataFixture> entry = this.wheel.get("A", 2);
+        assertTrue(entry.isBlinking());
+
+        advanceMillis(60);
+        assertTrue(this.wheel.get("A", 2).isBlinking());
+
+        advanceMillis(60);
+        assertTrue(this.wheel.isEmpty());
+        // one notification for all cells that stopped blinking in a tick
+        assertEquals(1, this.blinkStopped.get());
+    }
+
+    @Test
+    public void shouldReplaceBlinkingEntryOnNewUpdate() {
+        this.wheel.putUpdate("A", 2, this.event, 500);
+        this.wheel.startBlinking(this.wheel.get("A", 2), 100);
+
+        advanceMillis(60);
+        this.wheel.putUpdate("A", 2, this.event, 500);
+        assertEquals(1, this.wheel.size());
+        assertFalse(this.wheel.get("A", 2).isBlinking());
+
+        // the replaced blinking entry must not remove the new update
+        advanceMillis(100);
+        assertTrue(this.wheel.containsRow("A"));
+        assertEquals(0, this.blinkStopped.get());
+    }
+
+    @Test
+    public void shouldHandleDurationsLongerThanOneRotation() {
+        long rotation = BlinkTimingWheel.TICK_DURATION * BlinkTimingWheel.WHEEL_SIZE;
+        this.wheel.putUpdate("A", 2, this.event, 500);
+        this.wheel.startBlinking(this.wheel.get("A", 2), 2 * rotation + 10);
+
+        for (int i = 0; i < 2 * BlinkTimingWheel.WHEEL_SIZE; i++) {
+            advanceMillis(BlinkTimingWheel.TICK_DURATION);
+        }
+        assertTrue(this.wheel.containsRow("A"));
+
+        advanceMillis(rotation);
+        assertTrue(this.wheel.isEmpty());
+        assertEquals(1, this.blinkStopped.get());
+    }
+
+}
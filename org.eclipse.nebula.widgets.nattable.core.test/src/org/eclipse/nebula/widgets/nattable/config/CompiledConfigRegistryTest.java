@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.nebula.widgets.nattable.style.DisplayMode;
+import org.junit.Test;
+
+/**
+ * Executes the {@link ConfigRegistryTest} against the
+ * {@link CompiledConfigRegistry} and additionally verifies that the compiled
+ * lookup tables are invalidated on changes.
+ */
+public class CompiledConfigRegistryTest extends ConfigRegistryTest {
+
+    @Override
+    protected ConfigRegistry createConfigRegistry() {
+        return new CompiledConfigRegistry();
+    }
+
+    @Test
+    public void shouldUpdateOnRegisterAfterLookup() {
+        this.configRegistry.registerConfigAttribute(this.testAttribute, "testValue");
+
+        assertEquals("testValue", this.configRegistry.getConfigAttribute(this.testAttribute, DisplayMode.NORMAL, "testLabel"));
+
+        this.configRegistry.registerConfigAttribute(this.testAttribute, "testValueLabel", DisplayMode.NORMAL, "testLabel");
+
+        assertEquals("testValueLabel", this.configRegistry.getConfigAttribute(this.testAttribute, DisplayMode.NORMAL, "testLabel"));
+        assertEquals("testValueLabel", this.configRegistry.getConfigAttribute(this.testAttribute, DisplayMode.SELECT, "testLabel"));
+        assertEquals("testValue", this.configRegistry.getConfigAttribute(this.testAttribute, DisplayMode.NORMAL, "otherLabel"));
+    }
+
+    @Test
+    public void shouldUpdateOnUnregisterAfterLookup() {
+        this.configRegistry.registerConfigAttribute(this.testAttribute, "testValue");
+        this.configRegistry.registerConfigAttribute(this.testAttribute, "testValueLabel", DisplayMode.NORMAL, "testLabel");
+
+        assertEquals("testValueLabel", this.configRegistry.getConfigAttribute(this.testAttribute, DisplayMode.NORMAL, "testLabel"));
+
+        this.configRegistry.unregisterConfigAttribute(this.testAttribute, DisplayMode.NORMAL, "testLabel");
+        assertEquals("testValue", this.configRegistry.getConfigAttribute(this.testAttribute, DisplayMode.NORMAL, "testLabel"));
+
+        this.configRegistry.unregisterConfigAttribute(this.testAttribute);
+        assertNull(this.configRegistry.getConfigAttribute(this.testAttribute, DisplayMode.NORMAL, "testLabel"));
+    }
+
+    @Test
+    public void shouldNotMixAttributes() {
+        this.configRegistry.registerConfigAttribute(this.testAttribute1, "value1", DisplayMode.NORMAL, "testLabel");
+        this.configRegistry.registerConfigAttribute(this.testAttribute2, "value2", DisplayMode.NORMAL, "otherLabel");
+
+        assertEquals("value1", this.configRegistry.getConfigAttribute(this.testAttribute1, DisplayMode.NORMAL, "otherLabel", "testLabel"));
+        assertEquals("value2", this.configRegistry.getConfigAttribute(this.testAttribute2, DisplayMode.NORMAL, "testLabel", "otherLabel"));
+        assertNull(this.configRegistry.getConfigAttribute(this.testAttribute, DisplayMode.NORMAL, "testLabel", "otherLabel"));
+    }
+
+    @Test
+    public void shouldPreferTargetDisplayModeOverLabelOrder() {
+        this.configRegistry.registerConfigAttribute(this.testAttribute, "normalDefault");
+        this.configRegistry.registerConfigAttribute(this.testAttribute, "normalLabel1", DisplayMode.NORMAL, "label1");
+        this.configRegistry.registerConfigAttribute(this.testAttribute, "selectLabel2", DisplayMode.SELECT, "label2");
+        this.configRegistry.registerConfigAttribute(this.testAttribute, "selectHoverDefault", DisplayMode.SELECT_HOVER);
+
+        List<String> labels = Arrays.asList("label1", "label2");
+        assertEquals("selectLabel2", this.configRegistry.getConfigAttribute(this.testAttribute, DisplayMode.SELECT, labels));
+        assertEquals("normalLabel1", this.configRegistry.getConfigAttribute(this.testAttribute, DisplayMode.NORMAL, labels));
+        assertEquals("normalLabel1", this.configRegistry.getConfigAttribute(this.testAttribute, DisplayMode.HOVER, labels));
+        // the default of a display mode wins over labels of lower display
+        // modes
+        assertEquals("selectHoverDefault", this.configRegistry.getConfigAttribute(this.testAttribute, DisplayMode.SELECT_HOVER, labels));
+        assertEquals("normalDefault", this.configRegistry.getConfigAttribute(this.testAttribute, DisplayMode.NORMAL, "label3"));
+    }
+
+    @Test
+    public void shouldInvalidateOnDisplayModeOrderingChange() {
+        this.configRegistry.registerConfigAttribute(this.testAttribute, "normal");
+        this.configRegistry.registerConfigAttribute(this.testAttribute, "select", DisplayMode.SELECT);
+
+        assertEquals("select", this.configRegistry.getConfigAttribute(this.testAttribute, DisplayMode.SELECT));
+
+        this.configRegistry.setDisplayModeOrdering(targetDisplayMode -> Arrays.asList(DisplayMode.NORMAL));
+
+        assertEquals("normal", this.configRegistry.getConfigAttribute(this.testAttribute, DisplayMode.SELECT));
+    }
+}
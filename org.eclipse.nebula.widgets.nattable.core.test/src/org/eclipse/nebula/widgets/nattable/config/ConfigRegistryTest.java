@@ -20,12 +20,16 @@
 
 public class ConfigRegistryTest {
 
-    private ConfigRegistry configRegistry = new ConfigRegistry();
+    protected ConfigRegistry configRegistry = createConfigRegistry();
 
     ConfigAttribute<String> testAttribute = new ConfigAttribute<>();
     ConfigAttribute<String> testAttribute1 = new ConfigAttribute<>();
     ConfigAttribute<String> testAttribute2 = new ConfigAttribute<>();
 
+    protected ConfigRegistry createConfigRegistry() {
+        return new ConfigRegistry();
+    }
+
     @Test
     public void registrationWithoutDisplayModeOrConfigLabel() {
         this.configRegistry.registerConfigAttribute(
@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.conflation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.nebula.widgets.nattable.layer.DataLayer;
+import org.eclipse.nebula.widgets.nattable.test.fixture.data.DataProviderFixture;
+import org.eclipse.swt.graphics.Rectangle;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DirtyRegionTest {
+
+    private DataLayer dataLayer;
+
+    @Before
+    public void setup() {
+        this.dataLayer = new DataLayer(new DataProviderFixture(10, 20), 100, 20);
+    }
+
+    @Test
+    public void shouldConvertSingleCell() {
+        assertEquals(new Rectangle(200, 60, 100, 20),
+                DirtyRegion.toPixelRectangle(this.dataLayer, new Rectangle(2, 3, 1, 1)));
+    }
+
+    @Test
+    public void shouldClipToAvailablePositions() {
+        assertEquals(new Rectangle(0, 380, 1000, 20),
+                DirtyRegion.toPixelRectangle(this.dataLayer, new Rectangle(0, 19, Integer.MAX_VALUE / 2, 5)));
+        assertNull(DirtyRegion.toPixelRectangle(this.dataLayer, new Rectangle(0, 25, 1, 1)));
+    }
+
+    @Test
+    public void shouldMergeAdjacentCells() {
+        DirtyRegion region = new DirtyRegion();
+        for (int row = 0; row < 5; row++) {
+            region.addPositionRectangle(this.dataLayer, new Rectangle(3, row, 1, 1));
+        }
+
+        assertEquals(1, region.getRectangles().size());
+        assertEquals(new Rectangle(300, 0, 100, 100), region.getRectangles().get(0));
+        assertEquals(100 * 100, region.getArea());
+    }
+
+    @Test
+    public void shouldKeepDisjointCellsSeparate() {
+        DirtyRegion region = new DirtyRegion();
+        region.addPositionRectangle(this.dataLayer, new Rectangle(0, 0, 1, 1));
+        region.addPositionRectangle(this.dataLayer, new Rectangle(1, 1, 1, 1));
+        region.addPositionRectangle(this.dataLayer, new Rectangle(5, 10, 1, 1));
+
+        assertEquals(3, region.getRectangles().size());
+        assertEquals(3 * 100 * 20, region.getArea());
+    }
+
+    @Test
+    public void shouldMergeBridgedRectangles() {
+        DirtyRegion region = new DirtyRegion();
+        region.add(new Rectangle(0, 0, 10, 10));
+        region.add(new Rectangle(20, 0, 10, 10));
+        region.add(new Rectangle(5, 0, 20, 10));
+
+        assertEquals(1, region.getRectangles().size());
+        assertEquals(new Rectangle(0, 0, 30, 10), region.getRectangles().get(0));
+    }
+
+    @Test
+    public void shouldCollapseTooManyRectangles() {
+        DirtyRegion region = new DirtyRegion();
+        for (int i = 0; i <= DirtyRegion.MAX_RECTANGLES; i++) {
+            region.add(new Rectangle(i * 20, i * 20, 10, 10));
+        }
+
+        assertEquals(1, region.getRectangles().size());
+        assertEquals(region.getBounds(), region.getRectangles().get(0));
+        assertTrue(region.getArea() > (DirtyRegion.MAX_RECTANGLES + 1) * 100);
+    }
+}
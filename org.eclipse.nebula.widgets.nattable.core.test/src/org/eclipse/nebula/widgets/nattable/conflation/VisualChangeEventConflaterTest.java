@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.conflation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.eclipse.nebula.widgets.nattable.layer.DataLayer;
+import org.eclipse.nebula.widgets.nattable.layer.event.CellVisualChangeEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.RowStructuralRefreshEvent;
+import org.eclipse.nebula.widgets.nattable.test.fixture.data.DataProviderFixture;
+import org.eclipse.nebula.widgets.nattable.viewport.ViewportLayer;
+import org.eclipse.swt.graphics.Rectangle;
+import org.junit.Before;
+import org.junit.Test;
+
+public class VisualChangeEventConflaterTest {
+
+    private ViewportLayer viewportLayer;
+    private VisualChangeEventConflater conflater;
+
+    @Before
+    public void setup() {
+        DataLayer dataLayer = new DataLayer(new DataProviderFixture(10, 20), 100, 20);
+        dataLayer.setRowHeightByPosition(0, 50);
+        this.viewportLayer = new ViewportLayer(dataLayer);
+        this.viewportLayer.setClientAreaProvider(() -> new Rectangle(0, 0, 500, 200));
+        this.conflater = new VisualChangeEventConflater(null);
+    }
+
+    @Test
+    public void shouldKeepPixelBoundsOfEventsAddedBeforeScrolling() {
+        // row 2 starts at y 70 before scrolling
+        this.conflater.addEvent(new CellVisualChangeEvent(this.viewportLayer, 1, 2));
+
+        // after scrolling one row down, position 2 starts at y 40
+        this.viewportLayer.setOriginY(50);
+        assertEquals(40, this.viewportLayer.getStartYOfRowPosition(2));
+
+        DirtyRegion region = this.conflater.drainDirtyRegion();
+        assertEquals(Arrays.asList(new Rectangle(100, 70, 100, 20)), region.getRectangles());
+        assertTrue(this.conflater.drainDirtyRegion().isEmpty());
+    }
+
+    @Test
+    public void shouldMoveDirtyRegionWithBlittedPixels() {
+        this.conflater.addEvent(new CellVisualChangeEvent(this.viewportLayer, 1, 2));
+
+        this.viewportLayer.setOriginY(50);
+        this.conflater.moveDirtyRegion(new Rectangle(0, 0, 500, 200), 0, -50);
+
+        DirtyRegion region = this.conflater.drainDirtyRegion();
+        assertEquals(
+                new HashSet<>(Arrays.asList(new Rectangle(100, 70, 100, 20), new Rectangle(100, 20, 100, 20))),
+                new HashSet<>(region.getRectangles()));
+    }
+
+    @Test
+    public void shouldClipMovedDirtyRegionToScrolledArea() {
+        // row 2 covers y 70 to 90, the scrolled area ends at y 80
+        this.conflater.addEvent(new CellVisualChangeEvent(this.viewportLayer, 1, 2));
+
+        this.conflater.moveDirtyRegion(new Rectangle(0, 0, 500, 80), 0, -40);
+
+        // only the part of the cell inside the scrolled area is moved
+        DirtyRegion region = this.conflater.drainDirtyRegion();
+        assertEquals(
+                new HashSet<>(Arrays.asList(new Rectangle(100, 70, 100, 20), new Rectangle(100, 30, 100, 10))),
+                new HashSet<>(region.getRectangles()));
+    }
+
+    @Test
+    public void shouldRequestFullRedrawForStructuralChanges() {
+        this.conflater.addEvent(new CellVisualChangeEvent(this.viewportLayer, 1, 2));
+        this.conflater.addEvent(new RowStructuralRefreshEvent(this.viewportLayer));
+
+        assertNull(this.conflater.drainDirtyRegion());
+
+        // a full redraw was requested, ignore the moved pixels
+        this.conflater.addEvent(new RowStructuralRefreshEvent(this.viewportLayer));
+        this.conflater.moveDirtyRegion(new Rectangle(0, 0, 500, 200), 0, -50);
+        assertNull(this.conflater.drainDirtyRegion());
+    }
+
+    @Test
+    public void shouldResetDirtyRegionOnClear() {
+        this.conflater.addEvent(new RowStructuralRefreshEvent(this.viewportLayer));
+        this.conflater.clearQueue();
+
+        assertEquals(0, this.conflater.getCount());
+        assertTrue(this.conflater.drainDirtyRegion().isEmpty());
+    }
+}
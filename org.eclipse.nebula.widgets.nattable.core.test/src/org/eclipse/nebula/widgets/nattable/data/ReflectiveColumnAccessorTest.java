@@ -13,6 +13,7 @@
 package org.eclipse.nebula.widgets.nattable.data;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -112,6 +113,59 @@ public void testInterfaceSetterAccess() {
         assertEquals("Marge", accessor.getDataValue(sub2, 3));
     }
 
+    @Test
+    public void testSetterWithMismatchingType() {
+        TestBean testBean = new TestBean("One", true, 100.00F);
+
+        this.accessor.setDataValue(testBean, 0, 42);
+        this.accessor.setDataValue(testBean, 2, null);
+        this.accessor.setDataValue(testBean, 2, 1d);
+
+        assertEquals("One", this.accessor.getDataValue(testBean, 0));
+        assertEquals(Float.valueOf(100.00f), this.accessor.getDataValue(testBean, 2));
+
+        this.accessor.setDataValue(testBean, 0, null);
+        assertNull(this.accessor.getDataValue(testBean, 0));
+    }
+
+    @Test
+    public void testSetterWithWideningConversion() {
+        ReflectiveColumnPropertyAccessor<NumberBean> accessor = new ReflectiveColumnPropertyAccessor<>(
+                new String[] { "longField", "doubleField", "intField" });
+        NumberBean bean = new NumberBean();
+
+        accessor.setDataValue(bean, 0, Integer.valueOf(42));
+        accessor.setDataValue(bean, 1, Integer.valueOf(23));
+        accessor.setDataValue(bean, 2, Character.valueOf('A'));
+
+        assertEquals(Long.valueOf(42), accessor.getDataValue(bean, 0));
+        assertEquals(Double.valueOf(23), accessor.getDataValue(bean, 1));
+        assertEquals(Integer.valueOf('A'), accessor.getDataValue(bean, 2));
+
+        // narrowing conversions are not supported by reflection either
+        accessor.setDataValue(bean, 2, Long.valueOf(7));
+        assertEquals(Integer.valueOf('A'), accessor.getDataValue(bean, 2));
+    }
+
+    @Test
+    public void testAlternatingBeanTypes() {
+        SubBean1 sub1 = new SubBean1("Two", true, 42f, "Bart");
+        SubBean2 sub2 = new SubBean2("Three", false, 23f, "Lisa");
+        TestBean testBean = new TestBean("One", true, 100.00F);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals("Two", this.accessor.getDataValue(sub1, 0));
+            assertEquals("Three", this.accessor.getDataValue(sub2, 0));
+            assertEquals("One", this.accessor.getDataValue(testBean, 0));
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testUnknownProperty() {
+        ReflectiveColumnPropertyAccessor<TestBean> accessor = new ReflectiveColumnPropertyAccessor<>("unknown");
+        accessor.getDataValue(new TestBean("One", true, 100.00F), 0);
+    }
+
     class TestBean {
         private String stringField;
         private boolean booleanField;
@@ -148,6 +202,36 @@ public void setFloatField(float floatField) {
         }
     }
 
+    public static class NumberBean {
+        private long longField;
+        private double doubleField;
+        private int intField;
+
+        public long getLongField() {
+            return this.longField;
+        }
+
+        public void setLongField(long longField) {
+            this.longField = longField;
+        }
+
+        public double getDoubleField() {
+            return this.doubleField;
+        }
+
+        public void setDoubleField(double doubleField) {
+            this.doubleField = doubleField;
+        }
+
+        public int getIntField() {
+            return this.intField;
+        }
+
+        public void setIntField(int intField) {
+            this.intField = intField;
+        }
+    }
+
     interface Bean {
         String getAdditionalField();
 
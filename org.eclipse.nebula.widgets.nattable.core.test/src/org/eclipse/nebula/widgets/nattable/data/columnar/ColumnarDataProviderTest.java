@@ -0,0 +1,290 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.data.columnar;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.nebula.widgets.nattable.config.ConfigRegistry;
+import org.eclipse.nebula.widgets.nattable.layer.DataLayer;
+import org.eclipse.nebula.widgets.nattable.sort.SortDirectionEnum;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+@RunWith(Parameterized.class)
+public class ColumnarDataProviderTest {
+
+    @Parameters(name = "offHeap={0}")
+    public static Collection<Object[]> data() {
+        return Arrays.asList(new Object[][] { { false }, { true } });
+    }
+
+    private final boolean offHeap;
+
+    private IntColumn idColumn;
+    private DictionaryStringColumn nameColumn;
+    private DoubleColumn valueColumn;
+    private LongColumn timeColumn;
+    private ColumnarDataProvider dataProvider;
+
+    public ColumnarDataProviderTest(boolean offHeap) {
+        this.offHeap = offHeap;
+    }
+
+    @Before
+    public void setup() {
+        this.idColumn = new IntColumn("id", 2, this.offHeap);
+        this.nameColumn = new DictionaryStringColumn("name", 2, this.offHeap);
+        this.valueColumn = new DoubleColumn("value", 2, this.offHeap);
+        this.timeColumn = new LongColumn("time", 2, this.offHeap);
+        this.dataProvider = new ColumnarDataProvider(this.idColumn, this.nameColumn, this.valueColumn, this.timeColumn);
+
+        this.dataProvider.addRow(0, "b", 1.5d, 100L);
+        this.dataProvider.addRow(1, "a", null, 200L);
+        this.dataProvider.addRow(2, "c", -3d, 300L);
+        this.dataProvider.addRow(3, "a", 2d, 400L);
+        this.dataProvider.addRow(4, "b", 0d, null);
+    }
+
+    @Test
+    public void shouldProvideValues() {
+        assertEquals(4, this.dataProvider.getColumnCount());
+        assertEquals(5, this.dataProvider.getRowCount());
+
+        assertEquals(2, this.dataProvider.getDataValue(0, 2));
+        assertEquals("c", this.dataProvider.getDataValue(1, 2));
+        assertEquals(-3d, this.dataProvider.getDataValue(2, 2));
+        assertEquals(300L, this.dataProvider.getDataValue(3, 2));
+        assertNull(this.dataProvider.getDataValue(2, 1));
+        assertNull(this.dataProvider.getDataValue(3, 4));
+
+        assertEquals(3, this.nameColumn.getDictionarySize());
+        assertEquals(this.nameColumn.getCode(1), this.nameColumn.getCode(3));
+        assertEquals(this.offHeap, this.idColumn.isOffHeap());
+    }
+
+    @Test
+    public void shouldSetValues() {
+        this.dataProvider.setDataValue(2, 1, 42);
+        this.dataProvider.setDataValue(1, 1, "d");
+        this.dataProvider.setDataValue(0, 1, null);
+
+        assertEquals(42d, this.dataProvider.getDataValue(2, 1));
+        assertEquals("d", this.dataProvider.getDataValue(1, 1));
+        assertNull(this.dataProvider.getDataValue(0, 1));
+        assertTrue(this.idColumn.isNull(1));
+
+        this.dataProvider.getRowObject(1).setValue(0, 7);
+        assertEquals(7, this.dataProvider.getDataValue(0, 1));
+        assertEquals(7, this.idColumn.getInt(1));
+    }
+
+    @Test
+    public void shouldMaterializeRowObjects() {
+        ColumnarRow row = this.dataProvider.getRowObject(3);
+        assertEquals(3, row.getRowIndex());
+        assertEquals("a", row.getValue("name"));
+        assertEquals(400L, row.getValue(3));
+        assertEquals(row, this.dataProvider.getRowObject(3));
+        assertEquals(3, this.dataProvider.indexOfRowObject(row));
+
+        ColumnarDataProvider other = new ColumnarDataProvider(new IntColumn("id"));
+        assertEquals(-1, other.indexOfRowObject(row));
+    }
+
+    @Test
+    public void shouldSortStable() {
+        this.dataProvider.sort(1, true);
+        assertEquals(5, this.dataProvider.getRowCount());
+        assertEquals(Arrays.asList(1, 3, 0, 4, 2), getIds());
+
+        this.dataProvider.sort(1, false);
+        assertEquals(Arrays.asList(2, 0, 4, 1, 3), getIds());
+
+        this.dataProvider.sort(2, true);
+        assertEquals(Arrays.asList(1, 2, 4, 0, 3), getIds());
+
+        ColumnarRow row = this.dataProvider.getRowObject(0);
+        assertEquals(1, row.getRowIndex());
+        assertEquals(0, this.dataProvider.indexOfRowObject(row));
+        assertEquals(4, this.dataProvider.getViewRowIndex(3));
+
+        this.dataProvider.sort(-1, true);
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4), getIds());
+    }
+
+    @Test
+    public void shouldFilter() {
+        this.dataProvider.setFilter(row -> this.nameColumn.getCode(row) != this.nameColumn.getCode(1));
+        assertEquals(3, this.dataProvider.getRowCount());
+        assertEquals(Arrays.asList(0, 2, 4), getIds());
+        assertEquals(-1, this.dataProvider.getViewRowIndex(1));
+        assertEquals(2, this.dataProvider.getViewRowIndex(4));
+
+        this.dataProvider.sort(3, false);
+        assertEquals(Arrays.asList(2, 0, 4), getIds());
+
+        this.dataProvider.addRow(5, "c", 1d, 500L);
+        this.dataProvider.addRow(6, "a", 1d, 600L);
+        assertEquals(Arrays.asList(5, 2, 0, 4), getIds());
+
+        this.dataProvider.setFilter(null);
+        this.dataProvider.sort(-1, true);
+        assertEquals(7, this.dataProvider.getRowCount());
+    }
+
+    @Test
+    public void shouldSortByMultipleColumns() {
+        this.dataProvider.sort(new int[] { 1, 2 }, new boolean[] { true, false });
+        assertEquals(Arrays.asList(3, 1, 0, 4, 2), getIds());
+        assertArrayEquals(new int[] { 1, 2 }, this.dataProvider.getSortColumnIndexes());
+        assertTrue(this.dataProvider.isSortAscending(1));
+        assertFalse(this.dataProvider.isSortAscending(2));
+
+        this.dataProvider.sort(new int[0], new boolean[0]);
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4), getIds());
+    }
+
+    @Test
+    public void shouldSortViaSortModel() {
+        ColumnarSortModel sortModel = new ColumnarSortModel(this.dataProvider);
+
+        sortModel.sort(1, SortDirectionEnum.ASC, false);
+        sortModel.sort(2, SortDirectionEnum.DESC, true);
+        assertEquals(Arrays.asList(3, 1, 0, 4, 2), getIds());
+        assertEquals(Arrays.asList(1, 2), sortModel.getSortedColumnIndexes());
+        assertEquals(1, sortModel.getSortOrder(2));
+        assertEquals(SortDirectionEnum.DESC, sortModel.getSortDirection(2));
+
+        sortModel.sort(1, SortDirectionEnum.NONE, true);
+        assertEquals(Arrays.asList(3, 0, 4, 2, 1), getIds());
+        assertFalse(sortModel.isColumnIndexSorted(1));
+
+        sortModel.clear();
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4), getIds());
+    }
+
+    @Test
+    public void shouldFilterViaFilterStrategy() {
+        ColumnarFilterStrategy filterStrategy = new ColumnarFilterStrategy(this.dataProvider, new ConfigRegistry());
+        new ColumnarSortModel(this.dataProvider).sort(0, SortDirectionEnum.DESC, false);
+
+        Map<Integer, Object> filter = new HashMap<>();
+        filter.put(1, "b");
+        filterStrategy.applyFilter(filter);
+        assertEquals(Arrays.asList(4, 0), getIds());
+
+        // physical row 2 now matches
+        this.nameColumn.setValue(2, "bb");
+        filterStrategy.updateRows(2);
+        assertEquals(Arrays.asList(4, 2, 0), getIds());
+
+        filterStrategy.applyFilter(new HashMap<>());
+        assertEquals(Arrays.asList(4, 3, 2, 1, 0), getIds());
+        assertNull(this.dataProvider.getFilter());
+    }
+
+    @Test
+    public void shouldSortLargeData() {
+        IntColumn column = new IntColumn("id", 16, this.offHeap);
+        ColumnarDataProvider provider = new ColumnarDataProvider(column);
+        for (int i = 0; i < 1000; i++) {
+            provider.addRow((i * 7919) % 1000);
+        }
+        provider.sort(0, true);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, provider.getDataValue(0, i));
+        }
+        assertEquals(1000, column.size());
+        assertTrue(provider.getBufferSize() >= 1000 * Integer.BYTES);
+    }
+
+    @Test
+    public void shouldWorkWithDataLayer() {
+        DataLayer dataLayer = new DataLayer(this.dataProvider);
+        assertEquals(4, dataLayer.getColumnCount());
+        assertEquals(5, dataLayer.getRowCount());
+        assertEquals("c", dataLayer.getDataValueByPosition(1, 2));
+
+        this.dataProvider.sort(0, false);
+        assertEquals(4, dataLayer.getDataValueByPosition(0, 0));
+    }
+
+    @Test
+    public void shouldSetPrimitiveValues() {
+        this.idColumn.setInt(1, 11);
+        this.valueColumn.setDouble(1, 2.5d);
+        this.timeColumn.setLong(4, 500L);
+
+        assertEquals(11, this.dataProvider.getDataValue(0, 1));
+        assertEquals(2.5d, this.dataProvider.getDataValue(2, 1));
+        assertEquals(500L, this.dataProvider.getDataValue(3, 4));
+        assertFalse(this.valueColumn.isNull(1));
+        assertFalse(this.timeColumn.isNull(4));
+    }
+
+    @Test
+    public void shouldNotAddPartialRowOnInvalidValue() {
+        try {
+            this.dataProvider.addRow(5, "d", "invalid", 600L);
+            fail("Adding a String to a DoubleColumn should fail");
+        } catch (ClassCastException e) {
+            // expected
+        }
+
+        assertEquals(5, this.dataProvider.getRowCount());
+        assertEquals(5, this.idColumn.size());
+        assertEquals(5, this.nameColumn.size());
+        assertEquals(5, this.valueColumn.size());
+        assertEquals(5, this.timeColumn.size());
+
+        this.dataProvider.addRow(5, "d", 1d, 600L);
+        assertEquals(6, this.dataProvider.getRowCount());
+        assertEquals(5, this.dataProvider.getDataValue(0, 5));
+        assertEquals(600L, this.dataProvider.getDataValue(3, 5));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldFailOnDifferentColumnSizes() {
+        IntColumn column = new IntColumn("id");
+        column.add(1);
+        new ColumnarDataProvider(column, new IntColumn("other"));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void shouldFailOnInvalidRowIndex() {
+        this.dataProvider.getDataValue(0, 5);
+    }
+
+    private List<Integer> getIds() {
+        List<Integer> result = new ArrayList<>();
+        for (int i = 0; i < this.dataProvider.getRowCount(); i++) {
+            result.add((Integer) this.dataProvider.getDataValue(0, i));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,208 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.export.csv;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.nebula.widgets.nattable.config.ConfigRegistry;
+import org.eclipse.nebula.widgets.nattable.config.IConfigRegistry;
+import org.eclipse.nebula.widgets.nattable.data.IDataProvider;
+import org.eclipse.nebula.widgets.nattable.export.ExportConfigAttributes;
+import org.eclipse.nebula.widgets.nattable.export.NatExporter;
+import org.eclipse.nebula.widgets.nattable.export.excel.DefaultExportFormatter;
+import org.eclipse.nebula.widgets.nattable.layer.DataLayer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class StreamingCsvExporterTest {
+
+    private static final Object[] VALUES = {
+            "plain", "with;semicolon", "with,comma", "with \"quotes\"",
+            "line\nbreak", "trailing\n", "\r\nleading", "umlaut äöü", null, 42, "€" };
+
+    private DataLayer dataLayer;
+    private IConfigRegistry configRegistry;
+    private NatExporter natExporter;
+    private List<File> files = new ArrayList<>();
+
+    @Before
+    public void setup() {
+        this.dataLayer = new DataLayer(new IDataProvider() {
+
+            @Override
+            public Object getDataValue(int columnIndex, int rowIndex) {
+                return VALUES[(columnIndex * 7 + rowIndex) % VALUES.length];
+            }
+
+            @Override
+            public void setDataValue(int columnIndex, int rowIndex, Object newValue) {
+                // read-only
+            }
+
+            @Override
+            public int getColumnCount() {
+                return 5;
+            }
+
+            @Override
+            public int getRowCount() {
+                return 2503;
+            }
+        });
+        // hidden column and row are not exported
+        this.dataLayer.setColumnWidthByPosition(1, 0);
+        this.dataLayer.setRowHeightByPosition(3, 0);
+
+        this.configRegistry = new ConfigRegistry();
+        this.configRegistry.registerConfigAttribute(ExportConfigAttributes.EXPORT_FORMATTER, new DefaultExportFormatter());
+
+        this.natExporter = new NatExporter(null);
+        this.natExporter.setOpenResult(false);
+        this.natExporter.disablePreRendering();
+    }
+
+    @After
+    public void tearDown() {
+        for (File file : this.files) {
+            file.delete();
+        }
+    }
+
+    private File createFile() throws IOException {
+        File file = File.createTempFile("export", ".csv");
+        this.files.add(file);
+        return file;
+    }
+
+    @Test
+    public void shouldProduceSameOutputAsCsvExporter() throws IOException {
+        assertSameOutput("windows-1252", false, 1, 100);
+        assertSameOutput("UTF-8", false, 4, 1000);
+        assertSameOutput("UTF-16", true, 3, 7);
+    }
+
+    private void assertSameOutput(String charset, boolean parallelCellAccess, int parallelism, int chunkSize) throws IOException {
+        File expected = createFile();
+        CsvExporter csvExporter = new CsvExporter(expected.getAbsolutePath());
+        csvExporter.setCharset(charset);
+        this.natExporter.exportSingleLayer(csvExporter, this.dataLayer, this.configRegistry);
+
+        File actual = createFile();
+        StreamingCsvExporter streamingExporter = new StreamingCsvExporter(actual.getAbsolutePath());
+        streamingExporter.setCharset(charset);
+        streamingExporter.setParallelCellAccess(parallelCellAccess);
+        streamingExporter.setParallelism(parallelism);
+        streamingExporter.setChunkSize(chunkSize);
+        List<Integer> progress = new ArrayList<>();
+        streamingExporter.setProgressListener((exported, total) -> {
+            assertEquals(2502, total);
+            progress.add(exported);
+        });
+        this.natExporter.exportSingleTable(streamingExporter, this.dataLayer, this.configRegistry);
+
+        byte[] expectedBytes = Files.readAllBytes(expected.toPath());
+        assertTrue(expectedBytes.length > 0);
+        assertArrayEquals(expectedBytes, Files.readAllBytes(actual.toPath()));
+        assertEquals((2502 + chunkSize - 1) / chunkSize, progress.size());
+        assertEquals(Integer.valueOf(2502), progress.get(progress.size() - 1));
+    }
+
+    @Test
+    public void shouldEscapeLikeRfc4180() {
+        assertEquals("plain", escape("plain"));
+        assertEquals("\"a,b\"", escape("a,b"));
+        assertEquals("\"a \"\"b\"\"\"", escape("a \"b\""));
+        assertEquals("\"a\nb\"", escape("a\nb"));
+        assertEquals("a\r\n", escape("a\r\n"));
+        assertEquals("\"\nb\"", escape("\nb"));
+        assertEquals("\n\r", escape("\n\r"));
+    }
+
+    private static String escape(String value) {
+        StringBuilder builder = new StringBuilder();
+        CsvExporter.appendValue(builder, value);
+        return builder.toString();
+    }
+
+    @Test(expected = CancellationException.class)
+    public void shouldCancel() throws IOException {
+        File file = createFile();
+        StreamingCsvExporter streamingExporter = new StreamingCsvExporter(file.getAbsolutePath());
+        streamingExporter.setChunkSize(10);
+        streamingExporter.setProgressListener((exported, total) -> streamingExporter.cancel());
+        try (OutputStream outputStream = Files.newOutputStream(file.toPath())) {
+            streamingExporter.exportTable(null, null, outputStream, this.dataLayer, this.configRegistry);
+        } finally {
+            assertTrue(streamingExporter.isCancelled());
+            assertFalse(file.length() > 10 * 200);
+        }
+    }
+
+    @Test
+    public void shouldStopCollectingValuesOnCancel() throws IOException {
+        AtomicInteger accessedCells = new AtomicInteger();
+        DataLayer countingLayer = new DataLayer(new IDataProvider() {
+
+            @Override
+            public Object getDataValue(int columnIndex, int rowIndex) {
+                accessedCells.incrementAndGet();
+                return VALUES[rowIndex % VALUES.length];
+            }
+
+            @Override
+            public void setDataValue(int columnIndex, int rowIndex, Object newValue) {
+                // read-only
+            }
+
+            @Override
+            public int getColumnCount() {
+                return 1;
+            }
+
+            @Override
+            public int getRowCount() {
+                return 10000;
+            }
+        });
+
+        File file = createFile();
+        StreamingCsvExporter streamingExporter = new StreamingCsvExporter(file.getAbsolutePath());
+        streamingExporter.setChunkSize(10);
+        streamingExporter.setParallelism(1);
+        streamingExporter.setProgressListener((exported, total) -> streamingExporter.cancel());
+        try (OutputStream outputStream = Files.newOutputStream(file.toPath())) {
+            streamingExporter.exportTable(null, null, outputStream, countingLayer, this.configRegistry);
+            fail("export was not cancelled");
+        } catch (CancellationException e) {
+            // expected
+        }
+
+        // only the chunks that were in flight when the first chunk was written
+        // are collected
+        assertTrue(accessedCells.get() <= 3 * 10);
+    }
+}
@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.export.image;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.zip.Adler32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.graphics.RGB;
+import org.junit.Test;
+
+public class PngEncoderTest {
+
+    private static int getPixel(int x, int y) {
+        return ((x * 7) & 0xFF) << 16 | ((y * 13) & 0xFF) << 8 | ((x + y) & 0xFF);
+    }
+
+    /**
+     * Creates the image data of a tile at the given position, filled with a
+     * pattern that depends on the absolute pixel position.
+     */
+    private static ImageData createTile(int tileX, int tileY, int size, PaletteData palette) {
+        ImageData data = new ImageData(size, size, 32, palette);
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                int rgb = getPixel(tileX + x, tileY + y);
+                data.setPixel(x, y, palette.getPixel(new RGB(rgb >> 16, (rgb >> 8) & 0xFF, rgb & 0xFF)));
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Decodes the given PNG and checks the dimensions and the pixels. The
+     * chunk checksums are not verified, but the zlib stream including its
+     * checksum is.
+     */
+    private static void assertImage(byte[] png, int width, int height) throws IOException, DataFormatException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(png));
+        in.skipBytes(8);
+
+        ByteArrayOutputStream zlib = new ByteArrayOutputStream();
+        String type;
+        do {
+            byte[] data = new byte[in.readInt()];
+            byte[] typeBytes = new byte[4];
+            in.readFully(typeBytes);
+            in.readFully(data);
+            in.readInt();
+            type = new String(typeBytes, "US-ASCII");
+            if ("IHDR".equals(type)) {
+                DataInputStream header = new DataInputStream(new ByteArrayInputStream(data));
+                assertEquals(width, header.readInt());
+                assertEquals(height, header.readInt());
+            } else if ("IDAT".equals(type)) {
+                zlib.write(data);
+            }
+        } while (!"IEND".equals(type));
+
+        int stride = 1 + width * 3;
+        byte[] raw = new byte[stride * height];
+        Inflater inflater = new Inflater();
+        inflater.setInput(zlib.toByteArray());
+        assertEquals(raw.length, inflater.inflate(raw));
+        assertTrue(inflater.finished());
+        inflater.end();
+
+        for (int y = 0; y < height; y++) {
+            int start = y * stride;
+            assertEquals(1, raw[start]);
+            for (int i = start + 4; i < start + stride; i++) {
+                raw[i] += raw[i - 3];
+            }
+            for (int x = 0; x < width; x++) {
+                int offset = start + 1 + x * 3;
+                int rgb = (raw[offset] & 0xFF) << 16 | (raw[offset + 1] & 0xFF) << 8 | (raw[offset + 2] & 0xFF);
+                assertEquals("pixel " + x + "/" + y, getPixel(x, y), rgb);
+            }
+        }
+    }
+
+    @Test
+    public void shouldEncodeSingleImage() throws Exception {
+        ImageData data = createTile(0, 0, 16, new PaletteData(0xFF0000, 0xFF00, 0xFF));
+
+        byte[] png = PngEncoder.encodeImage(data, 13, 11);
+
+        assertImage(png, 13, 11);
+    }
+
+    @Test
+    public void shouldEncodeBandsProgressively() throws Exception {
+        // a palette with swapped channels like used on some platforms
+        PaletteData palette = new PaletteData(0xFF00, 0xFF0000, 0xFF000000);
+        int size = 10;
+        int width = 25;
+        int height = 27;
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PngEncoder encoder = new PngEncoder(out, width, height);
+        encoder.writeHeader();
+        for (int y = 0; y < height; y += size) {
+            ImageData[] tiles = new ImageData[3];
+            for (int column = 0; column < tiles.length; column++) {
+                tiles[column] = createTile(column * size, y, size, palette);
+            }
+            int bandHeight = Math.min(size, height - y);
+            encoder.writeBand(PngEncoder.encodeBand(tiles, size, width, bandHeight, y + size >= height));
+        }
+        encoder.writeEnd();
+
+        assertImage(out.toByteArray(), width, height);
+    }
+
+    @Test
+    public void shouldCombineAdler() {
+        byte[] first = "NatTable tiled".getBytes();
+        byte[] second = new byte[100000];
+        for (int i = 0; i < second.length; i++) {
+            second[i] = (byte) (i * 31);
+        }
+
+        Adler32 adler1 = new Adler32();
+        adler1.update(first);
+        Adler32 adler2 = new Adler32();
+        adler2.update(second);
+        Adler32 expected = new Adler32();
+        expected.update(first);
+        expected.update(second);
+
+        assertEquals(expected.getValue(), PngEncoder.combineAdler(adler1.getValue(), adler2.getValue(), second.length));
+    }
+}
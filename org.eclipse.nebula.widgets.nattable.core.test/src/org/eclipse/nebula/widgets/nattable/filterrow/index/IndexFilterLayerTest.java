@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.filterrow.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.nebula.widgets.nattable.config.ConfigRegistry;
+import org.eclipse.nebula.widgets.nattable.coordinate.Range;
+import org.eclipse.nebula.widgets.nattable.edit.command.UpdateDataCommand;
+import org.eclipse.nebula.widgets.nattable.formula.TwoDimensionalArrayDataProvider;
+import org.eclipse.nebula.widgets.nattable.layer.DataLayer;
+import org.eclipse.nebula.widgets.nattable.layer.event.RowStructuralRefreshEvent;
+import org.eclipse.nebula.widgets.nattable.sort.SortDirectionEnum;
+import org.eclipse.nebula.widgets.nattable.sort.index.IndexSortLayer;
+import org.eclipse.nebula.widgets.nattable.sort.index.IndexSortModel;
+import org.eclipse.nebula.widgets.nattable.test.fixture.layer.LayerListenerFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class IndexFilterLayerTest {
+
+    private Object[][] data;
+    private DataLayer dataLayer;
+    private IndexFilterStrategy<Object> filterStrategy;
+    private IndexFilterLayer filterLayer;
+    private LayerListenerFixture listener;
+    private Map<Integer, Object> filter;
+
+    @BeforeEach
+    public void setup() {
+        this.data = new Object[][] {
+                { "ab", "b", "ac", "d", "ae" },
+                { 5, 4, 3, 2, 1 },
+        };
+        TwoDimensionalArrayDataProvider dataProvider = new TwoDimensionalArrayDataProvider(this.data);
+        this.dataLayer = new DataLayer(dataProvider, 100, 20);
+        this.filterStrategy = new IndexFilterStrategy<>(dataProvider, new ConfigRegistry());
+        this.filterLayer = new IndexFilterLayer(this.dataLayer, this.filterStrategy);
+        this.listener = new LayerListenerFixture();
+        this.filterLayer.addLayerListener(this.listener);
+        this.filter = new HashMap<>();
+    }
+
+    private void applyFilter(int columnIndex, Object value) {
+        this.filter.put(columnIndex, value);
+        this.filterStrategy.applyFilter(this.filter);
+    }
+
+    @Test
+    public void shouldNotTransformIfNotFiltered() {
+        assertEquals(5, this.filterLayer.getRowCount());
+        assertEquals(100, this.filterLayer.getHeight());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i, this.filterLayer.getRowIndexByPosition(i));
+            assertEquals(i, this.filterLayer.getRowPositionByIndex(i));
+        }
+    }
+
+    @Test
+    public void shouldHideNonMatchingRows() {
+        applyFilter(0, "a"); //$NON-NLS-1$
+
+        assertTrue(this.listener.containsInstanceOf(RowStructuralRefreshEvent.class));
+        assertEquals(3, this.filterLayer.getRowCount());
+        assertEquals(60, this.filterLayer.getHeight());
+        assertEquals(0, this.filterLayer.getRowIndexByPosition(0));
+        assertEquals(2, this.filterLayer.getRowIndexByPosition(1));
+        assertEquals(4, this.filterLayer.getRowIndexByPosition(2));
+        assertEquals(-1, this.filterLayer.getRowIndexByPosition(3));
+        assertEquals(-1, this.filterLayer.getRowPositionByIndex(1));
+        assertEquals(2, this.filterLayer.getRowPositionByIndex(4));
+        assertEquals(4, this.filterLayer.localToUnderlyingRowPosition(2));
+        assertEquals(-1, this.filterLayer.underlyingToLocalRowPosition(this.dataLayer, 3));
+        assertEquals("ac", this.filterLayer.getDataValueByPosition(0, 1)); //$NON-NLS-1$
+    }
+
+    @Test
+    public void shouldConvertUnderlyingRanges() {
+        applyFilter(0, "a"); //$NON-NLS-1$
+
+        Collection<Range> ranges = this.filterLayer.underlyingToLocalRowPositions(
+                this.dataLayer, Arrays.asList(new Range(1, 4), new Range(3, 4)));
+        assertEquals(Arrays.asList(new Range(1, 2)), ranges);
+    }
+
+    @Test
+    public void shouldCalculateYCoordinatesOfVisibleRows() {
+        this.dataLayer.setRowHeightByPosition(0, 50);
+        applyFilter(0, "a"); //$NON-NLS-1$
+
+        assertEquals(0, this.filterLayer.getStartYOfRowPosition(0));
+        assertEquals(50, this.filterLayer.getStartYOfRowPosition(1));
+        assertEquals(70, this.filterLayer.getStartYOfRowPosition(2));
+        assertEquals(0, this.filterLayer.getRowPositionByY(49));
+        assertEquals(2, this.filterLayer.getRowPositionByY(89));
+        assertEquals(-1, this.filterLayer.getRowPositionByY(90));
+    }
+
+    @Test
+    public void shouldUpdateOnDataChange() {
+        applyFilter(0, "a"); //$NON-NLS-1$
+        this.listener.clearReceivedEvents();
+
+        this.dataLayer.doCommand(new UpdateDataCommand(this.dataLayer, 0, 1, "ba")); //$NON-NLS-1$
+
+        assertTrue(this.listener.containsInstanceOf(RowStructuralRefreshEvent.class));
+        assertEquals(4, this.filterLayer.getRowCount());
+        assertEquals(1, this.filterLayer.getRowPositionByIndex(1));
+    }
+
+    @Test
+    public void shouldKeepSortOrderOfUnderlyingLayer() {
+        TwoDimensionalArrayDataProvider dataProvider = new TwoDimensionalArrayDataProvider(this.data);
+        DataLayer dataLayer = new DataLayer(dataProvider, 100, 20);
+        IndexSortModel sortModel = new IndexSortModel(dataProvider, null, null);
+        IndexSortLayer sortLayer = new IndexSortLayer(dataLayer, sortModel);
+        IndexFilterStrategy<Object> filterStrategy = new IndexFilterStrategy<>(dataProvider, new ConfigRegistry());
+        IndexFilterLayer filterLayer = new IndexFilterLayer(sortLayer, filterStrategy);
+
+        this.filter.put(0, "a"); //$NON-NLS-1$
+        filterStrategy.applyFilter(this.filter);
+        sortModel.sort(1, SortDirectionEnum.ASC, false);
+
+        assertEquals(3, filterLayer.getRowCount());
+        assertEquals(4, filterLayer.getRowIndexByPosition(0));
+        assertEquals(2, filterLayer.getRowIndexByPosition(1));
+        assertEquals(0, filterLayer.getRowIndexByPosition(2));
+        assertEquals(1, filterLayer.getRowPositionByIndex(2));
+    }
+
+    @Test
+    public void shouldRemoveListenerOnDispose() {
+        this.filterLayer.dispose();
+        this.listener.clearReceivedEvents();
+
+        applyFilter(0, "a"); //$NON-NLS-1$
+        assertEquals(0, this.listener.getEventsCount());
+    }
+}
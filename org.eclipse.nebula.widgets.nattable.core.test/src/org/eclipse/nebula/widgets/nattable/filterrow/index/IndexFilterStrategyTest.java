@@ -0,0 +1,267 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.filterrow.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntPredicate;
+
+import org.eclipse.nebula.widgets.nattable.config.ConfigRegistry;
+import org.eclipse.nebula.widgets.nattable.data.convert.DefaultIntegerDisplayConverter;
+import org.eclipse.nebula.widgets.nattable.edit.EditConstants;
+import org.eclipse.nebula.widgets.nattable.filterrow.FilterRowDataLayer;
+import org.eclipse.nebula.widgets.nattable.filterrow.TextMatchingMode;
+import org.eclipse.nebula.widgets.nattable.filterrow.config.FilterRowConfigAttributes;
+import org.eclipse.nebula.widgets.nattable.formula.TwoDimensionalArrayDataProvider;
+import org.eclipse.nebula.widgets.nattable.style.DisplayMode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class IndexFilterStrategyTest {
+
+    private Object[][] data;
+    private TwoDimensionalArrayDataProvider dataProvider;
+    private ConfigRegistry configRegistry;
+    private IndexFilterStrategy<Object> filterStrategy;
+    private Map<Integer, Object> filter;
+
+    @BeforeEach
+    public void setup() {
+        this.data = new Object[][] {
+                { "Homer", "Marge", "Bart", "Lisa", "Maggie", "Ned", null },
+                { 39, 36, 10, 8, 1, 60, 20 },
+        };
+        this.dataProvider = new TwoDimensionalArrayDataProvider(this.data);
+        this.configRegistry = new ConfigRegistry();
+        this.configRegistry.registerConfigAttribute(
+                FilterRowConfigAttributes.TEXT_MATCHING_MODE,
+                TextMatchingMode.REGULAR_EXPRESSION,
+                DisplayMode.NORMAL,
+                FilterRowDataLayer.FILTER_ROW_COLUMN_LABEL_PREFIX + 1);
+        this.configRegistry.registerConfigAttribute(
+                FilterRowConfigAttributes.FILTER_DISPLAY_CONVERTER,
+                new DefaultIntegerDisplayConverter(),
+                DisplayMode.NORMAL,
+                FilterRowDataLayer.FILTER_ROW_COLUMN_LABEL_PREFIX + 1);
+        this.filterStrategy = new IndexFilterStrategy<>(this.dataProvider, this.configRegistry);
+        this.filter = new HashMap<>();
+    }
+
+    private void applyFilter(int columnIndex, Object value) {
+        this.filter.put(columnIndex, value);
+        this.filterStrategy.applyFilter(this.filter);
+    }
+
+    private List<Integer> getMatchingRows() {
+        List<Integer> result = new ArrayList<>();
+        for (int row = 0; row < this.dataProvider.getRowCount(); row++) {
+            if (this.filterStrategy.isRowIndexMatching(row)) {
+                result.add(row);
+            }
+        }
+        assertEquals(result.size(), this.filterStrategy.getMatchingRowCount());
+        return result;
+    }
+
+    @Test
+    public void shouldMatchAllRowsWithoutFilter() {
+        assertFalse(this.filterStrategy.isFiltered());
+        assertEquals(7, getMatchingRows().size());
+
+        applyFilter(0, ""); //$NON-NLS-1$
+        assertFalse(this.filterStrategy.isFiltered());
+        assertEquals(7, getMatchingRows().size());
+    }
+
+    @Test
+    public void shouldFilterContainsCaseInsensitive() {
+        applyFilter(0, "mA"); //$NON-NLS-1$
+        assertTrue(this.filterStrategy.isFiltered());
+        assertEquals(Arrays.asList(1, 4), getMatchingRows());
+
+        this.filter.clear();
+        this.filterStrategy.applyFilter(this.filter);
+        assertFalse(this.filterStrategy.isFiltered());
+        assertEquals(7, getMatchingRows().size());
+    }
+
+    @Test
+    public void shouldRefineAndWidenTextFilter() {
+        applyFilter(0, "a"); //$NON-NLS-1$
+        assertEquals(Arrays.asList(1, 2, 3, 4), getMatchingRows());
+        applyFilter(0, "ar"); //$NON-NLS-1$
+        assertEquals(Arrays.asList(1, 2), getMatchingRows());
+        applyFilter(0, "arg"); //$NON-NLS-1$
+        assertEquals(Arrays.asList(1), getMatchingRows());
+        applyFilter(0, "r"); //$NON-NLS-1$
+        assertEquals(Arrays.asList(0, 1, 2), getMatchingRows());
+    }
+
+    @Test
+    public void shouldFilterStartsWithAndExact() {
+        this.configRegistry.registerConfigAttribute(
+                FilterRowConfigAttributes.TEXT_MATCHING_MODE,
+                TextMatchingMode.STARTS_WITH,
+                DisplayMode.NORMAL,
+                FilterRowDataLayer.FILTER_ROW_COLUMN_LABEL_PREFIX + 0);
+        applyFilter(0, "ma"); //$NON-NLS-1$
+        assertEquals(Arrays.asList(1, 4), getMatchingRows());
+        applyFilter(0, "mag"); //$NON-NLS-1$
+        assertEquals(Arrays.asList(4), getMatchingRows());
+
+        this.configRegistry.registerConfigAttribute(
+                FilterRowConfigAttributes.TEXT_MATCHING_MODE,
+                TextMatchingMode.EXACT,
+                DisplayMode.NORMAL,
+                FilterRowDataLayer.FILTER_ROW_COLUMN_LABEL_PREFIX + 0);
+        applyFilter(0, "ned"); //$NON-NLS-1$
+        assertEquals(Arrays.asList(5), getMatchingRows());
+    }
+
+    @Test
+    public void shouldCombineDelimitedTextFiltersWithOr() {
+        this.configRegistry.registerConfigAttribute(
+                FilterRowConfigAttributes.TEXT_DELIMITER,
+                ",", //$NON-NLS-1$
+                DisplayMode.NORMAL,
+                FilterRowDataLayer.FILTER_ROW_COLUMN_LABEL_PREFIX + 0);
+        applyFilter(0, "bart,ned"); //$NON-NLS-1$
+        assertEquals(Arrays.asList(2, 5), getMatchingRows());
+    }
+
+    @Test
+    public void shouldFilterThresholdExpressions() {
+        applyFilter(1, ">= 36"); //$NON-NLS-1$
+        assertEquals(Arrays.asList(0, 1, 5), getMatchingRows());
+        applyFilter(1, "< 10"); //$NON-NLS-1$
+        assertEquals(Arrays.asList(3, 4), getMatchingRows());
+        applyFilter(1, "<> 10"); //$NON-NLS-1$
+        assertEquals(Arrays.asList(0, 1, 3, 4, 5, 6), getMatchingRows());
+        applyFilter(1, "3."); //$NON-NLS-1$
+        assertEquals(Arrays.asList(0, 1), getMatchingRows());
+    }
+
+    @Test
+    public void shouldCombineThresholdsWithAnd() {
+        this.configRegistry.registerConfigAttribute(
+                FilterRowConfigAttributes.TEXT_DELIMITER,
+                "&", //$NON-NLS-1$
+                DisplayMode.NORMAL,
+                FilterRowDataLayer.FILTER_ROW_COLUMN_LABEL_PREFIX + 1);
+        applyFilter(1, ">8&<39"); //$NON-NLS-1$
+        assertEquals(Arrays.asList(1, 2, 6), getMatchingRows());
+    }
+
+    @Test
+    public void shouldSkipInvalidRegularExpression() {
+        applyFilter(1, "[0-"); //$NON-NLS-1$
+        assertFalse(this.filterStrategy.isFiltered());
+        assertEquals(7, getMatchingRows().size());
+    }
+
+    @Test
+    public void shouldCombineColumnsWithAnd() {
+        applyFilter(0, "a"); //$NON-NLS-1$
+        applyFilter(1, ">9"); //$NON-NLS-1$
+        assertEquals(Arrays.asList(1, 2), getMatchingRows());
+    }
+
+    @Test
+    public void shouldFilterCollections() {
+        applyFilter(1, Arrays.asList(10, 60));
+        assertEquals(Arrays.asList(2, 5), getMatchingRows());
+
+        applyFilter(1, Collections.emptyList());
+        assertTrue(this.filterStrategy.isFiltered());
+        assertEquals(0, getMatchingRows().size());
+
+        applyFilter(1, EditConstants.SELECT_ALL_ITEMS_VALUE);
+        assertFalse(this.filterStrategy.isFiltered());
+
+        applyFilter(0, Arrays.asList("Bart", "")); //$NON-NLS-1$ //$NON-NLS-2$
+        assertEquals(Arrays.asList(2, 6), getMatchingRows());
+    }
+
+    @Test
+    public void shouldUpdateChangedRows() {
+        AtomicInteger changes = new AtomicInteger();
+        this.filterStrategy.addFilterChangeListener(changes::incrementAndGet);
+        applyFilter(0, "ma"); //$NON-NLS-1$
+        assertEquals(1, changes.get());
+
+        this.data[0][5] = "Maude"; //$NON-NLS-1$
+        this.data[0][1] = "Patty"; //$NON-NLS-1$
+        this.filterStrategy.updateRows(5, 1);
+        assertEquals(2, changes.get());
+        assertEquals(Arrays.asList(4, 5), getMatchingRows());
+
+        // a change that does not affect the filter result
+        this.data[0][2] = "Bartholomew"; //$NON-NLS-1$
+        this.filterStrategy.updateRows(2);
+        assertEquals(2, changes.get());
+
+        // updated values are used by subsequent filters
+        applyFilter(0, "bartho"); //$NON-NLS-1$
+        assertEquals(Arrays.asList(2), getMatchingRows());
+    }
+
+    @Test
+    public void shouldRefreshOnChangedRowCount() {
+        applyFilter(0, "ma"); //$NON-NLS-1$
+        this.data[0] = Arrays.copyOf(this.data[0], 8);
+        this.data[1] = Arrays.copyOf(this.data[1], 8);
+        this.data[0][7] = "Manjula"; //$NON-NLS-1$
+
+        this.filterStrategy.updateRows(7);
+        assertEquals(8, this.filterStrategy.getIndexedRowCount());
+        assertEquals(Arrays.asList(1, 4, 7), getMatchingRows());
+    }
+
+    @Test
+    public void shouldMatchReferenceImplementation() {
+        Random random = new Random(4711);
+        int rowCount = 20000;
+        String[] words = { "alpha", "beta", "gamma", "delta", "Epsilon", "zeta" };
+        Object[][] values = new Object[2][rowCount];
+        for (int row = 0; row < rowCount; row++) {
+            values[0][row] = words[random.nextInt(words.length)] + random.nextInt(100);
+            values[1][row] = random.nextInt(1000);
+        }
+        this.data = values;
+        this.dataProvider = new TwoDimensionalArrayDataProvider(values);
+        this.filterStrategy = new IndexFilterStrategy<>(this.dataProvider, this.configRegistry);
+
+        String[] texts = { "a", "al", "alp", "alpha1", "e", "ep", "eps", "epsilon9", "ta", "" };
+        for (String text : texts) {
+            int threshold = random.nextInt(1000);
+            applyFilter(0, text);
+            applyFilter(1, "< " + threshold); //$NON-NLS-1$
+
+            IntPredicate expected = row -> values[0][row].toString().toUpperCase().contains(text.toUpperCase())
+                    && (Integer) values[1][row] < threshold;
+            for (int row = 0; row < rowCount; row++) {
+                assertEquals(expected.test(row), this.filterStrategy.isRowIndexMatching(row), text + " " + row); //$NON-NLS-1$
+            }
+        }
+    }
+}
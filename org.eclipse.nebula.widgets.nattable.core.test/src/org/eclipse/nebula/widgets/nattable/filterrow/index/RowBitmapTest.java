@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.filterrow.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class RowBitmapTest {
+
+    @Test
+    public void shouldAddAndRemoveRows() {
+        RowBitmap bitmap = new RowBitmap();
+        assertTrue(bitmap.isEmpty());
+
+        bitmap.add(5);
+        bitmap.add(70000);
+        bitmap.add(5);
+        assertEquals(2, bitmap.getCardinality());
+        assertTrue(bitmap.contains(5));
+        assertTrue(bitmap.contains(70000));
+        assertFalse(bitmap.contains(6));
+
+        bitmap.remove(5);
+        bitmap.remove(7);
+        assertEquals(1, bitmap.getCardinality());
+        assertFalse(bitmap.contains(5));
+
+        bitmap.remove(70000);
+        assertTrue(bitmap.isEmpty());
+    }
+
+    @Test
+    public void shouldSwitchBetweenArrayAndBitmapContainers() {
+        RowBitmap bitmap = new RowBitmap();
+        BitSet expected = new BitSet();
+        for (int row = 0; row < 10000; row += 2) {
+            bitmap.add(row);
+            expected.set(row);
+        }
+        assertEquals(expected, bitmap.toBitSet());
+
+        for (int row = 0; row < 10000; row += 4) {
+            bitmap.remove(row);
+            expected.clear(row);
+        }
+        assertEquals(expected.cardinality(), bitmap.getCardinality());
+        assertEquals(expected, bitmap.toBitSet());
+    }
+
+    @Test
+    public void shouldIntersectLikeBitSet() {
+        Random random = new Random(42);
+        long[] words1 = new long[4000];
+        long[] words2 = new long[4000];
+        for (int i = 0; i < words1.length; i++) {
+            // mix dense and sparse chunks
+            words1[i] = (i < 1024) ? random.nextLong() : random.nextLong() & random.nextLong() & random.nextLong() & random.nextLong();
+            words2[i] = (i % 1024 < 512) ? random.nextLong() : 1L << random.nextInt(64);
+        }
+
+        RowBitmap bitmap1 = RowBitmap.fromWords(words1);
+        RowBitmap bitmap2 = RowBitmap.fromWords(words2);
+        BitSet expected = BitSet.valueOf(words1);
+        expected.and(BitSet.valueOf(words2));
+
+        RowBitmap result = RowBitmap.and(bitmap1, bitmap2);
+        assertEquals(expected.cardinality(), result.getCardinality());
+        assertEquals(expected, result.toBitSet());
+        assertEquals(BitSet.valueOf(words1), bitmap1.toBitSet());
+    }
+
+    @Test
+    public void shouldIterateInAscendingOrder() {
+        RowBitmap bitmap = new RowBitmap();
+        int[] rows = { 131072, 3, 65536, 1 };
+        for (int row : rows) {
+            bitmap.add(row);
+        }
+        StringBuilder result = new StringBuilder();
+        bitmap.forEach(row -> result.append(row).append(' '));
+        assertEquals("1 3 65536 131072 ", result.toString());
+    }
+}
@@ -14,9 +14,11 @@
 package org.eclipse.nebula.widgets.nattable.formula;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 import java.math.BigDecimal;
 
+import org.eclipse.nebula.widgets.nattable.coordinate.IndexCoordinate;
 import org.eclipse.nebula.widgets.nattable.data.IDataProvider;
 import org.junit.Test;
 
@@ -78,4 +80,87 @@ public void shouldHandleNumberValueTypes() {
         this.dataProvider.setDataValue(1, 0, "3");
         assertEquals(new BigDecimal("15.6"), this.formulaDataProvider.getDataValue(2, 0));
     }
+
+    @Test
+    public void shouldReuseParsedFormulas() {
+        this.formulaDataProvider.setFunctionCacheEnabled(true);
+        FormulaFunctionCache cache = this.formulaDataProvider.getFormulaParser().getFunctionCache();
+
+        this.dataProvider.setDataValue(0, 0, "5");
+        this.dataProvider.setDataValue(1, 0, "=A1*2");
+        this.dataProvider.setDataValue(2, 0, "=B1+1");
+
+        assertEquals(new BigDecimal("11"), this.formulaDataProvider.getDataValue(2, 0));
+        // C1 and the referenced formula in B1
+        assertEquals(2, cache.size());
+
+        assertSame(cache.getFunction(new IndexCoordinate(1, 0), "=A1*2"), cache.getReferencedFunction(new IndexCoordinate(1, 0)));
+        assertEquals(new BigDecimal("10"), this.formulaDataProvider.getDataValue(1, 0));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void shouldOnlyInvalidateDependentFormulas() {
+        this.formulaDataProvider.setFunctionCacheEnabled(true);
+        FormulaFunctionCache cache = this.formulaDataProvider.getFormulaParser().getFunctionCache();
+
+        this.dataProvider.setDataValue(0, 0, "5");
+        this.dataProvider.setDataValue(1, 0, "=A1*2");
+        this.dataProvider.setDataValue(2, 0, "=B1+1");
+        this.dataProvider.setDataValue(0, 1, "3");
+        this.dataProvider.setDataValue(1, 1, "=A2*A2");
+
+        assertEquals(new BigDecimal("11"), this.formulaDataProvider.getDataValue(2, 0));
+        assertEquals(new BigDecimal("9"), this.formulaDataProvider.getDataValue(1, 1));
+        assertEquals(3, cache.size());
+
+        this.formulaDataProvider.setDataValue(0, 0, "10");
+
+        // B1 and C1 are invalidated, B2 is still cached
+        assertEquals(1, cache.size());
+        assertEquals(new BigDecimal("21"), this.formulaDataProvider.getDataValue(2, 0));
+        assertEquals(new BigDecimal("9"), this.formulaDataProvider.getDataValue(1, 1));
+    }
+
+    @Test
+    public void shouldInvalidateFormulaReferencingEmptyCell() {
+        this.formulaDataProvider.setFunctionCacheEnabled(true);
+
+        this.dataProvider.setDataValue(0, 0, "5");
+        this.dataProvider.setDataValue(1, 0, "=SUM(A1:A3)");
+
+        assertEquals(new BigDecimal("5"), this.formulaDataProvider.getDataValue(1, 0));
+
+        this.formulaDataProvider.setDataValue(0, 2, "4");
+        assertEquals(new BigDecimal("9"), this.formulaDataProvider.getDataValue(1, 0));
+    }
+
+    @Test
+    public void shouldReparseChangedFormula() {
+        this.formulaDataProvider.setFunctionCacheEnabled(true);
+
+        this.dataProvider.setDataValue(0, 0, "5");
+        this.dataProvider.setDataValue(1, 0, "=A1*2");
+        assertEquals(new BigDecimal("10"), this.formulaDataProvider.getDataValue(1, 0));
+
+        // change the formula without using the FormulaDataProvider
+        this.dataProvider.setDataValue(1, 0, "=A1*3");
+        assertEquals(new BigDecimal("15"), this.formulaDataProvider.getDataValue(1, 0));
+    }
+
+    @Test
+    public void shouldRecoverFromErrorWithFunctionCache() {
+        this.formulaDataProvider.setFunctionCacheEnabled(true);
+
+        this.dataProvider.setDataValue(0, 0, "abc");
+        this.dataProvider.setDataValue(1, 0, "=A1*2");
+        this.dataProvider.setDataValue(2, 0, "=A3");
+        this.dataProvider.setDataValue(0, 2, "=C1");
+
+        assertEquals("#VALUE!", this.formulaDataProvider.getDataValue(1, 0));
+        assertEquals("#REF!", this.formulaDataProvider.getDataValue(2, 0));
+
+        this.formulaDataProvider.setDataValue(0, 0, "4");
+        assertEquals(new BigDecimal("8"), this.formulaDataProvider.getDataValue(1, 0));
+    }
 }
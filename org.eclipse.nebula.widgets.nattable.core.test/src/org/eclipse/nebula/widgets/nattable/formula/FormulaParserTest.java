@@ -870,4 +870,13 @@ public void shouldNoticeCycleReferenceWithRange() {
         this.parser.parseFunction("=C3");
     }
 
+    @Test
+    public void shouldNotNoticeCycleForMultipleReferencesToSameCell() {
+        this.dataProvider.setDataValue(0, 0, "5");
+        this.dataProvider.setDataValue(1, 0, "=A1+1");
+        this.dataProvider.setDataValue(2, 0, "=B1*2");
+
+        assertEquals(new BigDecimal("18"), this.parser.parseFunction("=B1+C1").getValue());
+    }
+
 }
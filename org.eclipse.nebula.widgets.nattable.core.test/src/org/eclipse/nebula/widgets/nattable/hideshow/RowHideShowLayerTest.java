@@ -16,12 +16,17 @@
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Random;
 
 import org.eclipse.nebula.widgets.nattable.hideshow.indicator.HideIndicatorConstants;
+import org.eclipse.nebula.widgets.nattable.layer.DataLayer;
 import org.eclipse.nebula.widgets.nattable.layer.LabelStack;
+import org.eclipse.nebula.widgets.nattable.reorder.RowReorderLayer;
+import org.eclipse.nebula.widgets.nattable.test.fixture.data.DataProviderFixture;
 import org.eclipse.nebula.widgets.nattable.test.fixture.layer.DataLayerFixture;
 import org.eclipse.nebula.widgets.nattable.test.fixture.layer.RowHideShowLayerFixture;
 import org.junit.Before;
@@ -409,4 +414,49 @@ public void shouldReturnHiddenRowIndexes() {
 
         assertFalse(this.rowHideShowLayer.hasHiddenRows());
     }
+
+    @Test
+    public void shouldMapPositionsConsistentlyWithManyHiddenRows() {
+        DataLayer dataLayer = new DataLayer(new DataProviderFixture(2, 500), 100, 20);
+        dataLayer.setRowHeightByPosition(7, 35);
+        dataLayer.setRowHeightByPosition(42, 50);
+        RowReorderLayer reorderLayer = new RowReorderLayer(dataLayer);
+        reorderLayer.reorderRowPosition(0, 300);
+        reorderLayer.reorderRowPosition(400, 10);
+        RowHideShowLayer hideShowLayer = new RowHideShowLayer(reorderLayer);
+
+        Random random = new Random(42);
+        for (int i = 0; i < 5; i++) {
+            int[] toHide = new int[20];
+            for (int j = 0; j < toHide.length; j++) {
+                toHide[j] = random.nextInt(500);
+            }
+            hideShowLayer.hideRowIndexes(toHide);
+            hideShowLayer.showRowIndexes(random.nextInt(500));
+
+            List<Integer> visibleIndexes = new ArrayList<>();
+            int expectedStartY = 0;
+            for (int underlyingPosition = 0; underlyingPosition < reorderLayer.getRowCount(); underlyingPosition++) {
+                int rowIndex = reorderLayer.getRowIndexByPosition(underlyingPosition);
+                if (hideShowLayer.isRowIndexHidden(rowIndex)) {
+                    assertEquals(-1, hideShowLayer.getRowPositionByIndex(rowIndex));
+                    assertEquals(visibleIndexes.size(),
+                            hideShowLayer.underlyingToLocalRowPosition(reorderLayer, underlyingPosition));
+                } else {
+                    int rowPosition = visibleIndexes.size();
+                    assertEquals(rowPosition, hideShowLayer.getRowPositionByIndex(rowIndex));
+                    assertEquals(rowIndex, hideShowLayer.getRowIndexByPosition(rowPosition));
+                    assertEquals(underlyingPosition, hideShowLayer.localToUnderlyingRowPosition(rowPosition));
+                    assertEquals(rowPosition,
+                            hideShowLayer.underlyingToLocalRowPosition(reorderLayer, underlyingPosition));
+                    assertEquals(expectedStartY, hideShowLayer.getStartYOfRowPosition(rowPosition));
+                    expectedStartY += reorderLayer.getRowHeightByPosition(underlyingPosition);
+                    visibleIndexes.add(rowIndex);
+                }
+            }
+            assertEquals(visibleIndexes.size(), hideShowLayer.getRowCount());
+            assertEquals(expectedStartY, hideShowLayer.getHeight());
+            assertEquals(-1, hideShowLayer.getRowIndexByPosition(visibleIndexes.size()));
+        }
+    }
 }
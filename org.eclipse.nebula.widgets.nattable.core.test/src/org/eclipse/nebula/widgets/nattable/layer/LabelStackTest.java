@@ -14,9 +14,20 @@
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
 
 import org.junit.Test;
 
@@ -137,4 +148,184 @@ public void shouldRemoveLabel() {
         assertEquals("One", iterator.next());
         assertEquals("Three", iterator.next());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldFindLabelsOnLargeLabelStack() {
+        LabelStack labels = new LabelStack();
+        for (int i = 0; i < 100; i++) {
+            assertTrue(labels.addLabel("Label" + i));
+        }
+
+        assertEquals(100, labels.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals("Label" + i, labels.get(i));
+            assertTrue(labels.hasLabel("Label" + i));
+        }
+        assertFalse(labels.hasLabel("Label100"));
+    }
+
+    @Test
+    public void shouldNotContainLabelAfterModification() {
+        LabelStack labels = new LabelStack("One", "Two", "Three");
+
+        labels.removeLabel("Two");
+        assertFalse(labels.hasLabel("Two"));
+
+        labels.set(0, "Four");
+        assertFalse(labels.hasLabel("One"));
+        assertTrue(labels.hasLabel("Four"));
+
+        Iterator<String> iterator = labels.iterator();
+        iterator.next();
+        iterator.remove();
+        assertFalse(labels.hasLabel("Four"));
+        assertTrue(labels.hasLabel("Three"));
+        assertEquals(1, labels.size());
+    }
+
+    @Test
+    public void shouldBeReusableAfterClear() {
+        LabelStack labels = new LabelStack("One", "Two", "Three");
+
+        labels.clear();
+        assertTrue(labels.isEmpty());
+        assertFalse(labels.hasLabel("One"));
+
+        labels.addLabel("Two");
+        assertEquals(1, labels.size());
+        assertTrue(labels.hasLabel("Two"));
+        assertFalse(labels.hasLabel("Three"));
+    }
+
+    @Test
+    public void shouldBeEqualToListWithSameLabels() {
+        LabelStack labels = new LabelStack("One", "Two");
+
+        assertEquals(Arrays.asList("One", "Two"), labels);
+        assertEquals(new LabelStack(Arrays.asList("One", "Two")), labels);
+        assertEquals(Arrays.asList("One", "Two").hashCode(), labels.hashCode());
+    }
+
+    @Test
+    public void shouldSupportNullLabel() {
+        LabelStack labels = new LabelStack("One");
+
+        assertFalse(labels.contains(null));
+        labels.add(null);
+        assertTrue(labels.contains(null));
+        assertEquals(1, labels.indexOf(null));
+    }
+
+    @Test
+    public void shouldSupportDequeOperations() {
+        Deque<String> labels = new LabelStack("Two");
+
+        labels.push("One");
+        labels.addLast("Three");
+        assertEquals(Arrays.asList("One", "Two", "Three"), labels);
+        assertEquals("One", labels.peekFirst());
+        assertEquals("Three", labels.getLast());
+
+        Iterator<String> iterator = labels.descendingIterator();
+        assertEquals("Three", iterator.next());
+        assertEquals("Two", iterator.next());
+        assertEquals("One", iterator.next());
+        assertFalse(iterator.hasNext());
+
+        assertEquals("One", labels.pop());
+        assertEquals("Three", labels.pollLast());
+        assertFalse(labels.contains("One"));
+        assertEquals(1, labels.size());
+
+        labels.clear();
+        assertNull(labels.peek());
+        assertNull(labels.poll());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void shouldFailToRemoveFirstFromEmptyLabelStack() {
+        new LabelStack().removeFirst();
+    }
+
+    @Test
+    public void shouldKeepLabelsOfLargeLabelStackInSync() {
+        LabelStack labels = new LabelStack();
+        for (int i = 0; i < 20; i++) {
+            labels.addLabel("Label" + i);
+        }
+        assertTrue(labels.hasLabel("Label0"));
+
+        labels.add("Label1");
+        labels.removeLabel("Label1");
+        assertTrue(labels.hasLabel("Label1"));
+        labels.removeLabel("Label1");
+        assertFalse(labels.hasLabel("Label1"));
+
+        labels.set(0, "Replaced");
+        assertFalse(labels.hasLabel("Label0"));
+        assertTrue(labels.hasLabel("Replaced"));
+
+        ListIterator<String> iterator = labels.listIterator();
+        iterator.next();
+        iterator.set("Label0");
+        assertFalse(labels.hasLabel("Replaced"));
+        assertTrue(labels.hasLabel("Label0"));
+
+        labels.pop();
+        labels.subList(0, 2).clear();
+        labels.removeAll(Collections.singleton("Label19"));
+        assertFalse(labels.hasLabel("Label0"));
+        assertFalse(labels.hasLabel("Label2"));
+        assertFalse(labels.hasLabel("Label3"));
+        assertFalse(labels.hasLabel("Label19"));
+        assertTrue(labels.hasLabel("Label4"));
+
+        labels.addLabelOnTop("Label18");
+        assertEquals("Label18", labels.getFirst());
+        assertEquals(1, Collections.frequency(labels, "Label18"));
+        assertTrue(labels.hasLabel("Label18"));
+    }
+
+    @Test
+    public void shouldCloneIndependentLabelStack() {
+        LabelStack labels = new LabelStack();
+        for (int i = 0; i < 20; i++) {
+            labels.addLabel("Label" + i);
+        }
+        assertTrue(labels.hasLabel("Label0"));
+
+        LabelStack clone = (LabelStack) labels.clone();
+        clone.removeLabel("Label0");
+        clone.addLabel("Cloned");
+
+        assertEquals(20, labels.size());
+        assertTrue(labels.hasLabel("Label0"));
+        assertFalse(labels.hasLabel("Cloned"));
+        assertFalse(clone.hasLabel("Label0"));
+        assertTrue(clone.hasLabel("Cloned"));
+    }
+
+    @Test
+    public void shouldSerializeAsLinkedList() throws Exception {
+        LabelStack labels = new LabelStack();
+        for (int i = 0; i < 20; i++) {
+            labels.addLabel("Label" + i);
+        }
+        assertTrue(labels.hasLabel("Label0"));
+        assertTrue(labels instanceof LinkedList);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(labels);
+        }
+        LabelStack copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (LabelStack) in.readObject();
+        }
+
+        assertEquals(labels, copy);
+        assertTrue(copy.hasLabel("Label19"));
+        copy.removeLabel("Label19");
+        assertFalse(copy.hasLabel("Label19"));
+    }
+}
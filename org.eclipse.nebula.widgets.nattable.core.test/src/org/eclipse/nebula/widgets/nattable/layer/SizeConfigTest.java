@@ -166,4 +166,64 @@ public void testAggregateSizeWithScaling() {
 
         assertTrue("aggregate size of last column is same as cached aggregate size", aggregateSize != cachedAggregateSize);
     }
+
+    @Test
+    public void getAggregateSizeAfterIncrementalUpdate() {
+        this.sizeConfig.setSize(5, 120);
+        this.sizeConfig.setDefaultSize(8, 50);
+
+        assertEquals(970, this.sizeConfig.getAggregateSize(10));
+
+        // update already configured positions
+        this.sizeConfig.setSize(5, 20);
+        this.sizeConfig.setSize(8, 70);
+
+        assertEquals(20, this.sizeConfig.getSize(5));
+        assertEquals(70, this.sizeConfig.getSize(8));
+        assertEquals(520, this.sizeConfig.getAggregateSize(6));
+        assertEquals(890, this.sizeConfig.getAggregateSize(10));
+
+        this.sizeConfig.resetConfiguredSize(5);
+
+        assertEquals(970, this.sizeConfig.getAggregateSize(10));
+    }
+
+    @Test
+    public void getPositionByAggregateSize() {
+        assertEquals(-1, this.sizeConfig.getPositionByAggregateSize(-1));
+        assertEquals(0, this.sizeConfig.getPositionByAggregateSize(0));
+        assertEquals(0, this.sizeConfig.getPositionByAggregateSize(99));
+        assertEquals(1, this.sizeConfig.getPositionByAggregateSize(100));
+
+        this.sizeConfig.setSize(0, 10);
+        this.sizeConfig.setSize(2, 0);
+        this.sizeConfig.setSize(5, 120);
+
+        assertEquals(0, this.sizeConfig.getPositionByAggregateSize(9));
+        assertEquals(1, this.sizeConfig.getPositionByAggregateSize(10));
+        assertEquals(1, this.sizeConfig.getPositionByAggregateSize(109));
+        // position 2 has size 0
+        assertEquals(3, this.sizeConfig.getPositionByAggregateSize(110));
+        assertEquals(5, this.sizeConfig.getPositionByAggregateSize(310));
+        assertEquals(5, this.sizeConfig.getPositionByAggregateSize(429));
+        assertEquals(6, this.sizeConfig.getPositionByAggregateSize(430));
+        assertEquals(10, this.sizeConfig.getPositionByAggregateSize(830));
+    }
+
+    @Test
+    public void getPositionByAggregateSizeMatchesAggregateSize() {
+        for (int i = 0; i < 50; i += 3) {
+            this.sizeConfig.setSize(i, (i * 17) % 40);
+        }
+        this.sizeConfig.setDefaultSize(10, 30);
+
+        for (int position = 0; position < 60; position++) {
+            int start = this.sizeConfig.getAggregateSize(position);
+            int end = this.sizeConfig.getAggregateSize(position + 1);
+            assertEquals(start + this.sizeConfig.getSize(position), end);
+            for (int pixel = start; pixel < end; pixel++) {
+                assertEquals(position, this.sizeConfig.getPositionByAggregateSize(pixel));
+            }
+        }
+    }
 }
@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.painter.cell;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class TextWidthCacheTest {
+
+    private List<String> measured;
+
+    @Before
+    public void setup() {
+        this.measured = new ArrayList<>();
+    }
+
+    /**
+     * Proportional font without kerning, digits are 6 pixels wide, all other
+     * characters 5 pixels plus one pixel per upper case letter.
+     */
+    private int proportional(String text) {
+        this.measured.add(text);
+        return width(text);
+    }
+
+    private static int width(String text) {
+        int width = 0;
+        for (char c : text.toCharArray()) {
+            width += Character.isDigit(c) ? 6 : (Character.isUpperCase(c) ? 6 : 5);
+        }
+        return width;
+    }
+
+    @Test
+    public void shouldCacheMeasuredWidths() {
+        TextWidthCache cache = new TextWidthCache();
+        ToIntFunction<String> measure = this::proportional;
+
+        assertEquals(20, cache.getTextWidth(null, "abcd", measure));
+        this.measured.clear();
+
+        assertEquals(20, cache.getTextWidth(null, "abcd", measure));
+        assertEquals(21, cache.getTextWidth(null, "Abcd", measure));
+        assertEquals(21, cache.getTextWidth(null, "Abcd", measure));
+        assertEquals(1, this.measured.size());
+        assertEquals(2, cache.getCachedEntryCount(null));
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsed() {
+        TextWidthCache cache = new TextWidthCache(2);
+        ToIntFunction<String> measure = this::proportional;
+
+        cache.getTextWidth(null, "a", measure);
+        cache.getTextWidth(null, "b", measure);
+        cache.getTextWidth(null, "a", measure);
+        cache.getTextWidth(null, "c", measure);
+        assertEquals(2, cache.getCachedEntryCount(null));
+        this.measured.clear();
+
+        cache.getTextWidth(null, "a", measure);
+        assertEquals(0, this.measured.size());
+        cache.getTextWidth(null, "b", measure);
+        assertEquals(1, this.measured.size());
+    }
+
+    @Test
+    public void shouldCalculateNumericWidths() {
+        TextWidthCache cache = new TextWidthCache();
+        ToIntFunction<String> measure = this::proportional;
+
+        cache.getTextWidth(null, "", measure);
+        this.measured.clear();
+
+        for (int i = 0; i < 1000; i++) {
+            String text = String.valueOf(i * 31.5d);
+            assertEquals(width(text), cache.getTextWidth(null, text, measure));
+        }
+        assertEquals(0, this.measured.size());
+        assertEquals(0, cache.getCachedEntryCount(null));
+
+        assertEquals(34, cache.getTextWidth(null, "-1,234", measure));
+        assertEquals(24, cache.getTextWidth(null, "1E10", measure));
+        assertEquals(1, this.measured.size());
+    }
+
+    @Test
+    public void shouldNotCalculateWithKerning() {
+        TextWidthCache cache = new TextWidthCache();
+        // pairs of ones are rendered narrower
+        ToIntFunction<String> measure = text -> {
+            this.measured.add(text);
+            return width(text) - (text.contains("11") ? 2 : 0);
+        };
+
+        assertEquals(24, cache.getTextWidth(null, "1234", measure));
+        this.measured.clear();
+        assertEquals(22, cache.getTextWidth(null, "1123", measure));
+        assertEquals(1, this.measured.size());
+        assertEquals(2, cache.getCachedEntryCount(null));
+    }
+
+    @Test
+    public void shouldCalculateMonospaceWidths() {
+        TextWidthCache cache = new TextWidthCache();
+        ToIntFunction<String> measure = text -> {
+            this.measured.add(text);
+            return text.length() * 7;
+        };
+
+        assertEquals(77, cache.getTextWidth(null, "Hello World", measure));
+        this.measured.clear();
+        assertEquals(14, cache.getTextWidth(null, "iW", measure));
+        assertEquals(0, this.measured.size());
+
+        assertEquals(21, cache.getTextWidth(null, "äöü", measure));
+        assertEquals(1, this.measured.size());
+    }
+}
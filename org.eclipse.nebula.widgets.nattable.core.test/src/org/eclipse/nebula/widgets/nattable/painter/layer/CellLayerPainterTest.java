@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.painter.layer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.nebula.widgets.nattable.config.CellConfigAttributes;
+import org.eclipse.nebula.widgets.nattable.config.ConfigRegistry;
+import org.eclipse.nebula.widgets.nattable.layer.DataLayer;
+import org.eclipse.nebula.widgets.nattable.layer.ILayer;
+import org.eclipse.nebula.widgets.nattable.layer.cell.ColumnOverrideLabelAccumulator;
+import org.eclipse.nebula.widgets.nattable.layer.cell.ILayerCell;
+import org.eclipse.nebula.widgets.nattable.style.DisplayMode;
+import org.eclipse.nebula.widgets.nattable.test.fixture.layer.DataLayerFixture;
+import org.eclipse.swt.graphics.Rectangle;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CellLayerPainterTest {
+
+    private static final String EXPENSIVE = "EXPENSIVE";
+
+    private DataLayer layer;
+    private ConfigRegistry configRegistry;
+    private List<Rectangle> redrawnBounds;
+    private boolean deferringSupported;
+    private CellLayerPainter painter;
+
+    @Before
+    public void setup() {
+        this.layer = new DataLayerFixture(3, 3, 100, 20);
+        ColumnOverrideLabelAccumulator accumulator = new ColumnOverrideLabelAccumulator(this.layer);
+        accumulator.registerColumnOverrides(1, EXPENSIVE);
+        this.layer.setConfigLabelAccumulator(accumulator);
+
+        this.configRegistry = new ConfigRegistry();
+        this.configRegistry.registerConfigAttribute(
+                CellConfigAttributes.EXPENSIVE_CELL_PAINTER,
+                Boolean.TRUE,
+                DisplayMode.NORMAL,
+                EXPENSIVE);
+
+        this.redrawnBounds = new ArrayList<>();
+        this.deferringSupported = true;
+        this.painter = new CellLayerPainter() {
+            @Override
+            protected boolean isDeferredPaintingSupported(ILayer natLayer) {
+                return CellLayerPainterTest.this.deferringSupported;
+            }
+
+            @Override
+            protected void scheduleDeferredRedraw(ILayer natLayer, List<Rectangle> cellBounds) {
+                CellLayerPainterTest.this.redrawnBounds.addAll(cellBounds);
+            }
+        };
+    }
+
+    private void exceedBudget() {
+        long start = System.nanoTime();
+        while (System.nanoTime() - start < 3_000_000L) {
+            // busy wait to exceed the budget of 1 ms
+        }
+    }
+
+    @Test
+    public void shouldNotDeferWithoutBudget() {
+        ILayerCell expensive = this.layer.getCellByPosition(1, 0);
+
+        this.painter.startPaintPass(this.layer);
+        this.painter.isDeferred(expensive, this.configRegistry);
+        exceedBudget();
+
+        assertEquals(0, this.painter.getPaintTimeBudget());
+        assertFalse(this.painter.isDeferred(expensive, this.configRegistry));
+        this.painter.finishPaintPass(this.layer);
+        assertTrue(this.redrawnBounds.isEmpty());
+    }
+
+    @Test
+    public void shouldDeferExpensiveCellsAfterBudget() {
+        this.painter.setPaintTimeBudget(1);
+        ILayerCell expensive = this.layer.getCellByPosition(1, 0);
+        ILayerCell cheap = this.layer.getCellByPosition(0, 0);
+
+        this.painter.startPaintPass(this.layer);
+        assertFalse(this.painter.isDeferred(cheap, this.configRegistry));
+        assertFalse(this.painter.isDeferred(expensive, this.configRegistry));
+
+        exceedBudget();
+
+        // only cells labeled as expensive are deferred
+        assertFalse(this.painter.isDeferred(cheap, this.configRegistry));
+        assertTrue(this.painter.isDeferred(expensive, this.configRegistry));
+        assertTrue(this.painter.isDeferred(this.layer.getCellByPosition(1, 1), this.configRegistry));
+
+        // a new pass starts with a fresh budget
+        this.painter.startPaintPass(this.layer);
+        assertFalse(this.painter.isDeferred(expensive, this.configRegistry));
+    }
+
+    @Test
+    public void shouldPaintOneExpensiveCellPerPass() {
+        this.painter.setPaintTimeBudget(1);
+        ILayerCell expensive = this.layer.getCellByPosition(1, 0);
+
+        this.painter.startPaintPass(this.layer);
+        exceedBudget();
+
+        assertFalse(this.painter.isDeferred(expensive, this.configRegistry));
+        assertTrue(this.painter.isDeferred(expensive, this.configRegistry));
+    }
+
+    @Test
+    public void shouldNotDeferIfNotSupported() {
+        this.painter.setPaintTimeBudget(1);
+        this.deferringSupported = false;
+        ILayerCell expensive = this.layer.getCellByPosition(1, 0);
+
+        this.painter.startPaintPass(this.layer);
+        this.painter.isDeferred(expensive, this.configRegistry);
+        exceedBudget();
+
+        assertFalse(this.painter.isDeferred(expensive, this.configRegistry));
+    }
+
+    @Test
+    public void shouldNotDeferWithoutPlaceholder() {
+        this.painter.setPaintTimeBudget(1);
+        this.painter.setPlaceholderPainter(null);
+        ILayerCell expensive = this.layer.getCellByPosition(1, 0);
+
+        this.painter.startPaintPass(this.layer);
+        this.painter.isDeferred(expensive, this.configRegistry);
+        exceedBudget();
+
+        assertFalse(this.painter.isDeferred(expensive, this.configRegistry));
+    }
+
+    @Test
+    public void shouldOnlySupportDeferringOnScreen() {
+        CellLayerPainter defaultPainter = new CellLayerPainter();
+        defaultPainter.setPaintTimeBudget(1);
+
+        // painting a layer that is not a NatTable painting itself on screen,
+        // e.g. on image export or printing
+        assertFalse(defaultPainter.isDeferredPaintingSupported(this.layer));
+    }
+}
@@ -327,4 +327,36 @@ private void registerCellStyleAccumulators(DataLayer bodyDataLayer, ColumnOverri
         bodyDataLayer.setConfigLabelAccumulator(aggregrateConfigLabelAccumulator);
     }
 
+    @Test
+    public void shouldUpdateStartXAfterMovesWithCachedStartX() {
+        this.underlyingLayer = new DataLayerFixture();
+        this.columnReorderLayer = new ColumnReorderLayer(this.underlyingLayer);
+        int count = this.columnReorderLayer.getColumnCount();
+
+        // fill the cache before moving
+        assertStartX(this.columnReorderLayer);
+
+        this.columnReorderLayer.reorderColumnPosition(1, count - 1);
+        assertStartX(this.columnReorderLayer);
+
+        this.columnReorderLayer.reorderMultipleColumnPositions(Arrays.asList(count - 3, count - 2), 0);
+        assertStartX(this.columnReorderLayer);
+
+        this.columnReorderLayer.reorderMultipleColumnPositions(Arrays.asList(0, 1), count - 1, false);
+        assertStartX(this.columnReorderLayer);
+
+        assertEquals(
+                this.columnReorderLayer.getStartXOfColumnPosition(count - 1) + this.columnReorderLayer.getColumnWidthByPosition(count - 1),
+                this.columnReorderLayer.getWidth());
+    }
+
+    private static void assertStartX(ColumnReorderLayer layer) {
+        int startX = 0;
+        for (int position = 0; position < layer.getColumnCount(); position++) {
+            assertEquals(startX, layer.getStartXOfColumnPosition(position));
+            startX += layer.getColumnWidthByPosition(position);
+        }
+        assertEquals(startX, layer.getStartXOfColumnPosition(layer.getColumnCount()));
+    }
+
 }
@@ -297,4 +297,36 @@ public void shouldResetReorderingViaCommand() {
         assertEquals(0, this.rowReorderLayer.getRowIndexByPosition(0));
     }
 
+    @Test
+    public void shouldUpdateStartYAfterMovesWithCachedStartY() {
+        this.underlyingLayer = new DataLayerFixture();
+        this.rowReorderLayer = new RowReorderLayer(this.underlyingLayer);
+        int count = this.rowReorderLayer.getRowCount();
+
+        // fill the cache before moving
+        assertStartY(this.rowReorderLayer);
+
+        this.rowReorderLayer.reorderRowPosition(1, count - 1);
+        assertStartY(this.rowReorderLayer);
+
+        this.rowReorderLayer.reorderMultipleRowPositions(Arrays.asList(count - 3, count - 2), 0);
+        assertStartY(this.rowReorderLayer);
+
+        this.rowReorderLayer.reorderMultipleRowPositions(Arrays.asList(0, 1), count - 1, false);
+        assertStartY(this.rowReorderLayer);
+
+        assertEquals(
+                this.rowReorderLayer.getStartYOfRowPosition(count - 1) + this.rowReorderLayer.getRowHeightByPosition(count - 1),
+                this.rowReorderLayer.getHeight());
+    }
+
+    private static void assertStartY(RowReorderLayer layer) {
+        int startY = 0;
+        for (int position = 0; position < layer.getRowCount(); position++) {
+            assertEquals(startY, layer.getStartYOfRowPosition(position));
+            startY += layer.getRowHeightByPosition(position);
+        }
+        assertEquals(startY, layer.getStartYOfRowPosition(layer.getRowCount()));
+    }
+
 }
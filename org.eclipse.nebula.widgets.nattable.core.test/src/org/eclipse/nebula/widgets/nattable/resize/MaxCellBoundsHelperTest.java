@@ -12,8 +12,10 @@
  ******************************************************************************/
 package org.eclipse.nebula.widgets.nattable.resize;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
+import org.eclipse.nebula.widgets.nattable.config.ConfigRegistry;
 import org.eclipse.nebula.widgets.nattable.config.IConfigRegistry;
 import org.eclipse.nebula.widgets.nattable.data.IDataProvider;
 import org.eclipse.nebula.widgets.nattable.painter.cell.TextPainter;
@@ -162,4 +164,39 @@ public void shouldHandleRowPositionOutsideScope() {
         assertEquals(-1, maxRowHeights[2]);
     }
 
+    @Test
+    public void shouldSelectRowsWithLongestDisplayValuesAsWidthCandidates() {
+        DataLayerFixture dataLayer = new DataLayerFixture(1, 6, 10, 10);
+        IDataProvider dataProvider = dataLayer.getDataProvider();
+
+        dataProvider.setDataValue(0, 0, "Long");
+        dataProvider.setDataValue(0, 1, "Longer");
+        dataProvider.setDataValue(0, 2, "Cat");
+        dataProvider.setDataValue(0, 3, "Cat\nDog\nMouse");
+        dataProvider.setDataValue(0, 4, "");
+        dataProvider.setDataValue(0, 5, "Longest Text");
+
+        int[] candidates = MaxCellBoundsHelper.getWidthCandidateRowPositions(
+                dataLayer, 0, new ConfigRegistry(), AutoResizeEstimation.longestValues(2));
+
+        assertArrayEquals(new int[] { 1, 5 }, candidates);
+    }
+
+    @Test
+    public void shouldOnlyScanSampleRowsForWidthCandidates() {
+        DataLayerFixture dataLayer = new DataLayerFixture(1, 1000, 10, 10);
+        IDataProvider dataProvider = dataLayer.getDataProvider();
+
+        for (int row = 0; row < 1000; row++) {
+            dataProvider.setDataValue(0, row, "a");
+        }
+        dataProvider.setDataValue(0, 300, "sampled");
+        dataProvider.setDataValue(0, 301, "not sampled but longer");
+
+        int[] candidates = MaxCellBoundsHelper.getWidthCandidateRowPositions(
+                dataLayer, 0, new ConfigRegistry(), AutoResizeEstimation.longestValues(1).withSampleSize(10));
+
+        assertArrayEquals(new int[] { 300 }, candidates);
+    }
+
 }
@@ -0,0 +1,213 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.search.strategy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.nebula.widgets.nattable.config.CellConfigAttributes;
+import org.eclipse.nebula.widgets.nattable.config.ConfigRegistry;
+import org.eclipse.nebula.widgets.nattable.coordinate.PositionCoordinate;
+import org.eclipse.nebula.widgets.nattable.data.IDataProvider;
+import org.eclipse.nebula.widgets.nattable.data.convert.DefaultDisplayConverter;
+import org.eclipse.nebula.widgets.nattable.edit.command.UpdateDataCommand;
+import org.eclipse.nebula.widgets.nattable.layer.DataLayer;
+import org.eclipse.nebula.widgets.nattable.layer.event.RowStructuralRefreshEvent;
+import org.eclipse.nebula.widgets.nattable.search.CellValueAsStringComparator;
+import org.eclipse.nebula.widgets.nattable.search.SearchDirection;
+import org.eclipse.nebula.widgets.nattable.selection.SelectionLayer;
+import org.eclipse.nebula.widgets.nattable.selection.command.SelectCellCommand;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CellDisplayValueSearchIndexTest {
+
+    private String[][] data;
+    private AtomicInteger dataAccessCount;
+    private Set<Thread> dataAccessThreads;
+    private DataLayer dataLayer;
+    private SelectionLayer selectionLayer;
+    private ConfigRegistry configRegistry;
+    private CellDisplayValueSearchIndex searchIndex;
+
+    @Before
+    public void setUp() throws InterruptedException {
+        Random random = new Random(42);
+        String[] words = { "alpha", "Beta", "gamma", "delta beta", "epsilon" };
+        this.data = new String[8][500];
+        for (int column = 0; column < this.data.length; column++) {
+            for (int row = 0; row < this.data[column].length; row++) {
+                this.data[column][row] = words[random.nextInt(words.length)] + random.nextInt(50);
+            }
+        }
+        this.dataAccessCount = new AtomicInteger();
+        this.dataAccessThreads = ConcurrentHashMap.newKeySet();
+
+        IDataProvider dataProvider = new IDataProvider() {
+
+            @Override
+            public Object getDataValue(int columnIndex, int rowIndex) {
+                CellDisplayValueSearchIndexTest.this.dataAccessCount.incrementAndGet();
+                CellDisplayValueSearchIndexTest.this.dataAccessThreads.add(Thread.currentThread());
+                return CellDisplayValueSearchIndexTest.this.data[columnIndex][rowIndex];
+            }
+
+            @Override
+            public void setDataValue(int columnIndex, int rowIndex, Object newValue) {
+                CellDisplayValueSearchIndexTest.this.data[columnIndex][rowIndex] = (String) newValue;
+            }
+
+            @Override
+            public int getColumnCount() {
+                return CellDisplayValueSearchIndexTest.this.data.length;
+            }
+
+            @Override
+            public int getRowCount() {
+                return CellDisplayValueSearchIndexTest.this.data[0].length;
+            }
+        };
+        this.dataLayer = new DataLayer(dataProvider);
+        this.selectionLayer = new SelectionLayer(this.dataLayer, false);
+
+        this.configRegistry = new ConfigRegistry();
+        this.configRegistry.registerConfigAttribute(
+                CellConfigAttributes.DISPLAY_CONVERTER,
+                new DefaultDisplayConverter());
+
+        this.searchIndex = new CellDisplayValueSearchIndex(this.selectionLayer, this.configRegistry);
+        this.searchIndex.awaitBuild();
+    }
+
+    @After
+    public void tearDown() {
+        this.searchIndex.dispose();
+    }
+
+    private PositionCoordinate search(String value, boolean useIndex, boolean columnFirst, SearchDirection direction,
+            boolean caseSensitive, boolean wholeWord, boolean regex) {
+        GridSearchStrategy strategy = new GridSearchStrategy(this.configRegistry, true, direction, columnFirst);
+        strategy.setContextLayer(this.selectionLayer);
+        strategy.setCaseSensitive(caseSensitive);
+        strategy.setWholeWord(wholeWord);
+        strategy.setRegex(regex);
+        strategy.setComparator(new CellValueAsStringComparator<>());
+        if (useIndex) {
+            strategy.setSearchIndex(this.searchIndex);
+        }
+        return strategy.executeSearch(value);
+    }
+
+    @Test
+    public void shouldBuildCompleteIndex() {
+        assertTrue(this.searchIndex.isComplete());
+    }
+
+    @Test
+    public void shouldFindSameCellsAsWithoutIndex() {
+        String[] values = { "alpha1", "beta", "Beta", "a4", "beta2", "gamma.*", "epsilon49", "zeta" };
+        for (String value : values) {
+            for (int i = 0; i < 8; i++) {
+                boolean columnFirst = (i & 1) != 0;
+                boolean caseSensitive = (i & 2) != 0;
+                boolean wholeWord = (i & 4) != 0;
+                boolean regex = value.contains("*"); //$NON-NLS-1$
+                for (SearchDirection direction : SearchDirection.values()) {
+                    this.selectionLayer.doCommand(new SelectCellCommand(this.selectionLayer, 3, 250, false, false));
+                    PositionCoordinate expected = search(value, false, columnFirst, direction, caseSensitive, wholeWord, regex);
+                    PositionCoordinate actual = search(value, true, columnFirst, direction, caseSensitive, wholeWord, regex);
+                    assertEquals(value + " " + i + " " + direction, expected, actual); //$NON-NLS-1$ //$NON-NLS-2$
+                }
+            }
+        }
+    }
+
+    @Test
+    public void shouldAccessDataOnlyOnCreatingThread() throws InterruptedException {
+        this.data[2][10] = "zeta"; //$NON-NLS-1$
+        this.dataLayer.fireLayerEvent(new RowStructuralRefreshEvent(this.dataLayer));
+        this.searchIndex.awaitBuild();
+
+        assertTrue(this.searchIndex.isComplete());
+        assertEquals(1, this.dataAccessThreads.size());
+        assertTrue(this.dataAccessThreads.contains(Thread.currentThread()));
+    }
+
+    @Test
+    public void shouldNotAccessDataForNonMatchingCells() {
+        this.dataAccessCount.set(0);
+        assertNull(search("zeta", true, false, SearchDirection.SEARCH_FORWARD, false, false, false)); //$NON-NLS-1$
+        assertEquals(0, this.dataAccessCount.get());
+
+        assertNull(search("zeta", false, false, SearchDirection.SEARCH_FORWARD, false, false, false)); //$NON-NLS-1$
+        assertTrue(this.dataAccessCount.get() >= 4000);
+    }
+
+    @Test
+    public void shouldFindUpdatedValue() {
+        this.selectionLayer.doCommand(new UpdateDataCommand(this.selectionLayer, 5, 400, "zeta")); //$NON-NLS-1$
+
+        PositionCoordinate result = search("zeta", true, false, SearchDirection.SEARCH_FORWARD, false, false, false); //$NON-NLS-1$
+        assertNotNull(result);
+        assertEquals(5, result.columnPosition);
+        assertEquals(400, result.rowPosition);
+
+        // the update is applied to the index
+        this.data[5][400] = "omega"; //$NON-NLS-1$
+        assertNull(search("zeta", true, false, SearchDirection.SEARCH_FORWARD, false, false, false)); //$NON-NLS-1$
+    }
+
+    @Test
+    public void shouldRebuildOnRowStructureChange() throws InterruptedException {
+        this.data[2][10] = "zeta"; //$NON-NLS-1$
+        this.dataLayer.fireLayerEvent(new RowStructuralRefreshEvent(this.dataLayer));
+
+        // the result is correct while the index is rebuilt
+        PositionCoordinate result = search("zeta", true, false, SearchDirection.SEARCH_FORWARD, false, false, false); //$NON-NLS-1$
+        assertNotNull(result);
+        assertEquals(10, result.rowPosition);
+
+        this.searchIndex.awaitBuild();
+        assertTrue(this.searchIndex.isComplete());
+        result = search("zeta", true, false, SearchDirection.SEARCH_FORWARD, false, false, false); //$NON-NLS-1$
+        assertNotNull(result);
+        assertEquals(2, result.columnPosition);
+    }
+
+    @Test
+    public void shouldFindAllMatchingCells() {
+        List<PositionCoordinate> results = new ArrayList<>();
+        int count = this.searchIndex.findAll("alpha1", new CellValueAsStringComparator<>(), true, false, false, results::add); //$NON-NLS-1$
+
+        int expected = 0;
+        for (int row = 0; row < this.data[0].length; row++) {
+            for (int column = 0; column < this.data.length; column++) {
+                if (this.data[column][row].contains("alpha1")) { //$NON-NLS-1$
+                    assertEquals(new PositionCoordinate(this.selectionLayer, column, row), results.get(expected++));
+                }
+            }
+        }
+        assertEquals(expected, count);
+        assertEquals(expected, results.size());
+    }
+}
@@ -0,0 +1,284 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.selection;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.nebula.widgets.nattable.coordinate.Range;
+import org.eclipse.nebula.widgets.nattable.layer.event.ColumnDeleteEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.ColumnInsertEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.RowStructuralRefreshEvent;
+import org.eclipse.nebula.widgets.nattable.test.fixture.layer.DataLayerFixture;
+import org.eclipse.swt.graphics.Rectangle;
+import org.junit.Before;
+import org.junit.Test;
+
+public class IndexedSelectionModelTest {
+
+    private SelectionLayer selectionLayer;
+    private IndexedSelectionModel model;
+
+    @Before
+    public void before() {
+        this.selectionLayer = new SelectionLayer(new DataLayerFixture(100, 100, 100, 40), false);
+        this.model = new IndexedSelectionModel(this.selectionLayer);
+    }
+
+    @Test
+    public void shouldBeEmptyInitially() {
+        assertTrue(this.model.isEmpty());
+        assertFalse(this.model.isCellPositionSelected(0, 0));
+        assertTrue(this.model.getSelections().isEmpty());
+        assertEquals(0, this.model.getSelectedRowCount());
+    }
+
+    @Test
+    public void shouldAddAndClearCellSelections() {
+        this.model.addSelection(2, 3);
+        this.model.addSelection(5, 3);
+        this.model.addSelection(2, 7);
+
+        assertFalse(this.model.isEmpty());
+        assertTrue(this.model.isCellPositionSelected(2, 3));
+        assertTrue(this.model.isCellPositionSelected(5, 3));
+        assertTrue(this.model.isCellPositionSelected(2, 7));
+        assertFalse(this.model.isCellPositionSelected(3, 3));
+        assertFalse(this.model.isCellPositionSelected(2, 4));
+
+        this.model.clearSelection(5, 3);
+        assertFalse(this.model.isCellPositionSelected(5, 3));
+        assertTrue(this.model.isCellPositionSelected(2, 3));
+
+        this.model.clearSelection(2, 3);
+        this.model.clearSelection(2, 7);
+        assertTrue(this.model.isEmpty());
+    }
+
+    @Test
+    public void shouldCoalesceSelections() {
+        this.model.addSelection(new Rectangle(0, 0, 5, 5));
+        this.model.addSelection(new Rectangle(5, 0, 5, 5));
+        this.model.addSelection(new Rectangle(0, 5, 10, 5));
+        this.model.addSelection(new Rectangle(2, 2, 3, 3));
+
+        List<Rectangle> selections = this.model.getSelections();
+        assertEquals(1, selections.size());
+        assertEquals(new Rectangle(0, 0, 10, 10), selections.get(0));
+    }
+
+    @Test
+    public void shouldSplitSelectionOnDeselect() {
+        this.model.addSelection(new Rectangle(0, 0, 10, 10));
+        this.model.clearSelection(new Rectangle(3, 3, 2, 2));
+
+        assertFalse(this.model.isCellPositionSelected(3, 3));
+        assertFalse(this.model.isCellPositionSelected(4, 4));
+        assertTrue(this.model.isCellPositionSelected(2, 3));
+        assertTrue(this.model.isCellPositionSelected(5, 4));
+        assertTrue(this.model.isCellPositionSelected(3, 5));
+
+        List<Rectangle> selections = this.model.getSelections();
+        assertEquals(4, selections.size());
+        int cellCount = 0;
+        for (Rectangle rectangle : selections) {
+            cellCount += rectangle.width * rectangle.height;
+        }
+        assertEquals(96, cellCount);
+    }
+
+    @Test
+    public void shouldHandleSelectAllWithDeselections() {
+        this.model.addSelection(new Rectangle(0, 0, 100, 100));
+        for (int i = 0; i < 100; i += 2) {
+            this.model.clearSelection(i, i);
+        }
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i % 2 != 0, this.model.isCellPositionSelected(i, i));
+            assertEquals(i % 2 != 0, this.model.isRowPositionFullySelected(i, 100));
+            assertEquals(i % 2 != 0, this.model.isColumnPositionFullySelected(i, 100));
+            assertTrue(this.model.isRowPositionSelected(i));
+            assertTrue(this.model.isColumnPositionSelected(i));
+        }
+        assertEquals(50, this.model.getFullySelectedRowPositions(100).length);
+        assertEquals(50, this.model.getFullySelectedColumnPositions(100).length);
+        assertEquals(100, this.model.getSelectedRowCount());
+    }
+
+    @Test
+    public void shouldReturnSelectedRowPositions() {
+        this.model.addSelection(new Rectangle(10, 3, 5, 2));
+        this.model.addSelection(new Rectangle(10, 4, 5, 10));
+        this.model.addSelection(new Rectangle(10, 20, 5, 10));
+        this.model.addSelection(new Rectangle(0, 95, 1, 10));
+
+        Set<Range> selectedRows = this.model.getSelectedRowPositions();
+        assertEquals(3, selectedRows.size());
+        assertTrue(selectedRows.contains(new Range(3, 14)));
+        assertTrue(selectedRows.contains(new Range(20, 30)));
+        // clipped to the row count
+        assertTrue(selectedRows.contains(new Range(95, 100)));
+        assertEquals(26, this.model.getSelectedRowCount());
+
+        assertTrue(this.model.isRowPositionSelected(13));
+        assertFalse(this.model.isRowPositionSelected(14));
+        assertFalse(this.model.isRowPositionSelected(100));
+    }
+
+    @Test
+    public void shouldReturnSelectedColumnPositions() {
+        this.model.addSelection(new Rectangle(1, 0, 2, 1));
+        this.model.addSelection(new Rectangle(2, 5, 2, 1));
+        this.model.addSelection(new Rectangle(7, 5, 1, 1));
+        this.model.addSelection(new Rectangle(98, 5, 5, 1));
+
+        assertArrayEquals(new int[] { 1, 2, 3, 7, 98, 99 }, this.model.getSelectedColumnPositions());
+        assertTrue(this.model.isColumnPositionSelected(3));
+        assertFalse(this.model.isColumnPositionSelected(4));
+        assertFalse(this.model.isColumnPositionSelected(100));
+    }
+
+    @Test
+    public void shouldDetectFullySelectedRowsOfOverlappingSelections() {
+        this.model.addSelection(new Rectangle(6, 5, 8, 14));
+        this.model.addSelection(new Rectangle(6, 5, 3, 28));
+        this.model.addSelection(new Rectangle(14, 13, 2, 1));
+
+        assertTrue(this.model.isRowPositionFullySelected(13, 10));
+        assertFalse(this.model.isRowPositionFullySelected(13, 11));
+        assertFalse(this.model.isRowPositionFullySelected(12, 10));
+        assertArrayEquals(new int[] { 13 }, this.model.getFullySelectedRowPositions(10));
+    }
+
+    @Test
+    public void shouldNotDetectFullySelectedForNonContiguousSelections() {
+        this.model.addSelection(new Rectangle(0, 0, 10, 1));
+        this.model.addSelection(new Rectangle(20, 0, 1, 1));
+        this.model.addSelection(new Rectangle(30, 0, 1, 20));
+        this.model.addSelection(new Rectangle(30, 30, 1, 20));
+
+        assertFalse(this.model.isRowPositionFullySelected(0, 10));
+        assertFalse(this.model.isColumnPositionFullySelected(30, 20));
+        assertTrue(this.model.isColumnPositionFullySelected(20, 1));
+        assertArrayEquals(new int[0], this.model.getFullySelectedRowPositions(10));
+    }
+
+    @Test
+    public void shouldUpdateCachesOnChange() {
+        this.model.addSelection(new Rectangle(0, 0, 100, 10));
+
+        assertEquals(10, this.model.getFullySelectedRowPositions(100).length);
+        assertEquals(100, this.model.getFullySelectedColumnPositions(10).length);
+        assertEquals(10, this.model.getSelectedRowCount());
+
+        this.model.clearSelection(new Rectangle(50, 5, 1, 1));
+
+        assertEquals(9, this.model.getFullySelectedRowPositions(100).length);
+        assertEquals(99, this.model.getFullySelectedColumnPositions(10).length);
+        assertFalse(this.model.isColumnPositionFullySelected(50, 10));
+        assertTrue(this.model.isColumnPositionFullySelected(51, 10));
+
+        this.model.clearSelection(new Rectangle(50, 6, 1, 4));
+
+        assertTrue(this.model.isColumnPositionFullySelected(50, 5));
+        assertEquals(5, this.model.getFullySelectedRowPositions(100).length);
+
+        this.model.clearSelection();
+
+        assertEquals(0, this.model.getFullySelectedRowPositions(100).length);
+        assertEquals(0, this.model.getSelectedRowCount());
+        assertEquals(0, this.model.getSelectedColumnPositions().length);
+    }
+
+    @Test
+    public void shouldOnlySelectOneCellIfMultipleSelectionIsNotAllowed() {
+        this.model.setMultipleSelectionAllowed(false);
+        this.model.addSelection(new Rectangle(0, 0, 10, 10));
+        this.model.addSelection(new Rectangle(5, 5, 10, 10));
+
+        assertEquals(Arrays.asList(new Rectangle(5, 5, 1, 1)), this.model.getSelections());
+    }
+
+    @Test
+    public void shouldBeUsableInSelectionLayer() {
+        this.selectionLayer.setSelectionModel(this.model);
+        this.selectionLayer.selectRow(0, 4, false, false);
+        this.selectionLayer.selectRow(0, 6, false, true);
+
+        assertTrue(this.selectionLayer.isRowPositionFullySelected(4));
+        assertTrue(this.selectionLayer.isRowPositionFullySelected(6));
+        assertFalse(this.selectionLayer.isRowPositionSelected(5));
+        assertArrayEquals(new int[] { 4, 6 }, this.selectionLayer.getFullySelectedRowPositions());
+    }
+
+    @Test
+    public void shouldOnlyClearSelectionIfDeletedColumnIsSelected() {
+        this.selectionLayer.setSelectionModel(this.model);
+        this.model.addSelection(4, 5);
+
+        this.model.handleLayerEvent(new ColumnDeleteEvent(this.selectionLayer, 2));
+        assertTrue(this.model.isCellPositionSelected(4, 5));
+
+        this.model.handleLayerEvent(new ColumnDeleteEvent(this.selectionLayer, 4));
+        assertTrue(this.model.isEmpty());
+    }
+
+    @Test
+    public void shouldClearSelectionIfColumnIsInsertedAtSelectedColumn() {
+        this.selectionLayer.setSelectionModel(this.model);
+        this.model.addSelection(4, 5);
+
+        this.model.handleLayerEvent(new ColumnInsertEvent(this.selectionLayer, 4));
+        assertTrue(this.model.isEmpty());
+    }
+
+    @Test
+    public void shouldSelectRegionExtendingToMaxValue() {
+        this.model.addSelection(new Rectangle(2, 3, Integer.MAX_VALUE, 1));
+        this.model.addSelection(new Rectangle(5, 10, 1, Integer.MAX_VALUE));
+
+        assertTrue(this.model.isCellPositionSelected(99, 3));
+        assertFalse(this.model.isCellPositionSelected(1, 3));
+        assertTrue(this.model.isCellPositionSelected(5, 99));
+        assertFalse(this.model.isCellPositionSelected(5, 9));
+    }
+
+    @Test
+    public void shouldClipRegionExtendingToMaxValueOnChange() {
+        this.selectionLayer.setSelectionModel(this.model);
+        this.model.setClearSelectionOnChange(false);
+        this.model.addSelection(new Rectangle(95, 90, Integer.MAX_VALUE, Integer.MAX_VALUE));
+
+        this.model.handleLayerEvent(new RowStructuralRefreshEvent(this.selectionLayer));
+
+        assertEquals(Arrays.asList(new Rectangle(95, 90, 5, 10)), this.model.getSelections());
+    }
+
+    @Test
+    public void shouldClipSelectionOnChangeIfNotClearing() {
+        this.selectionLayer.setSelectionModel(this.model);
+        this.model.setClearSelectionOnChange(false);
+        this.model.addSelection(new Rectangle(95, 90, 10, 20));
+
+        this.model.handleLayerEvent(new RowStructuralRefreshEvent(this.selectionLayer));
+
+        assertEquals(Arrays.asList(new Rectangle(95, 90, 5, 10)), this.model.getSelections());
+    }
+}
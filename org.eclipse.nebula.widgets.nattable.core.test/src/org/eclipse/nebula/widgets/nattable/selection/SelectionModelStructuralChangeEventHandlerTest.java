@@ -28,10 +28,15 @@
 import org.eclipse.nebula.widgets.nattable.hideshow.event.HideColumnPositionsEvent;
 import org.eclipse.nebula.widgets.nattable.hideshow.event.HideRowPositionsEvent;
 import org.eclipse.nebula.widgets.nattable.layer.DataLayer;
+import org.eclipse.nebula.widgets.nattable.layer.event.ColumnInsertEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.ColumnStructuralRefreshEvent;
 import org.eclipse.nebula.widgets.nattable.layer.event.RowDeleteEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.RowInsertEvent;
 import org.eclipse.nebula.widgets.nattable.layer.event.RowStructuralRefreshEvent;
 import org.eclipse.nebula.widgets.nattable.layer.event.StructuralRefreshEvent;
 import org.eclipse.nebula.widgets.nattable.layer.stack.DefaultBodyLayerStack;
+import org.eclipse.nebula.widgets.nattable.resize.event.ColumnResizeEvent;
+import org.eclipse.nebula.widgets.nattable.resize.event.RowResizeEvent;
 import org.eclipse.nebula.widgets.nattable.selection.command.SelectRowsCommand;
 import org.eclipse.nebula.widgets.nattable.test.fixture.NatTableFixture;
 import org.eclipse.nebula.widgets.nattable.test.fixture.layer.DataLayerFixture;
@@ -140,6 +145,64 @@ public void shouldNotClearSelectionIfOtherColumnIsHidden() {
         assertTrue(this.selectionModel.isEmpty());
     }
 
+    @Test
+    public void shouldClearSelectionIfColumnIsInsertedAtSelectedColumn() {
+        this.selectionModel.addSelection(3, 4);
+
+        this.selectionModel.handleLayerEvent(new ColumnInsertEvent(this.dataLayer, 3));
+
+        assertTrue(this.selectionModel.isEmpty());
+    }
+
+    @Test
+    public void shouldLeaveSelectionUnchangedIfColumnIsInsertedAfterSelection() {
+        this.selectionModel.addSelection(3, 4);
+
+        this.selectionModel.handleLayerEvent(new ColumnInsertEvent(this.dataLayer, 6));
+
+        assertFalse(this.selectionModel.isEmpty());
+        assertTrue(this.selectionModel.isCellPositionSelected(3, 4));
+    }
+
+    @Test
+    public void shouldLeaveSelectionUnchangedIfRowIsInsertedAtSelectedRow() {
+        this.selectionModel.addSelection(3, 4);
+
+        this.selectionModel.handleLayerEvent(new RowInsertEvent(this.dataLayer, 4));
+
+        assertFalse(this.selectionModel.isEmpty());
+        assertTrue(this.selectionModel.isCellPositionSelected(3, 4));
+    }
+
+    @Test
+    public void shouldLeaveSelectionUnchangedOnResize() {
+        this.selectionModel.addSelection(3, 4);
+
+        this.selectionModel.handleLayerEvent(new ColumnResizeEvent(this.dataLayer, 3));
+        this.selectionModel.handleLayerEvent(new RowResizeEvent(this.dataLayer, 4));
+
+        assertFalse(this.selectionModel.isEmpty());
+        assertTrue(this.selectionModel.isCellPositionSelected(3, 4));
+    }
+
+    @Test
+    public void shouldClearSelectionOnColumnStructuralRefresh() {
+        this.selectionModel.addSelection(3, 4);
+
+        this.selectionModel.handleLayerEvent(new ColumnStructuralRefreshEvent(this.dataLayer));
+
+        assertTrue(this.selectionModel.isEmpty());
+    }
+
+    @Test
+    public void shouldClearSelectionOnRowStructuralRefresh() {
+        this.selectionModel.addSelection(3, 4);
+
+        this.selectionModel.handleLayerEvent(new RowStructuralRefreshEvent(this.dataLayer));
+
+        assertTrue(this.selectionModel.isEmpty());
+    }
+
     @Test
     public void shouldClearSelectionOnDataUpdates() throws Exception {
         List<RowDataFixture> listFixture = RowDataListFixture.getList(10);
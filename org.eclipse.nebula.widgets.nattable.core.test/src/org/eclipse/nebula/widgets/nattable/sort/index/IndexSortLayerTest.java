@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.sort.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.eclipse.nebula.widgets.nattable.coordinate.Range;
+import org.eclipse.nebula.widgets.nattable.edit.command.UpdateDataCommand;
+import org.eclipse.nebula.widgets.nattable.edit.event.DataUpdateEvent;
+import org.eclipse.nebula.widgets.nattable.formula.TwoDimensionalArrayDataProvider;
+import org.eclipse.nebula.widgets.nattable.layer.DataLayer;
+import org.eclipse.nebula.widgets.nattable.layer.event.RowStructuralRefreshEvent;
+import org.eclipse.nebula.widgets.nattable.sort.SortDirectionEnum;
+import org.eclipse.nebula.widgets.nattable.test.fixture.layer.LayerListenerFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class IndexSortLayerTest {
+
+    private Object[][] data;
+    private DataLayer dataLayer;
+    private IndexSortModel sortModel;
+    private IndexSortLayer sortLayer;
+    private LayerListenerFixture listener;
+
+    @BeforeEach
+    public void setup() {
+        this.data = new Object[][] {
+                { 30, 10, 20, 40 },
+                { "a", "b", "c", "d" },
+        };
+        TwoDimensionalArrayDataProvider dataProvider = new TwoDimensionalArrayDataProvider(this.data);
+        this.dataLayer = new DataLayer(dataProvider, 100, 20);
+        this.sortModel = new IndexSortModel(dataProvider, null, null);
+        this.sortLayer = new IndexSortLayer(this.dataLayer, this.sortModel);
+        this.listener = new LayerListenerFixture();
+        this.sortLayer.addLayerListener(this.listener);
+    }
+
+    @Test
+    public void shouldNotTransformIfNotSorted() {
+        for (int i = 0; i < 4; i++) {
+            assertEquals(i, this.sortLayer.getRowIndexByPosition(i));
+            assertEquals(i, this.sortLayer.getRowPositionByIndex(i));
+        }
+        assertEquals("c", this.sortLayer.getDataValueByPosition(1, 2));
+    }
+
+    @Test
+    public void shouldTransformRowPositions() {
+        this.sortModel.sort(0, SortDirectionEnum.ASC, false);
+
+        assertTrue(this.listener.containsInstanceOf(RowStructuralRefreshEvent.class));
+        assertEquals(1, this.sortLayer.getRowIndexByPosition(0));
+        assertEquals(2, this.sortLayer.getRowIndexByPosition(1));
+        assertEquals(0, this.sortLayer.getRowIndexByPosition(2));
+        assertEquals(3, this.sortLayer.getRowIndexByPosition(3));
+        assertEquals(2, this.sortLayer.getRowPositionByIndex(0));
+        assertEquals(1, this.sortLayer.localToUnderlyingRowPosition(0));
+        assertEquals(2, this.sortLayer.underlyingToLocalRowPosition(this.dataLayer, 0));
+        assertEquals("b", this.sortLayer.getDataValueByPosition(1, 0));
+        assertEquals(1, this.sortLayer.getCellByPosition(1, 0).getRowIndex());
+    }
+
+    @Test
+    public void shouldConvertUnderlyingRanges() {
+        this.sortModel.sort(0, SortDirectionEnum.DESC, false);
+
+        Collection<Range> ranges = this.sortLayer.underlyingToLocalRowPositions(
+                this.dataLayer, Arrays.asList(new Range(0, 2)));
+        // index 0 -> position 1, index 1 -> position 3
+        assertEquals(Arrays.asList(new Range(1, 2), new Range(3, 4)), ranges);
+    }
+
+    @Test
+    public void shouldCalculateYCoordinatesInSortedOrder() {
+        this.dataLayer.setRowHeightByPosition(1, 50);
+        this.sortModel.sort(0, SortDirectionEnum.ASC, false);
+
+        // the row with index 1 and height 50 is at position 0
+        assertEquals(0, this.sortLayer.getStartYOfRowPosition(0));
+        assertEquals(50, this.sortLayer.getStartYOfRowPosition(1));
+        assertEquals(70, this.sortLayer.getStartYOfRowPosition(2));
+        assertEquals(0, this.sortLayer.getRowPositionByY(49));
+        assertEquals(1, this.sortLayer.getRowPositionByY(50));
+        assertEquals(3, this.sortLayer.getRowPositionByY(109));
+        assertEquals(-1, this.sortLayer.getRowPositionByY(110));
+
+        this.dataLayer.setRowHeightByPosition(1, 20);
+        assertEquals(20, this.sortLayer.getStartYOfRowPosition(1));
+    }
+
+    @Test
+    public void shouldResortOnDataUpdate() {
+        this.sortModel.sort(0, SortDirectionEnum.ASC, false);
+        this.listener.clearReceivedEvents();
+
+        this.dataLayer.doCommand(new UpdateDataCommand(this.dataLayer, 0, 3, 0));
+
+        assertEquals(3, this.sortLayer.getRowIndexByPosition(0));
+        assertTrue(this.listener.containsInstanceOf(RowStructuralRefreshEvent.class));
+        assertTrue(this.listener.containsInstanceOf(DataUpdateEvent.class));
+    }
+
+    @Test
+    public void shouldNotResortOnUpdateOfUnsortedColumn() {
+        this.sortModel.sort(0, SortDirectionEnum.ASC, false);
+        this.listener.clearReceivedEvents();
+
+        this.dataLayer.doCommand(new UpdateDataCommand(this.dataLayer, 1, 3, "x"));
+
+        assertFalse(this.listener.containsInstanceOf(RowStructuralRefreshEvent.class));
+        assertEquals(3, this.sortLayer.getRowIndexByPosition(3));
+    }
+
+    @Test
+    public void shouldResortOnRowStructureChange() {
+        this.sortModel.sort(0, SortDirectionEnum.ASC, false);
+
+        this.data[0] = new Object[] { 30, 10, 20, 40, 5 };
+        this.data[1] = new Object[] { "a", "b", "c", "d", "e" };
+        this.dataLayer.fireLayerEvent(new RowStructuralRefreshEvent(this.dataLayer));
+
+        assertEquals(5, this.sortLayer.getRowCount());
+        assertEquals(4, this.sortLayer.getRowIndexByPosition(0));
+        assertEquals(0, this.sortLayer.getRowPositionByIndex(4));
+    }
+
+    @Test
+    public void shouldReturnToIdentityOnClear() {
+        this.sortModel.sort(0, SortDirectionEnum.ASC, false);
+        this.sortModel.clear();
+
+        for (int i = 0; i < 4; i++) {
+            assertEquals(i, this.sortLayer.getRowIndexByPosition(i));
+        }
+        assertEquals(20, this.sortLayer.getStartYOfRowPosition(1));
+    }
+}
@@ -0,0 +1,305 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.sort.index;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.eclipse.nebula.widgets.nattable.config.ConfigRegistry;
+import org.eclipse.nebula.widgets.nattable.config.DefaultComparator;
+import org.eclipse.nebula.widgets.nattable.config.NullComparator;
+import org.eclipse.nebula.widgets.nattable.data.IDataProvider;
+import org.eclipse.nebula.widgets.nattable.formula.TwoDimensionalArrayDataProvider;
+import org.eclipse.nebula.widgets.nattable.layer.DataLayer;
+import org.eclipse.nebula.widgets.nattable.layer.cell.ColumnLabelAccumulator;
+import org.eclipse.nebula.widgets.nattable.sort.SortConfigAttributes;
+import org.eclipse.nebula.widgets.nattable.sort.SortDirectionEnum;
+import org.eclipse.nebula.widgets.nattable.style.DisplayMode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class IndexSortModelTest {
+
+    private Object[][] data;
+    private IDataProvider dataProvider;
+    private IndexSortModel sortModel;
+
+    @BeforeEach
+    public void setup() {
+        this.data = new Object[][] {
+                { 3, 1, 2, 1, null, 5 },
+                { "c", "b", "a", "a", "c", "b" },
+                { 1.5d, -2d, null, 0.5d, 1.5d, 10d },
+        };
+        this.dataProvider = new TwoDimensionalArrayDataProvider(this.data);
+        this.sortModel = new IndexSortModel(this.dataProvider, null, null);
+    }
+
+    @Test
+    public void shouldSortIntegralColumnAscending() {
+        this.sortModel.sort(0, SortDirectionEnum.ASC, false);
+
+        assertTrue(this.sortModel.isSorted());
+        assertTrue(this.sortModel.isColumnIndexSorted(0));
+        assertEquals(SortDirectionEnum.ASC, this.sortModel.getSortDirection(0));
+        // null first, equal values keep their original order
+        assertArrayEquals(new int[] { 4, 1, 3, 2, 0, 5 }, this.sortModel.getRowIndexOrder());
+    }
+
+    @Test
+    public void shouldSortIntegralColumnDescending() {
+        this.sortModel.sort(0, SortDirectionEnum.DESC, false);
+
+        assertArrayEquals(new int[] { 5, 0, 2, 1, 3, 4 }, this.sortModel.getRowIndexOrder());
+    }
+
+    @Test
+    public void shouldSortFullIntegralRange() {
+        Object[][] rangeData = new Object[][] {
+                { 0, Integer.MAX_VALUE, -1, Integer.MIN_VALUE, null, 1 },
+                { 0L, Long.MAX_VALUE, -1L, Long.MIN_VALUE, null, 1L },
+        };
+        IndexSortModel model = new IndexSortModel(new TwoDimensionalArrayDataProvider(rangeData), null, null);
+
+        model.sort(0, SortDirectionEnum.ASC, false);
+        assertArrayEquals(new int[] { 4, 3, 2, 0, 5, 1 }, model.getRowIndexOrder());
+        model.sort(0, SortDirectionEnum.DESC, false);
+        assertArrayEquals(new int[] { 1, 5, 0, 2, 3, 4 }, model.getRowIndexOrder());
+
+        // values that do not fit into an int
+        model.sort(1, SortDirectionEnum.ASC, false);
+        assertArrayEquals(new int[] { 4, 3, 2, 0, 5, 1 }, model.getRowIndexOrder());
+        model.sort(1, SortDirectionEnum.DESC, false);
+        assertArrayEquals(new int[] { 1, 5, 0, 2, 3, 4 }, model.getRowIndexOrder());
+    }
+
+    @Test
+    public void shouldSortFloatingPointColumn() {
+        this.sortModel.sort(2, SortDirectionEnum.ASC, false);
+
+        assertArrayEquals(new int[] { 2, 1, 3, 0, 4, 5 }, this.sortModel.getRowIndexOrder());
+    }
+
+    @Test
+    public void shouldSortMultipleColumns() {
+        this.sortModel.sort(1, SortDirectionEnum.ASC, false);
+        this.sortModel.sort(0, SortDirectionEnum.DESC, true);
+
+        assertEquals(Arrays.asList(1, 0), this.sortModel.getSortedColumnIndexes());
+        assertEquals(0, this.sortModel.getSortOrder(1));
+        assertEquals(1, this.sortModel.getSortOrder(0));
+        assertArrayEquals(new int[] { 2, 3, 5, 1, 0, 4 }, this.sortModel.getRowIndexOrder());
+    }
+
+    @Test
+    public void shouldReplaceSortIfNotAccumulated() {
+        this.sortModel.sort(1, SortDirectionEnum.ASC, false);
+        this.sortModel.sort(0, SortDirectionEnum.ASC, false);
+
+        assertEquals(Arrays.asList(0), this.sortModel.getSortedColumnIndexes());
+        assertFalse(this.sortModel.isColumnIndexSorted(1));
+    }
+
+    @Test
+    public void shouldRemoveSortOnNone() {
+        this.sortModel.sort(1, SortDirectionEnum.ASC, false);
+        this.sortModel.sort(0, SortDirectionEnum.ASC, true);
+        this.sortModel.sort(1, SortDirectionEnum.NONE, true);
+
+        assertEquals(Arrays.asList(0), this.sortModel.getSortedColumnIndexes());
+        assertEquals(SortDirectionEnum.NONE, this.sortModel.getSortDirection(1));
+        assertEquals(-1, this.sortModel.getSortOrder(1));
+    }
+
+    @Test
+    public void shouldReturnToIdentityOnClear() {
+        this.sortModel.sort(0, SortDirectionEnum.DESC, false);
+        this.sortModel.clear();
+
+        assertFalse(this.sortModel.isSorted());
+        assertTrue(this.sortModel.getSortedColumnIndexes().isEmpty());
+        for (int i = 0; i < this.dataProvider.getRowCount(); i++) {
+            assertEquals(i, this.sortModel.getRowIndexByPosition(i));
+            assertEquals(i, this.sortModel.getRowPositionByIndex(i));
+        }
+    }
+
+    @Test
+    public void shouldProvideInverseMapping() {
+        this.sortModel.sort(0, SortDirectionEnum.ASC, false);
+
+        int[] order = this.sortModel.getRowIndexOrder();
+        for (int position = 0; position < order.length; position++) {
+            assertEquals(order[position], this.sortModel.getRowIndexByPosition(position));
+            assertEquals(position, this.sortModel.getRowPositionByIndex(order[position]));
+        }
+        assertEquals(-1, this.sortModel.getRowIndexByPosition(order.length));
+        assertEquals(-1, this.sortModel.getRowPositionByIndex(-1));
+    }
+
+    @Test
+    public void shouldUpdateRowsIncrementally() {
+        this.sortModel.sort(0, SortDirectionEnum.ASC, false);
+
+        this.data[0][5] = -1;
+        this.data[0][4] = 2;
+        this.sortModel.updateRows(5, 4);
+
+        assertArrayEquals(new int[] { 5, 1, 3, 2, 4, 0 }, this.sortModel.getRowIndexOrder());
+        assertEquals(0, this.sortModel.getRowPositionByIndex(5));
+    }
+
+    @Test
+    public void shouldFallbackToFullSortIfValueTypeChanges() {
+        this.sortModel.sort(0, SortDirectionEnum.ASC, false);
+
+        this.data[0][0] = 7.5d;
+        this.sortModel.updateRows(0);
+
+        assertArrayEquals(new int[] { 4, 1, 3, 2, 5, 0 }, this.sortModel.getRowIndexOrder());
+    }
+
+    @Test
+    public void shouldRefreshOnRowCountChange() {
+        this.sortModel.sort(0, SortDirectionEnum.ASC, false);
+
+        Object[][] newData = new Object[][] { { 3, 1, 2 }, { "a", "b", "c" }, { 1d, 2d, 3d } };
+        System.arraycopy(newData, 0, this.data, 0, this.data.length);
+        this.sortModel.updateRows(0);
+
+        assertArrayEquals(new int[] { 1, 2, 0 }, this.sortModel.getRowIndexOrder());
+    }
+
+    @Test
+    public void shouldNotifyListenersOnSortChange() {
+        int[] count = new int[1];
+        this.sortModel.addSortChangeListener(() -> count[0]++);
+
+        this.sortModel.sort(0, SortDirectionEnum.ASC, false);
+        assertEquals(1, count[0]);
+
+        // no change in the order
+        this.data[0][5] = 6;
+        this.sortModel.updateRows(5);
+        assertEquals(1, count[0]);
+
+        this.data[0][5] = 0;
+        this.sortModel.updateRows(5);
+        assertEquals(2, count[0]);
+    }
+
+    @Test
+    public void shouldUseConfiguredComparator() {
+        ConfigRegistry configRegistry = new ConfigRegistry();
+        configRegistry.registerConfigAttribute(
+                SortConfigAttributes.SORT_COMPARATOR,
+                Comparator.comparing(Object::toString).reversed(),
+                DisplayMode.NORMAL,
+                ColumnLabelAccumulator.COLUMN_LABEL_PREFIX + 1);
+        configRegistry.registerConfigAttribute(
+                SortConfigAttributes.SORT_COMPARATOR,
+                new NullComparator(),
+                DisplayMode.NORMAL,
+                ColumnLabelAccumulator.COLUMN_LABEL_PREFIX + 2);
+
+        this.sortModel = new IndexSortModel(this.dataProvider, configRegistry, createColumnHeaderDataLayer());
+
+        assertEquals(DefaultComparator.getInstance(), this.sortModel.getColumnComparator(0));
+        assertTrue(this.sortModel.getComparatorsForColumnIndex(2).isEmpty());
+
+        this.sortModel.sort(1, SortDirectionEnum.ASC, false);
+        assertArrayEquals(new int[] { 0, 4, 1, 5, 2, 3 }, this.sortModel.getRowIndexOrder());
+
+        // not sortable
+        this.sortModel.sort(2, SortDirectionEnum.ASC, false);
+        assertEquals(Arrays.asList(1), this.sortModel.getSortedColumnIndexes());
+    }
+
+    @Test
+    public void shouldMatchReferenceSortForLargeData() {
+        int rowCount = 3 * ParallelIntMergeSort.PARALLEL_THRESHOLD + 17;
+        Random random = new Random(42);
+        Object[][] largeData = new Object[2][rowCount];
+        for (int row = 0; row < rowCount; row++) {
+            largeData[0][row] = random.nextInt(200) - 100;
+            largeData[1][row] = random.nextInt(10) == 0 ? null : "v" + random.nextInt(1000);
+        }
+        IDataProvider largeProvider = new TwoDimensionalArrayDataProvider(largeData);
+        IndexSortModel model = new IndexSortModel(largeProvider, null, null);
+
+        model.sort(0, SortDirectionEnum.DESC, false);
+        model.sort(1, SortDirectionEnum.ASC, true);
+        assertArrayEquals(referenceSort(largeData), model.getRowIndexOrder());
+
+        for (int i = 0; i < 50; i++) {
+            int row = random.nextInt(rowCount);
+            largeData[0][row] = random.nextInt(200) - 100;
+            largeData[1][row] = "v" + random.nextInt(1000);
+            model.updateRows(row);
+        }
+        assertArrayEquals(referenceSort(largeData), model.getRowIndexOrder());
+
+        model.setParallelSortEnabled(false);
+        model.refresh();
+        assertArrayEquals(referenceSort(largeData), model.getRowIndexOrder());
+    }
+
+    private static int[] referenceSort(Object[][] data) {
+        Comparator<Object> comparator = DefaultComparator.getInstance();
+        return IntStream.range(0, data[0].length)
+                .boxed()
+                .sorted((r1, r2) -> {
+                    int result = comparator.compare(data[0][r2], data[0][r1]);
+                    if (result == 0) {
+                        result = comparator.compare(data[1][r1], data[1][r2]);
+                    }
+                    return result;
+                })
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private DataLayer createColumnHeaderDataLayer() {
+        DataLayer columnHeaderDataLayer = new DataLayer(new IDataProvider() {
+
+            @Override
+            public Object getDataValue(int columnIndex, int rowIndex) {
+                return "Column " + columnIndex;
+            }
+
+            @Override
+            public void setDataValue(int columnIndex, int rowIndex, Object newValue) {
+                // nothing to do
+            }
+
+            @Override
+            public int getColumnCount() {
+                return IndexSortModelTest.this.dataProvider.getColumnCount();
+            }
+
+            @Override
+            public int getRowCount() {
+                return 1;
+            }
+        });
+        columnHeaderDataLayer.setConfigLabelAccumulator(new ColumnLabelAccumulator());
+        return columnHeaderDataLayer;
+    }
+}
@@ -0,0 +1,226 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.summaryrow;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.nebula.widgets.nattable.config.ConfigRegistry;
+import org.eclipse.nebula.widgets.nattable.data.IColumnAccessor;
+import org.eclipse.nebula.widgets.nattable.data.ListDataProvider;
+import org.eclipse.nebula.widgets.nattable.edit.command.UpdateDataCommand;
+import org.eclipse.nebula.widgets.nattable.layer.DataLayer;
+import org.eclipse.nebula.widgets.nattable.layer.event.RowInsertEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.RowObjectDeleteEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.RowStructuralRefreshEvent;
+import org.eclipse.nebula.widgets.nattable.style.DisplayMode;
+import org.eclipse.nebula.widgets.nattable.summaryrow.IncrementalSummaryProvider.Aggregation;
+import org.eclipse.nebula.widgets.nattable.summaryrow.command.CalculateSummaryRowValuesCommand;
+import org.junit.Before;
+import org.junit.Test;
+
+public class IncrementalSummaryProviderTest {
+
+    private List<Object[]> rows;
+    private int reads;
+    private IColumnAccessor<Object[]> columnAccessor;
+    private ListDataProvider<Object[]> dataProvider;
+
+    @Before
+    public void setup() {
+        this.rows = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            this.rows.add(new Object[] { (double) i, "text" + i });
+        }
+        this.reads = 0;
+        this.columnAccessor = new IColumnAccessor<Object[]>() {
+
+            @Override
+            public Object getDataValue(Object[] rowObject, int columnIndex) {
+                IncrementalSummaryProviderTest.this.reads++;
+                return rowObject[columnIndex];
+            }
+
+            @Override
+            public void setDataValue(Object[] rowObject, int columnIndex, Object newValue) {
+                rowObject[columnIndex] = newValue;
+            }
+
+            @Override
+            public int getColumnCount() {
+                return 2;
+            }
+        };
+        this.dataProvider = new ListDataProvider<>(this.rows, this.columnAccessor);
+    }
+
+    private IncrementalSummaryProvider provider(Aggregation aggregation) {
+        return new IncrementalSummaryProvider(this.dataProvider, aggregation, true, null);
+    }
+
+    @Test
+    public void shouldCalculateAggregations() {
+        assertEquals(55d, provider(Aggregation.SUM).summarize(0));
+        assertEquals(10, provider(Aggregation.COUNT).summarize(0));
+        assertEquals(1d, provider(Aggregation.MIN).summarize(0));
+        assertEquals(10d, provider(Aggregation.MAX).summarize(0));
+        assertEquals(5.5d, provider(Aggregation.AVERAGE).summarize(0));
+    }
+
+    @Test
+    public void shouldHandleNonNumberValuesLikeSummation() {
+        assertEquals(ISummaryProvider.DEFAULT_SUMMARY_VALUE, provider(Aggregation.SUM).summarize(1));
+        assertEquals(0d, new IncrementalSummaryProvider(this.dataProvider, Aggregation.SUM, false).summarize(1));
+        assertEquals(new SummationSummaryProvider(this.dataProvider).summarize(0), provider(Aggregation.SUM).summarize(0));
+    }
+
+    @Test
+    public void shouldApplyDeltasWithoutReadingData() {
+        IncrementalSummaryProvider sum = provider(Aggregation.SUM);
+        IncrementalSummaryProvider max = provider(Aggregation.MAX);
+        sum.summarize(0);
+        max.summarize(0);
+        this.reads = 0;
+
+        sum.valueUpdated(0, 3d, 13d);
+        max.valueUpdated(0, 3d, 13d);
+        sum.valueAdded(0, 7d);
+        max.valueAdded(0, 7d);
+        sum.valueRemoved(0, 1d);
+        max.valueRemoved(0, 1d);
+
+        assertEquals(71d, sum.summarize(0));
+        assertEquals(13d, max.summarize(0));
+        assertEquals(0, this.reads);
+    }
+
+    @Test
+    public void shouldRecalculateIfExtremumIsRemoved() {
+        IncrementalSummaryProvider min = provider(Aggregation.MIN);
+        min.summarize(0);
+        this.rows.remove(0);
+        this.reads = 0;
+
+        min.valueRemoved(0, 1d);
+
+        assertEquals(2d, min.summarize(0));
+        assertEquals(9, this.reads);
+    }
+
+    @Test
+    public void shouldKeepExtremumIfDuplicateIsRemoved() {
+        this.rows.get(1)[0] = 1d;
+        IncrementalSummaryProvider min = provider(Aggregation.MIN);
+        min.summarize(0);
+        this.reads = 0;
+
+        min.valueRemoved(0, 1d);
+
+        assertEquals(1d, min.summarize(0));
+        assertEquals(0, this.reads);
+    }
+
+    @Test
+    public void shouldRecalculateRunningSumPeriodically() {
+        for (Object[] row : this.rows) {
+            row[0] = 0.1d;
+        }
+        IncrementalSummaryProvider sum = provider(Aggregation.SUM);
+        IncrementalSummaryProvider min = provider(Aggregation.MIN);
+        sum.summarize(0);
+        min.summarize(0);
+        this.reads = 0;
+
+        // every update is reported as two deltas
+        for (int i = 0; i < IncrementalSummaryProvider.REBASE_INTERVAL / 2 - 1; i++) {
+            double oldValue = (i % 2 == 0) ? 0.1d : 0.3d;
+            double newValue = (i % 2 == 0) ? 0.3d : 0.1d;
+            sum.valueUpdated(0, oldValue, newValue);
+            min.valueUpdated(0, oldValue, newValue);
+        }
+        sum.summarize(0);
+        min.summarize(0);
+        assertEquals(0, this.reads);
+
+        sum.valueUpdated(0, 0.3d, 0.1d);
+        min.valueUpdated(0, 0.3d, 0.1d);
+
+        assertEquals(new SummationSummaryProvider(this.dataProvider).summarize(0), sum.summarize(0));
+        assertEquals(20, this.reads);
+        assertEquals(0.1d, min.summarize(0));
+        assertEquals(20, this.reads);
+    }
+
+    @Test
+    public void shouldUpdateSummaryRowLayerIncrementally() {
+        DataLayer dataLayer = new DataLayer(this.dataProvider);
+        ConfigRegistry configRegistry = new ConfigRegistry();
+        IncrementalSummaryProvider sum = new IncrementalSummaryProvider(
+                this.dataProvider, Aggregation.SUM, true, this.columnAccessor);
+        configRegistry.registerConfigAttribute(
+                SummaryRowConfigAttributes.SUMMARY_PROVIDER,
+                sum,
+                DisplayMode.NORMAL,
+                SummaryRowLayer.DEFAULT_SUMMARY_COLUMN_CONFIG_LABEL_PREFIX + 0);
+        SummaryRowLayer summaryRowLayer = new SummaryRowLayer(dataLayer, configRegistry, false);
+
+        summaryRowLayer.doCommand(new CalculateSummaryRowValuesCommand());
+        assertEquals(55d, summaryRowLayer.getDataValueByPosition(0, 10));
+
+        // update via command, the handler reads the old value once
+        this.reads = 0;
+        dataLayer.doCommand(new UpdateDataCommand(dataLayer, 0, 2, 13d));
+        summaryRowLayer.doCommand(new CalculateSummaryRowValuesCommand());
+        assertEquals(65d, summaryRowLayer.getDataValueByPosition(0, 10));
+        assertEquals(1, this.reads);
+
+        // insert a row, only the new row is read
+        this.rows.add(new Object[] { 20d, "new" });
+        this.reads = 0;
+        dataLayer.fireLayerEvent(new RowInsertEvent(dataLayer, 10));
+        summaryRowLayer.doCommand(new CalculateSummaryRowValuesCommand());
+        assertEquals(85d, summaryRowLayer.getDataValueByPosition(0, 11));
+        assertEquals(1, this.reads);
+
+        // delete a row object, only the deleted row is read
+        Object[] deleted = this.rows.remove(0);
+        this.reads = 0;
+        dataLayer.fireLayerEvent(new RowObjectDeleteEvent(dataLayer, 0, deleted));
+        summaryRowLayer.doCommand(new CalculateSummaryRowValuesCommand());
+        assertEquals(84d, summaryRowLayer.getDataValueByPosition(0, 10));
+        assertEquals(1, this.reads);
+
+        // a structural refresh triggers a full calculation
+        this.reads = 0;
+        dataLayer.fireLayerEvent(new RowStructuralRefreshEvent(dataLayer));
+        summaryRowLayer.doCommand(new CalculateSummaryRowValuesCommand());
+        assertEquals(84d, summaryRowLayer.getDataValueByPosition(0, 10));
+        assertEquals(10, this.reads);
+
+        // clearing the cache manually triggers a full calculation too
+        this.reads = 0;
+        summaryRowLayer.clearCache();
+        summaryRowLayer.doCommand(new CalculateSummaryRowValuesCommand());
+        assertEquals(84d, summaryRowLayer.getDataValueByPosition(0, 10));
+        assertEquals(10, this.reads);
+
+        this.reads = 0;
+        summaryRowLayer.killCache();
+        summaryRowLayer.doCommand(new CalculateSummaryRowValuesCommand());
+        assertEquals(84d, summaryRowLayer.getDataValueByPosition(0, 10));
+        assertEquals(10, this.reads);
+    }
+
+}
@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.util;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class PrefixSumTreeTest {
+
+    @Test
+    public void shouldCalculatePrefixSums() {
+        PrefixSumTree tree = new PrefixSumTree(new int[] { 3, 0, 5, 2, 7 });
+
+        assertEquals(5, tree.size());
+        assertEquals(0, tree.prefixSum(0));
+        assertEquals(3, tree.prefixSum(1));
+        assertEquals(3, tree.prefixSum(2));
+        assertEquals(8, tree.prefixSum(3));
+        assertEquals(10, tree.prefixSum(4));
+        assertEquals(17, tree.prefixSum(5));
+        assertEquals(17, tree.total());
+    }
+
+    @Test
+    public void shouldUpdateValues() {
+        PrefixSumTree tree = new PrefixSumTree(new int[] { 3, 0, 5, 2, 7 });
+
+        tree.set(1, 4);
+        tree.add(4, -2);
+
+        assertEquals(4, tree.get(1));
+        assertEquals(5, tree.get(4));
+        assertEquals(7, tree.prefixSum(2));
+        assertEquals(19, tree.total());
+    }
+
+    @Test
+    public void shouldFindIndex() {
+        PrefixSumTree tree = new PrefixSumTree(new int[] { 3, 0, 5, 2, 7 });
+
+        assertEquals(0, tree.findIndex(0));
+        assertEquals(0, tree.findIndex(2));
+        // index 1 has size 0 and is skipped
+        assertEquals(2, tree.findIndex(3));
+        assertEquals(2, tree.findIndex(7));
+        assertEquals(3, tree.findIndex(8));
+        assertEquals(4, tree.findIndex(16));
+        assertEquals(5, tree.findIndex(17));
+        assertEquals(5, tree.findIndex(100));
+    }
+
+    @Test
+    public void shouldMatchLinearCalculation() {
+        int[] values = new int[37];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (i * 7) % 5;
+        }
+        PrefixSumTree tree = new PrefixSumTree(values);
+
+        int sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(sum, tree.prefixSum(i));
+            for (int s = sum; s < sum + values[i]; s++) {
+                assertEquals(i, tree.findIndex(s));
+            }
+            sum += values[i];
+        }
+        assertEquals(sum, tree.total());
+    }
+
+    @Test
+    public void shouldHandleEmptyTree() {
+        PrefixSumTree tree = new PrefixSumTree(new int[0]);
+
+        assertEquals(0, tree.size());
+        assertEquals(0, tree.total());
+        assertEquals(0, tree.findIndex(10));
+    }
+}
@@ -13,6 +13,8 @@
 package org.eclipse.nebula.widgets.nattable.viewport;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import org.eclipse.nebula.widgets.nattable.layer.event.ILayerEvent;
@@ -25,6 +27,7 @@
 import org.eclipse.nebula.widgets.nattable.test.fixture.layer.LayerListenerFixture;
 import org.eclipse.nebula.widgets.nattable.test.fixture.layer.ViewportLayerFixture;
 import org.eclipse.nebula.widgets.nattable.util.IClientAreaProvider;
+import org.eclipse.nebula.widgets.nattable.viewport.event.ScrollEvent;
 import org.eclipse.swt.graphics.Rectangle;
 import org.junit.After;
 import org.junit.Before;
@@ -277,6 +280,54 @@ public void settingViewportColumnOriginFiresEvent() throws Exception {
         assertTrue(event instanceof IVisualChangeEvent);
     }
 
+    @Test
+    public void settingViewportOriginWithoutBlittingFiresEventWithoutDelta() throws Exception {
+        assertFalse(this.viewportLayer.isScrollBlittingEnabled());
+        this.viewportLayer.addLayerListener(this.layerListener);
+        this.viewportLayer.setOriginX(this.viewportLayer.getStartXOfColumnPosition(2));
+
+        ScrollEvent event = (ScrollEvent) this.layerListener.getReceivedEvent(ScrollEvent.class);
+        assertEquals(0, event.getDeltaX());
+        assertEquals(0, event.getDeltaY());
+    }
+
+    @Test
+    public void settingViewportOriginWithBlittingFiresEventWithDelta() throws Exception {
+        this.viewportLayer.setScrollBlittingEnabled(true);
+        this.viewportLayer.addLayerListener(this.layerListener);
+
+        this.viewportLayer.setOriginX(this.viewportLayer.getStartXOfColumnPosition(2));
+        ScrollEvent event = (ScrollEvent) this.layerListener.getReceivedEvent(ScrollEvent.class);
+        assertEquals(250, event.getDeltaX());
+        assertEquals(0, event.getDeltaY());
+        assertSame(this.viewportLayer, event.getViewportLayer());
+
+        this.layerListener.clearReceivedEvents();
+        this.viewportLayer.setOriginY(this.viewportLayer.getStartYOfRowPosition(2));
+        this.viewportLayer.setOriginY(this.viewportLayer.getStartYOfRowPosition(1));
+        assertEquals(2, this.layerListener.getEventsCount());
+        ScrollEvent down = (ScrollEvent) this.layerListener.getReceivedEvents().get(0);
+        ScrollEvent up = (ScrollEvent) this.layerListener.getReceivedEvents().get(1);
+        assertEquals(0, down.getDeltaX());
+        assertEquals(110, down.getDeltaY());
+        assertEquals(-70, up.getDeltaY());
+
+        // setting the same origin again does not fire an event
+        this.layerListener.clearReceivedEvents();
+        this.viewportLayer.setOriginY(this.viewportLayer.getOrigin().getY());
+        assertEquals(0, this.layerListener.getEventsCount());
+    }
+
+    @Test
+    public void clonedScrollEventKeepsDelta() throws Exception {
+        ScrollEvent event = new ScrollEvent(this.viewportLayer, -20, 35);
+        ScrollEvent clone = event.cloneEvent();
+
+        assertEquals(-20, clone.getDeltaX());
+        assertEquals(35, clone.getDeltaY());
+        assertSame(this.viewportLayer, clone.getViewportLayer());
+    }
+
     @Test
     public void setViewportMinOriginColumnPosition() throws Exception {
         this.viewportLayer = new ViewportLayerFixture(10, 20, 50, 20);
@@ -73,6 +73,7 @@
 import org.eclipse.nebula.widgets.nattable.util.GUIHelper;
 import org.eclipse.nebula.widgets.nattable.util.IClientAreaProvider;
 import org.eclipse.nebula.widgets.nattable.viewport.command.RecalculateScrollBarsCommand;
+import org.eclipse.nebula.widgets.nattable.viewport.event.ScrollEvent;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.custom.BusyIndicator;
 import org.eclipse.swt.dnd.DragSource;
@@ -112,12 +113,25 @@ public class NatTable extends Canvas implements ILayer, PaintListener, IClientAr
      */
     public static final String INITIAL_PAINT_COMPLETE_FLAG = "NatTable.initialPaintComplete"; //$NON-NLS-1$
 
+    /**
+     * The size of the strips at the edges of a blitted viewport area that are
+     * repainted in addition to the exposed area, so borders that are painted
+     * across the viewport bounds, e.g. the freeze separator, stay correct.
+     */
+    private static final int BLIT_EDGE_REPAINT_SIZE = 4;
+
     private UiBindingRegistry uiBindingRegistry;
 
     private ModeSupport modeSupport;
 
     private final EventConflaterChain conflaterChain;
 
+    /**
+     * The conflater that repaints the table for visual change events. Needs to
+     * be informed if the painted pixels are moved by scroll blitting.
+     */
+    private final IEventConflater visualChangeEventConflater;
+
     private final List<IOverlayPainter> overlayPainters = new ArrayList<>();
 
     private final List<IPersistable> persistables = new LinkedList<>();
@@ -162,6 +176,12 @@ public class NatTable extends Canvas implements ILayer, PaintListener, IClientAr
      */
     private boolean initialPaintComplete = false;
 
+    /**
+     * Flag to indicate that the NatTable is currently painted on screen via
+     * {@link #paintControl(PaintEvent)}.
+     */
+    private boolean paintingOnScreen = false;
+
     /**
      * The {@link ThemeManager} that is used to switch
      * {@link ThemeConfiguration}s at runtime.
@@ -276,7 +296,8 @@ public NatTable(
         }
 
         this.conflaterChain = chain;
-        this.conflaterChain.add(getVisualChangeEventConflater());
+        this.visualChangeEventConflater = getVisualChangeEventConflater();
+        this.conflaterChain.add(this.visualChangeEventConflater);
         this.conflaterChain.start();
 
         parent.addListener(SWT.Resize, this.closeEditorOnParentResize);
@@ -511,10 +532,27 @@ public void removeOverlayPainter(IOverlayPainter overlayPainter) {
 
     @Override
     public void paintControl(final PaintEvent event) {
-        paintNatTable(event);
+        this.paintingOnScreen = true;
+        try {
+            paintNatTable(event);
+        } finally {
+            this.paintingOnScreen = false;
+        }
         this.initialPaintComplete = true;
     }
 
+    /**
+     * Returns whether this NatTable is currently painting itself on screen as
+     * reaction to a paint event. This is not the case when the NatTable is
+     * painted into another GC, e.g. on printing or image export.
+     *
+     * @return <code>true</code> while this NatTable paints itself on screen.
+     * @since 2.1
+     */
+    public boolean isPaintingOnScreen() {
+        return this.paintingOnScreen;
+    }
+
     private void paintNatTable(final PaintEvent event) {
         getLayerPainter().paintLayer(this, event.gc, 0, 0,
                 new Rectangle(event.x, event.y, event.width, event.height),
@@ -699,6 +737,10 @@ public void handleLayerEvent(ILayerEvent event) {
             layerListener.handleLayerEvent(event);
         }
 
+        if (event instanceof ScrollEvent && blitScroll((ScrollEvent) event)) {
+            return;
+        }
+
         if (event instanceof CellVisualUpdateEvent) {
             CellVisualUpdateEvent update = (CellVisualUpdateEvent) event;
             repaintCell(update.getColumnPosition(), update.getRowPosition());
@@ -765,6 +807,89 @@ public void handleLayerEvent(ILayerEvent event) {
         }
     }
 
+    /**
+     * Moves the already painted pixels of the scrolled viewport area by the
+     * scrolled distance instead of triggering a repaint of the whole client
+     * area. Only the exposed strip, the regions that scroll along with the
+     * viewport (e.g. row header and frozen columns on vertical scrolling) and
+     * small strips at the viewport edges are repainted.
+     *
+     * @param event
+     *            The {@link ScrollEvent} that carries the scrolled distance.
+     * @return <code>true</code> if the scrolling was handled by blitting,
+     *         <code>false</code> if the event needs to be processed as a
+     *         common visual change that repaints the whole client area.
+     */
+    private boolean blitScroll(ScrollEvent event) {
+        int deltaX = event.getDeltaX();
+        int deltaY = event.getDeltaY();
+        if ((deltaX == 0 && deltaY == 0)
+                || !this.initialPaintComplete
+                || isDisposed()
+                || getDisplay().getThread() != Thread.currentThread()
+                || !isVisible()
+                // overlays are painted over the whole client area and would
+                // be moved with the pixels
+                || !this.overlayPainters.isEmpty()
+                || event.getViewportLayer().getClientAreaProvider() == null) {
+            return false;
+        }
+
+        Rectangle clientArea = getClientArea();
+        Rectangle area = event.getViewportLayer().getClientAreaProvider().getClientArea().intersection(clientArea);
+        if (area.isEmpty()
+                || Math.abs(deltaX) >= area.width
+                || Math.abs(deltaY) >= area.height) {
+            return false;
+        }
+
+        // the pending visual changes were collected for the pixels before
+        // the scrolling, so they need to be moved along with the pixels
+        if (this.visualChangeEventConflater instanceof VisualChangeEventConflater) {
+            ((VisualChangeEventConflater) this.visualChangeEventConflater).moveDirtyRegion(area, deltaX, deltaY);
+        } else if (this.visualChangeEventConflater.getCount() > 0) {
+            return false;
+        }
+
+        // paint pending damage first, otherwise it would be moved with the
+        // pixels and end up at the wrong location
+        update();
+
+        // move the pixels that stay visible, the area not covered by the
+        // destination is repainted by SWT
+        scroll(
+                area.x + Math.max(-deltaX, 0),
+                area.y + Math.max(-deltaY, 0),
+                area.x + Math.max(deltaX, 0),
+                area.y + Math.max(deltaY, 0),
+                area.width - Math.abs(deltaX),
+                area.height - Math.abs(deltaY),
+                false);
+
+        int areaRight = area.x + area.width;
+        int areaBottom = area.y + area.height;
+        int clientRight = clientArea.x + clientArea.width;
+        int clientBottom = clientArea.y + clientArea.height;
+        if (deltaY != 0) {
+            // regions left and right of the viewport scroll vertically too
+            redraw(clientArea.x, area.y, area.x - clientArea.x, area.height, true);
+            redraw(areaRight, area.y, clientRight - areaRight, area.height, true);
+            redraw(area.x, area.y, area.width, BLIT_EDGE_REPAINT_SIZE, true);
+            redraw(area.x, areaBottom - BLIT_EDGE_REPAINT_SIZE, area.width, BLIT_EDGE_REPAINT_SIZE, true);
+        }
+        if (deltaX != 0) {
+            // regions above and below the viewport scroll horizontally too
+            redraw(area.x, clientArea.y, area.width, area.y - clientArea.y, true);
+            redraw(area.x, areaBottom, area.width, clientBottom - areaBottom, true);
+            redraw(area.x, area.y, BLIT_EDGE_REPAINT_SIZE, area.height, true);
+            redraw(areaRight - BLIT_EDGE_REPAINT_SIZE, area.y, BLIT_EDGE_REPAINT_SIZE, area.height, true);
+        }
+
+        // the scrollbar update is otherwise performed by the conflater
+        doCommand(new RecalculateScrollBarsCommand());
+        return true;
+    }
+
     // ILayer /////////////////////////////////////////////////////////////////
 
     // Persistence
@@ -12,13 +12,11 @@
  ******************************************************************************/
 package org.eclipse.nebula.widgets.nattable.blink;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.io.Serializable;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
 
+import org.eclipse.nebula.widgets.nattable.blink.BlinkTimingWheel.BlinkEntry;
 import org.eclipse.nebula.widgets.nattable.blink.command.BlinkTimerEnableCommandHandler;
 import org.eclipse.nebula.widgets.nattable.blink.event.BlinkEvent;
 import org.eclipse.nebula.widgets.nattable.config.ConfigRegistry;
@@ -28,7 +26,6 @@
 import org.eclipse.nebula.widgets.nattable.data.IRowDataProvider;
 import org.eclipse.nebula.widgets.nattable.data.IRowIdAccessor;
 import org.eclipse.nebula.widgets.nattable.layer.AbstractLayerTransform;
-import org.eclipse.nebula.widgets.nattable.layer.ILayer;
 import org.eclipse.nebula.widgets.nattable.layer.IUniqueIndexLayer;
 import org.eclipse.nebula.widgets.nattable.layer.LabelStack;
 import org.eclipse.nebula.widgets.nattable.layer.cell.ILayerCell;
@@ -41,10 +38,13 @@
  * Blinks cells when they are updated. Returns blinking cell styles for the
  * cells which have been updated.
  *
- * Every time its asked for config labels: Checks the UpdateEventsCache for
- * changes to the cell If a cell is updated The cell is tracked as 'blinking'
- * and blinking config labels are returned A TimerTask is started which will
- * stop the blinking after the blink period is over
+ * Every time its asked for config labels: Checks for pending updates of the
+ * cell. If a cell is updated, the cell is tracked as 'blinking' and blinking
+ * config labels are returned until the blink period is over.
+ * <p>
+ * Pending updates and blinking cells are tracked per row id and column index
+ * and expire via a timing wheel, so painting cells of rows without updates
+ * only needs a single lookup, and painting without any updates needs none.
  *
  * @param <T>
  *            Type of the Bean in the backing {@linkplain IDataProvider}
@@ -62,19 +62,19 @@
     protected boolean blinkingEnabled = true;
 
     /**
-     * Cache all the update events allowing the layer to track what got updated
+     * <code>true</code> if an update event blinks the whole row,
+     * <code>false</code> if only the updated cell blinks.
      */
-    private final UpdateEventsCache<T> updateEventsCache;
+    private final boolean triggerBlinkOnRowUpdate;
+
+    /**
+     * Tracks the pending update events and the blinking cells.
+     */
+    private final BlinkTimingWheel<T> blinkTracker;
 
     /** Duration of a single blink */
     private int blinkDurationInMilis = 1000;
 
-    /** Track the updates which are currently blinking */
-    Map<String, PropertyUpdateEvent<T>> blinkingUpdates = new HashMap<>();
-
-    /** Track the blinking tasks which are currently running */
-    Map<String, ScheduledFuture<?>> blinkingTasks = new HashMap<>();
-
     public BlinkLayer(IUniqueIndexLayer dataLayer,
             IRowDataProvider<T> listDataProvider,
             IRowIdAccessor<T> rowIdAccessor,
@@ -108,10 +108,10 @@ public BlinkLayer(IUniqueIndexLayer dataLayer,
         this.columnPropertyResolver = columnPropertyResolver;
         this.configRegistry = configRegistry;
         this.scheduler = scheduler;
-        this.updateEventsCache = new UpdateEventsCache<>(rowIdAccessor,
-                triggerBlinkOnRowUpdate ? new RowKeyStrategyImpl()
-                        : new CellKeyStrategyImpl(),
-                scheduler);
+        this.triggerBlinkOnRowUpdate = triggerBlinkOnRowUpdate;
+        this.blinkTracker = new BlinkTimingWheel<>(scheduler,
+                () -> Display.getDefault().asyncExec(
+                        () -> fireLayerEvent(new BlinkEvent(this))));
 
         registerCommandHandler(new BlinkTimerEnableCommandHandler(this));
     }
@@ -120,69 +120,48 @@ public BlinkLayer(IUniqueIndexLayer dataLayer,
     public void dispose() {
         super.dispose();
 
+        this.blinkTracker.clear();
         this.scheduler.shutdown();
     }
 
     @Override
     public LabelStack getConfigLabelsByPosition(int columnPosition,
             int rowPosition) {
-        if (!this.blinkingEnabled) {
+        // fast path if nothing is updated or blinking at all
+        if (!this.blinkingEnabled || this.blinkTracker.isEmpty()) {
             return getUnderlyingLayer().getConfigLabelsByPosition(
                     columnPosition, rowPosition);
         }
 
-        ILayerCell cell = this.underlyingLayer.getCellByPosition(columnPosition,
-                rowPosition);
-
-        int columnIndex = getUnderlyingLayer().getColumnIndexByPosition(
-                columnPosition);
-        String columnProperty = this.columnPropertyResolver
-                .getColumnProperty(columnIndex);
-
         int rowIndex = getUnderlyingLayer().getRowIndexByPosition(rowPosition);
-        String rowId = this.rowIdAccessor.getRowId(
-                this.rowDataProvider.getRowObject(rowIndex)).toString();
-
-        String key = this.updateEventsCache.getKey(columnProperty, rowId);
-
-        LabelStack underlyingLabelStack = getUnderlyingLayer()
-                .getConfigLabelsByPosition(columnPosition, rowPosition);
-
-        // Cell has been updated
-        if (this.updateEventsCache.isUpdated(key)) {
-            PropertyUpdateEvent<T> event = this.updateEventsCache.getEvent(key);
+        Serializable rowId = this.rowIdAccessor.getRowId(
+                this.rowDataProvider.getRowObject(rowIndex));
 
-            // Old update in middle of a blink - cancel it
-            ScheduledFuture<?> scheduledFuture = this.blinkingTasks.remove(key);
-            this.blinkingUpdates.remove(key);
-            if (scheduledFuture != null) {
-                scheduledFuture.cancel(true);
-            }
+        // fast path if nothing is updated or blinking in this row
+        if (!this.blinkTracker.containsRow(rowId)) {
+            return getUnderlyingLayer().getConfigLabelsByPosition(
+                    columnPosition, rowPosition);
+        }
 
-            LabelStack blinkingConfigTypes = resolveConfigTypes(cell,
-                    event.getOldValue(), event.getNewValue());
-
-            // start blinking cell
-            if (blinkingConfigTypes != null) {
-                Runnable stopBlinkTask = getStopBlinkTask(key, this);
-                this.blinkingUpdates.put(key, event);
-                this.updateEventsCache.remove(key);
-                this.blinkingTasks.put(key, this.scheduler.schedule(stopBlinkTask,
-                        this.blinkDurationInMilis, TimeUnit.MILLISECONDS));
-                return blinkingConfigTypes;
-            } else {
-                return underlyingLabelStack;
-            }
+        int columnIndex = getUnderlyingLayer().getColumnIndexByPosition(
+                columnPosition);
+        BlinkEntry<T> entry = this.blinkTracker.get(rowId, columnIndex);
+        if (entry == null) {
+            return getUnderlyingLayer().getConfigLabelsByPosition(
+                    columnPosition, rowPosition);
         }
 
-        // Previous blink timer is still running
-        if (this.blinkingUpdates.containsKey(key)) {
-            PropertyUpdateEvent<T> event = this.blinkingUpdates.get(key);
-            return resolveConfigTypes(cell, event.getOldValue(),
-                    event.getNewValue());
+        ILayerCell cell = this.underlyingLayer.getCellByPosition(columnPosition,
+                rowPosition);
+        LabelStack blinkingConfigTypes = resolveConfigTypes(cell,
+                entry.event.getOldValue(), entry.event.getNewValue());
+
+        // Cell has been updated - start blinking cell
+        if (!entry.isBlinking() && blinkingConfigTypes != null) {
+            this.blinkTracker.startBlinking(entry, this.blinkDurationInMilis);
         }
 
-        return underlyingLabelStack;
+        return blinkingConfigTypes;
     }
 
     /**
@@ -226,25 +205,23 @@ public LabelStack resolveConfigTypes(ILayerCell cell, Object oldValue,
         return underlyingLabelStack;
     }
 
-    /**
-     * Stops the cell from blinking at the end of the blinking period.
-     */
-    private Runnable getStopBlinkTask(final String key, final ILayer layer) {
-
-        return () -> Display.getDefault().asyncExec(() -> {
-
-            BlinkLayer.this.blinkingUpdates.remove(key);
-            BlinkLayer.this.blinkingTasks.remove(key);
-            fireLayerEvent(new BlinkEvent(layer));
-        });
-
-    }
-
     @SuppressWarnings("unchecked")
     @Override
     public void handleLayerEvent(ILayerEvent event) {
         if (this.blinkingEnabled && event instanceof PropertyUpdateEvent) {
-            this.updateEventsCache.put((PropertyUpdateEvent<T>) event);
+            PropertyUpdateEvent<T> updateEvent = (PropertyUpdateEvent<T>) event;
+            int columnIndex = this.triggerBlinkOnRowUpdate
+                    ? BlinkTimingWheel.ROW_COLUMN_INDEX
+                    : this.columnPropertyResolver.getColumnIndex(updateEvent.getPropertyName());
+            // a property that is not shown in a column must not blink the
+            // whole row in cell mode, -1 is the row sentinel of the tracker
+            if (this.triggerBlinkOnRowUpdate || columnIndex >= 0) {
+                this.blinkTracker.putUpdate(
+                        this.rowIdAccessor.getRowId(updateEvent.getSourceBean()),
+                        columnIndex,
+                        updateEvent,
+                        UpdateEventsCache.TIME_TO_LIVE);
+            }
         }
         super.handleLayerEvent(event);
     }
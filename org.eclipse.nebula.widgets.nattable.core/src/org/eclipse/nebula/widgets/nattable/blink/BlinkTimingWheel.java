@@ -0,0 +1,293 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.blink;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.eclipse.collections.api.map.primitive.MutableIntObjectMap;
+import org.eclipse.collections.impl.map.mutable.primitive.IntObjectHashMap;
+import org.eclipse.nebula.widgets.nattable.layer.event.PropertyUpdateEvent;
+
+/**
+ * Tracks the update events and the blinking cells of a {@link BlinkLayer}.
+ * Entries are stored per row id and column index, so no keys need to be
+ * created for a lookup. The expiration of the entries is handled by a hashed
+ * timing wheel that is advanced by a single periodic task, which is only
+ * scheduled as long as there are entries.
+ *
+ * @param <T>
+ *            Type of the Bean in the backing list.
+ */
+class BlinkTimingWheel<T> {
+
+    /**
+     * Column index that is used for entries that affect all cells of a row.
+     */
+    static final int ROW_COLUMN_INDEX = -1;
+
+    /** Duration of a single tick of the wheel in milliseconds */
+    static final long TICK_DURATION = 20;
+
+    /** Number of buckets of the wheel */
+    static final int WHEEL_SIZE = 64;
+
+    private final ScheduledExecutorService scheduler;
+    private final Runnable blinkStoppedListener;
+    private final LongSupplier nanoClock;
+    private final long startNanos;
+
+    private final Map<Object, MutableIntObjectMap<BlinkEntry<T>>> entriesByRow = new HashMap<>();
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private final List<BlinkEntry<T>>[] wheel = new List[WHEEL_SIZE];
+    private long currentTick;
+    private volatile int size;
+
+    private ScheduledFuture<?> ticker;
+
+    /**
+     *
+     * @param scheduler
+     *            The scheduler that is used to advance the wheel.
+     * @param blinkStoppedListener
+     *            The listener that is informed once per tick if blinking
+     *            entries expired.
+     */
+    BlinkTimingWheel(ScheduledExecutorService scheduler, Runnable blinkStoppedListener) {
+        this(scheduler, blinkStoppedListener, System::nanoTime);
+    }
+
+    BlinkTimingWheel(ScheduledExecutorService scheduler, Runnable blinkStoppedListener, LongSupplier nanoClock) {
+        this.scheduler = scheduler;
+        this.blinkStoppedListener = blinkStoppedListener;
+        this.nanoClock = nanoClock;
+        this.startNanos = nanoClock.getAsLong();
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            this.wheel[i] = new ArrayList<>();
+        }
+    }
+
+    /**
+     * @return <code>true</code> if there are no pending updates and no
+     *         blinking cells. Can be called without synchronization.
+     */
+    boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * @return The number of pending updates and blinking cells.
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Registers a pending update for the given cell. An existing entry for the
+     * cell is replaced, which also stops a running blink.
+     *
+     * @param rowId
+     *            The id of the updated row.
+     * @param columnIndex
+     *            The index of the updated column or {@link #ROW_COLUMN_INDEX}
+     *            if the whole row is affected.
+     * @param event
+     *            The update event.
+     * @param timeToLive
+     *            The time in milliseconds after which the pending update is
+     *            discarded if it was not painted.
+     */
+    synchronized void putUpdate(Object rowId, int columnIndex, PropertyUpdateEvent<T> event, long timeToLive) {
+        MutableIntObjectMap<BlinkEntry<T>> rowEntries = this.entriesByRow.get(rowId);
+        if (rowEntries == null) {
+            rowEntries = new IntObjectHashMap<>();
+            this.entriesByRow.put(rowId, rowEntries);
+        }
+        BlinkEntry<T> entry = new BlinkEntry<>(rowId, columnIndex, event);
+        BlinkEntry<T> old = rowEntries.put(columnIndex, entry);
+        if (old != null) {
+            old.cancelled = true;
+        } else {
+            this.size++;
+        }
+        schedule(entry, timeToLive);
+    }
+
+    /**
+     * @param rowId
+     *            The id of the row to check.
+     * @return <code>true</code> if there is a pending update or a blinking
+     *         cell in the given row.
+     */
+    synchronized boolean containsRow(Object rowId) {
+        return this.entriesByRow.containsKey(rowId);
+    }
+
+    /**
+     * @param rowId
+     *            The id of the row.
+     * @param columnIndex
+     *            The column index of the cell.
+     * @return The entry for the given cell, the entry for the whole row if
+     *         there is no entry for the cell, or <code>null</code>.
+     */
+    synchronized BlinkEntry<T> get(Object rowId, int columnIndex) {
+        MutableIntObjectMap<BlinkEntry<T>> rowEntries = this.entriesByRow.get(rowId);
+        if (rowEntries == null) {
+            return null;
+        }
+        BlinkEntry<T> entry = rowEntries.get(columnIndex);
+        return (entry != null) ? entry : rowEntries.get(ROW_COLUMN_INDEX);
+    }
+
+    /**
+     * Switches the given pending entry to blinking for the given duration.
+     *
+     * @param entry
+     *            The entry that starts blinking.
+     * @param duration
+     *            The blink duration in milliseconds.
+     */
+    synchronized void startBlinking(BlinkEntry<T> entry, long duration) {
+        if (entry.cancelled || entry.blinking) {
+            return;
+        }
+        // the scheduled pending entry is replaced by a new one to keep the
+        // wheel buckets free of removals
+        entry.cancelled = true;
+        BlinkEntry<T> blinkingEntry = new BlinkEntry<>(entry.rowId, entry.columnIndex, entry.event);
+        blinkingEntry.blinking = true;
+        this.entriesByRow.get(entry.rowId).put(entry.columnIndex, blinkingEntry);
+        schedule(blinkingEntry, duration);
+    }
+
+    /**
+     * Removes all entries.
+     */
+    synchronized void clear() {
+        for (List<BlinkEntry<T>> bucket : this.wheel) {
+            bucket.clear();
+        }
+        this.entriesByRow.clear();
+        this.size = 0;
+        stopTicker();
+    }
+
+    private void schedule(BlinkEntry<T> entry, long duration) {
+        long ticks = Math.max(1, (duration + TICK_DURATION - 1) / TICK_DURATION);
+        entry.deadlineTick = getTick(this.nanoClock.getAsLong()) + ticks;
+        this.wheel[(int) (entry.deadlineTick % WHEEL_SIZE)].add(entry);
+
+        if (this.ticker == null && this.scheduler != null) {
+            this.ticker = this.scheduler.scheduleAtFixedRate(
+                    () -> advance(this.nanoClock.getAsLong()),
+                    TICK_DURATION, TICK_DURATION, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private long getTick(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos - this.startNanos) / TICK_DURATION;
+    }
+
+    /**
+     * Advances the wheel to the given time and removes all expired entries. If
+     * blinking entries expired, the blink stopped listener is informed once.
+     *
+     * @param nanos
+     *            The current time in nanoseconds of the clock of this wheel.
+     */
+    void advance(long nanos) {
+        boolean blinkStopped = false;
+        synchronized (this) {
+            long targetTick = getTick(nanos);
+            // a full rotation visits every bucket once
+            long fromTick = Math.max(this.currentTick + 1, targetTick - WHEEL_SIZE + 1);
+            for (long tick = fromTick; tick <= targetTick; tick++) {
+                List<BlinkEntry<T>> bucket = this.wheel[(int) (tick % WHEEL_SIZE)];
+                int kept = 0;
+                for (int i = 0; i < bucket.size(); i++) {
+                    BlinkEntry<T> entry = bucket.get(i);
+                    if (entry.cancelled) {
+                        continue;
+                    }
+                    if (entry.deadlineTick <= targetTick) {
+                        blinkStopped |= entry.blinking;
+                        remove(entry);
+                    } else {
+                        bucket.set(kept++, entry);
+                    }
+                }
+                bucket.subList(kept, bucket.size()).clear();
+            }
+            this.currentTick = Math.max(this.currentTick, targetTick);
+
+            if (this.size == 0) {
+                stopTicker();
+            }
+        }
+
+        if (blinkStopped && this.blinkStoppedListener != null) {
+            this.blinkStoppedListener.run();
+        }
+    }
+
+    private void remove(BlinkEntry<T> entry) {
+        MutableIntObjectMap<BlinkEntry<T>> rowEntries = this.entriesByRow.get(entry.rowId);
+        if (rowEntries != null && rowEntries.get(entry.columnIndex) == entry) {
+            rowEntries.remove(entry.columnIndex);
+            this.size--;
+            if (rowEntries.isEmpty()) {
+                this.entriesByRow.remove(entry.rowId);
+            }
+        }
+    }
+
+    private void stopTicker() {
+        if (this.ticker != null) {
+            this.ticker.cancel(false);
+            this.ticker = null;
+        }
+    }
+
+    /**
+     * A pending update or a blinking cell.
+     *
+     * @param <T>
+     *            Type of the Bean in the backing list.
+     */
+    static final class BlinkEntry<T> {
+        final Object rowId;
+        final int columnIndex;
+        final PropertyUpdateEvent<T> event;
+        boolean blinking;
+        boolean cancelled;
+        long deadlineTick;
+
+        BlinkEntry(Object rowId, int columnIndex, PropertyUpdateEvent<T> event) {
+            this.rowId = rowId;
+            this.columnIndex = columnIndex;
+            this.event = event;
+        }
+
+        boolean isBlinking() {
+            return this.blinking;
+        }
+    }
+
+}
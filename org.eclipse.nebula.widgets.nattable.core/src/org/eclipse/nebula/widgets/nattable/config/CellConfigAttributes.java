@@ -64,4 +64,15 @@ private CellConfigAttributes() {
      * @since 1.4
      */
     public static final ConfigAttribute<Integer> GRID_LINE_WIDTH = new ConfigAttribute<>();
+
+    /**
+     * Attribute for configuring whether the ICellPainter of a cell is
+     * expensive. If a paint time budget is configured on the
+     * {@link org.eclipse.nebula.widgets.nattable.painter.layer.CellLayerPainter},
+     * cells with an expensive painter that exceed the budget are rendered with
+     * a placeholder first and painted in a follow-up redraw.
+     *
+     * @since 2.1
+     */
+    public static final ConfigAttribute<Boolean> EXPENSIVE_CELL_PAINTER = new ConfigAttribute<>();
 }
@@ -0,0 +1,226 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.config;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.nebula.widgets.nattable.style.ConfigAttribute;
+import org.eclipse.nebula.widgets.nattable.style.DisplayMode;
+import org.eclipse.nebula.widgets.nattable.style.IDisplayModeOrdering;
+
+/**
+ * {@link ConfigRegistry} that compiles the registered values of a
+ * {@link ConfigAttribute} into a label-indexed lookup table on first access.
+ * <p>
+ * Every registered config label is interned to an int id. For each attribute
+ * and target {@link DisplayMode} the registered values are compiled into
+ * arrays indexed by that id, containing the value of the first
+ * {@link DisplayMode} in the {@link IDisplayModeOrdering} that has a value
+ * registered for the label. A lookup therefore needs a single id probe per
+ * label and array reads, instead of a map lookup per label and
+ * {@link DisplayMode}. The result is the same as with the {@link ConfigRegistry}.
+ * </p>
+ * <p>
+ * The compiled tables are invalidated per attribute when a value is
+ * registered or unregistered, and completely when the
+ * {@link IDisplayModeOrdering} is changed. This makes this implementation best
+ * suited for the typical usage where the configuration is registered once on
+ * startup and then mainly read while painting.
+ * </p>
+ *
+ * @since 2.1
+ */
+public class CompiledConfigRegistry extends ConfigRegistry {
+
+    private static final int DISPLAY_MODE_COUNT = DisplayMode.values().length;
+
+    /**
+     * The ids of all config labels that were ever used for registering a
+     * value. The <code>null</code> label for default values is interned too.
+     */
+    private final Map<String, Integer> labelIds = new HashMap<>();
+
+    /**
+     * The compiled lookup tables per attribute, indexed by the ordinal of the
+     * target {@link DisplayMode}.
+     */
+    private final Map<ConfigAttribute<?>, CompiledAttribute[]> compiled = new ConcurrentHashMap<>();
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getConfigAttribute(
+            ConfigAttribute<T> configAttribute,
+            DisplayMode targetDisplayMode,
+            List<String> configLabels) {
+
+        CompiledAttribute[] byDisplayMode = this.compiled.get(configAttribute);
+        if (byDisplayMode == null) {
+            if (!this.registry.containsKey(configAttribute)) {
+                return null;
+            }
+            byDisplayMode = this.compiled.computeIfAbsent(configAttribute, attr -> new CompiledAttribute[DISPLAY_MODE_COUNT]);
+        }
+
+        CompiledAttribute compiledAttribute = byDisplayMode[targetDisplayMode.ordinal()];
+        if (compiledAttribute == null) {
+            compiledAttribute = compile(configAttribute, targetDisplayMode);
+            byDisplayMode[targetDisplayMode.ordinal()] = compiledAttribute;
+        }
+
+        return (T) compiledAttribute.resolve(configLabels, this.labelIds);
+    }
+
+    /**
+     * Compiles the values registered for the given attribute into the lookup
+     * table for the given target {@link DisplayMode}.
+     *
+     * @param configAttribute
+     *            The attribute to compile.
+     * @param targetDisplayMode
+     *            The target {@link DisplayMode} for which the table should be
+     *            created.
+     * @return The compiled lookup table.
+     */
+    private CompiledAttribute compile(ConfigAttribute<?> configAttribute, DisplayMode targetDisplayMode) {
+        List<DisplayMode> ordering = this.displayModeOrdering.getDisplayModeOrdering(targetDisplayMode);
+        int modeCount = ordering.size();
+
+        int[] firstMode = new int[this.labelIds.size()];
+        Arrays.fill(firstMode, modeCount);
+        Object[] firstValue = new Object[firstMode.length];
+        int defaultMode = modeCount;
+        Object defaultValue = null;
+
+        EnumMap<DisplayMode, Map<String, ?>> displayModeConfigAttributeMap = this.registry.get(configAttribute);
+        if (displayModeConfigAttributeMap != null) {
+            for (int mode = 0; mode < modeCount; mode++) {
+                Map<String, ?> configAttributeMap = displayModeConfigAttributeMap.get(ordering.get(mode));
+                if (configAttributeMap != null) {
+                    for (Entry<String, ?> entry : configAttributeMap.entrySet()) {
+                        if (entry.getValue() != null) {
+                            Integer id = this.labelIds.get(entry.getKey());
+                            if (id != null && id < firstMode.length && firstMode[id] == modeCount) {
+                                firstMode[id] = mode;
+                                firstValue[id] = entry.getValue();
+                            }
+                            if (entry.getKey() == null && defaultMode == modeCount) {
+                                defaultMode = mode;
+                                defaultValue = entry.getValue();
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        return new CompiledAttribute(firstMode, firstValue, modeCount, defaultMode, defaultValue);
+    }
+
+    @Override
+    public <T> void registerConfigAttribute(
+            ConfigAttribute<T> configAttribute,
+            T attributeValue,
+            DisplayMode targetDisplayMode,
+            String configLabel) {
+
+        super.registerConfigAttribute(configAttribute, attributeValue, targetDisplayMode, configLabel);
+
+        this.labelIds.putIfAbsent(configLabel, this.labelIds.size());
+        this.compiled.remove(configAttribute);
+    }
+
+    @Override
+    public <T> void unregisterConfigAttribute(
+            ConfigAttribute<T> configAttributeType,
+            DisplayMode displayMode,
+            String configLabel) {
+
+        super.unregisterConfigAttribute(configAttributeType, displayMode, configLabel);
+        this.compiled.remove(configAttributeType);
+    }
+
+    @Override
+    public void setDisplayModeOrdering(IDisplayModeOrdering displayModeOrdering) {
+        super.setDisplayModeOrdering(displayModeOrdering);
+        this.compiled.clear();
+    }
+
+    /**
+     * Lookup table of a single attribute for a single target
+     * {@link DisplayMode}. The fields are final so an instance can be safely
+     * published to other threads without synchronization.
+     */
+    private static final class CompiledAttribute {
+
+        /**
+         * Index of the first {@link DisplayMode} in the ordering that has a
+         * value for the label with the id used as array index. Contains the
+         * number of display modes if there is no such value.
+         */
+        private final int[] firstMode;
+        /**
+         * The value registered for the label with the id used as array index
+         * in the display mode stored in {@link #firstMode}.
+         */
+        private final Object[] firstValue;
+        private final int modeCount;
+        private final int defaultMode;
+        private final Object defaultValue;
+
+        CompiledAttribute(int[] firstMode, Object[] firstValue, int modeCount, int defaultMode, Object defaultValue) {
+            this.firstMode = firstMode;
+            this.firstValue = firstValue;
+            this.modeCount = modeCount;
+            this.defaultMode = defaultMode;
+            this.defaultValue = defaultValue;
+        }
+
+        /**
+         * Resolves the value for the given labels. Within a display mode the
+         * first label in the given order wins, and a label match wins over the
+         * default value of the same display mode.
+         *
+         * @param configLabels
+         *            The labels to resolve the value for.
+         * @param labelIds
+         *            The interned label ids.
+         * @return The resolved value or <code>null</code> if no value was
+         *         found.
+         */
+        Object resolve(List<String> configLabels, Map<String, Integer> labelIds) {
+            int bestMode = this.modeCount;
+            Object result = null;
+            for (String label : configLabels) {
+                Integer id = labelIds.get(label);
+                if (id != null && id < this.firstMode.length) {
+                    int mode = this.firstMode[id];
+                    if (mode < bestMode) {
+                        bestMode = mode;
+                        result = this.firstValue[id];
+                        if (mode == 0) {
+                            break;
+                        }
+                    }
+                }
+            }
+
+            return (this.defaultMode < bestMode) ? this.defaultValue : result;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.conflation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.nebula.widgets.nattable.layer.ILayer;
+import org.eclipse.nebula.widgets.nattable.layer.cell.ILayerCell;
+import org.eclipse.swt.graphics.Rectangle;
+
+/**
+ * Accumulates the pixel rectangles that need to be repainted within one frame.
+ * Rectangles that intersect or touch each other are merged into their bounding
+ * rectangle, so the number of redraw requests stays small for clustered
+ * updates like a ticking column.
+ */
+class DirtyRegion {
+
+    /**
+     * The maximum number of separate rectangles that are tracked. If more
+     * disjoint rectangles are added, they are collapsed into their bounding
+     * rectangle.
+     */
+    static final int MAX_RECTANGLES = 64;
+
+    private final List<Rectangle> rectangles = new ArrayList<>();
+
+    /**
+     * Adds the pixel bounds of the given position rectangle of the given layer.
+     * A single cell is expanded to the bounds of a spanned cell it is part of.
+     *
+     * @param layer
+     *            The layer to which the position rectangle belongs.
+     * @param positionRectangle
+     *            The rectangle in column and row positions of the layer.
+     */
+    void addPositionRectangle(ILayer layer, Rectangle positionRectangle) {
+        Rectangle pixelRectangle = toPixelRectangle(layer, positionRectangle);
+        if (pixelRectangle != null) {
+            add(pixelRectangle);
+        }
+    }
+
+    /**
+     * Adds the given pixel rectangle to the region.
+     *
+     * @param rectangle
+     *            The pixel rectangle to add.
+     */
+    void add(Rectangle rectangle) {
+        if (rectangle.width <= 0 || rectangle.height <= 0) {
+            return;
+        }
+
+        Rectangle merged = new Rectangle(rectangle.x, rectangle.y, rectangle.width, rectangle.height);
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int i = this.rectangles.size() - 1; i >= 0; i--) {
+                Rectangle existing = this.rectangles.get(i);
+                if (touches(existing, merged)) {
+                    merged = merged.union(existing);
+                    this.rectangles.remove(i);
+                    changed = true;
+                }
+            }
+        }
+        this.rectangles.add(merged);
+
+        if (this.rectangles.size() > MAX_RECTANGLES) {
+            Rectangle bounds = getBounds();
+            this.rectangles.clear();
+            this.rectangles.add(bounds);
+        }
+    }
+
+    /**
+     * @return The merged pixel rectangles of this region.
+     */
+    List<Rectangle> getRectangles() {
+        return this.rectangles;
+    }
+
+    /**
+     * @return <code>true</code> if nothing was added to this region.
+     */
+    boolean isEmpty() {
+        return this.rectangles.isEmpty();
+    }
+
+    /**
+     * @return The number of pixels covered by the merged rectangles of this
+     *         region.
+     */
+    long getArea() {
+        long area = 0;
+        for (Rectangle rectangle : this.rectangles) {
+            area += (long) rectangle.width * rectangle.height;
+        }
+        return area;
+    }
+
+    /**
+     * @return The bounding rectangle of all rectangles in this region.
+     */
+    Rectangle getBounds() {
+        Rectangle bounds = null;
+        for (Rectangle rectangle : this.rectangles) {
+            bounds = (bounds == null) ? new Rectangle(rectangle.x, rectangle.y, rectangle.width, rectangle.height) : bounds.union(rectangle);
+        }
+        return bounds;
+    }
+
+    /**
+     * Converts the given position rectangle of the given layer to pixel
+     * coordinates. The rectangle is clipped to the available columns and rows.
+     *
+     * @param layer
+     *            The layer to which the position rectangle belongs.
+     * @param positionRectangle
+     *            The rectangle in column and row positions of the layer.
+     * @return The rectangle in pixels or <code>null</code> if the position
+     *         rectangle does not cover any existing cell.
+     */
+    static Rectangle toPixelRectangle(ILayer layer, Rectangle positionRectangle) {
+        int startColumn = Math.max(0, positionRectangle.x);
+        int startRow = Math.max(0, positionRectangle.y);
+        int endColumn = Math.min(layer.getColumnCount(), positionRectangle.x + positionRectangle.width) - 1;
+        int endRow = Math.min(layer.getRowCount(), positionRectangle.y + positionRectangle.height) - 1;
+        if (startColumn > endColumn || startRow > endRow) {
+            return null;
+        }
+
+        if (startColumn == endColumn && startRow == endRow) {
+            ILayerCell cell = layer.getCellByPosition(startColumn, startRow);
+            if (cell != null) {
+                return cell.getBounds();
+            }
+        }
+
+        int x = layer.getStartXOfColumnPosition(startColumn);
+        int y = layer.getStartYOfRowPosition(startRow);
+        int width = layer.getStartXOfColumnPosition(endColumn) + layer.getColumnWidthByPosition(endColumn) - x;
+        int height = layer.getStartYOfRowPosition(endRow) + layer.getRowHeightByPosition(endRow) - y;
+        return new Rectangle(x, y, width, height);
+    }
+
+    /**
+     * Checks if the given rectangles overlap or share an edge. Rectangles that
+     * only share a corner are not considered touching, as merging them would
+     * add more area than it saves.
+     */
+    private static boolean touches(Rectangle r1, Rectangle r2) {
+        boolean xTouch = r1.x <= r2.x + r2.width && r2.x <= r1.x + r1.width;
+        boolean yTouch = r1.y <= r2.y + r2.height && r2.y <= r1.y + r1.height;
+        boolean xOverlap = r1.x < r2.x + r2.width && r2.x < r1.x + r1.width;
+        boolean yOverlap = r1.y < r2.y + r2.height && r2.y < r1.y + r1.height;
+        return xTouch && yTouch && (xOverlap || yOverlap);
+    }
+}
@@ -13,18 +13,55 @@
  ******************************************************************************/
 package org.eclipse.nebula.widgets.nattable.conflation;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 import org.eclipse.nebula.widgets.nattable.NatTable;
+import org.eclipse.nebula.widgets.nattable.layer.ILayer;
 import org.eclipse.nebula.widgets.nattable.layer.event.ILayerEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.IStructuralChangeEvent;
 import org.eclipse.nebula.widgets.nattable.layer.event.IVisualChangeEvent;
+import org.eclipse.swt.graphics.Rectangle;
 
 /**
  * Gathers all the VisualChangeEvents. When it's run, it refreshes/repaints the
  * table.
+ * <p>
+ * Events that only change the visual state of cells, rows or columns are
+ * collected into a dirty region that is repainted via targeted
+ * {@link NatTable#redraw(int, int, int, int, boolean)} calls. A full refresh
+ * is only performed for structural changes, events without changed
+ * rectangles, or if the dirty area exceeds the configured ratio of the client
+ * area. The pixel bounds of an event are calculated when it is added, as its
+ * positions might refer to other pixels once the viewport is scrolled.
+ * </p>
  */
 public class VisualChangeEventConflater extends AbstractEventConflater {
 
+    /**
+     * The default ratio of the client area above which a full redraw is
+     * performed instead of repainting the dirty region.
+     *
+     * @since 2.1
+     */
+    public static final double DEFAULT_FULL_REDRAW_RATIO = 0.5d;
+
     private final NatTable natTable;
 
+    private volatile double fullRedrawRatio = DEFAULT_FULL_REDRAW_RATIO;
+
+    /**
+     * The pixel region of the events collected since the last repaint, or
+     * <code>null</code> if a full redraw is necessary. Guarded by the queue.
+     */
+    private DirtyRegion dirtyRegion = new DirtyRegion();
+
+    private volatile long lastRepaintedArea;
+    private volatile long totalRepaintedArea;
+    private volatile long fullRedrawCount;
+    private volatile long partialRedrawCount;
+
     public VisualChangeEventConflater(NatTable ownerLayer) {
         this.natTable = ownerLayer;
     }
@@ -32,19 +69,214 @@ public VisualChangeEventConflater(NatTable ownerLayer) {
     @Override
     public void addEvent(ILayerEvent event) {
         if (event instanceof IVisualChangeEvent) {
-            super.addEvent(event);
+            // the pixel bounds are calculated when the event is added, as the
+            // positions of the event might point to other pixels after the
+            // viewport was scrolled
+            List<Rectangle> pixelRectangles = getPixelRectangles((IVisualChangeEvent) event);
+            synchronized (this.queue) {
+                super.addEvent(event);
+                if (pixelRectangles == null) {
+                    this.dirtyRegion = null;
+                } else if (this.dirtyRegion != null) {
+                    for (Rectangle rectangle : pixelRectangles) {
+                        this.dirtyRegion.add(rectangle);
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public void clearQueue() {
+        synchronized (this.queue) {
+            super.clearQueue();
+            this.dirtyRegion = new DirtyRegion();
         }
     }
 
     @Override
     public Runnable getConflaterTask() {
         return () -> {
-            if (!VisualChangeEventConflater.this.queue.isEmpty()) {
-                clearQueue();
-
-                VisualChangeEventConflater.this.natTable.getDisplay().asyncExec(VisualChangeEventConflater.this.natTable::updateResize);
+            synchronized (VisualChangeEventConflater.this.queue) {
+                if (VisualChangeEventConflater.this.queue.isEmpty()) {
+                    return;
+                }
+                VisualChangeEventConflater.this.queue.clear();
             }
+
+            VisualChangeEventConflater.this.natTable.getDisplay().asyncExec(this::repaint);
         };
     }
 
+    /**
+     * Repaints the dirty region that was collected since the last repaint.
+     * Needs to be called in the UI thread.
+     *
+     * @since 2.1
+     */
+    protected void repaint() {
+        if (this.natTable.isDisposed()) {
+            return;
+        }
+
+        DirtyRegion region = drainDirtyRegion();
+        if (region != null && region.isEmpty()) {
+            // already repainted by a previous run
+            return;
+        }
+
+        Rectangle clientArea = this.natTable.getClientArea();
+        long clientAreaSize = (long) clientArea.width * clientArea.height;
+
+        if (region == null
+                || clientAreaSize <= 0
+                || region.getArea() > clientAreaSize * this.fullRedrawRatio) {
+            this.natTable.updateResize();
+            this.fullRedrawCount++;
+            this.lastRepaintedArea = clientAreaSize;
+        } else {
+            for (Rectangle rectangle : region.getRectangles()) {
+                this.natTable.redraw(rectangle.x, rectangle.y, rectangle.width, rectangle.height, true);
+            }
+            this.partialRedrawCount++;
+            this.lastRepaintedArea = region.getArea();
+        }
+        this.totalRepaintedArea += this.lastRepaintedArea;
+    }
+
+    /**
+     * Returns the collected dirty region and starts a new one.
+     *
+     * @return The dirty region collected since the last call or
+     *         <code>null</code> if a full redraw is necessary.
+     */
+    DirtyRegion drainDirtyRegion() {
+        synchronized (this.queue) {
+            DirtyRegion region = this.dirtyRegion;
+            this.dirtyRegion = new DirtyRegion();
+            return region;
+        }
+    }
+
+    /**
+     * Informs this conflater that the painted pixels in the given area were
+     * moved by the given distance without repainting, e.g. by scroll blitting.
+     * The parts of the pending dirty region inside that area are moved along,
+     * so the repaint hits the pixels that were collected as dirty. The
+     * original rectangles are kept, as the content at their previous location
+     * changed as well.
+     *
+     * @param area
+     *            The pixel area whose content was moved.
+     * @param deltaX
+     *            The horizontal distance the pixels were moved by.
+     * @param deltaY
+     *            The vertical distance the pixels were moved by.
+     * @since 2.1
+     */
+    public void moveDirtyRegion(Rectangle area, int deltaX, int deltaY) {
+        synchronized (this.queue) {
+            if (this.dirtyRegion == null || this.dirtyRegion.isEmpty()) {
+                return;
+            }
+            List<Rectangle> rectangles = new ArrayList<>(this.dirtyRegion.getRectangles());
+            for (Rectangle rectangle : rectangles) {
+                Rectangle moved = rectangle.intersection(area);
+                if (!moved.isEmpty()) {
+                    moved.x += deltaX;
+                    moved.y += deltaY;
+                    this.dirtyRegion.add(moved.intersection(area));
+                }
+            }
+        }
+    }
+
+    /**
+     * Calculates the pixel rectangles that were changed by the given event.
+     *
+     * @param event
+     *            The event that was fired.
+     * @return The changed pixel rectangles or <code>null</code> if a full
+     *         redraw is necessary.
+     */
+    private List<Rectangle> getPixelRectangles(IVisualChangeEvent event) {
+        // structural changes need to recalculate the scrollbars
+        if (event instanceof IStructuralChangeEvent) {
+            return null;
+        }
+
+        ILayer layer = event.getLayer();
+        Collection<Rectangle> rectangles = event.getChangedPositionRectangles();
+        if (layer == null || rectangles == null || rectangles.isEmpty()) {
+            return null;
+        }
+
+        List<Rectangle> pixelRectangles = new ArrayList<>(rectangles.size());
+        for (Rectangle rectangle : rectangles) {
+            Rectangle pixelRectangle = DirtyRegion.toPixelRectangle(layer, rectangle);
+            if (pixelRectangle != null) {
+                pixelRectangles.add(pixelRectangle);
+            }
+        }
+        return pixelRectangles;
+    }
+
+    /**
+     * @return The ratio of the client area above which a full redraw is
+     *         performed instead of repainting the dirty region.
+     * @since 2.1
+     */
+    public double getFullRedrawRatio() {
+        return this.fullRedrawRatio;
+    }
+
+    /**
+     * Configure the ratio of the client area above which a full redraw is
+     * performed instead of repainting only the dirty region. A value of 0
+     * always triggers a full redraw, which is the behavior of previous
+     * versions.
+     *
+     * @param fullRedrawRatio
+     *            The ratio between 0 and 1.
+     * @since 2.1
+     */
+    public void setFullRedrawRatio(double fullRedrawRatio) {
+        if (fullRedrawRatio < 0 || fullRedrawRatio > 1) {
+            throw new IllegalArgumentException("fullRedrawRatio needs to be between 0 and 1"); //$NON-NLS-1$
+        }
+        this.fullRedrawRatio = fullRedrawRatio;
+    }
+
+    /**
+     * @return The number of pixels that were repainted in the last frame.
+     * @since 2.1
+     */
+    public long getLastRepaintedArea() {
+        return this.lastRepaintedArea;
+    }
+
+    /**
+     * @return The number of pixels that were repainted in all frames.
+     * @since 2.1
+     */
+    public long getTotalRepaintedArea() {
+        return this.totalRepaintedArea;
+    }
+
+    /**
+     * @return The number of frames that triggered a full redraw.
+     * @since 2.1
+     */
+    public long getFullRedrawCount() {
+        return this.fullRedrawCount;
+    }
+
+    /**
+     * @return The number of frames that only repainted the dirty region.
+     * @since 2.1
+     */
+    public long getPartialRedrawCount() {
+        return this.partialRedrawCount;
+    }
+
 }
@@ -0,0 +1,236 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.data;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+
+/**
+ * Resolved accessor methods of a single bean property. The getter and setter
+ * are converted once into {@link MethodHandle}s with a generic
+ * <code>Object</code> signature, so they can be invoked via
+ * {@link MethodHandle#invokeExact(Object...)} without the per call overhead of
+ * {@link Method#invoke(Object, Object...)}.
+ * <p>
+ * Instances are immutable and therefore safe to be shared between threads.
+ * </p>
+ */
+final class BeanPropertyHandle {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    final Class<?> beanClass;
+    final String propertyName;
+
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+    private final Class<?> valueType;
+    private final boolean primitive;
+
+    /**
+     * Access failures are not thrown on creation but when the accessor is
+     * used, to keep the behavior of reflective access.
+     */
+    private final Exception getterFailure;
+    private final Exception setterFailure;
+
+    /**
+     * @param beanClass
+     *            The class of the bean the accessors were resolved for.
+     * @param propertyName
+     *            The name of the property.
+     * @param readMethod
+     *            The getter of the property, can be <code>null</code>.
+     * @param writeMethod
+     *            The setter of the property, can be <code>null</code>.
+     */
+    BeanPropertyHandle(Class<?> beanClass, String propertyName, Method readMethod, Method writeMethod) {
+        this.beanClass = beanClass;
+        this.propertyName = propertyName;
+
+        MethodHandle resolvedGetter = null;
+        Exception getterException = null;
+        if (readMethod != null) {
+            try {
+                resolvedGetter = LOOKUP.unreflect(readMethod).asType(GETTER_TYPE);
+            } catch (IllegalAccessException e) {
+                getterException = e;
+            }
+        }
+        this.getter = resolvedGetter;
+        this.getterFailure = getterException;
+
+        MethodHandle resolvedSetter = null;
+        Exception setterException = null;
+        Class<?> type = null;
+        if (writeMethod != null) {
+            type = writeMethod.getParameterTypes()[0];
+            try {
+                resolvedSetter = LOOKUP.unreflect(writeMethod).asType(SETTER_TYPE);
+            } catch (IllegalAccessException e) {
+                setterException = e;
+            }
+        }
+        this.setter = resolvedSetter;
+        this.setterFailure = setterException;
+        this.primitive = type != null && type.isPrimitive();
+        this.valueType = type != null ? MethodType.methodType(type).wrap().returnType() : null;
+    }
+
+    /**
+     * @return <code>true</code> if a getter exists for the property.
+     */
+    boolean isReadable() {
+        return this.getter != null || this.getterFailure != null;
+    }
+
+    /**
+     * @return <code>true</code> if a setter exists for the property.
+     */
+    boolean isWritable() {
+        return this.setter != null || this.setterFailure != null;
+    }
+
+    /**
+     * @param value
+     *            The value to check.
+     * @return <code>true</code> if the given value can be passed to the
+     *         setter, <code>false</code> if reflective access would fail with
+     *         an {@link IllegalArgumentException}. Like
+     *         {@link Method#invoke(Object, Object...)} wrapper values that can
+     *         be unboxed and widened to a primitive parameter type are
+     *         accepted.
+     */
+    boolean accepts(Object value) {
+        if (value == null) {
+            return !this.primitive;
+        }
+        return this.valueType.isInstance(value)
+                || (this.primitive && isWidening(value.getClass(), this.valueType));
+    }
+
+    /**
+     * @param bean
+     *            The bean to read the property value from.
+     * @return The property value.
+     * @throws Exception
+     *             if the getter is not accessible or throws an exception.
+     */
+    Object get(Object bean) throws Exception {
+        if (this.getter == null) {
+            if (this.getterFailure != null) {
+                throw this.getterFailure;
+            }
+            throw new IllegalStateException("No getter found for property " + this.propertyName); //$NON-NLS-1$
+        }
+        try {
+            return this.getter.invokeExact(bean);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new UndeclaredThrowableException(t);
+        }
+    }
+
+    /**
+     * @param bean
+     *            The bean to set the property value to.
+     * @param value
+     *            The value to set, needs to be accepted by
+     *            {@link #accepts(Object)}.
+     * @throws Exception
+     *             if the setter is not accessible or throws an exception.
+     */
+    void set(Object bean, Object value) throws Exception {
+        if (this.setter == null) {
+            if (this.setterFailure != null) {
+                throw this.setterFailure;
+            }
+            throw new IllegalStateException("No setter found for property " + this.propertyName); //$NON-NLS-1$
+        }
+        Object converted = value;
+        if (this.primitive && !this.valueType.isInstance(value)) {
+            converted = widen(value, this.valueType);
+        }
+        try {
+            this.setter.invokeExact(bean, converted);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new UndeclaredThrowableException(t);
+        }
+    }
+
+    /**
+     * Returns the rank of the given wrapper type in the widening primitive
+     * conversion order, or -1 if it is not a numeric wrapper type.
+     */
+    private static int getWideningRank(Class<?> type) {
+        if (type == Byte.class) {
+            return 0;
+        } else if (type == Short.class || type == Character.class) {
+            return 1;
+        } else if (type == Integer.class) {
+            return 2;
+        } else if (type == Long.class) {
+            return 3;
+        } else if (type == Float.class) {
+            return 4;
+        } else if (type == Double.class) {
+            return 5;
+        }
+        return -1;
+    }
+
+    /**
+     * Checks whether a value of the given source wrapper type can be unboxed
+     * and converted to the primitive type of the given target wrapper type via
+     * a widening primitive conversion.
+     */
+    static boolean isWidening(Class<?> source, Class<?> target) {
+        int sourceRank = getWideningRank(source);
+        int targetRank = getWideningRank(target);
+        if (sourceRank < 0 || targetRank <= sourceRank || target == Character.class) {
+            return false;
+        }
+        // char can only be widened to int and wider types
+        return source != Character.class || targetRank >= 2;
+    }
+
+    /**
+     * Converts the given value to the given wrapper type, which needs to be a
+     * widening primitive conversion according to
+     * {@link #isWidening(Class, Class)}.
+     */
+    private static Object widen(Object value, Class<?> target) {
+        Number number = (value instanceof Character)
+                ? Integer.valueOf((Character) value)
+                : (Number) value;
+        if (target == Short.class) {
+            return number.shortValue();
+        } else if (target == Integer.class) {
+            return number.intValue();
+        } else if (target == Long.class) {
+            return number.longValue();
+        } else if (target == Float.class) {
+            return number.floatValue();
+        }
+        return number.doubleValue();
+    }
+
+}
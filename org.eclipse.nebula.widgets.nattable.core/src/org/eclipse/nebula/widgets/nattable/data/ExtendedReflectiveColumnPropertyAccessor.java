@@ -16,6 +16,8 @@
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,6 +28,10 @@
 
     private static final String ERROR_LOG_STATEMENT = "Error on accessing the data model via reflection"; //$NON-NLS-1$
 
+    private final Map<String, String[]> propertyChains = new ConcurrentHashMap<>();
+
+    private final Map<Class<?>, Map<String, BeanPropertyHandle>> getterHandles = new ConcurrentHashMap<>();
+
     /**
      * @param propertyNames
      *            of the members of the row bean
@@ -75,39 +81,19 @@ public void setDataValue(R rowObj, int columnIndex, Object newValue) {
     private Object getPropertyValue(Object object, String propertyName) {
         assert object != null : "object can not be null!"; //$NON-NLS-1$
 
-        String[] propertyChain = null;
-        if (propertyName.contains(".")) { //$NON-NLS-1$
-            propertyChain = propertyName.split("\\."); //$NON-NLS-1$
-        } else {
-            propertyChain = new String[] { propertyName };
-        }
+        String[] propertyChain = this.propertyChains.computeIfAbsent(propertyName, name -> name.split("\\.")); //$NON-NLS-1$
 
         Object child = object;
-        Class<?> objectClass = object.getClass();
-        String getterName = null;
-        Method getterMethod = null;
         for (String pc : propertyChain) {
-            getterName = "get" + pc.substring(0, 1).toUpperCase() + pc.substring(1); //$NON-NLS-1$
+            BeanPropertyHandle getter = getGetterHandle(child.getClass(), pc);
             try {
-                getterMethod = objectClass.getMethod(getterName);
-                child = getterMethod.invoke(child);
-            } catch (NoSuchMethodException e) {
-                try {
-                    getterName = "is" + pc.substring(0, 1).toUpperCase() + pc.substring(1); //$NON-NLS-1$
-                    getterMethod = objectClass.getMethod(getterName);
-                    child = getterMethod.invoke(child);
-                } catch (Exception e1) {
-                    LOG.error(ERROR_LOG_STATEMENT, e1);
-                    throw new IllegalStateException(e);
-                }
+                child = getter.get(child);
             } catch (Exception e) {
                 LOG.error(ERROR_LOG_STATEMENT, e);
                 throw new IllegalStateException(e);
             }
 
-            if (child != null) {
-                objectClass = child.getClass();
-            } else {
+            if (child == null) {
                 // null is returned by reflection, therefore we can not go
                 // further and null is the correct return value
                 break;
@@ -117,6 +103,43 @@ private Object getPropertyValue(Object object, String propertyName) {
         return child;
     }
 
+    /**
+     * Returns the resolved getter for the given property of the given class.
+     * The getter is searched by the Java Bean naming conventions and cached,
+     * so the method lookup is only performed once per class and property.
+     *
+     * @param objectClass
+     *            the class of the bean
+     * @param propertyName
+     *            the name of the single property
+     * @return the resolved getter
+     */
+    private BeanPropertyHandle getGetterHandle(Class<?> objectClass, String propertyName) {
+        Map<String, BeanPropertyHandle> handles =
+                this.getterHandles.computeIfAbsent(objectClass, c -> new ConcurrentHashMap<>());
+        BeanPropertyHandle handle = handles.get(propertyName);
+        if (handle == null) {
+            String capitalized = propertyName.substring(0, 1).toUpperCase() + propertyName.substring(1);
+            Method getterMethod = null;
+            try {
+                getterMethod = objectClass.getMethod("get" + capitalized); //$NON-NLS-1$
+            } catch (NoSuchMethodException e) {
+                try {
+                    getterMethod = objectClass.getMethod("is" + capitalized); //$NON-NLS-1$
+                } catch (Exception e1) {
+                    LOG.error(ERROR_LOG_STATEMENT, e1);
+                    throw new IllegalStateException(e);
+                }
+            } catch (Exception e) {
+                LOG.error(ERROR_LOG_STATEMENT, e);
+                throw new IllegalStateException(e);
+            }
+            handle = new BeanPropertyHandle(objectClass, propertyName, getterMethod, null);
+            handles.put(propertyName, handle);
+        }
+        return handle;
+    }
+
     /**
      * Sets a value to the property of a bean via reflection. Also supports dot
      * separated property names to access properties anywhere within the object
@@ -17,7 +17,6 @@
 import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
-import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -29,7 +28,9 @@
 /**
  * Convenience class which uses java reflection to get/set property names from
  * the row bean. It looks for getter methods for reading and setter methods for
- * writing according to the Java conventions.
+ * writing according to the Java conventions. The accessor methods are resolved
+ * only once per column and bean type and invoked via
+ * {@link java.lang.invoke.MethodHandle}s afterwards.
  *
  * @param <R>
  *            type of the row object/bean
@@ -42,6 +43,14 @@
 
     private Map<Class<?>, Map<String, PropertyDescriptor>> propertyDescriptorMap = new HashMap<>();
 
+    private final Map<Class<?>, Map<String, BeanPropertyHandle>> propertyHandleMap = new HashMap<>();
+
+    /**
+     * The last resolved accessors per column index. The entries are
+     * immutable, so unsynchronized access only risks an additional lookup.
+     */
+    private BeanPropertyHandle[] columnHandles = new BeanPropertyHandle[0];
+
     /**
      * @param propertyNames
      *            of the members of the row bean
@@ -66,47 +75,126 @@ public int getColumnCount() {
 
     @Override
     public Object getDataValue(R rowObj, int columnIndex) {
+        return readPropertyValue(rowObj, columnIndex, this.propertyNames.get(columnIndex));
+    }
+
+    @Override
+    public void setDataValue(R rowObj, int columnIndex, Object newValue) {
+        writePropertyValue(rowObj, columnIndex, this.propertyNames.get(columnIndex), newValue);
+    }
+
+    @Override
+    public String getColumnProperty(int columnIndex) {
+        return this.propertyNames.get(columnIndex);
+    }
+
+    @Override
+    public int getColumnIndex(String propertyName) {
+        return this.propertyNames.indexOf(propertyName);
+    }
+
+    /**
+     * Reads the value of a property from the given bean. The accessor methods
+     * are resolved once per column and bean class and then invoked via
+     * {@link java.lang.invoke.MethodHandle}s.
+     *
+     * @param bean
+     *            The Java Bean from which the value should be read.
+     * @param columnIndex
+     *            The column index the property belongs to, used to cache the
+     *            resolved accessor.
+     * @param propertyName
+     *            The name of the property to read.
+     * @return The property value.
+     * @throws IllegalStateException
+     *             if the property can not be read.
+     * @since 2.1
+     */
+    protected Object readPropertyValue(Object bean, int columnIndex, String propertyName) {
         try {
-            PropertyDescriptor propertyDesc = getPropertyDescriptor(rowObj, columnIndex);
-            Method readMethod = propertyDesc.getReadMethod();
-            return readMethod.invoke(rowObj);
+            return getPropertyHandle(bean, columnIndex, propertyName).get(bean);
         } catch (Exception e) {
             LOG.warn("Error on getting data value", e); //$NON-NLS-1$
             throw new IllegalStateException(e);
         }
     }
 
-    @Override
-    public void setDataValue(R rowObj, int columnIndex, Object newValue) {
+    /**
+     * Sets the value of a property to the given bean. The accessor methods are
+     * resolved once per column and bean class and then invoked via
+     * {@link java.lang.invoke.MethodHandle}s. If the value does not match the
+     * type of the setter, an error is logged and the value is not set.
+     *
+     * @param bean
+     *            The Java Bean to which the value should be set.
+     * @param columnIndex
+     *            The column index the property belongs to, used to cache the
+     *            resolved accessor.
+     * @param propertyName
+     *            The name of the property to set.
+     * @param newValue
+     *            The value to set.
+     * @throws IllegalStateException
+     *             if there is no setter or the setter fails.
+     * @since 2.1
+     */
+    protected void writePropertyValue(Object bean, int columnIndex, String propertyName, Object newValue) {
         try {
-            PropertyDescriptor propertyDesc = getPropertyDescriptor(rowObj, columnIndex);
-            Method writeMethod = propertyDesc != null ? propertyDesc.getWriteMethod() : null;
-            if (writeMethod == null) {
+            BeanPropertyHandle handle = getPropertyHandle(bean, columnIndex, propertyName);
+            if (!handle.isWritable()) {
                 throw new IllegalStateException(
                         "Setter method not found in backing bean for value at column index: " + columnIndex); //$NON-NLS-1$
             }
-            writeMethod.invoke(rowObj, newValue);
-        } catch (IllegalArgumentException ex) {
-            LOG.error("Data type being set does not match the data type of the setter method in the backing bean", ex); //$NON-NLS-1$
+            if (!handle.accepts(newValue)) {
+                LOG.error("Data type being set does not match the data type of the setter method in the backing bean", //$NON-NLS-1$
+                        new IllegalArgumentException("argument type mismatch")); //$NON-NLS-1$
+                return;
+            }
+            handle.set(bean, newValue);
         } catch (Exception e) {
             LOG.error("Error while setting data value", e); //$NON-NLS-1$
             throw new IllegalStateException("Error while setting data value"); //$NON-NLS-1$
         }
     }
 
-    @Override
-    public String getColumnProperty(int columnIndex) {
-        return this.propertyNames.get(columnIndex);
-    }
+    /**
+     * Returns the resolved accessors for the given property. The last resolved
+     * accessors are cached per column index, so for lists with a single bean
+     * type the lookup is only an identity check.
+     */
+    private BeanPropertyHandle getPropertyHandle(Object bean, int columnIndex, String propertyName) throws IntrospectionException {
+        BeanPropertyHandle[] handles = this.columnHandles;
+        if (columnIndex >= handles.length) {
+            handles = Arrays.copyOf(handles, Math.max(columnIndex + 1, this.propertyNames.size()));
+            this.columnHandles = handles;
+        }
 
-    @Override
-    public int getColumnIndex(String propertyName) {
-        return this.propertyNames.indexOf(propertyName);
+        BeanPropertyHandle handle = handles[columnIndex];
+        if (handle == null
+                || handle.beanClass != bean.getClass()
+                || !handle.propertyName.equals(propertyName)) {
+            handle = resolvePropertyHandle(bean, propertyName);
+            handles[columnIndex] = handle;
+        }
+        return handle;
     }
 
-    private PropertyDescriptor getPropertyDescriptor(R rowObj, int columnIndex) throws IntrospectionException {
-        String propertyName = this.propertyNames.get(columnIndex);
-        return getPropertyDescriptor(rowObj, propertyName);
+    private BeanPropertyHandle resolvePropertyHandle(Object bean, String propertyName) throws IntrospectionException {
+        synchronized (this.propertyHandleMap) {
+            Map<String, BeanPropertyHandle> handleMap =
+                    this.propertyHandleMap.computeIfAbsent(bean.getClass(), c -> new HashMap<>());
+            BeanPropertyHandle handle = handleMap.get(propertyName);
+            if (handle == null) {
+                PropertyDescriptor propertyDesc = getPropertyDescriptor(bean, propertyName);
+                handle = new BeanPropertyHandle(
+                        bean.getClass(),
+                        propertyName,
+                        propertyDesc != null ? propertyDesc.getReadMethod() : null,
+                        propertyDesc != null ? propertyDesc.getWriteMethod() : null);
+                handleMap.put(propertyName, handle);
+            }
+            return handle;
+        }
     }
 
     /**
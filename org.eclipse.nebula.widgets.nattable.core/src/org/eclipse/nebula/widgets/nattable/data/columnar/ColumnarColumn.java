@@ -0,0 +1,249 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.data.columnar;
+
+import java.util.BitSet;
+
+/**
+ * A single typed column of a {@link ColumnarDataProvider}. The values are
+ * stored in a primitive buffer instead of one object per row, either on the
+ * Java heap or off-heap in a direct buffer. <code>null</code> values are
+ * tracked in a separate bit set that is only created once a <code>null</code>
+ * value is set.
+ *
+ * @since 2.1
+ */
+public abstract class ColumnarColumn {
+
+    /**
+     * The default capacity of a column if none is specified.
+     */
+    public static final int DEFAULT_CAPACITY = 16;
+
+    private final String name;
+    private final boolean offHeap;
+
+    /**
+     * The number of values in this column.
+     */
+    protected int size;
+    /**
+     * The number of values that can be stored without growing the buffers.
+     */
+    protected int capacity;
+
+    private BitSet nulls;
+
+    /**
+     * @param name
+     *            The name of the column, e.g. the property name that is used
+     *            for the column header.
+     * @param initialCapacity
+     *            The initial number of values the column can hold without
+     *            growing.
+     * @param offHeap
+     *            <code>true</code> if the values should be stored in a direct
+     *            buffer outside of the Java heap, <code>false</code> if a heap
+     *            buffer should be used.
+     */
+    protected ColumnarColumn(String name, int initialCapacity, boolean offHeap) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity); //$NON-NLS-1$
+        }
+        this.name = name;
+        this.offHeap = offHeap;
+        this.capacity = Math.max(initialCapacity, 1);
+    }
+
+    /**
+     * @return The name of the column.
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * @return <code>true</code> if the values are stored outside of the Java
+     *         heap.
+     */
+    public boolean isOffHeap() {
+        return this.offHeap;
+    }
+
+    /**
+     * @return The number of values in this column.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * @param row
+     *            The physical row index.
+     * @return <code>true</code> if the value at the given row is
+     *         <code>null</code>.
+     */
+    public boolean isNull(int row) {
+        checkIndex(row);
+        return this.nulls != null && this.nulls.get(row);
+    }
+
+    /**
+     * @param row
+     *            The physical row index.
+     * @return The value at the given row, boxed to its object representation,
+     *         or <code>null</code>.
+     */
+    public Object getValue(int row) {
+        return isNull(row) ? null : getNonNullValue(row);
+    }
+
+    /**
+     * @param row
+     *            The physical row index.
+     * @param value
+     *            The value to set, can be <code>null</code>.
+     */
+    public void setValue(int row, Object value) {
+        checkIndex(row);
+        set(row, value);
+    }
+
+    /**
+     * Appends a value to the end of this column. The value is set before the
+     * size is increased, so a value that can not be converted to the type of
+     * this column does not change the column.
+     *
+     * @param value
+     *            The value to add, can be <code>null</code>.
+     */
+    public void add(Object value) {
+        if (this.size == this.capacity) {
+            int newCapacity = Math.max(this.capacity + (this.capacity >> 1), this.capacity + 1);
+            grow(newCapacity);
+            this.capacity = newCapacity;
+        }
+        set(this.size, value);
+        this.size++;
+    }
+
+    /**
+     * Removes the last value of this column. Used to keep the columns of a
+     * {@link ColumnarDataProvider} aligned if adding a row fails.
+     */
+    void removeLast() {
+        this.size--;
+        clearNull(this.size);
+    }
+
+    private void set(int row, Object value) {
+        if (value == null) {
+            if (this.nulls == null) {
+                this.nulls = new BitSet();
+            }
+            this.nulls.set(row);
+        } else {
+            setNonNullValue(row, value);
+            clearNull(row);
+        }
+    }
+
+    /**
+     * Marks the value at the given row as not <code>null</code>. Needs to be
+     * called by subclasses that write a primitive value directly to their
+     * buffer.
+     *
+     * @param row
+     *            The physical row index.
+     */
+    protected void clearNull(int row) {
+        if (this.nulls != null) {
+            this.nulls.clear(row);
+        }
+    }
+
+    /**
+     * Compares the values of two rows. <code>null</code> values are sorted
+     * before all other values.
+     *
+     * @param rowA
+     *            The physical index of the first row.
+     * @param rowB
+     *            The physical index of the second row.
+     * @return A negative integer, zero, or a positive integer as the value of
+     *         the first row is less than, equal to, or greater than the value
+     *         of the second row.
+     */
+    public int compare(int rowA, int rowB) {
+        boolean nullA = isNull(rowA);
+        boolean nullB = isNull(rowB);
+        if (nullA || nullB) {
+            return nullA == nullB ? 0 : (nullA ? -1 : 1);
+        }
+        return compareNonNull(rowA, rowB);
+    }
+
+    /**
+     * @return The number of bytes that are used by the value buffers of this
+     *         column.
+     */
+    public abstract long getBufferSize();
+
+    /**
+     * @param row
+     *            The physical row index, known to contain a value.
+     * @return The boxed value at the given row.
+     */
+    protected abstract Object getNonNullValue(int row);
+
+    /**
+     * @param row
+     *            The physical row index.
+     * @param value
+     *            The non-<code>null</code> value to set.
+     */
+    protected abstract void setNonNullValue(int row, Object value);
+
+    /**
+     * Compares the values of two rows that both contain a value.
+     *
+     * @param rowA
+     *            The physical index of the first row.
+     * @param rowB
+     *            The physical index of the second row.
+     * @return The comparison result.
+     */
+    protected abstract int compareNonNull(int rowA, int rowB);
+
+    /**
+     * Grows the value buffers to the given capacity, keeping the current
+     * values.
+     *
+     * @param newCapacity
+     *            The new capacity.
+     */
+    protected abstract void grow(int newCapacity);
+
+    /**
+     * @param row
+     *            The physical row index to check.
+     * @throws IndexOutOfBoundsException
+     *             if the index is not within the column.
+     */
+    protected void checkIndex(int row) {
+        if (row < 0 || row >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + row + ", Size: " + this.size); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+    }
+
+}
@@ -0,0 +1,399 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.data.columnar;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+import org.eclipse.collections.api.map.primitive.MutableObjectIntMap;
+import org.eclipse.collections.impl.factory.primitive.ObjectIntMaps;
+import org.eclipse.nebula.widgets.nattable.data.IRowDataProvider;
+import org.eclipse.nebula.widgets.nattable.sort.index.ParallelIntMergeSort;
+import org.eclipse.nebula.widgets.nattable.sort.index.ParallelIntMergeSort.RowComparator;
+
+/**
+ * {@link IRowDataProvider} that stores the data column-wise in typed
+ * {@link ColumnarColumn}s instead of a list of row objects. Primitive values
+ * are kept in primitive buffers, either on the Java heap or off-heap, and
+ * string values can be dictionary encoded. This reduces the memory footprint
+ * for large data sets dramatically, as no object is created per row or cell
+ * unless it is requested. Row objects are lightweight {@link ColumnarRow}
+ * references that are materialized on demand.
+ * <p>
+ * Sorting and filtering is performed on an <code>int</code> array of physical
+ * row indexes, the column data itself is never moved. The row indexes that are
+ * used by the {@link IRowDataProvider} interface are therefore the indexes in
+ * the sorted and filtered view, while {@link ColumnarRow#getRowIndex()} is the
+ * stable physical index.
+ * </p>
+ * <p>
+ * To sort via the column header, use the {@link ColumnarSortModel} with the
+ * {@link org.eclipse.nebula.widgets.nattable.sort.SortHeaderLayer}. To filter
+ * via the filter row, use the {@link ColumnarFilterStrategy}.
+ * </p>
+ * <p>
+ * Like the {@link org.eclipse.nebula.widgets.nattable.data.ListDataProvider},
+ * this data provider is not thread-safe.
+ * </p>
+ *
+ * @since 2.1
+ */
+public class ColumnarDataProvider implements IRowDataProvider<ColumnarRow> {
+
+    private final ColumnarColumn[] columns;
+    private final MutableObjectIntMap<String> columnIndexes = ObjectIntMaps.mutable.empty();
+    private int physicalRowCount;
+
+    /**
+     * The indexes of the columns the view is sorted by, in the order of their
+     * significance.
+     */
+    private int[] sortColumnIndexes = new int[0];
+    private boolean[] sortAscending = new boolean[0];
+    private IntPredicate filter;
+
+    /**
+     * The physical row indexes in view order, <code>null</code> if the view is
+     * neither sorted nor filtered.
+     */
+    private int[] rowIndexes;
+    /**
+     * The view index per physical row, lazily calculated for
+     * {@link #indexOfRowObject(ColumnarRow)}.
+     */
+    private int[] viewIndexes;
+    private boolean viewValid = true;
+
+    /**
+     * @param columns
+     *            The columns of this data provider. All columns need to contain
+     *            the same number of values.
+     */
+    public ColumnarDataProvider(ColumnarColumn... columns) {
+        this.columns = columns;
+        this.physicalRowCount = columns.length > 0 ? columns[0].size() : 0;
+        for (int i = 0; i < columns.length; i++) {
+            if (columns[i].size() != this.physicalRowCount) {
+                throw new IllegalArgumentException("All columns need to have the same size"); //$NON-NLS-1$
+            }
+            if (columns[i].getName() != null) {
+                this.columnIndexes.put(columns[i].getName(), i);
+            }
+        }
+    }
+
+    @Override
+    public int getColumnCount() {
+        return this.columns.length;
+    }
+
+    @Override
+    public int getRowCount() {
+        validateView();
+        return this.rowIndexes != null ? this.rowIndexes.length : this.physicalRowCount;
+    }
+
+    @Override
+    public Object getDataValue(int columnIndex, int rowIndex) {
+        return this.columns[columnIndex].getValue(getPhysicalRowIndex(rowIndex));
+    }
+
+    @Override
+    public void setDataValue(int columnIndex, int rowIndex, Object newValue) {
+        this.columns[columnIndex].setValue(getPhysicalRowIndex(rowIndex), newValue);
+    }
+
+    @Override
+    public ColumnarRow getRowObject(int rowIndex) {
+        return new ColumnarRow(this, getPhysicalRowIndex(rowIndex));
+    }
+
+    @Override
+    public int indexOfRowObject(ColumnarRow rowObject) {
+        if (rowObject == null || rowObject.getDataProvider() != this) {
+            return -1;
+        }
+        return getViewRowIndex(rowObject.getRowIndex());
+    }
+
+    /**
+     * @param columnIndex
+     *            The index of the column.
+     * @return The column at the given index.
+     */
+    public ColumnarColumn getColumn(int columnIndex) {
+        return this.columns[columnIndex];
+    }
+
+    /**
+     * @param columnName
+     *            The name of the column.
+     * @return The index of the column with the given name or <code>-1</code>
+     *         if there is no such column.
+     */
+    public int getColumnIndex(String columnName) {
+        return this.columnIndexes.getIfAbsent(columnName, -1);
+    }
+
+    /**
+     * @return The names of the columns, e.g. to be used as property names for
+     *         a column header.
+     */
+    public String[] getColumnNames() {
+        String[] names = new String[this.columns.length];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = this.columns[i].getName();
+        }
+        return names;
+    }
+
+    /**
+     * @return The number of rows stored in the columns, regardless of any
+     *         filter.
+     */
+    public int getPhysicalRowCount() {
+        return this.physicalRowCount;
+    }
+
+    /**
+     * @param rowIndex
+     *            The row index in the sorted and filtered view.
+     * @return The physical index of the row in the columns.
+     */
+    public int getPhysicalRowIndex(int rowIndex) {
+        validateView();
+        if (this.rowIndexes != null) {
+            return this.rowIndexes[rowIndex];
+        }
+        if (rowIndex < 0 || rowIndex >= this.physicalRowCount) {
+            throw new IndexOutOfBoundsException("Index: " + rowIndex + ", Size: " + this.physicalRowCount); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        return rowIndex;
+    }
+
+    /**
+     * @param physicalRowIndex
+     *            The physical index of the row in the columns.
+     * @return The row index in the sorted and filtered view or <code>-1</code>
+     *         if the row is filtered.
+     */
+    public int getViewRowIndex(int physicalRowIndex) {
+        if (physicalRowIndex < 0 || physicalRowIndex >= this.physicalRowCount) {
+            return -1;
+        }
+        validateView();
+        if (this.rowIndexes == null) {
+            return physicalRowIndex;
+        }
+        if (this.viewIndexes == null) {
+            int[] indexes = new int[this.physicalRowCount];
+            Arrays.fill(indexes, -1);
+            for (int i = 0; i < this.rowIndexes.length; i++) {
+                indexes[this.rowIndexes[i]] = i;
+            }
+            this.viewIndexes = indexes;
+        }
+        return this.viewIndexes[physicalRowIndex];
+    }
+
+    /**
+     * Appends a row to the columns. If the view is sorted or filtered, the
+     * sorting and filtering is re-applied on the next access.
+     *
+     * @param values
+     *            The values of the new row, one per column.
+     * @return The physical index of the added row.
+     */
+    public int addRow(Object... values) {
+        if (values.length != this.columns.length) {
+            throw new IllegalArgumentException("Expected " + this.columns.length + " values but got " + values.length); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        int added = 0;
+        try {
+            for (; added < this.columns.length; added++) {
+                this.columns[added].add(values[added]);
+            }
+        } catch (RuntimeException e) {
+            // keep the columns aligned if a value could not be added
+            for (int i = 0; i < added; i++) {
+                this.columns[i].removeLast();
+            }
+            throw e;
+        }
+        this.physicalRowCount++;
+        if (this.sortColumnIndexes.length > 0 || this.filter != null) {
+            this.viewValid = false;
+        }
+        return this.physicalRowCount - 1;
+    }
+
+    /**
+     * Sorts the view by the values of the given column. <code>null</code>
+     * values are sorted before all other values in ascending order.
+     *
+     * @param columnIndex
+     *            The index of the column to sort by, <code>-1</code> to remove
+     *            the sorting.
+     * @param ascending
+     *            <code>true</code> to sort ascending, <code>false</code> to
+     *            sort descending.
+     */
+    public void sort(int columnIndex, boolean ascending) {
+        if (columnIndex < 0) {
+            sort(new int[0], new boolean[0]);
+        } else {
+            sort(new int[] { columnIndex }, new boolean[] { ascending });
+        }
+    }
+
+    /**
+     * Sorts the view by the values of the given columns. Rows with equal
+     * values in the first column are sorted by the second column and so on,
+     * rows with equal values in all given columns keep their physical order.
+     * <code>null</code> values are sorted before all other values in
+     * ascending order.
+     *
+     * @param columnIndexes
+     *            The indexes of the columns to sort by, in the order of their
+     *            significance. An empty array removes the sorting.
+     * @param ascending
+     *            The sort direction per column, <code>true</code> to sort
+     *            ascending, <code>false</code> to sort descending.
+     */
+    public void sort(int[] columnIndexes, boolean[] ascending) {
+        if (columnIndexes.length != ascending.length) {
+            throw new IllegalArgumentException("Expected " + columnIndexes.length + " sort directions but got " + ascending.length); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        for (int columnIndex : columnIndexes) {
+            if (columnIndex < 0 || columnIndex >= this.columns.length) {
+                throw new IndexOutOfBoundsException("Column index: " + columnIndex); //$NON-NLS-1$
+            }
+        }
+        this.sortColumnIndexes = columnIndexes.clone();
+        this.sortAscending = ascending.clone();
+        this.viewValid = false;
+    }
+
+    /**
+     * @return The indexes of the columns the view is sorted by, in the order
+     *         of their significance. An empty array if the view is not
+     *         sorted.
+     */
+    public int[] getSortColumnIndexes() {
+        return this.sortColumnIndexes.clone();
+    }
+
+    /**
+     * @param columnIndex
+     *            The index of the column.
+     * @return <code>true</code> if the view is sorted ascending by the given
+     *         column, <code>false</code> if it is sorted descending or not
+     *         sorted by the given column.
+     */
+    public boolean isSortAscending(int columnIndex) {
+        for (int i = 0; i < this.sortColumnIndexes.length; i++) {
+            if (this.sortColumnIndexes[i] == columnIndex) {
+                return this.sortAscending[i];
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Filters the view. The given predicate is tested with the physical row
+     * indexes, so it can access the primitive values of the columns directly
+     * without creating any objects.
+     *
+     * @param filter
+     *            The predicate that returns <code>true</code> for the physical
+     *            row indexes that should be visible, <code>null</code> to
+     *            remove the filter.
+     */
+    public void setFilter(IntPredicate filter) {
+        this.filter = filter;
+        this.viewValid = false;
+    }
+
+    /**
+     * @return The predicate that is used to filter the view or
+     *         <code>null</code> if the view is not filtered.
+     */
+    public IntPredicate getFilter() {
+        return this.filter;
+    }
+
+    /**
+     * @return The number of bytes used by the value buffers of all columns.
+     */
+    public long getBufferSize() {
+        long result = 0;
+        for (ColumnarColumn column : this.columns) {
+            result += column.getBufferSize();
+        }
+        return result;
+    }
+
+    /**
+     * Re-calculates the sorted and filtered view if necessary.
+     */
+    private void validateView() {
+        if (this.viewValid) {
+            return;
+        }
+
+        if (this.sortColumnIndexes.length == 0 && this.filter == null) {
+            this.rowIndexes = null;
+        } else {
+            int[] indexes = new int[this.physicalRowCount];
+            int count = 0;
+            for (int i = 0; i < this.physicalRowCount; i++) {
+                if (this.filter == null || this.filter.test(i)) {
+                    indexes[count++] = i;
+                }
+            }
+            if (count < indexes.length) {
+                indexes = Arrays.copyOf(indexes, count);
+            }
+            if (this.sortColumnIndexes.length > 0) {
+                ParallelIntMergeSort.sort(indexes, createRowComparator(), true);
+            }
+            this.rowIndexes = indexes;
+        }
+        this.viewIndexes = null;
+        this.viewValid = true;
+    }
+
+    /**
+     * Creates the comparator for physical row indexes that compares the values
+     * of the sorted columns. As the column buffers are only read, the
+     * comparator can be used by the parallel sort.
+     */
+    private RowComparator createRowComparator() {
+        ColumnarColumn[] sortColumns = new ColumnarColumn[this.sortColumnIndexes.length];
+        for (int i = 0; i < sortColumns.length; i++) {
+            sortColumns[i] = this.columns[this.sortColumnIndexes[i]];
+        }
+        boolean[] ascending = this.sortAscending;
+        return (rowA, rowB) -> {
+            for (int i = 0; i < sortColumns.length; i++) {
+                int result = sortColumns[i].compare(rowA, rowB);
+                if (result != 0) {
+                    return ascending[i] ? result : -result;
+                }
+            }
+            // keep the physical order of equal rows
+            return Integer.compare(rowA, rowB);
+        };
+    }
+
+}
@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.data.columnar;
+
+import java.util.Map;
+
+import org.eclipse.nebula.widgets.nattable.config.IConfigRegistry;
+import org.eclipse.nebula.widgets.nattable.data.IDataProvider;
+import org.eclipse.nebula.widgets.nattable.filterrow.IFilterStrategy;
+import org.eclipse.nebula.widgets.nattable.filterrow.index.IndexFilterStrategy;
+
+/**
+ * {@link IFilterStrategy} that filters the view of a
+ * {@link ColumnarDataProvider}, so it can be used with the filter row.
+ * <p>
+ * The filter criteria are evaluated like in the {@link IndexFilterStrategy}
+ * on the physical rows of the columns, and the result is set as filter of the
+ * {@link ColumnarDataProvider} via
+ * {@link ColumnarDataProvider#setFilter(java.util.function.IntPredicate)}.
+ * Therefore a filter that was set directly on the data provider is replaced
+ * when a filter is applied via this strategy.
+ * </p>
+ *
+ * @since 2.1
+ */
+public class ColumnarFilterStrategy extends IndexFilterStrategy<ColumnarRow> {
+
+    private final ColumnarDataProvider columnarDataProvider;
+
+    /**
+     * Create a new {@link ColumnarFilterStrategy}.
+     *
+     * @param dataProvider
+     *            The {@link ColumnarDataProvider} whose view should be
+     *            filtered.
+     * @param configRegistry
+     *            The {@link IConfigRegistry} necessary to retrieve filter
+     *            specific configurations.
+     */
+    public ColumnarFilterStrategy(ColumnarDataProvider dataProvider, IConfigRegistry configRegistry) {
+        super(new PhysicalRowDataProvider(dataProvider), configRegistry);
+        this.columnarDataProvider = dataProvider;
+    }
+
+    @Override
+    public void applyFilter(Map<Integer, Object> filterIndexToObjectMap) {
+        super.applyFilter(filterIndexToObjectMap);
+        updateViewFilter();
+    }
+
+    /**
+     * Updates the filter result for the given rows after their values have
+     * changed.
+     *
+     * @param rowIndexes
+     *            The physical indexes of the rows whose values have changed,
+     *            see {@link ColumnarRow#getRowIndex()}.
+     */
+    @Override
+    public void updateRows(int... rowIndexes) {
+        super.updateRows(rowIndexes);
+        updateViewFilter();
+    }
+
+    /**
+     * Sets the current filter result as filter of the
+     * {@link ColumnarDataProvider}, which also triggers the re-calculation of
+     * its view.
+     */
+    private void updateViewFilter() {
+        this.columnarDataProvider.setFilter(isFiltered() ? this::isRowIndexMatching : null);
+    }
+
+    /**
+     * {@link IDataProvider} that accesses the columns of a
+     * {@link ColumnarDataProvider} by physical row index, regardless of the
+     * sorting and filtering of its view.
+     */
+    private static class PhysicalRowDataProvider implements IDataProvider {
+
+        private final ColumnarDataProvider dataProvider;
+
+        PhysicalRowDataProvider(ColumnarDataProvider dataProvider) {
+            this.dataProvider = dataProvider;
+        }
+
+        @Override
+        public Object getDataValue(int columnIndex, int rowIndex) {
+            return this.dataProvider.getColumn(columnIndex).getValue(rowIndex);
+        }
+
+        @Override
+        public void setDataValue(int columnIndex, int rowIndex, Object newValue) {
+            this.dataProvider.getColumn(columnIndex).setValue(rowIndex, newValue);
+        }
+
+        @Override
+        public int getColumnCount() {
+            return this.dataProvider.getColumnCount();
+        }
+
+        @Override
+        public int getRowCount() {
+            return this.dataProvider.getPhysicalRowCount();
+        }
+    }
+
+}
@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.data.columnar;
+
+/**
+ * Lightweight row object of a {@link ColumnarDataProvider}. It does not hold
+ * any values itself but only references a physical row in the columns of the
+ * data provider. Instances are created on demand via
+ * {@link ColumnarDataProvider#getRowObject(int)}, two instances are equal if
+ * they reference the same physical row of the same data provider.
+ *
+ * @since 2.1
+ */
+public final class ColumnarRow {
+
+    private final ColumnarDataProvider dataProvider;
+    private final int rowIndex;
+
+    ColumnarRow(ColumnarDataProvider dataProvider, int rowIndex) {
+        this.dataProvider = dataProvider;
+        this.rowIndex = rowIndex;
+    }
+
+    /**
+     * @return The {@link ColumnarDataProvider} this row belongs to.
+     */
+    public ColumnarDataProvider getDataProvider() {
+        return this.dataProvider;
+    }
+
+    /**
+     * @return The physical index of this row in the columns, which is not
+     *         affected by sorting or filtering.
+     */
+    public int getRowIndex() {
+        return this.rowIndex;
+    }
+
+    /**
+     * @param columnIndex
+     *            The index of the column.
+     * @return The value of this row in the given column.
+     */
+    public Object getValue(int columnIndex) {
+        return this.dataProvider.getColumn(columnIndex).getValue(this.rowIndex);
+    }
+
+    /**
+     * @param columnName
+     *            The name of the column.
+     * @return The value of this row in the column with the given name.
+     */
+    public Object getValue(String columnName) {
+        return getValue(this.dataProvider.getColumnIndex(columnName));
+    }
+
+    /**
+     * @param columnIndex
+     *            The index of the column.
+     * @param value
+     *            The value to set for this row in the given column.
+     */
+    public void setValue(int columnIndex, Object value) {
+        this.dataProvider.getColumn(columnIndex).setValue(this.rowIndex, value);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * System.identityHashCode(this.dataProvider) + this.rowIndex;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof ColumnarRow)) {
+            return false;
+        }
+        ColumnarRow other = (ColumnarRow) obj;
+        return this.dataProvider == other.dataProvider && this.rowIndex == other.rowIndex;
+    }
+
+    @Override
+    public String toString() {
+        return "ColumnarRow [" + this.rowIndex + "]"; //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+}
@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.data.columnar;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.nebula.widgets.nattable.config.DefaultComparator;
+import org.eclipse.nebula.widgets.nattable.sort.ISortModel;
+import org.eclipse.nebula.widgets.nattable.sort.SortDirectionEnum;
+
+/**
+ * {@link ISortModel} that sorts the view of a {@link ColumnarDataProvider}, so
+ * it can be used with the
+ * {@link org.eclipse.nebula.widgets.nattable.sort.SortHeaderLayer} to sort by
+ * clicking the column header.
+ * <p>
+ * The rows are sorted by comparing the values in the column buffers directly,
+ * so configured sort comparators are not used and all columns are sortable.
+ * Sorting by multiple columns is supported.
+ * </p>
+ *
+ * @since 2.1
+ */
+public class ColumnarSortModel implements ISortModel {
+
+    private final ColumnarDataProvider dataProvider;
+
+    /**
+     * The indexes of the sorted columns in the order they were added to the
+     * sort.
+     */
+    private final List<Integer> sortedColumns = new ArrayList<>();
+
+    /**
+     * The sort directions of the sorted columns.
+     */
+    private final Map<Integer, SortDirectionEnum> sortDirections = new HashMap<>();
+
+    /**
+     * @param dataProvider
+     *            The {@link ColumnarDataProvider} whose view should be sorted.
+     */
+    public ColumnarSortModel(ColumnarDataProvider dataProvider) {
+        this.dataProvider = dataProvider;
+    }
+
+    @Override
+    public List<Integer> getSortedColumnIndexes() {
+        return new ArrayList<>(this.sortedColumns);
+    }
+
+    @Override
+    public boolean isColumnIndexSorted(int columnIndex) {
+        return this.sortDirections.containsKey(columnIndex);
+    }
+
+    @Override
+    public SortDirectionEnum getSortDirection(int columnIndex) {
+        SortDirectionEnum direction = this.sortDirections.get(columnIndex);
+        return direction != null ? direction : SortDirectionEnum.NONE;
+    }
+
+    @Override
+    public int getSortOrder(int columnIndex) {
+        return this.sortedColumns.indexOf(columnIndex);
+    }
+
+    @SuppressWarnings("rawtypes")
+    @Override
+    public List<Comparator> getComparatorsForColumnIndex(int columnIndex) {
+        return Collections.singletonList(getColumnComparator(columnIndex));
+    }
+
+    /**
+     * The columns are compared by the natural order of their values, which
+     * corresponds to the {@link DefaultComparator}.
+     */
+    @Override
+    public Comparator<?> getColumnComparator(int columnIndex) {
+        return DefaultComparator.getInstance();
+    }
+
+    @Override
+    public void sort(int columnIndex, SortDirectionEnum sortDirection, boolean accumulate) {
+        if (!accumulate) {
+            this.sortedColumns.clear();
+            this.sortDirections.clear();
+        }
+
+        this.sortedColumns.remove(Integer.valueOf(columnIndex));
+        this.sortDirections.remove(columnIndex);
+        if (sortDirection != null && sortDirection != SortDirectionEnum.NONE) {
+            this.sortedColumns.add(columnIndex);
+            this.sortDirections.put(columnIndex, sortDirection);
+        }
+
+        applySort();
+    }
+
+    @Override
+    public void clear() {
+        this.sortedColumns.clear();
+        this.sortDirections.clear();
+        applySort();
+    }
+
+    /**
+     * Applies the current sort state to the view of the
+     * {@link ColumnarDataProvider}.
+     */
+    private void applySort() {
+        int[] columnIndexes = new int[this.sortedColumns.size()];
+        boolean[] ascending = new boolean[columnIndexes.length];
+        for (int i = 0; i < columnIndexes.length; i++) {
+            columnIndexes[i] = this.sortedColumns.get(i);
+            ascending[i] = this.sortDirections.get(columnIndexes[i]) != SortDirectionEnum.DESC;
+        }
+        this.dataProvider.sort(columnIndexes, ascending);
+    }
+
+}
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.data.columnar;
+
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.collections.api.map.primitive.MutableObjectIntMap;
+import org.eclipse.collections.impl.factory.primitive.ObjectIntMaps;
+
+/**
+ * {@link ColumnarColumn} that stores {@link String} values dictionary encoded.
+ * Every distinct value is only stored once in the dictionary, while the rows
+ * only store the <code>int</code> code of their value. This is efficient for
+ * columns with a limited number of distinct values, e.g. categories or status
+ * values. Values that are not of type {@link String} are stored via their
+ * string representation.
+ *
+ * @since 2.1
+ */
+public class DictionaryStringColumn extends ColumnarColumn {
+
+    private IntBuffer codes;
+    private final List<String> dictionary = new ArrayList<>();
+    private final MutableObjectIntMap<String> dictionaryCodes = ObjectIntMaps.mutable.empty();
+
+    /**
+     * Creates a heap based column with the default capacity.
+     *
+     * @param name
+     *            The name of the column.
+     */
+    public DictionaryStringColumn(String name) {
+        this(name, DEFAULT_CAPACITY, false);
+    }
+
+    /**
+     * @param name
+     *            The name of the column.
+     * @param initialCapacity
+     *            The initial number of values the column can hold without
+     *            growing.
+     * @param offHeap
+     *            <code>true</code> if the codes should be stored outside of the
+     *            Java heap. The dictionary itself is always kept on the heap.
+     */
+    public DictionaryStringColumn(String name, int initialCapacity, boolean offHeap) {
+        super(name, initialCapacity, offHeap);
+        this.codes = IntColumn.allocate(this.capacity, offHeap);
+    }
+
+    /**
+     * @return The number of distinct values that were added to the dictionary.
+     */
+    public int getDictionarySize() {
+        return this.dictionary.size();
+    }
+
+    /**
+     * @param row
+     *            The physical row index.
+     * @return The dictionary code of the value at the given row.
+     */
+    public int getCode(int row) {
+        checkIndex(row);
+        return this.codes.get(row);
+    }
+
+    @Override
+    public long getBufferSize() {
+        return (long) this.capacity * Integer.BYTES;
+    }
+
+    @Override
+    protected Object getNonNullValue(int row) {
+        return this.dictionary.get(this.codes.get(row));
+    }
+
+    @Override
+    protected void setNonNullValue(int row, Object value) {
+        String stringValue = value.toString();
+        int code = this.dictionaryCodes.getIfAbsent(stringValue, -1);
+        if (code < 0) {
+            code = this.dictionary.size();
+            this.dictionary.add(stringValue);
+            this.dictionaryCodes.put(stringValue, code);
+        }
+        this.codes.put(row, code);
+    }
+
+    @Override
+    protected int compareNonNull(int rowA, int rowB) {
+        int codeA = this.codes.get(rowA);
+        int codeB = this.codes.get(rowB);
+        return codeA == codeB ? 0 : this.dictionary.get(codeA).compareTo(this.dictionary.get(codeB));
+    }
+
+    @Override
+    protected void grow(int newCapacity) {
+        this.codes = IntColumn.grow(this.codes, this.size, newCapacity, isOffHeap());
+    }
+
+}
@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.data.columnar;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+
+/**
+ * {@link ColumnarColumn} that stores <code>int</code> values. Any
+ * {@link Number} can be set as value, the object representation of the values
+ * is {@link Integer}.
+ *
+ * @since 2.1
+ */
+public class IntColumn extends ColumnarColumn {
+
+    private IntBuffer values;
+
+    /**
+     * Creates a heap based column with the default capacity.
+     *
+     * @param name
+     *            The name of the column.
+     */
+    public IntColumn(String name) {
+        this(name, DEFAULT_CAPACITY, false);
+    }
+
+    /**
+     * @param name
+     *            The name of the column.
+     * @param initialCapacity
+     *            The initial number of values the column can hold without
+     *            growing.
+     * @param offHeap
+     *            <code>true</code> if the values should be stored outside of
+     *            the Java heap.
+     */
+    public IntColumn(String name, int initialCapacity, boolean offHeap) {
+        super(name, initialCapacity, offHeap);
+        this.values = allocate(this.capacity, offHeap);
+    }
+
+    static IntBuffer allocate(int capacity, boolean offHeap) {
+        return offHeap
+                ? ByteBuffer.allocateDirect(capacity * Integer.BYTES).order(ByteOrder.nativeOrder()).asIntBuffer()
+                : IntBuffer.allocate(capacity);
+    }
+
+    static IntBuffer grow(IntBuffer buffer, int size, int newCapacity, boolean offHeap) {
+        IntBuffer result = allocate(newCapacity, offHeap);
+        IntBuffer source = buffer.duplicate();
+        source.limit(size);
+        source.position(0);
+        result.put(source);
+        return result;
+    }
+
+    /**
+     * @param row
+     *            The physical row index.
+     * @return The primitive value at the given row, <code>0</code> for
+     *         <code>null</code>.
+     */
+    public int getInt(int row) {
+        checkIndex(row);
+        return this.values.get(row);
+    }
+
+    /**
+     * @param row
+     *            The physical row index.
+     * @param value
+     *            The primitive value to set.
+     */
+    public void setInt(int row, int value) {
+        checkIndex(row);
+        this.values.put(row, value);
+        clearNull(row);
+    }
+
+    @Override
+    public long getBufferSize() {
+        return (long) this.capacity * Integer.BYTES;
+    }
+
+    @Override
+    protected Object getNonNullValue(int row) {
+        return this.values.get(row);
+    }
+
+    @Override
+    protected void setNonNullValue(int row, Object value) {
+        this.values.put(row, ((Number) value).intValue());
+    }
+
+    @Override
+    protected int compareNonNull(int rowA, int rowB) {
+        return Integer.compare(this.values.get(rowA), this.values.get(rowB));
+    }
+
+    @Override
+    protected void grow(int newCapacity) {
+        this.values = grow(this.values, this.size, newCapacity, isOffHeap());
+    }
+
+}
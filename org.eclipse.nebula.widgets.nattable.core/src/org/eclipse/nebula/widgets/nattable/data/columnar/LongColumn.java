@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.data.columnar;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+
+/**
+ * {@link ColumnarColumn} that stores <code>long</code> values. Any
+ * {@link Number} can be set as value, the object representation of the values
+ * is {@link Long}.
+ *
+ * @since 2.1
+ */
+public class LongColumn extends ColumnarColumn {
+
+    private LongBuffer values;
+
+    /**
+     * Creates a heap based column with the default capacity.
+     *
+     * @param name
+     *            The name of the column.
+     */
+    public LongColumn(String name) {
+        this(name, DEFAULT_CAPACITY, false);
+    }
+
+    /**
+     * @param name
+     *            The name of the column.
+     * @param initialCapacity
+     *            The initial number of values the column can hold without
+     *            growing.
+     * @param offHeap
+     *            <code>true</code> if the values should be stored outside of
+     *            the Java heap.
+     */
+    public LongColumn(String name, int initialCapacity, boolean offHeap) {
+        super(name, initialCapacity, offHeap);
+        this.values = allocate(this.capacity, offHeap);
+    }
+
+    private static LongBuffer allocate(int capacity, boolean offHeap) {
+        return offHeap
+                ? ByteBuffer.allocateDirect(capacity * Long.BYTES).order(ByteOrder.nativeOrder()).asLongBuffer()
+                : LongBuffer.allocate(capacity);
+    }
+
+    /**
+     * @param row
+     *            The physical row index.
+     * @return The primitive value at the given row, <code>0</code> for
+     *         <code>null</code>.
+     */
+    public long getLong(int row) {
+        checkIndex(row);
+        return this.values.get(row);
+    }
+
+    /**
+     * @param row
+     *            The physical row index.
+     * @param value
+     *            The primitive value to set.
+     */
+    public void setLong(int row, long value) {
+        checkIndex(row);
+        this.values.put(row, value);
+        clearNull(row);
+    }
+
+    @Override
+    public long getBufferSize() {
+        return (long) this.capacity * Long.BYTES;
+    }
+
+    @Override
+    protected Object getNonNullValue(int row) {
+        return this.values.get(row);
+    }
+
+    @Override
+    protected void setNonNullValue(int row, Object value) {
+        this.values.put(row, ((Number) value).longValue());
+    }
+
+    @Override
+    protected int compareNonNull(int rowA, int rowB) {
+        return Long.compare(this.values.get(rowA), this.values.get(rowB));
+    }
+
+    @Override
+    protected void grow(int newCapacity) {
+        LongBuffer result = allocate(newCapacity, isOffHeap());
+        LongBuffer source = this.values.duplicate();
+        source.limit(this.size);
+        source.position(0);
+        result.put(source);
+        this.values = result;
+    }
+
+}
@@ -17,6 +17,7 @@
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
 
 import org.eclipse.nebula.widgets.nattable.Messages;
 import org.eclipse.nebula.widgets.nattable.NatTable;
@@ -260,6 +261,9 @@ private <T extends IExporter> void exportSingle(final T exporter, final BiConsum
                     executable.apply(exporter, outputStream);
 
                     NatExporter.this.exportSucceeded = true;
+                } catch (CancellationException e) {
+                    NatExporter.this.exportSucceeded = false;
+                    LOG.info("Export cancelled"); //$NON-NLS-1$
                 } catch (Exception e1) {
                     NatExporter.this.exportSucceeded = false;
                     handleExportException(e1);
@@ -580,6 +584,9 @@ protected void exportLayer(
 
         try {
             exporter.exportTable(this.shell, progressBar, outputStream, layer, configRegistry);
+        } catch (CancellationException e) {
+            // a cancelled export is not an error
+            throw e;
         } catch (Exception e) {
             throw new RuntimeException(e);
         } finally {
@@ -34,8 +34,12 @@ public class CsvExporter implements ILayerExporter {
     private static final String CSV_FILE_EXTENSION = "*.csv"; //$NON-NLS-1$
     private static final String CSV_FILE_FILTER = "CSV (*.csv)"; //$NON-NLS-1$
     private static final String DEFAULT_EXPORT_FILE_NAME = "csv_export.csv"; //$NON-NLS-1$
-    private static final String NEW_LINE_REGEX = "\\n\\r|\\r\\n|\\n|\\r"; //$NON-NLS-1$
-    private static final String LINE_SEPARATOR = System.getProperty("line.separator"); //$NON-NLS-1$
+    /**
+     * The line separator that is written after each row.
+     *
+     * @since 2.1
+     */
+    protected static final String LINE_SEPARATOR = System.getProperty("line.separator"); //$NON-NLS-1$
     private final IOutputStreamProvider outputStreamProvider;
     private String charset = "windows-1252"; //$NON-NLS-1$
     private String delimiter = ";"; //$NON-NLS-1$
@@ -147,21 +151,57 @@ public void exportCell(
         }
 
         if (exportDisplayValue != null) {
-            // handle values according to RFC4180
-            String value = exportDisplayValue.toString();
-
-            // If double-quotes are used to enclose fields, then a double-quote
-            // appearing inside a field must be escaped by preceding it with
-            // another double quote.
-            value = value.replace("\"", "\"\""); //$NON-NLS-1$ //$NON-NLS-2$
-
-            // Fields containing line breaks (CRLF), double quotes, and commas
-            // should be enclosed in double-quotes.
-            if (value.contains("\"") || value.contains(",") || value.split(NEW_LINE_REGEX).length > 1) { //$NON-NLS-1$ //$NON-NLS-2$
-                value = "\"" + value + "\""; //$NON-NLS-1$ //$NON-NLS-2$
+            appendValue(this.currentRow, exportDisplayValue);
+        }
+    }
+
+    /**
+     * Appends the given value to the given {@link StringBuilder}, escaped
+     * according to RFC4180. Double-quotes are escaped by another double-quote,
+     * and the value is enclosed in double-quotes if it contains double-quotes,
+     * commas or line breaks followed by further content.
+     *
+     * @param builder
+     *            The {@link StringBuilder} to append the value to.
+     * @param exportDisplayValue
+     *            The value to append, not <code>null</code>.
+     * @since 2.1
+     */
+    protected static void appendValue(StringBuilder builder, Object exportDisplayValue) {
+        String value = exportDisplayValue.toString();
+
+        // Fields containing line breaks (CRLF), double quotes, and commas
+        // should be enclosed in double-quotes. A line break only leads to
+        // enclosing if further content follows.
+        boolean enclose = false;
+        boolean lineBreak = false;
+        for (int i = 0; i < value.length() && !enclose; i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == ',') {
+                enclose = true;
+            } else if (c == '\n' || c == '\r') {
+                lineBreak = true;
+            } else if (lineBreak) {
+                enclose = true;
             }
+        }
 
-            this.currentRow.append(value);
+        if (enclose) {
+            builder.append('"');
+        }
+        // If double-quotes are used to enclose fields, then a double-quote
+        // appearing inside a field must be escaped by preceding it with
+        // another double quote.
+        int start = 0;
+        int quote = value.indexOf('"');
+        while (quote >= 0) {
+            builder.append(value, start, quote + 1).append('"');
+            start = quote + 1;
+            quote = value.indexOf('"', start);
+        }
+        builder.append(value, start, value.length());
+        if (enclose) {
+            builder.append('"');
         }
     }
 
@@ -178,6 +218,15 @@ public void setCharset(final String charset) {
         this.charset = charset;
     }
 
+    /**
+     * @return The name of the charset that is used as encoding for the export
+     *         file.
+     * @since 2.1
+     */
+    public String getCharset() {
+        return this.charset;
+    }
+
     /**
      * Defines the delimiter which should be used between columns.
      *
@@ -189,4 +238,12 @@ public void setCharset(final String charset) {
     public void setDelimiter(final String delimiter) {
         this.delimiter = delimiter;
     }
+
+    /**
+     * @return The delimiter that is used between columns.
+     * @since 2.1
+     */
+    public String getDelimiter() {
+        return this.delimiter;
+    }
 }
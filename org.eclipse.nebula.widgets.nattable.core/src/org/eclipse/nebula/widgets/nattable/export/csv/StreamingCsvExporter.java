@@ -0,0 +1,575 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.export.csv;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.collections.api.list.primitive.MutableIntList;
+import org.eclipse.collections.impl.factory.primitive.IntLists;
+import org.eclipse.nebula.widgets.nattable.config.IConfigRegistry;
+import org.eclipse.nebula.widgets.nattable.export.ExportConfigAttributes;
+import org.eclipse.nebula.widgets.nattable.export.IExportFormatter;
+import org.eclipse.nebula.widgets.nattable.export.IOutputStreamProvider;
+import org.eclipse.nebula.widgets.nattable.export.ITableExporter;
+import org.eclipse.nebula.widgets.nattable.layer.ILayer;
+import org.eclipse.nebula.widgets.nattable.layer.cell.ILayerCell;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Listener;
+import org.eclipse.swt.widgets.ProgressBar;
+import org.eclipse.swt.widgets.Shell;
+
+/**
+ * Streaming variant of the {@link CsvExporter} for large tables. It is used as
+ * {@link ITableExporter}, e.g. via
+ * {@link org.eclipse.nebula.widgets.nattable.export.NatExporter#exportSingleTable(ITableExporter, ILayer, IConfigRegistry)},
+ * and produces the same output as the {@link CsvExporter}.
+ * <p>
+ * The positions of the rows to export are snapshotted at the beginning and
+ * processed in chunks. The chunks are converted to CSV and encoded on a worker
+ * pool, and the encoded chunks are written in order via a
+ * {@link WritableByteChannel}. The number of chunks in flight is limited, so
+ * the memory consumption does not depend on the table size.
+ * </p>
+ * <p>
+ * If the export is started on the UI thread, which is the case when it is
+ * triggered via the NatExporter, the chunks are written by a background thread
+ * while the UI thread keeps processing events. The cell values are collected
+ * chunk by chunk on the UI thread, as layer stacks and display converters are
+ * in general not thread-safe, so the UI thread is only blocked for one chunk at
+ * a time and the progress bar is updated asynchronously. If the export is
+ * started on a non-UI thread, everything is done on the calling thread. If the
+ * layer stack and the configured converters are known to be thread-safe for
+ * reading, the cell access can also be performed in parallel on the worker pool
+ * via {@link #setParallelCellAccess(boolean)}.
+ * </p>
+ * <p>
+ * The export can be cancelled from any thread via {@link #cancel()} or by
+ * closing the progress dialog. The cancellation is checked between the chunks
+ * and causes
+ * {@link #exportTable(Shell, ProgressBar, OutputStream, ILayer, IConfigRegistry)}
+ * to stop with a {@link CancellationException}.
+ * </p>
+ *
+ * @since 2.1
+ */
+public class StreamingCsvExporter extends CsvExporter implements ITableExporter {
+
+    /**
+     * The default number of rows that are processed as one chunk.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    /**
+     * Marker for cells that are not exported because they are not visible.
+     */
+    private static final Object SKIP = new Object();
+
+    /**
+     * Listener that is informed about the export progress.
+     */
+    @FunctionalInterface
+    public interface IExportProgressListener {
+
+        /**
+         * Called after a chunk of rows is written. If the export was
+         * started on the UI thread, this is called on the background thread
+         * that writes the chunks, otherwise on the calling thread.
+         *
+         * @param exportedRows
+         *            The number of rows that are written.
+         * @param totalRows
+         *            The number of rows to export.
+         */
+        void exportProgress(int exportedRows, int totalRows);
+    }
+
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private boolean parallelCellAccess = false;
+    private IExportProgressListener progressListener;
+
+    private volatile boolean cancelled;
+
+    /**
+     * Creates a StreamingCsvExporter using the given stream provider which
+     * defines the destination for the export.
+     *
+     * @param outputStreamProvider
+     *            the used stream provider, if <code>null</code> a default
+     *            {@link org.eclipse.nebula.widgets.nattable.export.FileOutputStreamProvider}
+     *            will be used
+     */
+    public StreamingCsvExporter(IOutputStreamProvider outputStreamProvider) {
+        super(outputStreamProvider);
+    }
+
+    /**
+     * Creates a StreamingCsvExporter using a default
+     * {@link org.eclipse.nebula.widgets.nattable.export.FileOutputStreamProvider}
+     * to define the destination for the export.
+     */
+    public StreamingCsvExporter() {
+        super();
+    }
+
+    /**
+     * Creates a StreamingCsvExporter that exports to the file with the given
+     * path.
+     *
+     * @param filePath
+     *            the path of the export file
+     */
+    public StreamingCsvExporter(String filePath) {
+        super(filePath);
+    }
+
+    @Override
+    public void exportTable(
+            Shell shell,
+            ProgressBar progressBar,
+            OutputStream outputStream,
+            ILayer layer,
+            IConfigRegistry configRegistry) throws IOException {
+
+        this.cancelled = false;
+
+        final int[] rowPositions = getRowPositions(layer);
+        final Display display = Display.getCurrent();
+        if (display == null) {
+            // not called on a UI thread, so everything is done on the calling
+            // thread
+            writeChunks(null, null, outputStream, layer, configRegistry, rowPositions);
+            return;
+        }
+
+        // called on the UI thread, so the chunks are written by a background
+        // thread and the UI thread keeps processing events to update the
+        // progress, to collect the cell values chunk by chunk and to handle a
+        // cancel request
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final AtomicBoolean done = new AtomicBoolean();
+        Listener closeListener = event -> {
+            event.doit = false;
+            cancel();
+        };
+        if (progressBar != null) {
+            progressBar.getShell().addListener(SWT.Close, closeListener);
+        }
+
+        Thread exportThread = THREAD_FACTORY.newThread(() -> {
+            try {
+                writeChunks(display, progressBar, outputStream, layer, configRegistry, rowPositions);
+            } catch (Throwable t) {
+                failure.set(t);
+            } finally {
+                done.set(true);
+                if (!display.isDisposed()) {
+                    display.wake();
+                }
+            }
+        });
+        exportThread.start();
+
+        try {
+            while (!done.get() && !display.isDisposed()) {
+                if (!display.readAndDispatch()) {
+                    display.sleep();
+                }
+            }
+        } finally {
+            if (progressBar != null && !progressBar.isDisposed()) {
+                progressBar.getShell().removeListener(SWT.Close, closeListener);
+            }
+        }
+
+        Throwable t = failure.get();
+        if (t instanceof IOException) {
+            throw (IOException) t;
+        } else if (t instanceof RuntimeException) {
+            throw (RuntimeException) t;
+        } else if (t instanceof Error) {
+            throw (Error) t;
+        } else if (t != null) {
+            throw new IOException(t);
+        }
+    }
+
+    /**
+     * Exports the given rows chunk by chunk. The cell values of a chunk are
+     * collected on the UI thread of the given {@link Display}, or on the
+     * current thread if no {@link Display} is given, converted and encoded on
+     * the worker pool and written in order on the current thread. The
+     * cancellation is checked between the chunks.
+     */
+    private void writeChunks(
+            Display display,
+            ProgressBar progressBar,
+            OutputStream outputStream,
+            ILayer layer,
+            IConfigRegistry configRegistry,
+            int[] rowPositions) throws IOException {
+
+        final Charset charset = Charset.forName(getCharset());
+        final String delimiter = getDelimiter();
+        final int columnCount = layer.getColumnCount();
+        final int chunkCount = (rowPositions.length + this.chunkSize - 1) / this.chunkSize;
+
+        WritableByteChannel channel = (outputStream instanceof FileOutputStream)
+                ? ((FileOutputStream) outputStream).getChannel()
+                : Channels.newChannel(outputStream);
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, this.parallelism), THREAD_FACTORY);
+        ThreadLocal<CharsetEncoder> encoders = ThreadLocal.withInitial(() -> charset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE));
+
+        Deque<Future<ByteBuffer>> pending = new ArrayDeque<>();
+        int maxPending = Math.max(2, 2 * this.parallelism);
+        int exportedRows = 0;
+
+        try {
+            for (int chunk = 0; chunk < chunkCount; chunk++) {
+                checkCancelled();
+
+                final int from = chunk * this.chunkSize;
+                final int to = Math.min(from + this.chunkSize, rowPositions.length);
+
+                Callable<ByteBuffer> task;
+                if (this.parallelCellAccess) {
+                    task = () -> encodeRows(collectValues(layer, configRegistry, rowPositions, from, to, columnCount),
+                            delimiter, encoders.get());
+                } else {
+                    final Object[][] values = collectValues(display, layer, configRegistry, rowPositions, from, to, columnCount);
+                    task = () -> encodeRows(values, delimiter, encoders.get());
+                }
+                pending.add(executor.submit(task));
+
+                while (pending.size() >= maxPending || (!pending.isEmpty() && pending.peek().isDone())) {
+                    exportedRows = writeNext(pending, channel, exportedRows, rowPositions, display, progressBar);
+                }
+            }
+
+            while (!pending.isEmpty()) {
+                checkCancelled();
+                exportedRows = writeNext(pending, channel, exportedRows, rowPositions, display, progressBar);
+            }
+        } finally {
+            for (Future<ByteBuffer> future : pending) {
+                future.cancel(true);
+            }
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Waits for the next chunk in order, writes it and reports the progress.
+     * The progress bar is updated asynchronously on the UI thread if a
+     * {@link Display} is given.
+     *
+     * @return The number of exported rows after the chunk was written.
+     */
+    private int writeNext(
+            Deque<Future<ByteBuffer>> pending,
+            WritableByteChannel channel,
+            int exportedRows,
+            int[] rowPositions,
+            Display display,
+            ProgressBar progressBar) throws IOException {
+
+        ByteBuffer buffer;
+        try {
+            buffer = pending.poll().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Export interrupted"); //$NON-NLS-1$
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+
+        int result = Math.min(exportedRows + this.chunkSize, rowPositions.length);
+        if (progressBar != null) {
+            final int selection = rowPositions[result - 1];
+            if (display == null) {
+                progressBar.setSelection(selection);
+            } else if (!display.isDisposed()) {
+                display.asyncExec(() -> {
+                    if (!progressBar.isDisposed()) {
+                        progressBar.setSelection(selection);
+                    }
+                });
+            }
+        }
+        if (this.progressListener != null) {
+            this.progressListener.exportProgress(result, rowPositions.length);
+        }
+        return result;
+    }
+
+    /**
+     * Collects the positions of the rows that are exported. Rows without
+     * height or outside the layer are skipped, like in the export via
+     * {@link org.eclipse.nebula.widgets.nattable.export.ILayerExporter}.
+     */
+    private int[] getRowPositions(ILayer layer) {
+        int layerHeight = layer.getHeight();
+        int rowCount = layer.getRowCount();
+        MutableIntList rowPositions = IntLists.mutable.empty();
+        for (int rowPosition = 0; rowPosition < rowCount; rowPosition++) {
+            if (layer.getRowHeightByPosition(rowPosition) > 0
+                    && layer.getStartYOfRowPosition(rowPosition) < layerHeight) {
+                rowPositions.add(rowPosition);
+            }
+        }
+        return rowPositions.toArray();
+    }
+
+    /**
+     * Collects the formatted export values of the given rows on the UI thread
+     * of the given {@link Display}, or on the current thread if no
+     * {@link Display} is given. As only one chunk is collected at once, the UI
+     * thread is never blocked for the whole export.
+     */
+    private Object[][] collectValues(
+            Display display,
+            ILayer layer,
+            IConfigRegistry configRegistry,
+            int[] rowPositions,
+            int from,
+            int to,
+            int columnCount) {
+
+        if (display == null) {
+            return collectValues(layer, configRegistry, rowPositions, from, to, columnCount);
+        }
+
+        Object[][][] result = new Object[1][][];
+        RuntimeException[] failure = new RuntimeException[1];
+        display.syncExec(() -> {
+            try {
+                result[0] = collectValues(layer, configRegistry, rowPositions, from, to, columnCount);
+            } catch (RuntimeException e) {
+                failure[0] = e;
+            }
+        });
+        if (failure[0] != null) {
+            throw failure[0];
+        }
+        return result[0];
+    }
+
+    /**
+     * Collects the formatted export values of the given rows. Cells that are
+     * not visible are marked with {@link #SKIP}, not existing cells with
+     * <code>null</code>.
+     */
+    private Object[][] collectValues(
+            ILayer layer,
+            IConfigRegistry configRegistry,
+            int[] rowPositions,
+            int from,
+            int to,
+            int columnCount) {
+
+        Object[][] values = new Object[to - from][];
+        for (int i = from; i < to; i++) {
+            checkCancelled();
+
+            Object[] rowValues = new Object[columnCount];
+            for (int columnPosition = 0; columnPosition < columnCount; columnPosition++) {
+                ILayerCell cell = layer.getCellByPosition(columnPosition, rowPositions[i]);
+                if (cell == null) {
+                    rowValues[columnPosition] = SKIP;
+                } else {
+                    Rectangle bounds = cell.getBounds();
+                    if (bounds.width == 0 || bounds.height == 0) {
+                        rowValues[columnPosition] = SKIP;
+                    } else {
+                        IExportFormatter exportFormatter = configRegistry.getConfigAttribute(
+                                ExportConfigAttributes.EXPORT_FORMATTER,
+                                cell.getDisplayMode(),
+                                cell.getConfigLabels());
+                        rowValues[columnPosition] = exportFormatter.formatForExport(cell, configRegistry);
+                    }
+                }
+            }
+            values[i - from] = rowValues;
+        }
+        return values;
+    }
+
+    /**
+     * Converts the given rows to CSV and encodes them. Every row is encoded
+     * separately to produce exactly the same bytes as encoding the rows one by
+     * one.
+     */
+    private ByteBuffer encodeRows(Object[][] values, String delimiter, CharsetEncoder encoder) throws CharacterCodingException {
+        StringBuilder row = new StringBuilder(256);
+        ByteBuffer result = ByteBuffer.allocate(values.length * 64);
+
+        for (Object[] rowValues : values) {
+            checkCancelled();
+
+            row.setLength(0);
+            boolean cellInserted = false;
+            for (Object value : rowValues) {
+                if (value == SKIP) {
+                    continue;
+                }
+                if (cellInserted) {
+                    row.append(delimiter);
+                } else {
+                    cellInserted = true;
+                }
+                if (value != null) {
+                    appendValue(row, value);
+                }
+            }
+            row.append(LINE_SEPARATOR);
+
+            encoder.reset();
+            ByteBuffer encoded = encoder.encode(CharBuffer.wrap(row));
+            if (result.remaining() < encoded.remaining()) {
+                ByteBuffer grown = ByteBuffer.allocate(Math.max(result.capacity() * 2, result.position() + encoded.remaining()));
+                result.flip();
+                grown.put(result);
+                result = grown;
+            }
+            result.put(encoded);
+        }
+
+        result.flip();
+        return result;
+    }
+
+    private void checkCancelled() {
+        if (this.cancelled) {
+            throw new CancellationException("Export cancelled"); //$NON-NLS-1$
+        }
+    }
+
+    /**
+     * Cancels a running export. Can be called from any thread.
+     */
+    public void cancel() {
+        this.cancelled = true;
+    }
+
+    /**
+     * @return <code>true</code> if the last export was cancelled.
+     */
+    public boolean isCancelled() {
+        return this.cancelled;
+    }
+
+    /**
+     * @param chunkSize
+     *            The number of rows that are processed as one chunk. The
+     *            default is {@link #DEFAULT_CHUNK_SIZE}.
+     */
+    public void setChunkSize(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunk size needs to be greater than 0"); //$NON-NLS-1$
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * @param parallelism
+     *            The number of worker threads used to convert the chunks. The
+     *            default is the number of available processors.
+     */
+    public void setParallelism(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism needs to be greater than 0"); //$NON-NLS-1$
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Configure whether the cell values are collected from the layer on the
+     * worker threads. This should only be enabled if the layer stack, the
+     * export formatters and the display converters can be accessed
+     * concurrently, which is for example not the case for the
+     * {@link org.eclipse.nebula.widgets.nattable.data.convert.DefaultDateDisplayConverter}.
+     *
+     * @param parallelCellAccess
+     *            <code>true</code> to collect the cell values on the worker
+     *            threads, <code>false</code> to collect them on the calling
+     *            thread. The default is <code>false</code>.
+     */
+    public void setParallelCellAccess(boolean parallelCellAccess) {
+        this.parallelCellAccess = parallelCellAccess;
+    }
+
+    /**
+     * @param progressListener
+     *            The listener that should be informed about the export
+     *            progress, can be <code>null</code>.
+     */
+    public void setProgressListener(IExportProgressListener progressListener) {
+        this.progressListener = progressListener;
+    }
+
+    private static final ThreadFactory THREAD_FACTORY = new ExportThreadFactory();
+
+    /**
+     * Creates daemon threads, so a stuck export does not prevent the
+     * application from shutting down.
+     */
+    private static class ExportThreadFactory implements ThreadFactory {
+
+        private static final AtomicInteger COUNTER = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "NatTable CSV export " + COUNTER.incrementAndGet()); //$NON-NLS-1$
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
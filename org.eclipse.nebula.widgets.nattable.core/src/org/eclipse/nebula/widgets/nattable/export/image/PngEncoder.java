@@ -0,0 +1,297 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.export.image;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.graphics.RGB;
+
+/**
+ * Streaming encoder for 8 bit RGB PNG images that are produced in horizontal
+ * bands. Every band is filtered and deflated independently via
+ * {@link #encodeBand(ImageData[], int, int, int, boolean)}, which can be done
+ * in parallel. The encoded bands are then written in order via
+ * {@link #writeBand(EncodedBand)}. As every band except the last one ends with
+ * a sync flush, the concatenated bands form a single valid zlib stream, whose
+ * checksum is combined from the checksums of the bands.
+ */
+final class PngEncoder {
+
+    private static final byte[] SIGNATURE = { (byte) 137, 80, 78, 71, 13, 10, 26, 10 };
+
+    /**
+     * zlib header for deflate with a 32K window and default compression.
+     */
+    private static final byte[] ZLIB_HEADER = { 0x78, (byte) 0x9C };
+
+    private static final int ADLER_BASE = 65521;
+
+    private static final byte FILTER_SUB = 1;
+
+    private final OutputStream out;
+    private final int width;
+    private final int height;
+
+    private long adler = 1;
+
+    /**
+     * The result of encoding a band of scanlines.
+     */
+    static final class EncodedBand {
+
+        final byte[] data;
+        final long adler;
+        final long length;
+
+        EncodedBand(byte[] data, long adler, long length) {
+            this.data = data;
+            this.adler = adler;
+            this.length = length;
+        }
+    }
+
+    /**
+     * @param out
+     *            The stream to write the PNG to.
+     * @param width
+     *            The width of the image.
+     * @param height
+     *            The height of the image.
+     */
+    PngEncoder(OutputStream out, int width, int height) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Image width and height need to be greater than 0"); //$NON-NLS-1$
+        }
+        this.out = out;
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Writes the PNG signature, the image header and the start of the zlib
+     * stream.
+     */
+    void writeHeader() throws IOException {
+        this.out.write(SIGNATURE);
+
+        byte[] header = new byte[13];
+        putInt(header, 0, this.width);
+        putInt(header, 4, this.height);
+        // bit depth 8, color type RGB, compression, filter and interlace 0
+        header[8] = 8;
+        header[9] = 2;
+        writeChunk(this.out, "IHDR", header, header.length); //$NON-NLS-1$
+        writeChunk(this.out, "IDAT", ZLIB_HEADER, ZLIB_HEADER.length); //$NON-NLS-1$
+    }
+
+    /**
+     * Writes the next band of the image.
+     *
+     * @param band
+     *            The encoded band.
+     */
+    void writeBand(EncodedBand band) throws IOException {
+        writeChunk(this.out, "IDAT", band.data, band.data.length); //$NON-NLS-1$
+        this.adler = combineAdler(this.adler, band.adler, band.length);
+    }
+
+    /**
+     * Writes the checksum of the zlib stream and the image end.
+     */
+    void writeEnd() throws IOException {
+        byte[] checksum = new byte[4];
+        putInt(checksum, 0, (int) this.adler);
+        writeChunk(this.out, "IDAT", checksum, checksum.length); //$NON-NLS-1$
+        writeChunk(this.out, "IEND", new byte[0], 0); //$NON-NLS-1$
+    }
+
+    /**
+     * Encodes a complete image of the given size.
+     *
+     * @param data
+     *            The image data, which can be larger than the encoded image.
+     * @param width
+     *            The width of the image to encode.
+     * @param height
+     *            The height of the image to encode.
+     * @return The bytes of the PNG image.
+     */
+    static byte[] encodeImage(ImageData data, int width, int height) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        PngEncoder encoder = new PngEncoder(result, width, height);
+        encoder.writeHeader();
+        encoder.writeBand(encodeBand(new ImageData[] { data }, width, width, height, true));
+        encoder.writeEnd();
+        return result.toByteArray();
+    }
+
+    /**
+     * Converts a band of tiles to filtered scanlines and deflates them.
+     *
+     * @param tiles
+     *            The image data of the tiles in the band from left to right.
+     *            The tiles can be larger than the area they cover.
+     * @param tileWidth
+     *            The width of a tile in the image.
+     * @param width
+     *            The width of the image.
+     * @param bandHeight
+     *            The number of scanlines in the band.
+     * @param last
+     *            <code>true</code> if this is the last band of the image.
+     * @return The encoded band.
+     */
+    static EncodedBand encodeBand(ImageData[] tiles, int tileWidth, int width, int bandHeight, boolean last) {
+        int stride = 1 + width * 3;
+        byte[] raw = new byte[stride * bandHeight];
+        int[] pixels = new int[tileWidth];
+
+        for (int column = 0; column < tiles.length; column++) {
+            int x = column * tileWidth;
+            int w = Math.min(tileWidth, width - x);
+            for (int y = 0; y < bandHeight; y++) {
+                copyRgb(tiles[column], y, w, pixels, raw, y * stride + 1 + x * 3);
+            }
+        }
+
+        for (int y = 0; y < bandHeight; y++) {
+            int start = y * stride;
+            raw[start] = FILTER_SUB;
+            for (int i = start + stride - 1; i > start + 3; i--) {
+                raw[i] -= raw[i - 3];
+            }
+        }
+
+        Adler32 checksum = new Adler32();
+        checksum.update(raw, 0, raw.length);
+
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try {
+            deflater.setInput(raw);
+            if (last) {
+                deflater.finish();
+            }
+            ByteArrayOutputStream result = new ByteArrayOutputStream(raw.length / 4 + 64);
+            byte[] buffer = new byte[64 * 1024];
+            int count;
+            if (last) {
+                while (!deflater.finished()) {
+                    count = deflater.deflate(buffer);
+                    result.write(buffer, 0, count);
+                }
+            } else {
+                // the band is completely consumed once the sync flush does not
+                // fill the buffer anymore
+                do {
+                    count = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+                    result.write(buffer, 0, count);
+                } while (count == buffer.length);
+            }
+            return new EncodedBand(result.toByteArray(), checksum.getValue(), raw.length);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Copies one line of the given image data as RGB bytes.
+     */
+    private static void copyRgb(ImageData data, int y, int w, int[] pixels, byte[] target, int offset) {
+        data.getPixels(0, y, w, pixels, 0);
+        PaletteData palette = data.palette;
+        int index = offset;
+        if (palette.isDirect) {
+            for (int i = 0; i < w; i++) {
+                int pixel = pixels[i];
+                target[index++] = (byte) shift(pixel & palette.redMask, palette.redShift);
+                target[index++] = (byte) shift(pixel & palette.greenMask, palette.greenShift);
+                target[index++] = (byte) shift(pixel & palette.blueMask, palette.blueShift);
+            }
+        } else {
+            for (int i = 0; i < w; i++) {
+                RGB rgb = palette.colors[pixels[i]];
+                target[index++] = (byte) rgb.red;
+                target[index++] = (byte) rgb.green;
+                target[index++] = (byte) rgb.blue;
+            }
+        }
+    }
+
+    private static int shift(int value, int shift) {
+        return (shift < 0) ? value >>> -shift : value << shift;
+    }
+
+    /**
+     * Combines the Adler-32 checksums of two consecutive byte sequences, like
+     * <code>adler32_combine</code> of zlib.
+     *
+     * @param adler1
+     *            The checksum of the first sequence.
+     * @param adler2
+     *            The checksum of the second sequence.
+     * @param length2
+     *            The length of the second sequence.
+     * @return The checksum of the concatenated sequences.
+     */
+    static long combineAdler(long adler1, long adler2, long length2) {
+        long remainder = length2 % ADLER_BASE;
+        long sum1 = adler1 & 0xFFFF;
+        long sum2 = (remainder * sum1) % ADLER_BASE;
+        sum1 += (adler2 & 0xFFFF) + ADLER_BASE - 1;
+        sum2 += ((adler1 >> 16) & 0xFFFF) + ((adler2 >> 16) & 0xFFFF) + ADLER_BASE - remainder;
+        if (sum1 >= ADLER_BASE) {
+            sum1 -= ADLER_BASE;
+        }
+        if (sum1 >= ADLER_BASE) {
+            sum1 -= ADLER_BASE;
+        }
+        if (sum2 >= (ADLER_BASE << 1)) {
+            sum2 -= (ADLER_BASE << 1);
+        }
+        if (sum2 >= ADLER_BASE) {
+            sum2 -= ADLER_BASE;
+        }
+        return sum1 | (sum2 << 16);
+    }
+
+    private static void writeChunk(OutputStream out, String type, byte[] data, int length) throws IOException {
+        byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+        byte[] value = new byte[4];
+
+        putInt(value, 0, length);
+        out.write(value);
+        out.write(typeBytes);
+        out.write(data, 0, length);
+
+        CRC32 crc = new CRC32();
+        crc.update(typeBytes);
+        crc.update(data, 0, length);
+        putInt(value, 0, (int) crc.getValue());
+        out.write(value);
+    }
+
+    private static void putInt(byte[] target, int offset, int value) {
+        target[offset] = (byte) (value >>> 24);
+        target[offset + 1] = (byte) (value >>> 16);
+        target[offset + 2] = (byte) (value >>> 8);
+        target[offset + 3] = (byte) value;
+    }
+}
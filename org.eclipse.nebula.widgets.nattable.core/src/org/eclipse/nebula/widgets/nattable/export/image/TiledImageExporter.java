@@ -0,0 +1,343 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.export.image;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.eclipse.nebula.widgets.nattable.config.IConfigRegistry;
+import org.eclipse.nebula.widgets.nattable.export.FileOutputStreamProvider;
+import org.eclipse.nebula.widgets.nattable.export.IOutputStreamProvider;
+import org.eclipse.nebula.widgets.nattable.export.image.PngEncoder.EncodedBand;
+import org.eclipse.nebula.widgets.nattable.layer.ILayer;
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.graphics.Transform;
+import org.eclipse.swt.widgets.ProgressBar;
+import org.eclipse.swt.widgets.Shell;
+
+/**
+ * Variant of the {@link ImageExporter} for large tables. Instead of painting
+ * the whole table into one image, the table is painted tile by tile into a
+ * single reused image of the configured tile size. The painted tiles are
+ * encoded as PNG on a worker pool, while the calling thread paints the next
+ * tiles and writes the encoded tiles in order. The number of tiles in flight
+ * is limited, so the memory consumption does not depend on the table height.
+ * <p>
+ * By default the result is a single PNG image that is written progressively
+ * band by band, where a band is one row of tiles. As PNG stores the image in
+ * full scanlines, a band is kept in memory until it is encoded, so the memory
+ * consumption still depends on the table width. Via
+ * {@link #setTileArchive(boolean)} the tiles can instead be written as
+ * separate PNG images into a ZIP archive, which keeps the memory consumption
+ * independent of the table size. The archive contains a
+ * <code>tiles.properties</code> file with the image and tile dimensions,
+ * followed by the tiles as <code>tiles/&lt;row&gt;_&lt;column&gt;.png</code>.
+ * </p>
+ *
+ * @since 2.1
+ */
+public class TiledImageExporter extends ImageExporter {
+
+    /**
+     * The default width and height of a tile.
+     */
+    public static final int DEFAULT_TILE_SIZE = 1024;
+
+    private static final String DEFAULT_IMAGE_NAME = "table_export.png"; //$NON-NLS-1$
+    private static final String PNG_FILTER_NAME = "PNG files (*.png)"; //$NON-NLS-1$
+    private static final String PNG_FILTER_EXT = "*.png"; //$NON-NLS-1$
+
+    /**
+     * Writes an encoded tile or band on the calling thread.
+     */
+    @FunctionalInterface
+    private interface TileWriter {
+        void write() throws IOException;
+    }
+
+    private int tileSize = DEFAULT_TILE_SIZE;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private boolean tileArchive = false;
+
+    /**
+     * Creates a TiledImageExporter that uses a default
+     * {@link FileOutputStreamProvider} for PNG files.
+     */
+    public TiledImageExporter() {
+        this(new FileOutputStreamProvider(DEFAULT_IMAGE_NAME, new String[] { PNG_FILTER_NAME }, new String[] { PNG_FILTER_EXT }));
+    }
+
+    /**
+     * Create a new TiledImageExporter that uses the given IOutputStreamProvider
+     * for retrieving the OutputStream.
+     *
+     * @param outputStreamProvider
+     *            The IOutputStreamProvider used to retrieve the OutputStream to
+     *            write the export to.
+     */
+    public TiledImageExporter(IOutputStreamProvider outputStreamProvider) {
+        super(outputStreamProvider);
+    }
+
+    /**
+     * Export the given layer of the nattable tile by tile. This method must be
+     * called after the execution of the
+     * {@link ImageExporter#getOutputStream(Shell)} method.
+     *
+     * @param shell
+     *            The parent shell
+     * @param layer
+     *            The layer to be exported
+     * @param configRegistry
+     *            The configure registry of the nattable
+     */
+    @Override
+    public void exportTable(
+            Shell shell,
+            ProgressBar progressBar,
+            OutputStream outputStream,
+            ILayer layer,
+            IConfigRegistry configRegistry) throws IOException {
+
+        if (null == shell || null == layer || null == configRegistry) {
+            throw new IllegalArgumentException("Shell, layer or configure registry must not be null"); //$NON-NLS-1$
+        }
+
+        final int width = layer.getWidth();
+        final int height = layer.getHeight();
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+
+        final int size = this.tileSize;
+        final int tileColumns = (width + size - 1) / size;
+        final int tileRows = (height + size - 1) / size;
+
+        ZipOutputStream zip = null;
+        PngEncoder png = null;
+        if (this.tileArchive) {
+            zip = new ZipOutputStream(outputStream);
+            writeEntry(zip, "tiles.properties", getTileDescriptor(width, height, tileColumns, tileRows)); //$NON-NLS-1$
+        } else {
+            png = new PngEncoder(outputStream, width, height);
+            png.writeHeader();
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(this.parallelism, new ExportThreadFactory());
+        Deque<Future<TileWriter>> pending = new ArrayDeque<>();
+        int maxPending = Math.max(2, 2 * this.parallelism);
+
+        Image image = new Image(shell.getDisplay(), size, size);
+        GC gc = new GC(image);
+        Transform transform = new Transform(shell.getDisplay());
+
+        try {
+            for (int row = 0; row < tileRows; row++) {
+                final int y = row * size;
+                final int h = Math.min(size, height - y);
+                final ImageData[] tiles = new ImageData[tileColumns];
+
+                for (int column = 0; column < tileColumns; column++) {
+                    final int x = column * size;
+                    final int w = Math.min(size, width - x);
+                    tiles[column] = paintTile(layer, configRegistry, gc, transform, image, x, y, w, h);
+
+                    if (zip != null) {
+                        final ZipOutputStream out = zip;
+                        final ImageData tile = tiles[column];
+                        final String name = "tiles/" + row + "_" + column + ".png"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+                        pending.add(executor.submit(() -> {
+                            byte[] data = PngEncoder.encodeImage(tile, w, h);
+                            return () -> writeEntry(out, name, data);
+                        }));
+                        tiles[column] = null;
+                        writePending(pending, maxPending);
+                    }
+                }
+
+                if (png != null) {
+                    final PngEncoder out = png;
+                    final boolean last = (row == tileRows - 1);
+                    pending.add(executor.submit(() -> {
+                        EncodedBand band = PngEncoder.encodeBand(tiles, size, width, h, last);
+                        return () -> out.writeBand(band);
+                    }));
+                    writePending(pending, maxPending);
+                }
+
+                if (progressBar != null) {
+                    progressBar.setSelection(layer.getRowPositionByY(y + h - 1));
+                }
+            }
+
+            writePending(pending, 1);
+
+            if (zip != null) {
+                zip.finish();
+            } else {
+                png.writeEnd();
+            }
+        } finally {
+            for (Future<TileWriter> future : pending) {
+                future.cancel(true);
+            }
+            executor.shutdownNow();
+            transform.dispose();
+            gc.dispose();
+            image.dispose();
+        }
+    }
+
+    /**
+     * Paints the given region of the layer into the tile image and returns
+     * the painted pixels.
+     */
+    private ImageData paintTile(
+            ILayer layer,
+            IConfigRegistry configRegistry,
+            GC gc,
+            Transform transform,
+            Image image,
+            int x, int y, int w, int h) {
+
+        transform.identity();
+        transform.translate(-x, -y);
+        gc.setTransform(transform);
+        gc.fillRectangle(x, y, w, h);
+
+        layer.getLayerPainter().paintLayer(layer, gc, 0, 0, new Rectangle(x, y, w, h), configRegistry);
+
+        return image.getImageData();
+    }
+
+    /**
+     * Writes finished tiles in order until less than the given number of tiles
+     * is pending.
+     */
+    private void writePending(Deque<Future<TileWriter>> pending, int maxPending) throws IOException {
+        while (pending.size() >= maxPending || (!pending.isEmpty() && pending.peek().isDone())) {
+            TileWriter writer;
+            try {
+                writer = pending.poll().get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Export interrupted"); //$NON-NLS-1$
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                } else if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new IOException(cause);
+            }
+            writer.write();
+        }
+    }
+
+    private byte[] getTileDescriptor(int width, int height, int tileColumns, int tileRows) {
+        String descriptor = "width=" + width + "\n" //$NON-NLS-1$ //$NON-NLS-2$
+                + "height=" + height + "\n" //$NON-NLS-1$ //$NON-NLS-2$
+                + "tileSize=" + this.tileSize + "\n" //$NON-NLS-1$ //$NON-NLS-2$
+                + "columns=" + tileColumns + "\n" //$NON-NLS-1$ //$NON-NLS-2$
+                + "rows=" + tileRows + "\n"; //$NON-NLS-1$ //$NON-NLS-2$
+        return descriptor.getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Writes an uncompressed entry, as the PNG tiles are already compressed.
+     */
+    private static void writeEntry(ZipOutputStream zip, String name, byte[] data) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(data);
+
+        ZipEntry entry = new ZipEntry(name);
+        entry.setMethod(ZipEntry.STORED);
+        entry.setSize(data.length);
+        entry.setCompressedSize(data.length);
+        entry.setCrc(crc.getValue());
+
+        zip.putNextEntry(entry);
+        zip.write(data);
+        zip.closeEntry();
+    }
+
+    /**
+     * @param tileSize
+     *            The width and height of the tiles that are painted and
+     *            encoded. The default is {@link #DEFAULT_TILE_SIZE}.
+     */
+    public void setTileSize(int tileSize) {
+        if (tileSize <= 0) {
+            throw new IllegalArgumentException("tile size needs to be greater than 0"); //$NON-NLS-1$
+        }
+        this.tileSize = tileSize;
+    }
+
+    /**
+     * @param parallelism
+     *            The number of worker threads used to encode the tiles. The
+     *            default is the number of available processors.
+     */
+    public void setParallelism(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism needs to be greater than 0"); //$NON-NLS-1$
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Configure whether the tiles are written as separate PNG images into a
+     * ZIP archive instead of a single PNG image.
+     *
+     * @param tileArchive
+     *            <code>true</code> to write a ZIP archive of PNG tiles,
+     *            <code>false</code> to write a single PNG image. The default is
+     *            <code>false</code>.
+     */
+    public void setTileArchive(boolean tileArchive) {
+        this.tileArchive = tileArchive;
+    }
+
+    /**
+     * Creates daemon threads, so a stuck export does not prevent the
+     * application from shutting down.
+     */
+    private static class ExportThreadFactory implements ThreadFactory {
+
+        private static final AtomicInteger COUNTER = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "NatTable image export " + COUNTER.incrementAndGet()); //$NON-NLS-1$
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
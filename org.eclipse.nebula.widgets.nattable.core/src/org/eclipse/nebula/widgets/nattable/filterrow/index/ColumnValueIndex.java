@@ -0,0 +1,272 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.filterrow.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.nebula.widgets.nattable.data.IDataProvider;
+import org.eclipse.nebula.widgets.nattable.data.convert.IDisplayConverter;
+
+/**
+ * Dictionary encoded index of the values of a single column. Every distinct
+ * value gets a value id and every row stores the id of its value. Additionally
+ * the rows per value are stored as posting lists, which are the row indexes
+ * sorted by value id, so the rows of a value are a consecutive range. Filter
+ * criteria only depend on the value of a cell, so they can be evaluated once
+ * per distinct value instead of once per row.
+ */
+class ColumnValueIndex {
+
+    /**
+     * If the matched values cover less rows than this fraction of the row
+     * count, the filter result is created from the posting lists instead of
+     * scanning all rows.
+     */
+    private static final int POSTING_UNION_DIVISOR = 8;
+
+    final int columnIndex;
+
+    /**
+     * The distinct values, the position in the list is the value id.
+     */
+    private final List<Object> values = new ArrayList<>();
+
+    private final Map<Object, Integer> valueIds = new HashMap<>();
+
+    /**
+     * The value id per row.
+     */
+    private final int[] rowValueIds;
+
+    /**
+     * The row indexes ordered by value id, <code>null</code> if they need to
+     * be rebuilt because values were updated.
+     */
+    private int[] postingRows;
+
+    /**
+     * The start offset in {@link #postingRows} per value id, with an
+     * additional last element that contains the row count.
+     */
+    private int[] postingOffsets;
+
+    /**
+     * The display values per value id, created lazily for the converter in
+     * {@link #displayConverter}.
+     */
+    private final List<String> displayValues = new ArrayList<>();
+
+    /**
+     * The upper case display values per value id for case insensitive
+     * matching, created lazily for the converter in {@link #displayConverter}.
+     */
+    private final List<String> normalizedDisplayValues = new ArrayList<>();
+
+    private IDisplayConverter displayConverter;
+
+    /**
+     * Creates the index for the given column by reading all values from the
+     * given {@link IDataProvider}.
+     *
+     * @param dataProvider
+     *            The {@link IDataProvider} to read the values from.
+     * @param columnIndex
+     *            The index of the column to index.
+     */
+    ColumnValueIndex(IDataProvider dataProvider, int columnIndex) {
+        this.columnIndex = columnIndex;
+        int rowCount = dataProvider.getRowCount();
+        this.rowValueIds = new int[rowCount];
+        for (int row = 0; row < rowCount; row++) {
+            this.rowValueIds[row] = getOrCreateValueId(dataProvider.getDataValue(columnIndex, row));
+        }
+    }
+
+    /**
+     * @return The number of indexed rows.
+     */
+    int getRowCount() {
+        return this.rowValueIds.length;
+    }
+
+    /**
+     * @return The number of distinct values.
+     */
+    int getValueCount() {
+        return this.values.size();
+    }
+
+    /**
+     * @param valueId
+     *            The value id.
+     * @return The canonical value for the given value id.
+     */
+    Object getValue(int valueId) {
+        return this.values.get(valueId);
+    }
+
+    /**
+     * @param row
+     *            The row index.
+     * @return The value id of the value in the given row.
+     */
+    int getValueId(int row) {
+        return this.rowValueIds[row];
+    }
+
+    /**
+     * Returns the display value for the given value id. Display values are
+     * converted only once per distinct value and cached as long as the same
+     * converter is used.
+     *
+     * @param valueId
+     *            The value id.
+     * @param converter
+     *            The {@link IDisplayConverter} to convert the canonical value.
+     * @return The display value for the given value id, an empty String if
+     *         the converted value is <code>null</code>.
+     */
+    String getDisplayValue(int valueId, IDisplayConverter converter) {
+        if (converter != this.displayConverter) {
+            this.displayValues.clear();
+            this.normalizedDisplayValues.clear();
+            this.displayConverter = converter;
+        }
+        while (this.displayValues.size() <= valueId) {
+            this.displayValues.add(null);
+        }
+        String displayValue = this.displayValues.get(valueId);
+        if (displayValue == null) {
+            Object value = this.values.get(valueId);
+            Object converted = (converter != null) ? converter.canonicalToDisplayValue(value) : value;
+            displayValue = (converted != null) ? converted.toString() : ""; //$NON-NLS-1$
+            this.displayValues.set(valueId, displayValue);
+        }
+        return displayValue;
+    }
+
+    /**
+     * Returns the display value for the given value id converted to upper case
+     * character by character, for case insensitive text matching.
+     *
+     * @param valueId
+     *            The value id.
+     * @param converter
+     *            The {@link IDisplayConverter} to convert the canonical value.
+     * @return The upper case display value for the given value id.
+     */
+    String getNormalizedDisplayValue(int valueId, IDisplayConverter converter) {
+        String displayValue = getDisplayValue(valueId, converter);
+        while (this.normalizedDisplayValues.size() <= valueId) {
+            this.normalizedDisplayValues.add(null);
+        }
+        String normalized = this.normalizedDisplayValues.get(valueId);
+        if (normalized == null) {
+            normalized = IndexFilterStrategy.normalize(displayValue);
+            this.normalizedDisplayValues.set(valueId, normalized);
+        }
+        return normalized;
+    }
+
+    /**
+     * Updates the value of the given row.
+     *
+     * @param row
+     *            The row index.
+     * @param value
+     *            The new value.
+     * @return The value id of the new value.
+     */
+    int update(int row, Object value) {
+        int oldValueId = this.rowValueIds[row];
+        int newValueId = getOrCreateValueId(value);
+        if (oldValueId != newValueId) {
+            this.rowValueIds[row] = newValueId;
+            this.postingRows = null;
+        }
+        return newValueId;
+    }
+
+    /**
+     * Creates the bitmap of all rows whose value id is contained in the given
+     * set of value ids. Uses the posting lists of the matched values if they
+     * only cover a small part of the rows, otherwise the value ids of all rows
+     * are scanned.
+     *
+     * @param matchedValueIds
+     *            The ids of the matching values.
+     * @return The bitmap of the matching rows.
+     */
+    RowBitmap getRows(BitSet matchedValueIds) {
+        if (this.postingRows == null) {
+            buildPostings();
+        }
+
+        long matchedRows = 0;
+        for (int id = matchedValueIds.nextSetBit(0); id >= 0; id = matchedValueIds.nextSetBit(id + 1)) {
+            matchedRows += this.postingOffsets[id + 1] - this.postingOffsets[id];
+        }
+
+        long[] words = new long[(this.rowValueIds.length + Long.SIZE - 1) / Long.SIZE];
+        if (matchedRows < this.rowValueIds.length / POSTING_UNION_DIVISOR) {
+            for (int id = matchedValueIds.nextSetBit(0); id >= 0; id = matchedValueIds.nextSetBit(id + 1)) {
+                for (int p = this.postingOffsets[id]; p < this.postingOffsets[id + 1]; p++) {
+                    int row = this.postingRows[p];
+                    words[row >>> 6] |= 1L << row;
+                }
+            }
+        } else {
+            for (int row = 0; row < this.rowValueIds.length; row++) {
+                if (matchedValueIds.get(this.rowValueIds[row])) {
+                    words[row >>> 6] |= 1L << row;
+                }
+            }
+        }
+        return RowBitmap.fromWords(words);
+    }
+
+    /**
+     * Builds the posting lists via counting sort of the rows by value id.
+     */
+    private void buildPostings() {
+        int[] offsets = new int[this.values.size() + 1];
+        for (int valueId : this.rowValueIds) {
+            offsets[valueId + 1]++;
+        }
+        for (int i = 1; i < offsets.length; i++) {
+            offsets[i] += offsets[i - 1];
+        }
+        int[] next = Arrays.copyOf(offsets, offsets.length - 1);
+        int[] rows = new int[this.rowValueIds.length];
+        for (int row = 0; row < this.rowValueIds.length; row++) {
+            rows[next[this.rowValueIds[row]]++] = row;
+        }
+        this.postingOffsets = offsets;
+        this.postingRows = rows;
+    }
+
+    private int getOrCreateValueId(Object value) {
+        Integer valueId = this.valueIds.get(value);
+        if (valueId == null) {
+            valueId = this.values.size();
+            this.values.add(value);
+            this.valueIds.put(value, valueId);
+        }
+        return valueId;
+    }
+}
@@ -0,0 +1,331 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.filterrow.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.eclipse.nebula.widgets.nattable.command.ILayerCommand;
+import org.eclipse.nebula.widgets.nattable.coordinate.Range;
+import org.eclipse.nebula.widgets.nattable.edit.event.DataUpdateEvent;
+import org.eclipse.nebula.widgets.nattable.filterrow.FilterRowDataProvider;
+import org.eclipse.nebula.widgets.nattable.layer.AbstractLayerTransform;
+import org.eclipse.nebula.widgets.nattable.layer.ILayer;
+import org.eclipse.nebula.widgets.nattable.layer.IUniqueIndexLayer;
+import org.eclipse.nebula.widgets.nattable.layer.command.ConfigureScalingCommand;
+import org.eclipse.nebula.widgets.nattable.layer.event.ColumnStructuralRefreshEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.ILayerEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.IStructuralChangeEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.RowStructuralRefreshEvent;
+import org.eclipse.nebula.widgets.nattable.sort.index.IndexSortLayer;
+
+/**
+ * Layer that hides the rows of the underlying layer that do not match the
+ * filter of an {@link IndexFilterStrategy}. It is the core alternative to a
+ * GlazedLists FilterList and does not modify the underlying data. The row
+ * indexes of the underlying layer need to match the row indexes of the
+ * IDataProvider that is filtered by the {@link IndexFilterStrategy}.
+ * <p>
+ * The {@link IndexFilterStrategy} needs to be also set to the
+ * {@link FilterRowDataProvider} of the filter row. To combine filtering with
+ * sorting, this layer needs to be placed on top of the {@link IndexSortLayer},
+ * as the sort layer requires the underlying row indexes to match the row
+ * indexes of the data provider.
+ * </p>
+ *
+ * <pre>
+ * IndexFilterStrategy&lt;T&gt; filterStrategy = new IndexFilterStrategy&lt;&gt;(bodyDataProvider, configRegistry);
+ * IndexSortLayer sortLayer = new IndexSortLayer(bodyDataLayer, sortModel);
+ * IndexFilterLayer filterLayer = new IndexFilterLayer(sortLayer, filterStrategy);
+ * ...
+ * FilterRowHeaderComposite&lt;T&gt; filterRowHeaderLayer =
+ *         new FilterRowHeaderComposite&lt;&gt;(filterStrategy, columnHeaderLayer, columnHeaderDataProvider, configRegistry);
+ * </pre>
+ *
+ * @since 2.1
+ */
+public class IndexFilterLayer extends AbstractLayerTransform implements IUniqueIndexLayer {
+
+    private final IUniqueIndexLayer underlying;
+
+    private final IndexFilterStrategy<?> filterStrategy;
+
+    private final Runnable filterChangeListener = this::handleFilterChange;
+
+    /**
+     * The underlying row positions of the rows that match the filter in
+     * ascending order. <code>null</code> if not calculated yet.
+     */
+    private int[] visibleRowPositions;
+
+    /**
+     * Caching of the starting y positions of the visible rows. Position Y
+     * contains the start y coordinate of the row at position Y, the last
+     * element contains the height of the layer. <code>null</code> if not
+     * calculated yet.
+     */
+    private int[] startYCache;
+
+    /**
+     * Creates an {@link IndexFilterLayer} on top of the given layer.
+     *
+     * @param underlyingLayer
+     *            The underlying layer whose row indexes match the row indexes
+     *            of the IDataProvider of the given filter strategy.
+     * @param filterStrategy
+     *            The {@link IndexFilterStrategy} that determines the rows
+     *            that match the filter.
+     */
+    public IndexFilterLayer(IUniqueIndexLayer underlyingLayer, IndexFilterStrategy<?> filterStrategy) {
+        super(underlyingLayer);
+        this.underlying = underlyingLayer;
+        this.filterStrategy = filterStrategy;
+        this.filterStrategy.addFilterChangeListener(this.filterChangeListener);
+    }
+
+    /**
+     * @return The {@link IndexFilterStrategy} that is used by this layer.
+     */
+    public IndexFilterStrategy<?> getFilterStrategy() {
+        return this.filterStrategy;
+    }
+
+    @Override
+    public void handleLayerEvent(ILayerEvent event) {
+        if (event instanceof IStructuralChangeEvent) {
+            IStructuralChangeEvent structuralChangeEvent = (IStructuralChangeEvent) event;
+            if (structuralChangeEvent.isVerticalStructureChanged()) {
+                invalidateCache();
+                if (this.filterStrategy.isFiltered()
+                        && this.filterStrategy.getIndexedRowCount() != this.underlying.getRowCount()) {
+                    // rows were added or removed, so the filter needs to be
+                    // applied again, the filter change triggers a refresh
+                    // event
+                    this.filterStrategy.refresh();
+                    if (structuralChangeEvent.isHorizontalStructureChanged()) {
+                        fireLayerEvent(new ColumnStructuralRefreshEvent(this));
+                    }
+                    return;
+                }
+            }
+        } else if (event instanceof DataUpdateEvent) {
+            DataUpdateEvent updateEvent = (DataUpdateEvent) event;
+            ILayer eventLayer = updateEvent.getLayer();
+            this.filterStrategy.updateRows(eventLayer.getRowIndexByPosition(updateEvent.getRowPosition()));
+        }
+        super.handleLayerEvent(event);
+    }
+
+    @Override
+    public boolean doCommand(ILayerCommand command) {
+        if (command instanceof ConfigureScalingCommand) {
+            // if we change the scaling, the cached start coordinates become
+            // invalid
+            this.startYCache = null;
+        }
+        return super.doCommand(command);
+    }
+
+    @Override
+    public void dispose() {
+        this.filterStrategy.removeFilterChangeListener(this.filterChangeListener);
+        super.dispose();
+    }
+
+    private void handleFilterChange() {
+        invalidateCache();
+        fireLayerEvent(new RowStructuralRefreshEvent(this));
+    }
+
+    // Columns
+
+    @Override
+    public int getColumnPositionByIndex(int columnIndex) {
+        return this.underlying.getColumnPositionByIndex(columnIndex);
+    }
+
+    // Rows
+
+    @Override
+    public int getRowCount() {
+        if (!this.filterStrategy.isFiltered()) {
+            return super.getRowCount();
+        }
+        return getVisibleRowPositions().length;
+    }
+
+    @Override
+    public int getPreferredRowCount() {
+        return getRowCount();
+    }
+
+    @Override
+    public int getRowPositionByIndex(int rowIndex) {
+        if (!this.filterStrategy.isFiltered()) {
+            return this.underlying.getRowPositionByIndex(rowIndex);
+        }
+        if (!this.filterStrategy.isRowIndexMatching(rowIndex)) {
+            return -1;
+        }
+        return underlyingToLocalRowPosition(this.underlying, this.underlying.getRowPositionByIndex(rowIndex));
+    }
+
+    @Override
+    public int localToUnderlyingRowPosition(int localRowPosition) {
+        if (!this.filterStrategy.isFiltered()) {
+            return super.localToUnderlyingRowPosition(localRowPosition);
+        }
+        int[] positions = getVisibleRowPositions();
+        if (localRowPosition < 0 || localRowPosition >= positions.length) {
+            return -1;
+        }
+        return positions[localRowPosition];
+    }
+
+    @Override
+    public int underlyingToLocalRowPosition(ILayer sourceUnderlyingLayer, int underlyingRowPosition) {
+        if (!this.filterStrategy.isFiltered()) {
+            return super.underlyingToLocalRowPosition(sourceUnderlyingLayer, underlyingRowPosition);
+        }
+        if (underlyingRowPosition < 0) {
+            return -1;
+        }
+        int position = Arrays.binarySearch(getVisibleRowPositions(), underlyingRowPosition);
+        return (position >= 0) ? position : -1;
+    }
+
+    @Override
+    public Collection<Range> underlyingToLocalRowPositions(ILayer sourceUnderlyingLayer, Collection<Range> underlyingRowPositionRanges) {
+        if (!this.filterStrategy.isFiltered()) {
+            return super.underlyingToLocalRowPositions(sourceUnderlyingLayer, underlyingRowPositionRanges);
+        }
+        int[] positions = getVisibleRowPositions();
+        Collection<Range> localRowPositionRanges = new ArrayList<>(underlyingRowPositionRanges.size());
+        for (Range underlyingRowPositionRange : underlyingRowPositionRanges) {
+            int start = lowerBound(positions, underlyingRowPositionRange.start);
+            int end = lowerBound(positions, underlyingRowPositionRange.end);
+            if (start < end) {
+                localRowPositionRanges.add(new Range(start, end));
+            }
+        }
+        return localRowPositionRanges;
+    }
+
+    /**
+     * @return The index of the first element in the given sorted array that
+     *         is greater or equal to the given value.
+     */
+    private static int lowerBound(int[] values, int value) {
+        int position = Arrays.binarySearch(values, value);
+        return (position >= 0) ? position : -position - 1;
+    }
+
+    // Height
+
+    @Override
+    public int getHeight() {
+        if (!this.filterStrategy.isFiltered()) {
+            return super.getHeight();
+        }
+        int[] startY = getStartYCache();
+        return startY[startY.length - 1];
+    }
+
+    @Override
+    public int getPreferredHeight() {
+        return getHeight();
+    }
+
+    // Y
+
+    @Override
+    public int getRowPositionByY(int y) {
+        if (!this.filterStrategy.isFiltered()) {
+            return super.getRowPositionByY(y);
+        }
+        int[] startY = getStartYCache();
+        int rowCount = startY.length - 1;
+        if (y < 0 || y >= startY[rowCount]) {
+            return -1;
+        }
+        int position = Arrays.binarySearch(startY, 0, rowCount, y);
+        if (position < 0) {
+            return -position - 2;
+        }
+        // skip rows with a height of 0
+        while (position < rowCount - 1 && startY[position + 1] == y) {
+            position++;
+        }
+        return position;
+    }
+
+    @Override
+    public int getStartYOfRowPosition(int rowPosition) {
+        if (!this.filterStrategy.isFiltered()) {
+            return super.getStartYOfRowPosition(rowPosition);
+        }
+        int[] startY = getStartYCache();
+        if (rowPosition < 0 || rowPosition >= startY.length) {
+            return -1;
+        }
+        return startY[rowPosition];
+    }
+
+    // Cache
+
+    private int[] getVisibleRowPositions() {
+        int[] positions = this.visibleRowPositions;
+        if (positions == null) {
+            int underlyingRowCount = this.underlying.getRowCount();
+            positions = new int[this.filterStrategy.getMatchingRowCount()];
+            int count = 0;
+            for (int rowPosition = 0; rowPosition < underlyingRowCount; rowPosition++) {
+                if (this.filterStrategy.isRowIndexMatching(this.underlying.getRowIndexByPosition(rowPosition))) {
+                    if (count == positions.length) {
+                        positions = Arrays.copyOf(positions, Math.max(16, count * 2));
+                    }
+                    positions[count++] = rowPosition;
+                }
+            }
+            if (count != positions.length) {
+                positions = Arrays.copyOf(positions, count);
+            }
+            this.visibleRowPositions = positions;
+        }
+        return positions;
+    }
+
+    private int[] getStartYCache() {
+        int[] startY = this.startYCache;
+        if (startY == null) {
+            int[] positions = getVisibleRowPositions();
+            startY = new int[positions.length + 1];
+            for (int rowPosition = 0; rowPosition < positions.length; rowPosition++) {
+                startY[rowPosition + 1] = startY[rowPosition]
+                        + this.underlying.getRowHeightByPosition(positions[rowPosition]);
+            }
+            this.startYCache = startY;
+        }
+        return startY;
+    }
+
+    /**
+     * Clears the cached visible row positions and the start y coordinates of
+     * the rows.
+     */
+    protected void invalidateCache() {
+        this.visibleRowPositions = null;
+        this.startYCache = null;
+    }
+}
@@ -0,0 +1,694 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.filterrow.index;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Scanner;
+import java.util.Set;
+import java.util.StringTokenizer;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.IntPredicate;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.eclipse.nebula.widgets.nattable.config.DefaultComparator;
+import org.eclipse.nebula.widgets.nattable.config.IConfigRegistry;
+import org.eclipse.nebula.widgets.nattable.data.IDataProvider;
+import org.eclipse.nebula.widgets.nattable.data.convert.IDisplayConverter;
+import org.eclipse.nebula.widgets.nattable.edit.EditConstants;
+import org.eclipse.nebula.widgets.nattable.filterrow.FilterRowDataLayer;
+import org.eclipse.nebula.widgets.nattable.filterrow.IFilterStrategy;
+import org.eclipse.nebula.widgets.nattable.filterrow.ParseResult;
+import org.eclipse.nebula.widgets.nattable.filterrow.ParseResult.MatchType;
+import org.eclipse.nebula.widgets.nattable.filterrow.TextMatchingMode;
+import org.eclipse.nebula.widgets.nattable.filterrow.config.FilterRowConfigAttributes;
+import org.eclipse.nebula.widgets.nattable.style.DisplayMode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link IFilterStrategy} that filters the rows of an {@link IDataProvider}
+ * without GlazedLists. The filter result is used by the
+ * {@link IndexFilterLayer} to hide the rows that do not match.
+ * <p>
+ * For every filtered column a dictionary of the distinct column values is
+ * created once. As all filter criteria only depend on the cell value, they are
+ * evaluated once per distinct value, and the matching rows are collected in a
+ * compressed row bitmap. The results of the filtered columns are intersected
+ * to get the rows that match all filters. If a text filter is narrowed, e.g.
+ * by typing additional characters in the filter row with the
+ * {@link TextMatchingMode#CONTAINS} mode, only the values that matched the
+ * previous filter are checked again.
+ * </p>
+ * <p>
+ * The filter semantics are the same as in the GlazedLists based
+ * <code>DefaultGlazedListsFilterStrategy</code>, using the same configuration
+ * attributes of {@link FilterRowConfigAttributes}. Collections as filter
+ * values, as set by the filter row combo box, match the values whose display
+ * value is contained in the collection.
+ * </p>
+ *
+ * @param <T>
+ *            The type of the row objects.
+ *
+ * @see IndexFilterLayer
+ * @since 2.1
+ */
+public class IndexFilterStrategy<T> implements IFilterStrategy<T> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(IndexFilterStrategy.class);
+
+    protected final IDataProvider dataProvider;
+    protected final IConfigRegistry configRegistry;
+
+    /**
+     * The value indexes of the columns that were filtered, kept for
+     * subsequent filter operations.
+     */
+    private final Map<Integer, ColumnValueIndex> columnValueIndexes = new HashMap<>();
+
+    /**
+     * The currently applied filters per column index.
+     */
+    private Map<Integer, ColumnFilter> columnFilters = new HashMap<>();
+
+    /**
+     * The last applied filter values, used to re-apply the filter on refresh.
+     */
+    private Map<Integer, Object> filterIndexToObjectMap = new HashMap<>();
+
+    /**
+     * The row indexes that match all filters, <code>null</code> if no filter
+     * is applied.
+     */
+    private volatile BitSet matchingRows;
+
+    private final List<Runnable> filterChangeListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Create a new {@link IndexFilterStrategy}.
+     *
+     * @param dataProvider
+     *            The {@link IDataProvider} whose rows should be filtered.
+     * @param configRegistry
+     *            The {@link IConfigRegistry} necessary to retrieve filter
+     *            specific configurations.
+     */
+    public IndexFilterStrategy(IDataProvider dataProvider, IConfigRegistry configRegistry) {
+        this.dataProvider = dataProvider;
+        this.configRegistry = configRegistry;
+    }
+
+    @Override
+    public void applyFilter(Map<Integer, Object> filterIndexToObjectMap) {
+        this.filterIndexToObjectMap = new HashMap<>(filterIndexToObjectMap);
+
+        try {
+            int rowCount = this.dataProvider.getRowCount();
+            for (ColumnValueIndex index : this.columnValueIndexes.values()) {
+                if (index.getRowCount() != rowCount) {
+                    // the rows have changed, all indexes need to be rebuilt
+                    this.columnValueIndexes.clear();
+                    this.columnFilters.clear();
+                    break;
+                }
+            }
+
+            Map<Integer, ColumnFilter> filters = new HashMap<>();
+            for (Entry<Integer, Object> entry : filterIndexToObjectMap.entrySet()) {
+                int columnIndex = entry.getKey();
+                ColumnFilter filter = createColumnFilter(
+                        columnIndex, entry.getValue(), this.columnFilters.get(columnIndex));
+                if (filter != null) {
+                    filters.put(columnIndex, filter);
+                }
+            }
+            this.columnFilters = filters;
+            this.matchingRows = intersect(filters.values());
+        } catch (Exception e) {
+            LOG.error("Error on applying a filter", e); //$NON-NLS-1$
+        }
+
+        fireFilterChanged();
+    }
+
+    /**
+     * Rebuilds the value indexes and applies the current filter again. Needs to
+     * be called if the rows of the {@link IDataProvider} have changed, e.g.
+     * if rows where added or removed. Changes of single values can be applied
+     * via {@link #updateRows(int...)}.
+     */
+    public void refresh() {
+        this.columnValueIndexes.clear();
+        this.columnFilters.clear();
+        applyFilter(this.filterIndexToObjectMap);
+    }
+
+    /**
+     * Updates the value indexes and the filter result for the given rows
+     * after their values have changed. If the number of rows has changed, the
+     * indexes are rebuilt via {@link #refresh()}.
+     *
+     * @param rowIndexes
+     *            The indexes of the rows whose values have changed.
+     */
+    public void updateRows(int... rowIndexes) {
+        if (this.columnValueIndexes.isEmpty()) {
+            return;
+        }
+
+        int rowCount = this.dataProvider.getRowCount();
+        if (this.columnValueIndexes.values().iterator().next().getRowCount() != rowCount) {
+            refresh();
+            return;
+        }
+
+        BitSet matching = this.matchingRows;
+        boolean changed = false;
+        for (int row : rowIndexes) {
+            if (row < 0 || row >= rowCount) {
+                continue;
+            }
+            for (ColumnValueIndex index : this.columnValueIndexes.values()) {
+                index.update(row, this.dataProvider.getDataValue(index.columnIndex, row));
+            }
+
+            if (matching != null) {
+                boolean match = true;
+                for (ColumnFilter filter : this.columnFilters.values()) {
+                    match &= filter.update(row);
+                }
+                if (match != matching.get(row)) {
+                    matching.set(row, match);
+                    changed = true;
+                }
+            }
+        }
+
+        if (changed) {
+            fireFilterChanged();
+        }
+    }
+
+    /**
+     * @return <code>true</code> if a filter is applied that restricts the
+     *         rows.
+     */
+    public boolean isFiltered() {
+        return this.matchingRows != null;
+    }
+
+    /**
+     * @param rowIndex
+     *            The row index to check.
+     * @return <code>true</code> if the row with the given index matches the
+     *         current filter, or if no filter is applied.
+     */
+    public boolean isRowIndexMatching(int rowIndex) {
+        BitSet matching = this.matchingRows;
+        return matching == null || matching.get(rowIndex);
+    }
+
+    /**
+     * @return The number of rows that match the current filter, or the number
+     *         of rows in the {@link IDataProvider} if no filter is applied.
+     */
+    public int getMatchingRowCount() {
+        BitSet matching = this.matchingRows;
+        return matching != null ? matching.cardinality() : this.dataProvider.getRowCount();
+    }
+
+    /**
+     * @return The number of rows that were indexed for the current filter, or
+     *         -1 if no filter is applied.
+     */
+    int getIndexedRowCount() {
+        for (ColumnFilter filter : this.columnFilters.values()) {
+            return filter.index.getRowCount();
+        }
+        return -1;
+    }
+
+    /**
+     * Register a listener that is informed if the filter result has changed.
+     *
+     * @param listener
+     *            The listener to add.
+     */
+    void addFilterChangeListener(Runnable listener) {
+        this.filterChangeListeners.add(listener);
+    }
+
+    /**
+     * @param listener
+     *            The listener to remove.
+     */
+    void removeFilterChangeListener(Runnable listener) {
+        this.filterChangeListeners.remove(listener);
+    }
+
+    private void fireFilterChanged() {
+        for (Runnable listener : this.filterChangeListeners) {
+            listener.run();
+        }
+    }
+
+    /**
+     * Retrieves the {@link IDisplayConverter} that should be used for
+     * converting the body content to string for text match filter operations.
+     * Checks {@link FilterRowConfigAttributes#FILTER_CONTENT_DISPLAY_CONVERTER}
+     * first and falls back to
+     * {@link FilterRowConfigAttributes#FILTER_DISPLAY_CONVERTER}.
+     *
+     * @param columnIndex
+     *            The column index of the column for which a filter should be
+     *            applied.
+     * @return The {@link IDisplayConverter} to be used for converting the body
+     *         content to string for text match filter operations.
+     */
+    protected IDisplayConverter getFilterContentDisplayConverter(int columnIndex) {
+        IDisplayConverter displayConverter = this.configRegistry.getConfigAttribute(
+                FilterRowConfigAttributes.FILTER_CONTENT_DISPLAY_CONVERTER,
+                DisplayMode.NORMAL,
+                FilterRowDataLayer.FILTER_ROW_COLUMN_LABEL_PREFIX + columnIndex);
+
+        if (displayConverter == null) {
+            displayConverter = this.configRegistry.getConfigAttribute(
+                    FilterRowConfigAttributes.FILTER_DISPLAY_CONVERTER,
+                    DisplayMode.NORMAL,
+                    FilterRowDataLayer.FILTER_ROW_COLUMN_LABEL_PREFIX + columnIndex);
+        }
+
+        return displayConverter;
+    }
+
+    /**
+     * Converts the object inserted to the filter cell at the given column
+     * position to the corresponding String.
+     *
+     * @param columnIndex
+     *            The column index of the filter cell that should be processed.
+     * @param object
+     *            The value set to the filter cell that needs to be converted
+     * @return The String value for the given filter value.
+     */
+    protected String getStringFromColumnObject(int columnIndex, Object object) {
+        IDisplayConverter displayConverter = this.configRegistry.getConfigAttribute(
+                FilterRowConfigAttributes.FILTER_DISPLAY_CONVERTER,
+                DisplayMode.NORMAL,
+                FilterRowDataLayer.FILTER_ROW_COLUMN_LABEL_PREFIX + columnIndex);
+        Object displayValue = (displayConverter != null) ? displayConverter.canonicalToDisplayValue(object) : object;
+        return (displayValue != null) ? displayValue.toString() : ""; //$NON-NLS-1$
+    }
+
+    private ColumnValueIndex getColumnValueIndex(int columnIndex) {
+        return this.columnValueIndexes.computeIfAbsent(
+                columnIndex,
+                col -> new ColumnValueIndex(this.dataProvider, col));
+    }
+
+    /**
+     * Creates the filter for the given column.
+     *
+     * @param columnIndex
+     *            The column index.
+     * @param filterObject
+     *            The filter value set in the filter row.
+     * @param previous
+     *            The filter that was previously applied for the column, can be
+     *            <code>null</code>.
+     * @return The filter for the column, <code>null</code> if the filter value
+     *         does not restrict the rows.
+     */
+    @SuppressWarnings("unchecked")
+    private ColumnFilter createColumnFilter(int columnIndex, Object filterObject, ColumnFilter previous) {
+        if (filterObject == null || EditConstants.SELECT_ALL_ITEMS_VALUE.equals(filterObject)) {
+            return null;
+        }
+
+        String labelName = FilterRowDataLayer.FILTER_ROW_COLUMN_LABEL_PREFIX + columnIndex;
+        String textDelimiter = this.configRegistry.getConfigAttribute(
+                FilterRowConfigAttributes.TEXT_DELIMITER, DisplayMode.NORMAL, labelName);
+        TextMatchingMode textMatchingMode = this.configRegistry.getConfigAttribute(
+                FilterRowConfigAttributes.TEXT_MATCHING_MODE, DisplayMode.NORMAL, labelName);
+        if (textMatchingMode == null) {
+            textMatchingMode = TextMatchingMode.CONTAINS;
+        }
+        IDisplayConverter converter = getFilterContentDisplayConverter(columnIndex);
+        Comparator<?> configuredComparator = this.configRegistry.getConfigAttribute(
+                FilterRowConfigAttributes.FILTER_COMPARATOR, DisplayMode.NORMAL, labelName);
+        Comparator<Object> comparator = (configuredComparator != null)
+                ? (Comparator<Object>) configuredComparator
+                : DefaultComparator.getInstance();
+
+        ColumnFilter filter = new ColumnFilter(
+                getColumnValueIndex(columnIndex), filterObject, textDelimiter, textMatchingMode, converter, comparator);
+        if (filter.equals(previous)) {
+            return previous;
+        }
+
+        ColumnValueIndex index = filter.index;
+        if (filterObject instanceof Collection) {
+            Set<String> selected = new HashSet<>();
+            for (Object value : (Collection<Object>) filterObject) {
+                selected.add(getStringFromColumnObject(columnIndex, value));
+            }
+            filter.matcher = valueId -> selected.contains(index.getDisplayValue(valueId, converter));
+        } else {
+            List<IntPredicate> textMatchers = new ArrayList<>();
+            List<IntPredicate> thresholdMatchers = new ArrayList<>();
+            boolean matchAllText = false;
+
+            List<ParseResult> parseResults = parse(
+                    getStringFromColumnObject(columnIndex, filterObject), textDelimiter, textMatchingMode);
+            for (ParseResult parseResult : parseResults) {
+                MatchType matchType = parseResult.getMatchOperation();
+                String valueToMatch = parseResult.getValueToMatch();
+                if (matchType == MatchType.NONE) {
+                    if (valueToMatch == null || valueToMatch.isEmpty()) {
+                        matchAllText = true;
+                        continue;
+                    }
+                    try {
+                        textMatchers.add(createTextMatcher(index, converter, textMatchingMode, valueToMatch));
+                    } catch (PatternSyntaxException e) {
+                        LOG.warn("Error on applying a filter: {}", e.getLocalizedMessage()); //$NON-NLS-1$
+                    }
+                } else {
+                    Object threshold = (converter != null) ? converter.displayToCanonicalValue(valueToMatch) : valueToMatch;
+                    thresholdMatchers.add(createThresholdMatcher(index, threshold, comparator, matchType));
+                }
+            }
+
+            if (matchAllText) {
+                textMatchers.clear();
+            }
+            if (textMatchers.isEmpty() && thresholdMatchers.isEmpty()) {
+                return null;
+            }
+
+            // the text matchers are combined via OR, the threshold matchers
+            // via AND
+            filter.matcher = valueId -> {
+                for (IntPredicate thresholdMatcher : thresholdMatchers) {
+                    if (!thresholdMatcher.test(valueId)) {
+                        return false;
+                    }
+                }
+                if (textMatchers.isEmpty()) {
+                    return true;
+                }
+                for (IntPredicate textMatcher : textMatchers) {
+                    if (textMatcher.test(valueId)) {
+                        return true;
+                    }
+                }
+                return false;
+            };
+
+            if (parseResults.size() == 1
+                    && textMatchers.size() == 1
+                    && (textMatchingMode == TextMatchingMode.CONTAINS || textMatchingMode == TextMatchingMode.STARTS_WITH)) {
+                filter.refinableText = normalize(parseResults.get(0).getValueToMatch());
+            }
+        }
+
+        filter.evaluate(previous);
+        return filter;
+    }
+
+    private static IntPredicate createTextMatcher(
+            ColumnValueIndex index, IDisplayConverter converter, TextMatchingMode textMatchingMode, String text) {
+        switch (textMatchingMode) {
+            case REGULAR_EXPRESSION:
+                Pattern pattern = Pattern.compile(text);
+                return valueId -> pattern.matcher(index.getDisplayValue(valueId, converter)).matches();
+            case EXACT:
+                String exact = normalize(text);
+                return valueId -> index.getNormalizedDisplayValue(valueId, converter).equals(exact);
+            case STARTS_WITH:
+                String prefix = normalize(text);
+                return valueId -> index.getNormalizedDisplayValue(valueId, converter).startsWith(prefix);
+            default:
+                String part = normalize(text);
+                return valueId -> index.getNormalizedDisplayValue(valueId, converter).contains(part);
+        }
+    }
+
+    private static IntPredicate createThresholdMatcher(
+            ColumnValueIndex index, Object threshold, Comparator<Object> comparator, MatchType matchType) {
+        return valueId -> {
+            int result = comparator.compare(index.getValue(valueId), threshold);
+            switch (matchType) {
+                case GREATER_THAN:
+                    return result > 0;
+                case GREATER_THAN_OR_EQUAL:
+                    return result >= 0;
+                case LESS_THAN:
+                    return result < 0;
+                case LESS_THAN_OR_EQUAL:
+                    return result <= 0;
+                case NOT_EQUAL:
+                    return result != 0;
+                default:
+                    return result == 0;
+            }
+        };
+    }
+
+    /**
+     * Converts the given text for case insensitive comparison. Characters are
+     * converted one by one, so the length of the text does not change.
+     */
+    static String normalize(String text) {
+        char[] chars = null;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            char upper = Character.toUpperCase(c);
+            if (c != upper) {
+                if (chars == null) {
+                    chars = text.toCharArray();
+                }
+                chars[i] = upper;
+            }
+        }
+        return (chars != null) ? new String(chars) : text;
+    }
+
+    /**
+     * Parses the filter text like the GlazedLists <code>FilterRowUtils</code>.
+     * Expressions like '&gt;20' are only supported for
+     * {@link TextMatchingMode#REGULAR_EXPRESSION}.
+     */
+    static List<ParseResult> parse(String text, String textDelimiter, TextMatchingMode textMatchingMode) {
+        List<ParseResult> parseResults = new ArrayList<>();
+        if (textDelimiter != null) {
+            StringTokenizer tok = new StringTokenizer(text, textDelimiter);
+            while (tok.hasMoreTokens()) {
+                parseResults.add(parse(tok.nextToken(), textMatchingMode));
+            }
+        } else {
+            parseResults.add(parse(text, textMatchingMode));
+        }
+        return parseResults;
+    }
+
+    private static ParseResult parse(String text, TextMatchingMode textMatchingMode) {
+        ParseResult parseResult = new ParseResult();
+        if (textMatchingMode == TextMatchingMode.REGULAR_EXPRESSION) {
+            try (Scanner scanner = new Scanner(text.trim())) {
+                String opToken = scanner.findWithinHorizon(Pattern.compile("<>|([>|<]?=?)"), 2); //$NON-NLS-1$
+                if (opToken != null && !opToken.isEmpty()) {
+                    parseResult.setMatchType(MatchType.parse(opToken));
+                    while (scanner.hasNext()) {
+                        parseResult.setValueToMatch(scanner.next());
+                    }
+                } else {
+                    parseResult.setValueToMatch(text);
+                }
+            }
+        } else {
+            parseResult.setMatchType(MatchType.NONE);
+            parseResult.setValueToMatch(text);
+        }
+        return parseResult;
+    }
+
+    /**
+     * Intersects the row bitmaps of the given filters, starting with the most
+     * selective one.
+     *
+     * @return The matching rows, <code>null</code> if no filter is given.
+     */
+    private static BitSet intersect(Collection<ColumnFilter> filters) {
+        if (filters.isEmpty()) {
+            return null;
+        }
+        List<ColumnFilter> sorted = new ArrayList<>(filters);
+        sorted.sort(Comparator.comparingInt(f -> f.rows.getCardinality()));
+        RowBitmap result = sorted.get(0).rows;
+        for (int i = 1; i < sorted.size() && !result.isEmpty(); i++) {
+            result = RowBitmap.and(result, sorted.get(i).rows);
+        }
+        return result.toBitSet();
+    }
+
+    /**
+     * The filter of a single column.
+     */
+    private static class ColumnFilter {
+
+        final ColumnValueIndex index;
+        final Object filterObject;
+        final String textDelimiter;
+        final TextMatchingMode textMatchingMode;
+        final IDisplayConverter converter;
+        final Comparator<Object> comparator;
+
+        /**
+         * Checks whether the value with a given value id matches the filter.
+         */
+        IntPredicate matcher;
+
+        /**
+         * The normalized filter text if the filter is a single text filter
+         * whose results can be refined, <code>null</code> otherwise.
+         */
+        String refinableText;
+
+        /**
+         * The ids of the matching values. Values with an id greater or equal
+         * to {@link #evaluatedValueCount} are not evaluated yet.
+         */
+        BitSet matchedValueIds;
+        int evaluatedValueCount;
+
+        /**
+         * The rows that match this filter.
+         */
+        RowBitmap rows;
+
+        ColumnFilter(ColumnValueIndex index, Object filterObject, String textDelimiter,
+                TextMatchingMode textMatchingMode, IDisplayConverter converter, Comparator<Object> comparator) {
+            this.index = index;
+            this.filterObject = filterObject;
+            this.textDelimiter = textDelimiter;
+            this.textMatchingMode = textMatchingMode;
+            this.converter = converter;
+            this.comparator = comparator;
+        }
+
+        /**
+         * Evaluates the filter for all values of the column. If the given
+         * previous filter is a text filter that is refined by this filter,
+         * only the values that matched the previous filter are checked.
+         */
+        void evaluate(ColumnFilter previous) {
+            int valueCount = this.index.getValueCount();
+            this.matchedValueIds = new BitSet(valueCount);
+            if (isRefinementOf(previous)) {
+                BitSet candidates = previous.matchedValueIds;
+                for (int id = candidates.nextSetBit(0); id >= 0; id = candidates.nextSetBit(id + 1)) {
+                    if (this.matcher.test(id)) {
+                        this.matchedValueIds.set(id);
+                    }
+                }
+                for (int id = previous.evaluatedValueCount; id < valueCount; id++) {
+                    if (this.matcher.test(id)) {
+                        this.matchedValueIds.set(id);
+                    }
+                }
+            } else {
+                for (int id = 0; id < valueCount; id++) {
+                    if (this.matcher.test(id)) {
+                        this.matchedValueIds.set(id);
+                    }
+                }
+            }
+            this.evaluatedValueCount = valueCount;
+            this.rows = this.index.getRows(this.matchedValueIds);
+        }
+
+        private boolean isRefinementOf(ColumnFilter previous) {
+            if (previous == null
+                    || previous.index != this.index
+                    || this.refinableText == null
+                    || previous.refinableText == null
+                    || previous.textMatchingMode != this.textMatchingMode
+                    || previous.converter != this.converter) {
+                return false;
+            }
+            return (this.textMatchingMode == TextMatchingMode.STARTS_WITH)
+                    ? this.refinableText.startsWith(previous.refinableText)
+                    : this.refinableText.contains(previous.refinableText);
+        }
+
+        /**
+         * Updates the filter result for the given row after its value has
+         * changed.
+         *
+         * @return <code>true</code> if the row matches this filter.
+         */
+        boolean update(int row) {
+            int valueId = this.index.getValueId(row);
+            boolean match;
+            if (valueId < this.evaluatedValueCount) {
+                match = this.matchedValueIds.get(valueId);
+            } else {
+                // new value that was not evaluated yet
+                for (int id = this.evaluatedValueCount; id <= valueId; id++) {
+                    if (this.matcher.test(id)) {
+                        this.matchedValueIds.set(id);
+                    }
+                }
+                this.evaluatedValueCount = valueId + 1;
+                match = this.matchedValueIds.get(valueId);
+            }
+
+            if (match) {
+                this.rows.add(row);
+            } else {
+                this.rows.remove(row);
+            }
+            return match;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof ColumnFilter)) {
+                return false;
+            }
+            ColumnFilter other = (ColumnFilter) obj;
+            return this.index == other.index
+                    && Objects.equals(this.filterObject, other.filterObject)
+                    && Objects.equals(this.textDelimiter, other.textDelimiter)
+                    && this.textMatchingMode == other.textMatchingMode
+                    && this.converter == other.converter
+                    && this.comparator == other.comparator;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.filterObject, this.textDelimiter, this.textMatchingMode);
+        }
+    }
+}
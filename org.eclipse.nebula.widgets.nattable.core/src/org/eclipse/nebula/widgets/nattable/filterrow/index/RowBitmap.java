@@ -0,0 +1,444 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.filterrow.index;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.IntConsumer;
+
+/**
+ * Compressed bitmap of row indexes. The row index space is split into chunks
+ * of 65536 rows. Every chunk that contains rows is stored in a container that
+ * is either a sorted array of the lower 16 bits of the contained rows if the
+ * chunk is sparse, or a plain bitmap if it is dense. This keeps the memory
+ * consumption low for values that only occur in a few rows, while set
+ * operations on dense chunks are performed word by word.
+ */
+final class RowBitmap {
+
+    private static final int CHUNK_BITS = 16;
+    private static final int CHUNK_MASK = (1 << CHUNK_BITS) - 1;
+    private static final int WORDS_PER_CHUNK = (1 << CHUNK_BITS) / Long.SIZE;
+
+    /**
+     * Containers with more elements are stored as bitmap.
+     */
+    private static final int ARRAY_CONTAINER_MAX = 4096;
+
+    /**
+     * The chunk keys, which are the upper 16 bits of the contained rows, in
+     * ascending order.
+     */
+    private char[] keys = new char[4];
+
+    /**
+     * The containers per chunk key, either a <code>char[]</code> with the
+     * sorted lower 16 bits of the rows, or a <code>long[]</code> bitmap.
+     */
+    private Object[] containers = new Object[4];
+
+    /**
+     * The number of rows per container.
+     */
+    private int[] cardinalities = new int[4];
+
+    private int containerCount;
+
+    private int cardinality;
+
+    /**
+     * Adds the given row to this bitmap.
+     *
+     * @param row
+     *            The row index to add, needs to be positive.
+     */
+    void add(int row) {
+        char key = (char) (row >>> CHUNK_BITS);
+        char low = (char) (row & CHUNK_MASK);
+        int i = findContainer(key);
+        if (i < 0) {
+            i = -i - 1;
+            insertContainer(i, key, new char[4]);
+        }
+
+        Object container = this.containers[i];
+        int count = this.cardinalities[i];
+        if (container instanceof long[]) {
+            long[] words = (long[]) container;
+            long mask = 1L << low;
+            if ((words[low >>> 6] & mask) == 0) {
+                words[low >>> 6] |= mask;
+                this.cardinalities[i]++;
+                this.cardinality++;
+            }
+            return;
+        }
+
+        char[] values = (char[]) container;
+        int pos;
+        if (count == 0 || values[count - 1] < low) {
+            // fast path for adding rows in ascending order
+            pos = count;
+        } else {
+            pos = Arrays.binarySearch(values, 0, count, low);
+            if (pos >= 0) {
+                return;
+            }
+            pos = -pos - 1;
+        }
+
+        if (count == ARRAY_CONTAINER_MAX) {
+            long[] words = toWords(values, count);
+            words[low >>> 6] |= 1L << low;
+            this.containers[i] = words;
+        } else {
+            if (count == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_CONTAINER_MAX, count * 2));
+                this.containers[i] = values;
+            }
+            System.arraycopy(values, pos, values, pos + 1, count - pos);
+            values[pos] = low;
+        }
+        this.cardinalities[i]++;
+        this.cardinality++;
+    }
+
+    /**
+     * Removes the given row from this bitmap.
+     *
+     * @param row
+     *            The row index to remove.
+     */
+    void remove(int row) {
+        if (row < 0) {
+            return;
+        }
+        int i = findContainer((char) (row >>> CHUNK_BITS));
+        if (i < 0) {
+            return;
+        }
+        char low = (char) (row & CHUNK_MASK);
+        Object container = this.containers[i];
+        int count = this.cardinalities[i];
+        if (container instanceof long[]) {
+            long[] words = (long[]) container;
+            long mask = 1L << low;
+            if ((words[low >>> 6] & mask) == 0) {
+                return;
+            }
+            words[low >>> 6] &= ~mask;
+        } else {
+            char[] values = (char[]) container;
+            int pos = Arrays.binarySearch(values, 0, count, low);
+            if (pos < 0) {
+                return;
+            }
+            System.arraycopy(values, pos + 1, values, pos, count - pos - 1);
+        }
+        this.cardinality--;
+        if (--this.cardinalities[i] == 0) {
+            removeContainer(i);
+        }
+    }
+
+    /**
+     * @param row
+     *            The row index to check.
+     * @return <code>true</code> if the given row is contained in this bitmap.
+     */
+    boolean contains(int row) {
+        if (row < 0) {
+            return false;
+        }
+        int i = findContainer((char) (row >>> CHUNK_BITS));
+        if (i < 0) {
+            return false;
+        }
+        char low = (char) (row & CHUNK_MASK);
+        Object container = this.containers[i];
+        if (container instanceof long[]) {
+            return (((long[]) container)[low >>> 6] & (1L << low)) != 0;
+        }
+        return Arrays.binarySearch((char[]) container, 0, this.cardinalities[i], low) >= 0;
+    }
+
+    /**
+     * @return The number of rows contained in this bitmap.
+     */
+    int getCardinality() {
+        return this.cardinality;
+    }
+
+    /**
+     * @return <code>true</code> if this bitmap does not contain any row.
+     */
+    boolean isEmpty() {
+        return this.cardinality == 0;
+    }
+
+    /**
+     * Performs the given action for every contained row in ascending order.
+     *
+     * @param action
+     *            The action to perform.
+     */
+    void forEach(IntConsumer action) {
+        for (int i = 0; i < this.containerCount; i++) {
+            int base = this.keys[i] << CHUNK_BITS;
+            Object container = this.containers[i];
+            if (container instanceof long[]) {
+                long[] words = (long[]) container;
+                for (int w = 0; w < words.length; w++) {
+                    long word = words[w];
+                    while (word != 0) {
+                        action.accept(base + (w << 6) + Long.numberOfTrailingZeros(word));
+                        word &= word - 1;
+                    }
+                }
+            } else {
+                char[] values = (char[]) container;
+                for (int v = 0; v < this.cardinalities[i]; v++) {
+                    action.accept(base + values[v]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sets the bits of all rows contained in this bitmap in the given dense
+     * bitmap.
+     *
+     * @param words
+     *            The dense bitmap, word <code>w</code> contains the rows
+     *            <code>w * 64</code> to <code>w * 64 + 63</code>. Needs to be
+     *            large enough for all rows contained in this bitmap.
+     */
+    void orInto(long[] words) {
+        for (int i = 0; i < this.containerCount; i++) {
+            int offset = this.keys[i] * WORDS_PER_CHUNK;
+            Object container = this.containers[i];
+            if (container instanceof long[]) {
+                long[] chunk = (long[]) container;
+                int length = Math.min(chunk.length, words.length - offset);
+                for (int w = 0; w < length; w++) {
+                    words[offset + w] |= chunk[w];
+                }
+            } else {
+                char[] values = (char[]) container;
+                for (int v = 0; v < this.cardinalities[i]; v++) {
+                    int low = values[v];
+                    words[offset + (low >>> 6)] |= 1L << low;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return A {@link BitSet} that contains the same rows as this bitmap.
+     */
+    BitSet toBitSet() {
+        if (this.containerCount == 0) {
+            return new BitSet();
+        }
+        long[] words = new long[(this.keys[this.containerCount - 1] + 1) * WORDS_PER_CHUNK];
+        orInto(words);
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * Creates a bitmap from the given dense bitmap.
+     *
+     * @param words
+     *            The dense bitmap, word <code>w</code> contains the rows
+     *            <code>w * 64</code> to <code>w * 64 + 63</code>.
+     * @return The compressed bitmap that contains the same rows.
+     */
+    static RowBitmap fromWords(long[] words) {
+        RowBitmap result = new RowBitmap();
+        for (int offset = 0; offset < words.length; offset += WORDS_PER_CHUNK) {
+            int end = Math.min(words.length, offset + WORDS_PER_CHUNK);
+            int count = 0;
+            for (int w = offset; w < end; w++) {
+                count += Long.bitCount(words[w]);
+            }
+            if (count == 0) {
+                continue;
+            }
+
+            Object container;
+            if (count > ARRAY_CONTAINER_MAX) {
+                container = Arrays.copyOfRange(words, offset, offset + WORDS_PER_CHUNK);
+            } else {
+                char[] values = new char[count];
+                int v = 0;
+                for (int w = offset; w < end; w++) {
+                    long word = words[w];
+                    while (word != 0) {
+                        values[v++] = (char) (((w - offset) << 6) + Long.numberOfTrailingZeros(word));
+                        word &= word - 1;
+                    }
+                }
+                container = values;
+            }
+            result.appendContainer((char) (offset / WORDS_PER_CHUNK), container, count);
+        }
+        return result;
+    }
+
+    /**
+     * Creates the intersection of the given bitmaps.
+     *
+     * @param first
+     *            The first bitmap.
+     * @param second
+     *            The second bitmap.
+     * @return A new bitmap that contains the rows that are contained in both
+     *         given bitmaps.
+     */
+    static RowBitmap and(RowBitmap first, RowBitmap second) {
+        RowBitmap result = new RowBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < first.containerCount && j < second.containerCount) {
+            char key1 = first.keys[i];
+            char key2 = second.keys[j];
+            if (key1 < key2) {
+                i++;
+            } else if (key1 > key2) {
+                j++;
+            } else {
+                andContainers(result, key1,
+                        first.containers[i], first.cardinalities[i],
+                        second.containers[j], second.cardinalities[j]);
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    private static void andContainers(RowBitmap result, char key, Object c1, int count1, Object c2, int count2) {
+        if (c1 instanceof long[] && c2 instanceof long[]) {
+            long[] w1 = (long[]) c1;
+            long[] w2 = (long[]) c2;
+            long[] words = new long[WORDS_PER_CHUNK];
+            int count = 0;
+            for (int w = 0; w < WORDS_PER_CHUNK; w++) {
+                words[w] = w1[w] & w2[w];
+                count += Long.bitCount(words[w]);
+            }
+            if (count > ARRAY_CONTAINER_MAX) {
+                result.appendContainer(key, words, count);
+            } else if (count > 0) {
+                result.appendContainer(key, toValues(words, count), count);
+            }
+        } else if (c1 instanceof long[] || c2 instanceof long[]) {
+            long[] words = (long[]) (c1 instanceof long[] ? c1 : c2);
+            char[] values = (char[]) (c1 instanceof long[] ? c2 : c1);
+            int valueCount = c1 instanceof long[] ? count2 : count1;
+            char[] matched = new char[valueCount];
+            int count = 0;
+            for (int v = 0; v < valueCount; v++) {
+                char low = values[v];
+                if ((words[low >>> 6] & (1L << low)) != 0) {
+                    matched[count++] = low;
+                }
+            }
+            if (count > 0) {
+                result.appendContainer(key, matched, count);
+            }
+        } else {
+            char[] v1 = (char[]) c1;
+            char[] v2 = (char[]) c2;
+            char[] matched = new char[Math.min(count1, count2)];
+            int count = 0;
+            int p = 0;
+            int q = 0;
+            while (p < count1 && q < count2) {
+                if (v1[p] < v2[q]) {
+                    p++;
+                } else if (v1[p] > v2[q]) {
+                    q++;
+                } else {
+                    matched[count++] = v1[p];
+                    p++;
+                    q++;
+                }
+            }
+            if (count > 0) {
+                result.appendContainer(key, matched, count);
+            }
+        }
+    }
+
+    private static long[] toWords(char[] values, int count) {
+        long[] words = new long[WORDS_PER_CHUNK];
+        for (int v = 0; v < count; v++) {
+            words[values[v] >>> 6] |= 1L << values[v];
+        }
+        return words;
+    }
+
+    private static char[] toValues(long[] words, int count) {
+        char[] values = new char[count];
+        int v = 0;
+        for (int w = 0; w < words.length; w++) {
+            long word = words[w];
+            while (word != 0) {
+                values[v++] = (char) ((w << 6) + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+        return values;
+    }
+
+    private int findContainer(char key) {
+        // fast path for ascending access
+        if (this.containerCount > 0 && this.keys[this.containerCount - 1] == key) {
+            return this.containerCount - 1;
+        }
+        return Arrays.binarySearch(this.keys, 0, this.containerCount, key);
+    }
+
+    private void appendContainer(char key, Object container, int count) {
+        insertContainer(this.containerCount, key, container);
+        this.cardinalities[this.containerCount - 1] = count;
+        this.cardinality += count;
+    }
+
+    private void insertContainer(int index, char key, Object container) {
+        if (this.containerCount == this.keys.length) {
+            int capacity = this.keys.length * 2;
+            this.keys = Arrays.copyOf(this.keys, capacity);
+            this.containers = Arrays.copyOf(this.containers, capacity);
+            this.cardinalities = Arrays.copyOf(this.cardinalities, capacity);
+        }
+        int move = this.containerCount - index;
+        System.arraycopy(this.keys, index, this.keys, index + 1, move);
+        System.arraycopy(this.containers, index, this.containers, index + 1, move);
+        System.arraycopy(this.cardinalities, index, this.cardinalities, index + 1, move);
+        this.keys[index] = key;
+        this.containers[index] = container;
+        this.cardinalities[index] = 0;
+        this.containerCount++;
+    }
+
+    private void removeContainer(int index) {
+        int move = this.containerCount - index - 1;
+        System.arraycopy(this.keys, index + 1, this.keys, index, move);
+        System.arraycopy(this.containers, index + 1, this.containers, index, move);
+        System.arraycopy(this.cardinalities, index + 1, this.cardinalities, index, move);
+        this.containerCount--;
+        this.containers[this.containerCount] = null;
+    }
+}
@@ -13,9 +13,14 @@
 package org.eclipse.nebula.widgets.nattable.formula;
 
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.nebula.widgets.nattable.command.DisposeCalculatedValueCacheCommandHandler;
 import org.eclipse.nebula.widgets.nattable.command.DisposeResourcesCommand;
+import org.eclipse.nebula.widgets.nattable.coordinate.IndexCoordinate;
 import org.eclipse.nebula.widgets.nattable.data.IDataProvider;
 import org.eclipse.nebula.widgets.nattable.formula.command.DisableFormulaCachingCommand;
 import org.eclipse.nebula.widgets.nattable.formula.command.DisableFormulaCachingCommandHandler;
@@ -23,6 +28,7 @@
 import org.eclipse.nebula.widgets.nattable.formula.command.EnableFormulaCachingCommandHandler;
 import org.eclipse.nebula.widgets.nattable.formula.function.AbstractFunction;
 import org.eclipse.nebula.widgets.nattable.formula.function.FunctionException;
+import org.eclipse.nebula.widgets.nattable.formula.function.FunctionValue;
 import org.eclipse.nebula.widgets.nattable.layer.DataLayer;
 import org.eclipse.nebula.widgets.nattable.layer.ILayer;
 import org.eclipse.nebula.widgets.nattable.util.CalculatedValueCache;
@@ -50,6 +56,9 @@ public class FormulaDataProvider implements IDataProvider {
     private ILayer cacheLayer;
     private boolean cacheEnabled = false;
 
+    private int functionCacheColumnCount = -1;
+    private int functionCacheRowCount = -1;
+
     /**
      *
      * @param underlyingDataProvider
@@ -107,7 +116,7 @@ protected Object processFormula(String formula, int columnIndex, int rowIndex) {
             if (this.errorReporter != null) {
                 this.errorReporter.clearFormulaError(columnIndex, rowIndex);
             }
-            return this.formulaParser.parseFunction(formula).getValue();
+            return parseFormula(formula, columnIndex, rowIndex).getValue();
         } catch (FunctionException e) {
             if (this.errorReporter != null) {
                 this.errorReporter.addFormulaError(columnIndex, rowIndex, e.getLocalizedMessage());
@@ -121,6 +130,62 @@ protected Object processFormula(String formula, int columnIndex, int rowIndex) {
         }
     }
 
+    /**
+     * Parses the given formula String by using the internal
+     * {@link FormulaParser}. If the {@link FormulaFunctionCache} is enabled,
+     * the parsed {@link FunctionValue} is taken from or added to the cache.
+     *
+     * @param formula
+     *            The formula to parse.
+     * @param columnIndex
+     *            The column index of the cell that contains the formula.
+     * @param rowIndex
+     *            The row index of the cell that contains the formula.
+     * @return The {@link FunctionValue} that represents the parsed formula.
+     *
+     * @see #setFunctionCacheEnabled(boolean)
+     * @since 2.1
+     */
+    protected FunctionValue parseFormula(String formula, int columnIndex, int rowIndex) {
+        FormulaFunctionCache functionCache = this.formulaParser.getFunctionCache();
+        if (functionCache == null) {
+            return this.formulaParser.parseFunction(formula);
+        }
+
+        // references to whole rows or columns are expanded on parsing, so the
+        // cache is invalid if the structure changes
+        int columnCount = getColumnCount();
+        int rowCount = getRowCount();
+        if (columnCount != this.functionCacheColumnCount || rowCount != this.functionCacheRowCount) {
+            functionCache.clear();
+            this.functionCacheColumnCount = columnCount;
+            this.functionCacheRowCount = rowCount;
+        }
+
+        IndexCoordinate cell = new IndexCoordinate(columnIndex, rowIndex);
+        FunctionValue cached = functionCache.getFunction(cell, formula);
+        if (cached != null) {
+            return cached;
+        }
+
+        Map<IndexCoordinate, Set<IndexCoordinate>> parsedReferences = new LinkedHashMap<>();
+        parsedReferences.put(cell, new HashSet<>());
+        try {
+            FunctionValue function = this.formulaParser.parseFunction(formula, parsedReferences, cell);
+            if (function == null) {
+                return null;
+            }
+            return functionCache.put(cell, formula, function, parsedReferences.get(cell));
+        } catch (RuntimeException e) {
+            // remember all visited cells, so the formula is reported as
+            // dependent if one of them changes
+            Set<IndexCoordinate> visited = new HashSet<>(parsedReferences.keySet());
+            visited.remove(cell);
+            functionCache.registerReferences(cell, visited);
+            throw e;
+        }
+    }
+
     /**
      * Configure the caching behavior of this {@link FormulaDataProvider}.
      *
@@ -173,13 +238,28 @@ public Object getNativeDataValue(int columnIndex, int rowIndex) {
 
     @Override
     public void setDataValue(int columnIndex, int rowIndex, Object newValue) {
-        if (this.valueCache != null) {
-            // if a value is set we clear the cache
-            // since we do not know which cells might reference the specified
-            // cell, we simply clear the whole cache
-            this.valueCache.clearCache();
+        FormulaFunctionCache functionCache = this.formulaParser.getFunctionCache();
+        if (functionCache == null) {
+            if (this.valueCache != null) {
+                // if a value is set we clear the cache
+                // since we do not know which cells might reference the
+                // specified cell, we simply clear the whole cache
+                this.valueCache.clearCache();
+            }
+            this.underlyingDataProvider.setDataValue(columnIndex, rowIndex, newValue);
+        } else {
+            this.underlyingDataProvider.setDataValue(columnIndex, rowIndex, newValue);
+
+            // only the changed cell and the cells that depend on it need to
+            // be calculated again
+            Set<IndexCoordinate> dependents = functionCache.invalidate(columnIndex, rowIndex);
+            if (this.valueCache != null) {
+                this.valueCache.clearCache(columnIndex, rowIndex);
+                for (IndexCoordinate dependent : dependents) {
+                    this.valueCache.clearCache(dependent.columnIndex, dependent.rowIndex);
+                }
+            }
         }
-        this.underlyingDataProvider.setDataValue(columnIndex, rowIndex, newValue);
     }
 
     @Override
@@ -229,6 +309,68 @@ public void setFormulaCachingEnabled(boolean enabled) {
         this.cacheEnabled = enabled;
     }
 
+    /**
+     * Enable/Disable caching of parsed formulas. If enabled, a formula is only
+     * parsed once and the parsed result is reused as long as neither the
+     * formula nor a directly or transitively referenced cell changes. The
+     * references are tracked in a dependency graph, so changing a value via
+     * {@link #setDataValue(int, int, Object)} only invalidates the cells that
+     * depend on it. If formula result caching is configured, only the values
+     * of those cells are calculated again instead of all formulas.
+     * <p>
+     * Note: Changes to the underlying data that are not performed via
+     * {@link #setDataValue(int, int, Object)}, e.g. sorting or modifying the
+     * underlying list directly, are not tracked. In that case
+     * {@link #clearFunctionCache()} needs to be called.
+     * </p>
+     *
+     * @param enabled
+     *            <code>true</code> to enable caching of parsed formulas,
+     *            <code>false</code> to parse formulas on every evaluation.
+     *
+     * @since 2.1
+     */
+    public void setFunctionCacheEnabled(boolean enabled) {
+        if (enabled) {
+            if (this.formulaParser.getFunctionCache() == null) {
+                this.formulaParser.setFunctionCache(new FormulaFunctionCache());
+            }
+        } else {
+            this.formulaParser.setFunctionCache(null);
+        }
+        if (this.valueCache != null) {
+            this.valueCache.clearCache();
+        }
+    }
+
+    /**
+     * @return <code>true</code> if parsed formulas are cached,
+     *         <code>false</code> if formulas are parsed on every evaluation.
+     *
+     * @since 2.1
+     */
+    public boolean isFunctionCacheEnabled() {
+        return this.formulaParser.getFunctionCache() != null;
+    }
+
+    /**
+     * Clears the cached parsed formulas. Needs to be called if the underlying
+     * data was changed without using {@link #setDataValue(int, int, Object)}
+     * while caching of parsed formulas is enabled.
+     *
+     * @see #setFunctionCacheEnabled(boolean)
+     * @since 2.1
+     */
+    public void clearFunctionCache() {
+        FormulaFunctionCache functionCache = this.formulaParser.getFunctionCache();
+        if (functionCache != null) {
+            functionCache.clear();
+        }
+        if (this.valueCache != null) {
+            this.valueCache.clearCache();
+        }
+    }
+
     /**
      * Register a new function that can be evaluated.
      *
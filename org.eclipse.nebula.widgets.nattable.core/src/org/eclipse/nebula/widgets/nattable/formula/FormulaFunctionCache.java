@@ -0,0 +1,252 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.formula;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.nebula.widgets.nattable.coordinate.IndexCoordinate;
+import org.eclipse.nebula.widgets.nattable.formula.function.AbstractFunction;
+import org.eclipse.nebula.widgets.nattable.formula.function.FunctionValue;
+
+/**
+ * Cache for parsed formulas that is used by the {@link FormulaParser} and the
+ * {@link FormulaDataProvider} to avoid parsing the same formula over and over
+ * again. Together with the parsed {@link FunctionValue} the cells that are
+ * directly referenced by the formula are registered, which builds up a
+ * dependency graph. On changing a cell value only the cell itself and all
+ * cells that transitively depend on it need to be removed from the cache via
+ * {@link #invalidate(int, int)}.
+ * <p>
+ * As the values of referenced cells are part of the parsed
+ * {@link FunctionValue}, this cache only works correctly if all value changes
+ * are either performed via {@link FormulaDataProvider#setDataValue(int, int,
+ * Object)} or followed by a call to {@link #clear()}.
+ * </p>
+ *
+ * @see FormulaDataProvider#setFunctionCacheEnabled(boolean)
+ *
+ * @since 2.1
+ */
+public class FormulaFunctionCache {
+
+    private final Map<IndexCoordinate, CachedFunctionValue> functions = new ConcurrentHashMap<>();
+
+    /**
+     * The cells that are directly referenced by a cached formula cell.
+     */
+    private final Map<IndexCoordinate, Set<IndexCoordinate>> references = new HashMap<>();
+
+    /**
+     * The cached formula cells that directly reference a cell.
+     */
+    private final Map<IndexCoordinate, Set<IndexCoordinate>> dependents = new HashMap<>();
+
+    /**
+     * Returns the cached {@link FunctionValue} for the given cell. The returned
+     * value caches the calculation result, so calling
+     * {@link FunctionValue#getValue()} multiple times does not recalculate.
+     *
+     * @param cell
+     *            The coordinate of the cell whose cached function is
+     *            requested.
+     * @param formula
+     *            The current formula of the cell. If it does not match the
+     *            formula that was cached, the cell and its dependents are
+     *            invalidated. Can be <code>null</code> to skip the check.
+     * @return The cached {@link FunctionValue} or <code>null</code> if there
+     *         is no valid cache entry for the given cell.
+     */
+    public FunctionValue getFunction(IndexCoordinate cell, String formula) {
+        CachedFunctionValue cached = this.functions.get(cell);
+        if (cached != null && formula != null && !formula.equals(cached.formula)) {
+            invalidate(cell.columnIndex, cell.rowIndex);
+            return null;
+        }
+        return cached;
+    }
+
+    /**
+     * Returns the cached {@link FunctionValue} for a cell that is referenced
+     * by another formula. Only results of functions and operations are
+     * returned, as plain values need to keep their type for parameter
+     * validation and are cheap to parse anyway.
+     *
+     * @param cell
+     *            The coordinate of the referenced cell.
+     * @return The cached {@link FunctionValue} or <code>null</code> if there
+     *         is no reusable cache entry for the given cell.
+     */
+    public FunctionValue getReferencedFunction(IndexCoordinate cell) {
+        CachedFunctionValue cached = this.functions.get(cell);
+        if (cached != null && cached.function instanceof AbstractFunction) {
+            return cached;
+        }
+        return null;
+    }
+
+    /**
+     * Adds the parsed {@link FunctionValue} for the given cell to the cache
+     * and registers the cells that are directly referenced by the formula.
+     *
+     * @param cell
+     *            The coordinate of the cell that contains the formula.
+     * @param formula
+     *            The formula that was parsed.
+     * @param function
+     *            The parsed {@link FunctionValue}.
+     * @param cellReferences
+     *            The cells that are directly referenced by the formula.
+     * @return The {@link FunctionValue} that is stored in the cache and
+     *         should be used for further processing.
+     */
+    public FunctionValue put(IndexCoordinate cell, String formula, FunctionValue function, Collection<IndexCoordinate> cellReferences) {
+        CachedFunctionValue cached = new CachedFunctionValue(formula, function);
+        synchronized (this) {
+            registerReferences(cell, cellReferences);
+            this.functions.put(cell, cached);
+        }
+        return cached;
+    }
+
+    /**
+     * Registers the cells that are referenced by the formula in the given cell
+     * without caching a parsed {@link FunctionValue}. Used for formulas that
+     * could not be parsed, so they are reported as dependents via
+     * {@link #invalidate(int, int)} once a referenced cell changes.
+     *
+     * @param cell
+     *            The coordinate of the cell that contains the formula.
+     * @param cellReferences
+     *            The cells that are referenced by the formula.
+     */
+    public synchronized void registerReferences(IndexCoordinate cell, Collection<IndexCoordinate> cellReferences) {
+        removeReferences(cell);
+        if (cellReferences != null && !cellReferences.isEmpty()) {
+            Set<IndexCoordinate> refs = new HashSet<>(cellReferences);
+            this.references.put(cell, refs);
+            for (IndexCoordinate ref : refs) {
+                this.dependents.computeIfAbsent(ref, k -> new HashSet<>()).add(cell);
+            }
+        }
+    }
+
+    /**
+     * Removes the given cell and all cached cells that transitively depend on
+     * it from the cache.
+     *
+     * @param column
+     *            The column index of the changed cell.
+     * @param row
+     *            The row index of the changed cell.
+     * @return The coordinates of the cached cells that depend on the given
+     *         cell and were removed from the cache. Does not contain the
+     *         given cell itself.
+     */
+    public synchronized Set<IndexCoordinate> invalidate(int column, int row) {
+        IndexCoordinate changed = new IndexCoordinate(column, row);
+
+        Set<IndexCoordinate> invalidated = new HashSet<>();
+        Deque<IndexCoordinate> toProcess = new ArrayDeque<>();
+        toProcess.add(changed);
+        while (!toProcess.isEmpty()) {
+            IndexCoordinate current = toProcess.poll();
+            Set<IndexCoordinate> currentDependents = this.dependents.get(current);
+            if (currentDependents != null) {
+                for (IndexCoordinate dependent : currentDependents) {
+                    if (!dependent.equals(changed) && invalidated.add(dependent)) {
+                        toProcess.add(dependent);
+                    }
+                }
+            }
+        }
+
+        remove(changed);
+        for (IndexCoordinate cell : invalidated) {
+            remove(cell);
+        }
+        return invalidated.isEmpty() ? Collections.emptySet() : invalidated;
+    }
+
+    /**
+     * Removes all cached formulas and registered references.
+     */
+    public synchronized void clear() {
+        this.functions.clear();
+        this.references.clear();
+        this.dependents.clear();
+    }
+
+    /**
+     * @return The number of cells whose parsed formula is cached.
+     */
+    public int size() {
+        return this.functions.size();
+    }
+
+    private void remove(IndexCoordinate cell) {
+        this.functions.remove(cell);
+        removeReferences(cell);
+    }
+
+    private void removeReferences(IndexCoordinate cell) {
+        Set<IndexCoordinate> refs = this.references.remove(cell);
+        if (refs != null) {
+            for (IndexCoordinate ref : refs) {
+                Set<IndexCoordinate> refDependents = this.dependents.get(ref);
+                if (refDependents != null) {
+                    refDependents.remove(cell);
+                    if (refDependents.isEmpty()) {
+                        this.dependents.remove(ref);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * {@link FunctionValue} that wraps a parsed function and remembers the
+     * calculation result. Because it does not extend {@link AbstractFunction}
+     * it is processed like a parameter if it is added to another formula.
+     */
+    static final class CachedFunctionValue implements FunctionValue {
+
+        final String formula;
+        final FunctionValue function;
+
+        private volatile Object value;
+
+        CachedFunctionValue(String formula, FunctionValue function) {
+            this.formula = formula;
+            this.function = function;
+        }
+
+        @Override
+        public Object getValue() {
+            Object result = this.value;
+            if (result == null) {
+                // exceptions are not cached so the error is reported again
+                result = this.function.getValue();
+                this.value = result;
+            }
+            return result;
+        }
+    }
+}
@@ -107,6 +107,11 @@ public class FormulaParser {
 
     protected IDataProvider dataProvider;
 
+    /**
+     * @since 2.1
+     */
+    protected FormulaFunctionCache functionCache;
+
     /**
      * Creates and initializes a new {@link FormulaParser}.
      *
@@ -132,6 +137,7 @@ public FormulaParser(IDataProvider dataProvider) {
     public void registerFunction(String functionName, Class<? extends AbstractFunction> value) {
         this.functionMapping.put(functionName, value);
         updateFunctionRegex();
+        clearFunctionCache();
     }
 
     /**
@@ -732,6 +738,25 @@ protected String convertIndexToColumnString(int index) {
     protected void addDataProviderValue(int column, int row, List<FunctionValue> values,
             Map<IndexCoordinate, Set<IndexCoordinate>> parsedReferences, IndexCoordinate referer) {
 
+        // register the reference also for empty cells, so cached dependent
+        // formulas can be invalidated if a value is set later
+        IndexCoordinate ref = new IndexCoordinate(column, row);
+        if (!parsedReferences.containsKey(ref)) {
+            parsedReferences.put(ref, new HashSet<>());
+        }
+        if (referer != null) {
+            parsedReferences.get(referer).add(ref);
+        }
+
+        FormulaFunctionCache cache = this.functionCache;
+        if (cache != null) {
+            FunctionValue cached = cache.getReferencedFunction(ref);
+            if (cached != null) {
+                values.add(cached);
+                return;
+            }
+        }
+
         Object value = getUnderlyingDataValue(column, row);
         if (value != null) {
             String toParse = value.toString();
@@ -740,20 +765,20 @@ protected void addDataProviderValue(int column, int row, List<FunctionValue> val
             }
 
             // avoid circular references
-            IndexCoordinate ref = new IndexCoordinate(column, row);
-            if (!parsedReferences.containsKey(ref)) {
-                parsedReferences.put(ref, new HashSet<>());
-            }
-            if (referer != null) {
-                parsedReferences.get(referer).add(ref);
-            }
-
             if (detectCycle(parsedReferences)) {
                 throw new FunctionException("#REF!", Messages.getString("FormulaParser.error.circular")); //$NON-NLS-1$//$NON-NLS-2$
             }
 
             FunctionValue parseResult = parseFunction(toParse, parsedReferences, ref);
             if (parseResult != null) {
+                if (cache != null && isFunction(toParse)) {
+                    FunctionValue cached = cache.put(ref, toParse, parseResult, parsedReferences.get(ref));
+                    // only functions and operations are replaced, plain values
+                    // need to keep their type for parameter validation
+                    if (parseResult instanceof AbstractFunction) {
+                        parseResult = cached;
+                    }
+                }
                 values.add(parseResult);
             }
         }
@@ -781,6 +806,44 @@ protected void updateLocalizedDigitRegex() {
     public void setDecimalFormat(DecimalFormat format) {
         this.decimalFormat = format;
         updateLocalizedDigitRegex();
+        clearFunctionCache();
+    }
+
+    /**
+     * Set the {@link FormulaFunctionCache} that should be used to reuse the
+     * parsed formulas of referenced cells. If a referenced cell contains a
+     * formula that was parsed before, the cached result is used instead of
+     * parsing the formula again. Newly parsed formulas of referenced cells are
+     * added to the cache together with their references.
+     *
+     * @param functionCache
+     *            The {@link FormulaFunctionCache} to use or <code>null</code>
+     *            to disable caching of parsed formulas.
+     *
+     * @since 2.1
+     */
+    public void setFunctionCache(FormulaFunctionCache functionCache) {
+        this.functionCache = functionCache;
+    }
+
+    /**
+     * @return The {@link FormulaFunctionCache} that is used to reuse parsed
+     *         formulas or <code>null</code> if no cache is configured.
+     *
+     * @since 2.1
+     */
+    public FormulaFunctionCache getFunctionCache() {
+        return this.functionCache;
+    }
+
+    /**
+     * Clears the {@link FormulaFunctionCache} if one is configured. Called if
+     * a setting changes that influences the parsing result.
+     */
+    private void clearFunctionCache() {
+        if (this.functionCache != null) {
+            this.functionCache.clear();
+        }
     }
 
     /**
@@ -926,9 +989,10 @@ public String updateReferences(String function, int fromColumn, int fromRow, int
     // cycle detection code
 
     protected boolean detectCycle(Map<IndexCoordinate, Set<IndexCoordinate>> parsedReferences) {
-        Set<IndexCoordinate> initPath = new HashSet<>();
         for (Map.Entry<IndexCoordinate, Set<IndexCoordinate>> entry : parsedReferences.entrySet()) {
-            if (isCyclic(new Node(entry.getKey(), entry.getValue()), initPath, parsedReferences)) {
+            // every search needs its own path, otherwise a cell that is
+            // reached from different starting points is reported as cycle
+            if (isCyclic(new Node(entry.getKey(), entry.getValue()), new HashSet<>(), parsedReferences)) {
                 return true;
             }
         }
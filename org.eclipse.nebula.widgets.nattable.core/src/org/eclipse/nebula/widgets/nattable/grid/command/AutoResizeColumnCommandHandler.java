@@ -12,16 +12,23 @@
  ******************************************************************************/
 package org.eclipse.nebula.widgets.nattable.grid.command;
 
+import org.eclipse.collections.api.list.primitive.MutableIntList;
+import org.eclipse.collections.api.set.primitive.MutableIntSet;
+import org.eclipse.collections.impl.factory.primitive.IntLists;
+import org.eclipse.collections.impl.factory.primitive.IntSets;
 import org.eclipse.nebula.widgets.nattable.command.ILayerCommandHandler;
 import org.eclipse.nebula.widgets.nattable.grid.layer.GridLayer;
 import org.eclipse.nebula.widgets.nattable.layer.ILayer;
 import org.eclipse.nebula.widgets.nattable.print.command.TurnViewportOffCommand;
 import org.eclipse.nebula.widgets.nattable.print.command.TurnViewportOnCommand;
+import org.eclipse.nebula.widgets.nattable.resize.AutoResizeEstimation;
 import org.eclipse.nebula.widgets.nattable.resize.MaxCellBoundsHelper;
+import org.eclipse.nebula.widgets.nattable.resize.ResizeConfigAttributes;
 import org.eclipse.nebula.widgets.nattable.resize.command.AutoResizeColumnsCommand;
 import org.eclipse.nebula.widgets.nattable.resize.command.InitializeAutoResizeColumnsCommand;
 import org.eclipse.nebula.widgets.nattable.resize.command.MultiColumnResizeCommand;
 import org.eclipse.nebula.widgets.nattable.selection.SelectionLayer;
+import org.eclipse.nebula.widgets.nattable.style.DisplayMode;
 
 /**
  * This command is triggered by the {@link InitializeAutoResizeColumnsCommand}.
@@ -30,6 +37,10 @@
  * <p>
  * This handler assumes that the target layer is the NatTable itself on calling
  * doCommand()
+ * <p>
+ * If an {@link AutoResizeEstimation} is registered for
+ * {@link ResizeConfigAttributes#AUTO_RESIZE_ESTIMATION}, the preferred widths
+ * are estimated instead of measuring every cell.
  */
 public class AutoResizeColumnCommandHandler implements ILayerCommandHandler<AutoResizeColumnsCommand> {
 
@@ -82,17 +93,41 @@ public boolean doCommand(ILayer targetLayer, AutoResizeColumnsCommand command) {
         // As this command is triggered by the InitialAutoResizeCommand we know
         // that the targetLayer is the
         // NatTable itself
+        AutoResizeEstimation estimation = command.getConfigRegistry().getConfigAttribute(
+                ResizeConfigAttributes.AUTO_RESIZE_ESTIMATION,
+                DisplayMode.NORMAL);
+
+        // remember the visible rows before the viewport is turned off
+        MutableIntSet visibleRowIndexes = null;
+        if (estimation != null && !estimation.isExact() && estimation.isExactVisibleRows()) {
+            visibleRowIndexes = IntSets.mutable.empty();
+            for (int rowPosition = 0; rowPosition < this.positionLayer.getRowCount(); rowPosition++) {
+                visibleRowIndexes.add(this.positionLayer.getRowIndexByPosition(rowPosition));
+            }
+        }
+
         targetLayer.doCommand(new TurnViewportOffCommand());
 
         int[] columnPositions = command.getColumnPositionsArray();
         int[] gridColumnPositions =
                 command.doPositionTransformation() ? convertFromPositionToCommandLayer(columnPositions) : columnPositions;
 
-        int[] gridColumnWidths = MaxCellBoundsHelper.getPreferredColumnWidths(
-                command.getConfigRegistry(),
-                command.getGCFactory(),
-                this.commandLayer,
-                gridColumnPositions);
+        int[] gridColumnWidths;
+        if (estimation == null || estimation.isExact()) {
+            gridColumnWidths = MaxCellBoundsHelper.getPreferredColumnWidths(
+                    command.getConfigRegistry(),
+                    command.getGCFactory(),
+                    this.commandLayer,
+                    gridColumnPositions);
+        } else {
+            gridColumnWidths = MaxCellBoundsHelper.getPreferredColumnWidths(
+                    command.getConfigRegistry(),
+                    command.getGCFactory(),
+                    this.commandLayer,
+                    gridColumnPositions,
+                    estimation,
+                    getExactRowPositions(visibleRowIndexes));
+        }
 
         // only perform further actions if the widths could be calculated
         // could fail and return null for example if the GCFactory fails
@@ -105,6 +140,42 @@ public boolean doCommand(ILayer targetLayer, AutoResizeColumnsCommand command) {
         return true;
     }
 
+    /**
+     * Collects the row positions in the command layer that should always be
+     * measured exactly on estimating the preferred column widths. These are
+     * the rows above the position layer, typically the column header rows,
+     * and the rows that were visible before the viewport was turned off.
+     *
+     * @param visibleRowIndexes
+     *            The indexes of the rows that were visible in the position
+     *            layer before the viewport was turned off. Can be
+     *            <code>null</code>.
+     * @return The row positions in the command layer that should be measured
+     *         exactly.
+     * @since 2.1
+     */
+    protected int[] getExactRowPositions(MutableIntSet visibleRowIndexes) {
+        MutableIntList exactRows = IntLists.mutable.empty();
+        int rowCount = this.commandLayer.getRowCount();
+        int firstPositionLayerRow = (this.positionLayer.getRowCount() > 0)
+                ? this.commandLayer.underlyingToLocalRowPosition(this.positionLayer, 0)
+                : rowCount;
+        if (firstPositionLayerRow < 0) {
+            firstPositionLayerRow = 0;
+        }
+        for (int rowPosition = 0; rowPosition < firstPositionLayerRow; rowPosition++) {
+            exactRows.add(rowPosition);
+        }
+        if (visibleRowIndexes != null && !visibleRowIndexes.isEmpty()) {
+            for (int rowPosition = firstPositionLayerRow; rowPosition < rowCount; rowPosition++) {
+                if (visibleRowIndexes.contains(this.commandLayer.getRowIndexByPosition(rowPosition))) {
+                    exactRows.add(rowPosition);
+                }
+            }
+        }
+        return exactRows.toArray();
+    }
+
     /**
      * Translates the column positions the layer stack upwards as the resulting
      * {@link MultiColumnResizeCommand} will be fired on the command layer which
@@ -17,7 +17,6 @@
 import java.util.Collection;
 import java.util.HashSet;
 
-import org.eclipse.collections.api.map.primitive.IntIntMap;
 import org.eclipse.collections.api.map.primitive.MutableIntIntMap;
 import org.eclipse.collections.impl.factory.primitive.IntIntMaps;
 import org.eclipse.nebula.widgets.nattable.coordinate.PositionUtil;
@@ -35,12 +34,28 @@
 
 /**
  * Abstract implementation for row hide/show operations.
+ * <p>
+ * The index/position mapping is based on a sorted array of the underlying row
+ * positions that are hidden by this layer. Converting between local and
+ * underlying positions is a rank/select lookup via binary search on that
+ * array, so rebuilding the cache after a hide/show operation only depends on
+ * the number of hidden rows and not on the number of rows in the underlying
+ * layer.
+ * </p>
  */
 public abstract class AbstractRowHideShowLayer extends AbstractLayerTransform implements IUniqueIndexLayer {
 
-    private MutableIntIntMap cachedVisibleRowIndexPositionMapping;
-    private MutableIntIntMap cachedVisibleRowPositionIndexMapping;
-    private MutableIntIntMap cachedHiddenRowIndexPositionMapping;
+    /**
+     * Sorted underlying row positions of the rows hidden by this layer.
+     * <code>null</code> if the cache needs to be rebuild.
+     */
+    private int[] cachedHiddenRowPositions;
+    /**
+     * Prefix sums of the heights of the hidden rows, where the value at index
+     * <code>i</code> is the sum of the heights of the first <code>i</code>
+     * hidden rows. Lazily calculated.
+     */
+    private int[] cachedHiddenRowHeightSums;
     private MutableIntIntMap startYCache = IntIntMaps.mutable.empty();
 
     /**
@@ -108,7 +123,7 @@ public void handleLayerEvent(ILayerEvent event) {
         } else if (event instanceof VisualRefreshEvent) {
             // visual change, e.g. font change, the startYCache needs to be
             // cleared in order to re-render correctly
-            this.startYCache = IntIntMaps.mutable.empty();
+            clearHeightCache();
         }
         super.handleLayerEvent(event);
     }
@@ -131,7 +146,7 @@ public int getRowCount() {
         if (!hasHiddenRows()) {
             return super.getRowCount();
         }
-        return getCachedVisibleRowIndexPositionMapping().size();
+        return super.getRowCount() - getCachedHiddenRowPositions().length;
     }
 
     @Override
@@ -144,16 +159,24 @@ public int getRowIndexByPosition(int rowPosition) {
             return super.getRowIndexByPosition(rowPosition);
         }
 
-        return getCachedVisibleRowPositionIndexMapping().getIfAbsent(rowPosition, -1);
+        int underlyingPosition = selectUnderlyingRowPosition(getCachedHiddenRowPositions(), rowPosition);
+        return getUnderlyingLayer().getRowIndexByPosition(underlyingPosition);
     }
 
     @Override
     public int getRowPositionByIndex(int rowIndex) {
-        if (!hasHiddenRows()) {
-            return getUnderlyingLayer().getRowPositionByIndex(rowIndex);
+        int underlyingPosition = getUnderlyingLayer().getRowPositionByIndex(rowIndex);
+        if (underlyingPosition < 0 || !hasHiddenRows()) {
+            return underlyingPosition;
         }
 
-        return getCachedVisibleRowIndexPositionMapping().getIfAbsent(rowIndex, -1);
+        int[] hiddenRowPositions = getCachedHiddenRowPositions();
+        int hiddenPosition = Arrays.binarySearch(hiddenRowPositions, underlyingPosition);
+        if (hiddenPosition >= 0) {
+            // the row is hidden by this layer
+            return -1;
+        }
+        return underlyingPosition + hiddenPosition + 1;
     }
 
     /**
@@ -198,8 +221,7 @@ public int localToUnderlyingRowPosition(int localRowPosition) {
             return localRowPosition;
         }
 
-        int rowIndex = getRowIndexByPosition(localRowPosition);
-        return getUnderlyingLayer().getRowPositionByIndex(rowIndex);
+        return selectUnderlyingRowPosition(getCachedHiddenRowPositions(), localRowPosition);
     }
 
     @Override
@@ -208,13 +230,12 @@ public int underlyingToLocalRowPosition(ILayer sourceUnderlyingLayer, int underl
             return underlyingRowPosition;
         }
 
-        int rowIndex = getUnderlyingLayer().getRowIndexByPosition(underlyingRowPosition);
-        int rowPosition = getRowPositionByIndex(rowIndex);
-        if (rowPosition >= 0) {
-            return rowPosition;
-        } else {
-            return getCachedHiddenRowIndexPositionMapping().getIfAbsent(rowIndex, -1);
+        if (underlyingRowPosition < 0 || underlyingRowPosition >= getUnderlyingLayer().getRowCount()) {
+            return -1;
         }
+
+        // a hidden row is mapped to the position of the next visible row
+        return underlyingRowPosition - rank(getCachedHiddenRowPositions(), underlyingRowPosition);
     }
 
     @Override
@@ -309,14 +330,9 @@ public int getStartYOfRowPosition(int localRowPosition) {
             return -1;
         }
 
-        for (int hiddenIndex : getHiddenRowIndexesArray()) {
-            int hiddenPosition = underlyingLayer.getRowPositionByIndex(hiddenIndex);
-            // if the hidden position is -1, it is hidden in the underlying
-            // layer therefore the underlying layer should handle the
-            // positioning
-            if (hiddenPosition >= 0 && hiddenPosition <= underlyingPosition) {
-                underlyingStartY -= underlyingLayer.getRowHeightByPosition(hiddenPosition);
-            }
+        if (hasHiddenRows()) {
+            int[] hiddenRowHeightSums = getCachedHiddenRowHeightSums();
+            underlyingStartY -= hiddenRowHeightSums[rank(getCachedHiddenRowPositions(), underlyingPosition)];
         }
 
         this.startYCache.put(localRowPosition, underlyingStartY);
@@ -412,59 +428,100 @@ public ILayerCell getCellByPosition(int columnPosition, int rowPosition) {
      * Invalidate the cache to ensure that information is rebuild.
      */
     protected synchronized void invalidateCache() {
-        this.cachedVisibleRowIndexPositionMapping = null;
-        this.cachedVisibleRowPositionIndexMapping = null;
-        this.cachedHiddenRowIndexPositionMapping = null;
-        this.startYCache = IntIntMaps.mutable.empty();
+        this.cachedHiddenRowPositions = null;
+        clearHeightCache();
     }
 
-    private synchronized IntIntMap getCachedVisibleRowIndexPositionMapping() {
-        if (this.cachedVisibleRowIndexPositionMapping == null) {
-            cacheVisibleRowIndexes();
-        }
-        return this.cachedVisibleRowIndexPositionMapping;
+    private synchronized void clearHeightCache() {
+        this.cachedHiddenRowHeightSums = null;
+        this.startYCache = IntIntMaps.mutable.empty();
     }
 
-    private synchronized IntIntMap getCachedVisibleRowPositionIndexMapping() {
-        if (this.cachedVisibleRowPositionIndexMapping == null) {
+    private synchronized int[] getCachedHiddenRowPositions() {
+        if (this.cachedHiddenRowPositions == null) {
             cacheVisibleRowIndexes();
         }
-        return this.cachedVisibleRowPositionIndexMapping;
+        return this.cachedHiddenRowPositions;
     }
 
-    private synchronized IntIntMap getCachedHiddenRowIndexPositionMapping() {
-        if (this.cachedHiddenRowIndexPositionMapping == null) {
-            cacheVisibleRowIndexes();
+    private synchronized int[] getCachedHiddenRowHeightSums() {
+        if (this.cachedHiddenRowHeightSums == null) {
+            int[] hiddenRowPositions = getCachedHiddenRowPositions();
+            int[] sums = new int[hiddenRowPositions.length + 1];
+            IUniqueIndexLayer underlyingLayer = getUnderlyingLayer();
+            for (int i = 0; i < hiddenRowPositions.length; i++) {
+                sums[i + 1] = sums[i] + underlyingLayer.getRowHeightByPosition(hiddenRowPositions[i]);
+            }
+            this.cachedHiddenRowHeightSums = sums;
         }
-        return this.cachedHiddenRowIndexPositionMapping;
+        return this.cachedHiddenRowHeightSums;
     }
 
     /**
      * Build up the row caches.
      */
     protected synchronized void cacheVisibleRowIndexes() {
-
-        this.cachedVisibleRowIndexPositionMapping = IntIntMaps.mutable.empty();
-        this.cachedVisibleRowPositionIndexMapping = IntIntMaps.mutable.empty();
-        this.cachedHiddenRowIndexPositionMapping = IntIntMaps.mutable.empty();
-        this.startYCache = IntIntMaps.mutable.empty();
+        clearHeightCache();
 
         // only build up a cache if it is necessary
-        if (hasHiddenRows()) {
-            ILayer underlyingLayer = getUnderlyingLayer();
-            int rowPosition = 0;
-            for (int parentRowPosition = 0; parentRowPosition < underlyingLayer.getRowCount(); parentRowPosition++) {
-                int rowIndex = underlyingLayer.getRowIndexByPosition(parentRowPosition);
-
-                if (!isRowIndexHidden(rowIndex)) {
-                    this.cachedVisibleRowIndexPositionMapping.put(rowIndex, rowPosition);
-                    this.cachedVisibleRowPositionIndexMapping.put(rowPosition, rowIndex);
-                    rowPosition++;
-                } else {
-                    this.cachedHiddenRowIndexPositionMapping.put(rowIndex, rowPosition);
-                }
+        if (!hasHiddenRows()) {
+            this.cachedHiddenRowPositions = new int[0];
+            return;
+        }
+
+        // rows that are hidden in the underlying layer have no underlying
+        // position and are therefore handled by the underlying layer
+        IUniqueIndexLayer underlyingLayer = getUnderlyingLayer();
+        int[] hiddenRowPositions = Arrays.stream(getHiddenRowIndexesArray())
+                .filter(rowIndex -> rowIndex >= 0)
+                .map(underlyingLayer::getRowPositionByIndex)
+                .filter(rowPosition -> rowPosition >= 0)
+                .sorted()
+                .distinct()
+                .toArray();
+        this.cachedHiddenRowPositions = hiddenRowPositions;
+    }
+
+    /**
+     * Returns the number of hidden row positions that are lower than the given
+     * underlying row position.
+     *
+     * @param hiddenRowPositions
+     *            The sorted hidden underlying row positions.
+     * @param underlyingRowPosition
+     *            The underlying row position.
+     * @return The number of hidden rows before the given position.
+     */
+    private static int rank(int[] hiddenRowPositions, int underlyingRowPosition) {
+        int index = Arrays.binarySearch(hiddenRowPositions, underlyingRowPosition);
+        return (index >= 0) ? index : -(index + 1);
+    }
+
+    /**
+     * Returns the underlying row position of the visible row at the given
+     * local position. The value <code>hiddenRowPositions[i] - i</code> is the
+     * number of visible rows before the i-th hidden row, which is monotonically
+     * increasing and can therefore be searched binary.
+     *
+     * @param hiddenRowPositions
+     *            The sorted hidden underlying row positions.
+     * @param localRowPosition
+     *            The local row position.
+     * @return The underlying row position of the visible row at the given
+     *         local position.
+     */
+    private static int selectUnderlyingRowPosition(int[] hiddenRowPositions, int localRowPosition) {
+        int low = 0;
+        int high = hiddenRowPositions.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (hiddenRowPositions[mid] - mid <= localRowPosition) {
+                low = mid + 1;
+            } else {
+                high = mid;
             }
         }
+        return localRowPosition + low;
     }
 
 }
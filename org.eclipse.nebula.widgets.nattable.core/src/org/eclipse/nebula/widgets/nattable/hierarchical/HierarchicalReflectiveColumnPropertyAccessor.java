@@ -12,13 +12,10 @@
  *****************************************************************************/
 package org.eclipse.nebula.widgets.nattable.hierarchical;
 
-import java.beans.PropertyDescriptor;
-import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.List;
 
 import org.eclipse.nebula.widgets.nattable.data.ReflectiveColumnPropertyAccessor;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
  * Specialization of {@link ReflectiveColumnPropertyAccessor} to access fields
@@ -28,7 +25,7 @@
  */
 public class HierarchicalReflectiveColumnPropertyAccessor extends ReflectiveColumnPropertyAccessor<HierarchicalWrapper> {
 
-    private static final Logger LOG = LoggerFactory.getLogger(HierarchicalReflectiveColumnPropertyAccessor.class);
+    private SplitProperty[] splitProperties = new SplitProperty[0];
 
     /**
      * @param propertyNames
@@ -48,44 +45,58 @@ public HierarchicalReflectiveColumnPropertyAccessor(List<String> propertyNames)
 
     @Override
     public Object getDataValue(HierarchicalWrapper rowObj, int columnIndex) {
-        String propertyName = getColumnProperty(columnIndex);
-        String[] split = propertyName.split(HierarchicalHelper.PROPERTY_SEPARATOR_REGEX);
+        String[] split = getSplitProperty(columnIndex);
         Object levelObject = rowObj.getObject(split.length - 1);
 
         if (levelObject != null) {
-            try {
-                PropertyDescriptor propertyDesc = getPropertyDescriptor(levelObject, split[split.length - 1]);
-                Method readMethod = propertyDesc.getReadMethod();
-                return readMethod.invoke(levelObject);
-            } catch (Exception e) {
-                LOG.warn("Error on getting data value", e); //$NON-NLS-1$
-                throw new RuntimeException(e);
-            }
+            return readPropertyValue(levelObject, columnIndex, split[split.length - 1]);
         }
         return null;
     }
 
     @Override
     public void setDataValue(HierarchicalWrapper rowObj, int columnIndex, Object newValue) {
-        String propertyName = getColumnProperty(columnIndex);
-        String[] split = propertyName.split(HierarchicalHelper.PROPERTY_SEPARATOR_REGEX);
+        String[] split = getSplitProperty(columnIndex);
         Object levelObject = rowObj.getObject(split.length - 1);
 
         if (levelObject != null) {
-            try {
-                PropertyDescriptor propertyDesc = getPropertyDescriptor(levelObject, split[split.length - 1]);
-                Method writeMethod = propertyDesc.getWriteMethod();
-                if (writeMethod == null) {
-                    throw new RuntimeException(
-                            "Setter method not found in backing bean for value at column index: " + columnIndex); //$NON-NLS-1$
-                }
-                writeMethod.invoke(levelObject, newValue);
-            } catch (IllegalArgumentException ex) {
-                LOG.error("Data type being set does not match the data type of the setter method in the backing bean", ex); //$NON-NLS-1$
-            } catch (Exception e) {
-                LOG.error("Error while setting data value", e); //$NON-NLS-1$
-                throw new RuntimeException("Error while setting data value"); //$NON-NLS-1$
-            }
+            writePropertyValue(levelObject, columnIndex, split[split.length - 1], newValue);
+        }
+    }
+
+    /**
+     * Returns the property of the given column split into its levels. The
+     * split result is cached per column to avoid splitting the property
+     * string on every access.
+     *
+     * @param columnIndex
+     *            The column index.
+     * @return The property split by the
+     *         {@link HierarchicalHelper#PROPERTY_SEPARATOR_REGEX}.
+     */
+    private String[] getSplitProperty(int columnIndex) {
+        String propertyName = getColumnProperty(columnIndex);
+        SplitProperty[] cache = this.splitProperties;
+        if (columnIndex >= cache.length) {
+            cache = Arrays.copyOf(cache, Math.max(columnIndex + 1, getColumnCount()));
+            this.splitProperties = cache;
+        }
+
+        SplitProperty split = cache[columnIndex];
+        if (split == null || !split.propertyName.equals(propertyName)) {
+            split = new SplitProperty(propertyName);
+            cache[columnIndex] = split;
+        }
+        return split.levels;
+    }
+
+    private static final class SplitProperty {
+        private final String propertyName;
+        private final String[] levels;
+
+        SplitProperty(String propertyName) {
+            this.propertyName = propertyName;
+            this.levels = propertyName.split(HierarchicalHelper.PROPERTY_SEPARATOR_REGEX);
         }
     }
 }
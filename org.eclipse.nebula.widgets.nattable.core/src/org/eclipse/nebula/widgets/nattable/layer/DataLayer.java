@@ -494,12 +494,18 @@ public void setDataValueByPosition(int columnPosition, int rowPosition, Object n
 
     @Override
     public int getColumnPositionByX(int x) {
-        return LayerUtil.getColumnPositionByX(this, x);
+        if (x < 0 || x >= getWidth()) {
+            return -1;
+        }
+        return this.columnWidthConfig.getPositionByAggregateSize(x);
     }
 
     @Override
     public int getRowPositionByY(int y) {
-        return LayerUtil.getRowPositionByY(this, y);
+        if (y < 0 || y >= getHeight()) {
+            return -1;
+        }
+        return this.rowHeightConfig.getPositionByAggregateSize(y);
     }
 
     @Override
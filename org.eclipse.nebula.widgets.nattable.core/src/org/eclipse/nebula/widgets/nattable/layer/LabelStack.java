@@ -14,17 +14,38 @@
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
 
 /**
  * Collection of labels applied to a cell. Used for conditional styling and
  * behavior.
+ * <p>
+ * Label stacks with more than a few labels maintain an internal index of the
+ * labels, so checking whether a label is on the stack does not need to scan
+ * the list. The index is not part of the serialized form and is rebuilt on
+ * demand after modifications it does not track.
+ * </p>
  */
 public class LabelStack extends LinkedList<String> {
 
     private static final long serialVersionUID = -2942954228158176792L;
 
+    /**
+     * Number of labels from which {@link #contains(Object)} uses the label
+     * index instead of scanning the list.
+     */
+    private static final int INDEX_THRESHOLD = 8;
+
+    /**
+     * The index of the labels on this stack, created on first lookup of a
+     * large stack.
+     */
+    private transient LabelIndex index;
+
     /**
      * Creates a {@link LabelStack} initialized with the given labels.
      *
@@ -113,4 +134,185 @@ public boolean removeLabel(String label) {
         return remove(label);
     }
 
+    @Override
+    public boolean contains(Object label) {
+        if (size() < INDEX_THRESHOLD) {
+            return super.contains(label);
+        }
+        return getIndex().counts.containsKey(label);
+    }
+
+    @Override
+    public boolean add(String label) {
+        LabelIndex current = getValidIndex();
+        super.add(label);
+        if (current != null) {
+            current.add(label);
+            current.modCount = this.modCount;
+        }
+        return true;
+    }
+
+    @Override
+    public void addFirst(String label) {
+        LabelIndex current = getValidIndex();
+        super.addFirst(label);
+        if (current != null) {
+            current.add(label);
+            current.modCount = this.modCount;
+        }
+    }
+
+    @Override
+    public void addLast(String label) {
+        LabelIndex current = getValidIndex();
+        super.addLast(label);
+        if (current != null) {
+            current.add(label);
+            current.modCount = this.modCount;
+        }
+    }
+
+    @Override
+    public boolean remove(Object label) {
+        LabelIndex current = getValidIndex();
+        boolean removed = super.remove(label);
+        if (removed && current != null) {
+            current.remove(label);
+            current.modCount = this.modCount;
+        }
+        return removed;
+    }
+
+    @Override
+    public String set(int index, String label) {
+        // replacing an element is not a structural modification, so the
+        // modCount does not reveal it
+        this.index = null;
+        return super.set(index, label);
+    }
+
+    @Override
+    public ListIterator<String> listIterator(int index) {
+        ListIterator<String> iterator = super.listIterator(index);
+        return new ListIterator<String>() {
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public String next() {
+                return iterator.next();
+            }
+
+            @Override
+            public boolean hasPrevious() {
+                return iterator.hasPrevious();
+            }
+
+            @Override
+            public String previous() {
+                return iterator.previous();
+            }
+
+            @Override
+            public int nextIndex() {
+                return iterator.nextIndex();
+            }
+
+            @Override
+            public int previousIndex() {
+                return iterator.previousIndex();
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+            }
+
+            @Override
+            public void set(String label) {
+                LabelStack.this.index = null;
+                iterator.set(label);
+            }
+
+            @Override
+            public void add(String label) {
+                iterator.add(label);
+            }
+        };
+    }
+
+    @Override
+    public Object clone() {
+        LabelStack clone = (LabelStack) super.clone();
+        clone.index = null;
+        return clone;
+    }
+
+    /**
+     * @return The label index if it reflects the current labels,
+     *         <code>null</code> if there is none or it is outdated.
+     */
+    private LabelIndex getValidIndex() {
+        LabelIndex current = this.index;
+        // the owner check covers a clone that is filled by LinkedList#clone()
+        // while it still references the index of the original
+        if (current != null && current.owner == this && current.modCount == this.modCount) {
+            return current;
+        }
+        return null;
+    }
+
+    /**
+     * @return The label index, rebuilt if it does not reflect the current
+     *         labels.
+     */
+    private LabelIndex getIndex() {
+        LabelIndex current = getValidIndex();
+        if (current == null) {
+            current = new LabelIndex(this);
+            for (String label : this) {
+                current.add(label);
+            }
+            current.modCount = this.modCount;
+            this.index = current;
+        }
+        return current;
+    }
+
+    /**
+     * Counts the occurrences of the labels of a {@link LabelStack}. Labels
+     * added via {@link #add(String)} may occur more than once.
+     */
+    private static final class LabelIndex {
+
+        private final LabelStack owner;
+        private final Map<String, Integer> counts = new HashMap<>();
+
+        /**
+         * The modification count of the owner the index reflects.
+         */
+        private int modCount;
+
+        private LabelIndex(LabelStack owner) {
+            this.owner = owner;
+        }
+
+        private void add(String label) {
+            this.counts.merge(label, 1, Integer::sum);
+        }
+
+        private void remove(Object label) {
+            Integer count = this.counts.get(label);
+            if (count == null || count == 1) {
+                this.counts.remove(label);
+            } else {
+                this.counts.put((String) label, count - 1);
+            }
+        }
+    }
+
 }
@@ -15,6 +15,7 @@
  ******************************************************************************/
 package org.eclipse.nebula.widgets.nattable.layer;
 
+import java.util.Arrays;
 import java.util.Properties;
 import java.util.StringTokenizer;
 
@@ -31,6 +32,7 @@
 import org.eclipse.collections.impl.factory.primitive.IntIntMaps;
 import org.eclipse.collections.impl.factory.primitive.IntLists;
 import org.eclipse.nebula.widgets.nattable.persistence.IPersistable;
+import org.eclipse.nebula.widgets.nattable.util.PrefixSumTree;
 
 /**
  * This class stores the size configuration of rows/columns within the NatTable.
@@ -119,8 +121,40 @@ public class SizeConfig implements IPersistable {
     protected final MutableIntIntMap realSizeMap = IntIntMaps.mutable.empty();
     /**
      * Map that contains the cached aggregated sizes.
+     *
+     * @deprecated Aggregated sizes are calculated via
+     *             {@link #aggregatedSizeTree}, this map is not used anymore.
      */
+    @Deprecated
     protected final MutableIntIntMap aggregatedSizeCacheMap = IntIntMaps.mutable.empty();
+    /**
+     * Sorted positions that have a size different to the default size
+     * configured, which means positions that have a configured size or
+     * position based default size, or a calculated percentage size. Only valid
+     * if {@link #isAggregatedSizeCacheValid} is <code>true</code>.
+     *
+     * @since 2.1
+     */
+    private int[] aggregatedSizeKeys = new int[0];
+    /**
+     * {@link PrefixSumTree} over the spans defined by
+     * {@link #aggregatedSizeKeys}. The span at index <i>i</i> contains the
+     * positions between the previous key (exclusive) and the key at index
+     * <i>i</i> (inclusive), which means the positions with the default size in
+     * between and the special sized position. Used to calculate the aggregated
+     * size and the position at a pixel value in <code>O(log n)</code>. Only
+     * valid if {@link #isAggregatedSizeCacheValid} is <code>true</code>.
+     *
+     * @since 2.1
+     */
+    private PrefixSumTree aggregatedSizeTree = new PrefixSumTree(new int[0]);
+    /**
+     * The upscaled default size that was used to build the
+     * {@link #aggregatedSizeTree}.
+     *
+     * @since 2.1
+     */
+    private int aggregatedSizeDefault;
     /**
      * Flag that indicates if the aggregated size cache is valid or if it needs
      * to get recalculated.
@@ -414,18 +448,135 @@ public int getAggregateSize(int position) {
             // value needs to be considered
             return position * upScale(this.defaultSize);
         } else {
-            // See if the cache is valid, if not clear it.
-            if (!this.isAggregatedSizeCacheValid) {
-                this.aggregatedSizeCacheMap.clear();
-                this.isAggregatedSizeCacheValid = true;
+            validateAggregatedSizes();
+
+            // number of special sized positions before the given position
+            int count = Arrays.binarySearch(this.aggregatedSizeKeys, position);
+            if (count < 0) {
+                count = -count - 1;
             }
 
-            if (!this.aggregatedSizeCacheMap.containsKey(position)) {
-                int aggregatedSize = calculateAggregatedSize(position);
-                this.aggregatedSizeCacheMap.put(position, aggregatedSize);
+            if (count == 0) {
+                return position * this.aggregatedSizeDefault;
             }
-            return this.aggregatedSizeCacheMap.get(position);
+            int remaining = position - this.aggregatedSizeKeys[count - 1] - 1;
+            return this.aggregatedSizeTree.prefixSum(count) + (remaining * this.aggregatedSizeDefault);
+        }
+    }
+
+    /**
+     * Returns the position that contains the given pixel value, which is the
+     * position for which <code>getAggregateSize(position) &lt;= size &lt;
+     * getAggregateSize(position + 1)</code>. This is the inverse operation of
+     * {@link #getAggregateSize(int)} and is calculated in <code>O(log n)</code>
+     * where <i>n</i> is the number of positions with a special size.
+     * <p>
+     * <b>Note:</b> The {@link SizeConfig} does not know the number of
+     * positions it handles. Therefore the caller needs to check if the given
+     * size is within the bounds of the layer.
+     * </p>
+     *
+     * @param size
+     *            The pixel value for which the position is requested.
+     * @return The position that contains the given pixel value, or -1 if the
+     *         given value is negative or no position can be determined, e.g.
+     *         because all positions have a size of 0.
+     *
+     * @since 2.1
+     */
+    public int getPositionByAggregateSize(int size) {
+        if (size < 0) {
+            return -1;
+        }
+
+        if (isAllPositionsSameSize() && !isPercentageSizing()) {
+            int scaledDefault = upScale(this.defaultSize);
+            return (scaledDefault > 0) ? size / scaledDefault : -1;
+        }
+
+        validateAggregatedSizes();
+
+        int[] keys = this.aggregatedSizeKeys;
+        int index = this.aggregatedSizeTree.findIndex(size);
+        if (index == keys.length) {
+            // behind the last special sized position
+            int start = (keys.length > 0) ? keys[keys.length - 1] + 1 : 0;
+            int remaining = size - this.aggregatedSizeTree.total();
+            return (this.aggregatedSizeDefault > 0) ? start + (remaining / this.aggregatedSizeDefault) : -1;
+        }
+
+        int gapStart = (index > 0) ? keys[index - 1] + 1 : 0;
+        int offset = size - this.aggregatedSizeTree.prefixSum(index);
+        if (offset < (keys[index] - gapStart) * this.aggregatedSizeDefault) {
+            return gapStart + (offset / this.aggregatedSizeDefault);
         }
+        return keys[index];
+    }
+
+    /**
+     * Rebuilds the {@link PrefixSumTree} that is used to calculate aggregated
+     * sizes if it is not valid anymore.
+     */
+    private void validateAggregatedSizes() {
+        if (this.isAggregatedSizeCacheValid) {
+            return;
+        }
+
+        boolean pSizing = isPercentageSizing();
+        MutableIntIntMap mapToUse = pSizing ? this.realSizeMap : this.sizeMap;
+
+        MutableIntList keyList = IntLists.mutable.withAll(mapToUse.keySet());
+        this.defaultSizeMap.forEachKey(key -> {
+            if (!mapToUse.containsKey(key)) {
+                keyList.add(key);
+            }
+        });
+        int[] keys = keyList.toSortedArray();
+
+        int scaledDefault = upScale(this.defaultSize);
+        int[] spans = new int[keys.length];
+        int previous = -1;
+        for (int i = 0; i < keys.length; i++) {
+            spans[i] = ((keys[i] - previous - 1) * scaledDefault) + getAggregatedSizeValue(keys[i], pSizing, mapToUse);
+            previous = keys[i];
+        }
+
+        this.aggregatedSizeKeys = keys;
+        this.aggregatedSizeTree = new PrefixSumTree(spans);
+        this.aggregatedSizeDefault = scaledDefault;
+        this.isAggregatedSizeCacheValid = true;
+    }
+
+    /**
+     * Returns the pixel size of a position that has a special size
+     * configuration, as it needs to be considered for aggregated sizes.
+     */
+    private int getAggregatedSizeValue(int position, boolean pSizing, MutableIntIntMap mapToUse) {
+        int size = mapToUse.getIfAbsent(position, -1);
+        if (size != -1) {
+            return pSizing ? size : upScale(size);
+        }
+        return upScale(this.defaultSizeMap.get(position));
+    }
+
+    /**
+     * Updates the size of a single position in the valid
+     * {@link PrefixSumTree} without rebuilding it. Only possible if the
+     * position is already a special sized position and percentage sizing is
+     * not active, otherwise the tree is invalidated.
+     */
+    private void updateAggregatedSize(int position) {
+        if (this.isAggregatedSizeCacheValid && !isPercentageSizing()) {
+            int index = Arrays.binarySearch(this.aggregatedSizeKeys, position);
+            if (index >= 0) {
+                int previous = (index > 0) ? this.aggregatedSizeKeys[index - 1] : -1;
+                int span = ((position - previous - 1) * this.aggregatedSizeDefault)
+                        + getAggregatedSizeValue(position, false, this.sizeMap);
+                this.aggregatedSizeTree.set(index, span);
+                return;
+            }
+        }
+        this.isAggregatedSizeCacheValid = false;
     }
 
     public int getSize(int position) {
@@ -573,6 +724,7 @@ public void setSize(int position, int size) {
                 int oldValue = this.sizeMap.getIfAbsent(position, -1);
                 int diff = (oldValue != -1) ? size - oldValue : size - getDefaultSize(position);
                 this.sizeMap.put(position, size);
+                updateAggregatedSize(position);
 
                 // if percentage sizing is enabled and percentage values should
                 // be fixed on resize, we recalculate percentages to the left
@@ -657,8 +809,10 @@ public void setSize(int position, int size) {
                 this.percentageSizeMap.put(position, size);
             }
 
-            calculatePercentages(this.availableSpace, this.realSizeMap.size());
-            this.isAggregatedSizeCacheValid = false;
+            if (isPercentageSizing()) {
+                calculatePercentages(this.availableSpace, this.realSizeMap.size());
+                this.isAggregatedSizeCacheValid = false;
+            }
         }
     }
 
@@ -817,6 +971,7 @@ public void setPercentage(int position, double percentage) {
             this.percentageSizingMap.put(position, true);
             this.percentageSizeMap.put(position, percentage);
             this.realSizeMap.put(position, calculatePercentageValue(percentage, this.availableSpace));
+            this.isAggregatedSizeCacheValid = false;
             calculatePercentages(this.availableSpace, this.realSizeMap.size());
         }
     }
@@ -1304,41 +1459,6 @@ protected int[] correctPercentageValues(double sum, int positionCount) {
         return new int[0];
     }
 
-    private int calculateAggregatedSize(int position) {
-        int resizeAggregate = 0;
-        int resizedColumns = 0;
-
-        boolean pSizing = isPercentageSizing();
-        MutableIntIntMap mapToUse = pSizing ? this.realSizeMap : this.sizeMap;
-
-        for (int resizedPosition : mapToUse.keySet().toSortedArray()) {
-            if (resizedPosition < position) {
-                resizedColumns++;
-                int size = mapToUse.get(resizedPosition);
-                resizeAggregate += pSizing ? size : upScale(size);
-            } else {
-                break;
-            }
-        }
-
-        // also take into account the default size configuration per position
-        for (int defaultPosition : this.defaultSizeMap.keySet().toSortedArray()) {
-            if (defaultPosition < position) {
-                if (!mapToUse.containsKey(defaultPosition)) {
-                    resizedColumns++;
-                    int size = this.defaultSizeMap.get(defaultPosition);
-                    resizeAggregate += upScale(size);
-                }
-            } else {
-                break;
-            }
-        }
-
-        int result = (position - resizedColumns) * upScale(this.defaultSize);
-        result += resizeAggregate;
-        return result;
-    }
-
     private int correctExtend(int extend, MutableIntList fixedPercentagePositions) {
         int remainingExtend = extend;
         double eligibleSum = fixedPercentagePositions.primitiveStream()
@@ -1446,6 +1566,7 @@ public void reset() {
         this.percentageSizingMap.clear();
         this.realSizeMap.clear();
         this.aggregatedSizeCacheMap.clear();
+        this.isAggregatedSizeCacheValid = false;
         this.minSizeMap.clear();
     }
 
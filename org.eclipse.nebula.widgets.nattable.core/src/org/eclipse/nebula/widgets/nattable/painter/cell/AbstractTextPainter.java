@@ -14,9 +14,6 @@
  ******************************************************************************/
 package org.eclipse.nebula.widgets.nattable.painter.cell;
 
-import java.util.Map;
-import java.util.WeakHashMap;
-
 import org.eclipse.nebula.widgets.nattable.config.IConfigRegistry;
 import org.eclipse.nebula.widgets.nattable.data.convert.IDisplayConverter;
 import org.eclipse.nebula.widgets.nattable.layer.cell.CellDisplayConversionUtils;
@@ -27,7 +24,6 @@
 import org.eclipse.nebula.widgets.nattable.util.GUIHelper;
 import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.Font;
-import org.eclipse.swt.graphics.FontData;
 import org.eclipse.swt.graphics.GC;
 
 /**
@@ -75,8 +71,7 @@ public abstract class AbstractTextPainter extends BackgroundPainter {
     private Color originalForeground;
     private Font originalFont;
 
-    private static Map<String, Integer> temporaryMap = new WeakHashMap<>();
-    private static Map<org.eclipse.swt.graphics.Font, FontData[]> fontDataCache = new WeakHashMap<>();
+    private static final TextWidthCache TEXT_WIDTH_CACHE = new TextWidthCache();
 
     public AbstractTextPainter() {
         this(false, true);
@@ -289,8 +284,10 @@ protected int getNumberOfNewLines(String text) {
     /**
      * Calculates the length of a given text by using the GC. To minimize the
      * count of calculations, the calculation result will be stored within a
-     * Map, so the next time the length of the same text is asked for, the
-     * result is only returned by cache and is not calculated again.
+     * size capped cache per font, so the next time the length of the same text
+     * is asked for, the result is only returned by cache and is not calculated
+     * again. For numeric texts and monospace fonts the length is calculated
+     * from the character widths without a native calculation.
      *
      * @param gc
      *            the current GC
@@ -299,27 +296,7 @@ protected int getNumberOfNewLines(String text) {
      * @return the length of the text
      */
     protected int getLengthFromCache(GC gc, String text) {
-        String originalString = text;
-        StringBuilder buffer = new StringBuilder();
-        buffer.append(text);
-        if (gc.getFont() != null) {
-            FontData[] datas = fontDataCache.get(gc.getFont());
-            if (datas == null) {
-                datas = gc.getFont().getFontData();
-                fontDataCache.put(gc.getFont(), datas);
-            }
-            if (datas != null && datas.length > 0) {
-                buffer.append(datas[0].getName());
-                buffer.append(","); //$NON-NLS-1$
-                buffer.append(datas[0].getHeight());
-                buffer.append(","); //$NON-NLS-1$
-                buffer.append(datas[0].getStyle());
-            }
-        }
-        text = buffer.toString();
-        Integer width = temporaryMap.computeIfAbsent(text, t -> Integer.valueOf(gc.textExtent(originalString).x));
-
-        return width.intValue();
+        return TEXT_WIDTH_CACHE.getTextWidth(gc, text);
     }
 
     /**
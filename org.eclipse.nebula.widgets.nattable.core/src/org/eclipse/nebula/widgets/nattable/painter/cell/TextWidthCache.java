@@ -0,0 +1,269 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.painter.cell;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.ToIntFunction;
+
+import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.GC;
+
+/**
+ * Cache for the width of texts, used to reduce the number of native text
+ * measurements on painting. The widths are cached per {@link Font} in a size
+ * capped map with least recently used eviction, so rendering millions of
+ * distinct values does not lead to an unbounded cache.
+ * <p>
+ * Additionally an advance width table per character is created for every font.
+ * If the table is verified to produce the same widths as the native
+ * measurement, the width of numeric strings is calculated by summing up the
+ * character widths. For monospace fonts this is done for every printable ASCII
+ * string. These calculations do not need any native measurement or cache
+ * entry.
+ * </p>
+ *
+ * @since 2.1
+ */
+public class TextWidthCache {
+
+    /**
+     * The default maximum number of cached text widths per font.
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 10000;
+
+    /**
+     * The characters that are supported for the numeric calculation.
+     */
+    private static final String NUMERIC_CHARACTERS = "0123456789+-.,' "; //$NON-NLS-1$
+
+    /**
+     * Samples to verify that summing up the character widths produces the
+     * same result as the native measurement, which is not the case if the font
+     * uses kerning or fractional advances.
+     */
+    private static final String[] NUMERIC_SAMPLES = {
+            "0123456789", //$NON-NLS-1$
+            "1111111111", //$NON-NLS-1$
+            "-1,234,567.89", //$NON-NLS-1$
+            "+9'876 543.21-", //$NON-NLS-1$
+            "10.01,7-7" //$NON-NLS-1$
+    };
+
+    private static final String[] MONOSPACE_SAMPLES = {
+            "iW", //$NON-NLS-1$
+            "Hello World!", //$NON-NLS-1$
+            "mmmmmmmmmmiiiiiiiiii", //$NON-NLS-1$
+            "AVAV To Ty LT" //$NON-NLS-1$
+    };
+
+    private final int maxEntries;
+
+    private final Map<Font, FontWidths> fontWidths = new WeakHashMap<>();
+
+    /**
+     * Creates a cache with {@link #DEFAULT_MAX_ENTRIES} entries per font.
+     */
+    public TextWidthCache() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * @param maxEntries
+     *            The maximum number of text widths that are cached per font.
+     */
+    public TextWidthCache(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries needs to be greater than 0"); //$NON-NLS-1$
+        }
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Returns the width of the given text when rendered with the font that is
+     * currently set to the given {@link GC}.
+     *
+     * @param gc
+     *            The {@link GC} used to measure the text.
+     * @param text
+     *            The text to measure.
+     * @return The width of the text as returned by
+     *         {@link GC#textExtent(String)}.
+     */
+    public int getTextWidth(GC gc, String text) {
+        return getTextWidth(gc.getFont(), text, t -> gc.textExtent(t).x);
+    }
+
+    /**
+     * Returns the width of the given text for the given font, using the given
+     * function for measurements that are not cached yet.
+     *
+     * @param font
+     *            The font the text is rendered with, can be <code>null</code>.
+     * @param text
+     *            The text to measure.
+     * @param measure
+     *            The function that measures a text natively.
+     * @return The width of the text.
+     */
+    public int getTextWidth(Font font, String text, ToIntFunction<String> measure) {
+        FontWidths widths;
+        synchronized (this.fontWidths) {
+            widths = this.fontWidths.computeIfAbsent(font, f -> new FontWidths(this.maxEntries));
+        }
+        return widths.getTextWidth(text, measure);
+    }
+
+    /**
+     * @param font
+     *            The font for which the number of cached entries is
+     *            requested.
+     * @return The number of text widths cached for the given font.
+     */
+    public int getCachedEntryCount(Font font) {
+        FontWidths widths;
+        synchronized (this.fontWidths) {
+            widths = this.fontWidths.get(font);
+        }
+        return widths != null ? widths.getCachedEntryCount() : 0;
+    }
+
+    /**
+     * Removes all cached widths.
+     */
+    public void clear() {
+        synchronized (this.fontWidths) {
+            this.fontWidths.clear();
+        }
+    }
+
+    /**
+     * The widths of a single font.
+     */
+    private static final class FontWidths {
+
+        private final LinkedHashMap<String, Integer> cache;
+
+        /**
+         * Advance widths of the {@link TextWidthCache#NUMERIC_CHARACTERS},
+         * <code>null</code> if not initialized, empty if the numeric
+         * calculation is not supported by the font.
+         */
+        private int[] numericWidths;
+
+        /**
+         * The advance width of every printable ASCII character for monospace
+         * fonts, 0 if not initialized, -1 if the font is not monospace.
+         */
+        private int monospaceWidth;
+
+        FontWidths(final int maxEntries) {
+            this.cache = new LinkedHashMap<String, Integer>(64, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Integer> eldest) {
+                    return size() > maxEntries;
+                }
+            };
+        }
+
+        synchronized int getTextWidth(String text, ToIntFunction<String> measure) {
+            if (this.numericWidths == null) {
+                initCharacterWidths(measure);
+            }
+
+            int width = calculateWidth(text);
+            if (width >= 0) {
+                return width;
+            }
+
+            Integer cached = this.cache.get(text);
+            if (cached == null) {
+                cached = measure.applyAsInt(text);
+                this.cache.put(text, cached);
+            }
+            return cached;
+        }
+
+        synchronized int getCachedEntryCount() {
+            return this.cache.size();
+        }
+
+        /**
+         * Calculates the width of the given text from the character widths.
+         *
+         * @return The width or -1 if the text can not be calculated.
+         */
+        private int calculateWidth(String text) {
+            if (this.monospaceWidth > 0) {
+                for (int i = 0; i < text.length(); i++) {
+                    char c = text.charAt(i);
+                    if (c < 0x20 || c > 0x7E) {
+                        return -1;
+                    }
+                }
+                return text.length() * this.monospaceWidth;
+            }
+
+            if (this.numericWidths.length > 0) {
+                int width = 0;
+                for (int i = 0; i < text.length(); i++) {
+                    int index = NUMERIC_CHARACTERS.indexOf(text.charAt(i));
+                    if (index < 0) {
+                        return -1;
+                    }
+                    width += this.numericWidths[index];
+                }
+                return width;
+            }
+            return -1;
+        }
+
+        private void initCharacterWidths(ToIntFunction<String> measure) {
+            int[] widths = new int[NUMERIC_CHARACTERS.length()];
+            for (int i = 0; i < widths.length; i++) {
+                widths[i] = measure.applyAsInt(String.valueOf(NUMERIC_CHARACTERS.charAt(i)));
+            }
+            this.numericWidths = widths;
+            if (!verify(NUMERIC_SAMPLES, measure)) {
+                this.numericWidths = new int[0];
+            }
+
+            this.monospaceWidth = -1;
+            if (this.numericWidths.length > 0) {
+                int width = widths[0];
+                boolean monospace = Arrays.stream(widths).allMatch(w -> w == width)
+                        && measure.applyAsInt("i") == width //$NON-NLS-1$
+                        && measure.applyAsInt("W") == width; //$NON-NLS-1$
+                if (monospace) {
+                    this.monospaceWidth = width;
+                    if (!verify(MONOSPACE_SAMPLES, measure)) {
+                        this.monospaceWidth = -1;
+                    }
+                }
+            }
+        }
+
+        private boolean verify(String[] samples, ToIntFunction<String> measure) {
+            for (String sample : samples) {
+                if (calculateWidth(sample) != measure.applyAsInt(sample)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
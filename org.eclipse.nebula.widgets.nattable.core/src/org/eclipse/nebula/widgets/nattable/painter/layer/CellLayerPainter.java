@@ -12,14 +12,20 @@
  ******************************************************************************/
 package org.eclipse.nebula.widgets.nattable.painter.layer;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.nebula.widgets.nattable.NatTable;
+import org.eclipse.nebula.widgets.nattable.config.CellConfigAttributes;
 import org.eclipse.nebula.widgets.nattable.config.IConfigRegistry;
 import org.eclipse.nebula.widgets.nattable.layer.ILayer;
 import org.eclipse.nebula.widgets.nattable.layer.cell.ILayerCell;
+import org.eclipse.nebula.widgets.nattable.painter.cell.BackgroundPainter;
 import org.eclipse.nebula.widgets.nattable.painter.cell.ICellPainter;
 import org.eclipse.swt.graphics.GC;
 import org.eclipse.swt.graphics.Rectangle;
@@ -33,6 +39,13 @@ public class CellLayerPainter implements ILayerPainter {
     private final boolean clipLeft;
     private final boolean clipTop;
 
+    private long paintTimeBudget;
+    private ICellPainter placeholderPainter = new BackgroundPainter();
+
+    private long paintStartTime;
+    private boolean expensiveCellPainted;
+    private List<Rectangle> deferredCellBounds;
+
     /**
      * Create a default CellLayerPainter with default clipping behaviour.
      */
@@ -69,6 +82,8 @@ public void paintLayer(ILayer natLayer, GC gc, int xOffset, int yOffset,
         this.natLayer = natLayer;
         Rectangle positionRectangle = getPositionRectangleFromPixelRectangle(natLayer, pixelRectangle);
 
+        startPaintPass(natLayer);
+
         calculateDimensionInfo(positionRectangle);
 
         Collection<ILayerCell> spannedCells = Sets.mutable.empty();
@@ -94,6 +109,152 @@ public void paintLayer(ILayer natLayer, GC gc, int xOffset, int yOffset,
         for (ILayerCell cell : spannedCells) {
             paintCell(cell, gc, configRegistry);
         }
+
+        finishPaintPass(natLayer);
+    }
+
+    /**
+     * Initializes the budget tracking for a paint pass on the given layer.
+     */
+    void startPaintPass(ILayer natLayer) {
+        boolean budgeted = this.paintTimeBudget > 0 && isDeferredPaintingSupported(natLayer);
+        this.paintStartTime = budgeted ? System.nanoTime() : 0;
+        this.expensiveCellPainted = false;
+        this.deferredCellBounds = budgeted ? new ArrayList<>() : null;
+    }
+
+    /**
+     * Triggers the redraw of the cells that were deferred in the current paint
+     * pass and ends the budget tracking.
+     */
+    void finishPaintPass(ILayer natLayer) {
+        if (this.deferredCellBounds != null && !this.deferredCellBounds.isEmpty()) {
+            scheduleDeferredRedraw(natLayer, this.deferredCellBounds);
+        }
+        this.deferredCellBounds = null;
+    }
+
+    /**
+     * Checks if painting cells can be deferred when painting the given layer.
+     * Deferring is only possible if a follow-up redraw can be triggered, which
+     * is the case while a NatTable paints itself on screen via
+     * {@link NatTable#paintControl(org.eclipse.swt.events.PaintEvent)}, but
+     * not on printing or image export, which paint the NatTable into another
+     * GC.
+     *
+     * @param natLayer
+     *            The layer that is painted.
+     * @return <code>true</code> if painting expensive cells can be deferred.
+     * @since 2.1
+     */
+    protected boolean isDeferredPaintingSupported(ILayer natLayer) {
+        return natLayer instanceof NatTable && ((NatTable) natLayer).isPaintingOnScreen();
+    }
+
+    /**
+     * Triggers the redraw of the cells whose painting was deferred because the
+     * paint time budget was exceeded. The redraw is triggered asynchronously so
+     * that pending user interactions are processed first.
+     *
+     * @param natLayer
+     *            The layer that was painted, the NatTable in case of painting
+     *            on screen.
+     * @param cellBounds
+     *            The bounds of the cells whose painting was deferred.
+     * @since 2.1
+     */
+    protected void scheduleDeferredRedraw(ILayer natLayer, List<Rectangle> cellBounds) {
+        if (natLayer instanceof NatTable) {
+            NatTable natTable = (NatTable) natLayer;
+            natTable.getDisplay().asyncExec(() -> {
+                if (!natTable.isDisposed()) {
+                    for (Rectangle bounds : cellBounds) {
+                        natTable.redraw(bounds.x, bounds.y, bounds.width, bounds.height, false);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Checks if painting the given cell should be deferred. This is the case
+     * if a paint time budget is configured, the budget is exceeded for the
+     * current paint pass and the cell is configured to use an expensive
+     * painter via {@link CellConfigAttributes#EXPENSIVE_CELL_PAINTER}. At
+     * least one expensive cell is painted per pass to ensure progress.
+     *
+     * @param cell
+     *            The cell to check.
+     * @param configRegistry
+     *            The IConfigRegistry to retrieve the configuration from.
+     * @return <code>true</code> if the cell should be rendered with the
+     *         placeholder painter and repainted later.
+     * @since 2.1
+     */
+    protected boolean isDeferred(ILayerCell cell, IConfigRegistry configRegistry) {
+        if (this.deferredCellBounds == null
+                || this.placeholderPainter == null
+                || !Boolean.TRUE.equals(configRegistry.getConfigAttribute(
+                        CellConfigAttributes.EXPENSIVE_CELL_PAINTER,
+                        cell.getDisplayMode(),
+                        cell.getConfigLabels()))) {
+            return false;
+        }
+
+        if (!this.expensiveCellPainted
+                || System.nanoTime() - this.paintStartTime <= this.paintTimeBudget) {
+            this.expensiveCellPainted = true;
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return The time budget in milliseconds for painting expensive cells in
+     *         a single paint pass. 0 if budgeted painting is disabled.
+     * @since 2.1
+     */
+    public long getPaintTimeBudget() {
+        return TimeUnit.NANOSECONDS.toMillis(this.paintTimeBudget);
+    }
+
+    /**
+     * Configure a time budget in milliseconds for a single paint pass. Cells
+     * that are configured to use an expensive painter via
+     * {@link CellConfigAttributes#EXPENSIVE_CELL_PAINTER} are rendered with a
+     * placeholder once the budget is exceeded and are painted in a follow-up
+     * redraw. This keeps the table responsive, e.g. on fast scrolling. Setting
+     * the budget to 0 disables budgeted painting, which is the default.
+     *
+     * @param paintTimeBudget
+     *            The paint time budget in milliseconds.
+     * @since 2.1
+     */
+    public void setPaintTimeBudget(long paintTimeBudget) {
+        this.paintTimeBudget = TimeUnit.MILLISECONDS.toNanos(Math.max(0, paintTimeBudget));
+    }
+
+    /**
+     * @return The ICellPainter that is used to render a placeholder for cells
+     *         whose painting is deferred.
+     * @since 2.1
+     */
+    public ICellPainter getPlaceholderPainter() {
+        return this.placeholderPainter;
+    }
+
+    /**
+     * Configure the ICellPainter that is used to render a placeholder for
+     * cells whose painting is deferred. Should be a cheap painter. By default a
+     * {@link BackgroundPainter} is used that only renders the cell background.
+     * Setting <code>null</code> disables deferred painting.
+     *
+     * @param placeholderPainter
+     *            The ICellPainter to render a placeholder.
+     * @since 2.1
+     */
+    public void setPlaceholderPainter(ICellPainter placeholderPainter) {
+        this.placeholderPainter = placeholderPainter;
     }
 
     /**
@@ -203,6 +364,10 @@ protected void paintCell(ILayerCell cell, GC gc, IConfigRegistry configRegistry)
         int columnPosition = cell.getColumnPosition();
         int rowPosition = cell.getRowPosition();
         ICellPainter cellPainter = layer.getCellPainter(columnPosition, rowPosition, cell, configRegistry);
+        boolean deferred = cellPainter != null && isDeferred(cell, configRegistry);
+        if (deferred) {
+            cellPainter = this.placeholderPainter;
+        }
         Rectangle adjustedCellBounds = layer
                 .getLayerPainter()
                 .adjustCellBounds(columnPosition, rowPosition, cell.getBounds());
@@ -217,10 +382,15 @@ protected void paintCell(ILayerCell cell, GC gc, IConfigRegistry configRegistry)
 
             Rectangle cellClipBounds = originalClipping.intersection(
                     new Rectangle(startX, startY, endX - startX, endY - startY));
-            gc.setClipping(cellClipBounds.intersection(adjustedCellBounds));
+            Rectangle paintBounds = cellClipBounds.intersection(adjustedCellBounds);
+            gc.setClipping(paintBounds);
 
             cellPainter.paintCell(cell, gc, adjustedCellBounds, configRegistry);
 
+            if (deferred) {
+                this.deferredCellBounds.add(paintBounds);
+            }
+
             gc.setClipping(originalClipping);
         }
     }
@@ -28,7 +28,7 @@
 
 public class GridLineCellLayerPainter extends CellLayerPainter {
 
-    private final Color gridColor;
+    private Color gridColor;
 
     /**
      * @since 1.5
@@ -56,7 +56,8 @@ public GridLineCellLayerPainter(final Color gridColor) {
      * the default clipping behaviour.
      */
     public GridLineCellLayerPainter() {
-        this.gridColor = GUIHelper.COLOR_GRAY;
+        // the default gray is resolved lazily in getGridColor() so the painter
+        // can be created without a Display, e.g. in headless benchmarks
     }
 
     /**
@@ -97,13 +98,16 @@ public GridLineCellLayerPainter(final Color gridColor, boolean clipLeft, boolean
      *            default value is <code>false</code>.
      */
     public GridLineCellLayerPainter(boolean clipLeft, boolean clipTop) {
-        this(GUIHelper.COLOR_GRAY, clipLeft, clipTop);
+        super(clipLeft, clipTop);
     }
 
     /**
      * @return The local configured color that is used to render the grid lines.
      */
     public Color getGridColor() {
+        if (this.gridColor == null) {
+            this.gridColor = GUIHelper.COLOR_GRAY;
+        }
         return this.gridColor;
     }
 
@@ -178,7 +182,7 @@ protected void drawGridLines(ILayer natLayer, GC gc, Rectangle rectangle, IConfi
                 CellConfigAttributes.GRID_LINE_COLOR,
                 DisplayMode.NORMAL,
                 labels);
-        gc.setForeground(gColor != null ? gColor : this.gridColor);
+        gc.setForeground(gColor != null ? gColor : getGridColor());
 
         int adjustment = (this.gridLineWidth == 1) ? 1 : Math.round(this.gridLineWidth.floatValue() / 2);
 
@@ -35,6 +35,7 @@
 import org.eclipse.nebula.widgets.nattable.layer.event.IStructuralChangeEvent;
 import org.eclipse.nebula.widgets.nattable.layer.event.StructuralChangeEventHelper;
 import org.eclipse.nebula.widgets.nattable.layer.event.StructuralDiff;
+import org.eclipse.nebula.widgets.nattable.layer.event.StructuralDiff.DiffTypeEnum;
 import org.eclipse.nebula.widgets.nattable.persistence.IPersistable;
 import org.eclipse.nebula.widgets.nattable.reorder.action.ColumnReorderDragMode;
 import org.eclipse.nebula.widgets.nattable.reorder.command.ColumnReorderCommandHandler;
@@ -78,7 +79,18 @@ public class ColumnReorderLayer extends AbstractLayerTransform implements IUniqu
      */
     protected final MutableIntIntMap indexPositionMapping = IntIntMaps.mutable.empty();
 
-    private final MutableIntIntMap startXCache = IntIntMaps.mutable.empty();
+    /**
+     * Caching of the starting x positions of the columns as prefix sums of the
+     * column widths. Position X contains the start x coordinate of the column
+     * at position X. Only the first {@link #startXCacheCount} entries are
+     * valid.
+     */
+    private int[] startXCache = new int[0];
+
+    /**
+     * The number of valid entries in {@link #startXCache}.
+     */
+    private int startXCacheCount = 0;
 
     private int reorderFromColumnPosition;
 
@@ -126,7 +138,7 @@ public void handleLayerEvent(ILayerEvent event) {
                 if (structuralDiffs == null) {
                     // Assume everything changed
                     populateIndexOrder();
-                } else {
+                } else if (structuralDiffs.stream().anyMatch(diff -> diff.getDiffType() != DiffTypeEnum.CHANGE)) {
                     // only react on ADD or DELETE and not on CHANGE
                     StructuralChangeEventHelper.handleColumnDelete(
                             structuralDiffs, this.underlying, this.columnIndexOrder, true);
@@ -291,18 +303,40 @@ public int getColumnPositionByX(int x) {
 
     @Override
     public int getStartXOfColumnPosition(int targetColumnPosition) {
-        int cachedStartX = this.startXCache.getIfAbsent(targetColumnPosition, -1);
-        if (cachedStartX != -1) {
-            return cachedStartX;
+        if (targetColumnPosition <= 0) {
+            return 0;
         }
 
-        int aggregateWidth = 0;
-        for (int columnPosition = 0; columnPosition < targetColumnPosition; columnPosition++) {
-            aggregateWidth += this.underlying.getColumnWidthByPosition(localToUnderlyingColumnPosition(columnPosition));
+        int lastPosition = Math.min(targetColumnPosition, this.columnIndexOrder.size());
+        if (lastPosition >= this.startXCacheCount) {
+            if (this.startXCache.length <= lastPosition) {
+                this.startXCache = Arrays.copyOf(this.startXCache, this.columnIndexOrder.size() + 1);
+            }
+            if (this.startXCacheCount == 0) {
+                this.startXCache[0] = 0;
+                this.startXCacheCount = 1;
+            }
+            updateStartXCache(this.startXCacheCount, lastPosition + 1);
+            this.startXCacheCount = lastPosition + 1;
         }
+        return this.startXCache[lastPosition];
+    }
 
-        this.startXCache.put(targetColumnPosition, aggregateWidth);
-        return aggregateWidth;
+    /**
+     * Recalculates the cached start x coordinates for the given range of
+     * positions based on the cached start x coordinate of the preceding
+     * position.
+     *
+     * @param fromPosition
+     *            the first position to recalculate, needs to be greater than 0
+     * @param toPosition
+     *            the position after the last position to recalculate
+     */
+    private void updateStartXCache(int fromPosition, int toPosition) {
+        for (int position = fromPosition; position < toPosition; position++) {
+            this.startXCache[position] = this.startXCache[position - 1]
+                    + this.underlying.getColumnWidthByPosition(localToUnderlyingColumnPosition(position - 1));
+        }
     }
 
     /**
@@ -315,10 +349,9 @@ protected void populateIndexOrder() {
         this.columnIndexOrder.clear();
         ILayer underlyingLayer = getUnderlyingLayer();
         for (int columnPosition = 0; columnPosition < underlyingLayer.getColumnCount(); columnPosition++) {
-            int index = underlyingLayer.getColumnIndexByPosition(columnPosition);
-            this.columnIndexOrder.add(index);
-            this.indexPositionMapping.put(index, columnPosition);
+            this.columnIndexOrder.add(underlyingLayer.getColumnIndexByPosition(columnPosition));
         }
+        refreshIndexPositionMapping();
     }
 
     /**
@@ -335,6 +368,55 @@ protected void refreshIndexPositionMapping() {
         }
     }
 
+    /**
+     * Moves the block of consecutive positions in the internal
+     * column-index-order and updates the index-position-mapping and the cached
+     * start x coordinates. Only the positions between the source and the
+     * target of the block are touched, as the order and the start coordinates
+     * of all other positions do not change.
+     *
+     * @param fromPosition
+     *            the first position of the block to move
+     * @param count
+     *            the number of positions to move
+     * @param targetPosition
+     *            the position of the first moved column in the resulting order
+     */
+    private void moveIndexOrder(int fromPosition, int count, int targetPosition) {
+        if (fromPosition == targetPosition) {
+            return;
+        }
+
+        int[] block = new int[count];
+        for (int i = 0; i < count; i++) {
+            block[i] = this.columnIndexOrder.get(fromPosition + i);
+        }
+        if (fromPosition < targetPosition) {
+            for (int position = fromPosition; position < targetPosition; position++) {
+                this.columnIndexOrder.set(position, this.columnIndexOrder.get(position + count));
+            }
+        } else {
+            for (int position = fromPosition + count - 1; position >= targetPosition + count; position--) {
+                this.columnIndexOrder.set(position, this.columnIndexOrder.get(position - count));
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            this.columnIndexOrder.set(targetPosition + i, block[i]);
+        }
+
+        int from = Math.min(fromPosition, targetPosition);
+        int to = Math.max(fromPosition, targetPosition) + count;
+        for (int position = from; position < to; position++) {
+            this.indexPositionMapping.put(this.columnIndexOrder.get(position), position);
+        }
+
+        // the start x of the positions after the moved range is still the
+        // same, as the same columns are placed before them
+        if (this.startXCacheCount > from + 1) {
+            updateStartXCache(from + 1, Math.min(to, this.startXCacheCount));
+        }
+    }
+
     // Vertical features
 
     // Rows
@@ -362,14 +444,34 @@ private void moveColumn(int fromColumnPosition, int toColumnPosition, boolean re
             toColumnPosition++;
         }
 
-        int fromColumnIndex = this.columnIndexOrder.get(fromColumnPosition);
-        this.columnIndexOrder.addAtIndex(toColumnPosition, fromColumnIndex);
-        this.columnIndexOrder.removeAtIndex(fromColumnPosition + (fromColumnPosition > toColumnPosition ? 1 : 0));
+        // the target position is calculated on the order without the moved
+        // column
+        int targetPosition = (fromColumnPosition < toColumnPosition) ? toColumnPosition - 1 : toColumnPosition;
+        moveIndexOrder(fromColumnPosition, 1, targetPosition);
+    }
 
-        // update index-position mapping
-        refreshIndexPositionMapping();
+    /**
+     * Moves the block of consecutive columns starting at the given from position
+     * to the specified edge of the given to position. The to position needs to
+     * be outside of the moved block.
+     *
+     * @param fromColumnPosition
+     *            first column position of the block to move
+     * @param count
+     *            number of columns to move
+     * @param toColumnPosition
+     *            position to move the columns to
+     * @param reorderToLeftEdge
+     *            whether the move should be done to the left edge of the given
+     *            to position or not
+     */
+    private void moveColumns(int fromColumnPosition, int count, int toColumnPosition, boolean reorderToLeftEdge) {
+        if (!reorderToLeftEdge) {
+            toColumnPosition++;
+        }
 
-        invalidateCache();
+        int targetPosition = (fromColumnPosition < toColumnPosition) ? toColumnPosition - count : toColumnPosition;
+        moveIndexOrder(fromColumnPosition, count, targetPosition);
     }
 
     /**
@@ -495,7 +597,13 @@ public void reorderMultipleColumnPositions(int[] fromColumnPositions, int toColu
         // Moving from left to right
         final int fromColumnPositionsCount = fromColumnPositions.length;
 
-        if (toColumnPosition > fromColumnPositions[fromColumnPositionsCount - 1]) {
+        boolean contiguous = fromColumnPositions[fromColumnPositionsCount - 1] - fromColumnPositions[0] == fromColumnPositionsCount - 1;
+
+        if (contiguous
+                && (toColumnPosition > fromColumnPositions[fromColumnPositionsCount - 1] || toColumnPosition < fromColumnPositions[0])) {
+            // a contiguous block can be moved at once
+            moveColumns(fromColumnPositions[0], fromColumnPositionsCount, toColumnPosition, reorderToLeftEdge);
+        } else if (toColumnPosition > fromColumnPositions[fromColumnPositionsCount - 1]) {
             int firstColumnPosition = fromColumnPositions[0];
 
             int moved = 0;
@@ -572,7 +680,7 @@ public void reorderMultipleColumnIndexes(int[] fromColumnIndexes, int toColumnPo
      * @since 1.6
      */
     protected void invalidateCache() {
-        this.startXCache.clear();
+        this.startXCacheCount = 0;
     }
 
     /**
@@ -35,6 +35,7 @@
 import org.eclipse.nebula.widgets.nattable.layer.event.RowStructuralRefreshEvent;
 import org.eclipse.nebula.widgets.nattable.layer.event.StructuralChangeEventHelper;
 import org.eclipse.nebula.widgets.nattable.layer.event.StructuralDiff;
+import org.eclipse.nebula.widgets.nattable.layer.event.StructuralDiff.DiffTypeEnum;
 import org.eclipse.nebula.widgets.nattable.persistence.IPersistable;
 import org.eclipse.nebula.widgets.nattable.reorder.command.MultiRowReorderCommandHandler;
 import org.eclipse.nebula.widgets.nattable.reorder.command.ResetRowReorderCommandHandler;
@@ -77,10 +78,17 @@ public class RowReorderLayer extends AbstractLayerTransform implements IUniqueIn
     protected final MutableIntIntMap indexPositionMapping = IntIntMaps.mutable.empty();
 
     /**
-     * Caching of the starting y positions of the rows. Used to reduce
-     * calculation time on rendering
+     * Caching of the starting y positions of the rows as prefix sums of the row
+     * heights. Position Y contains the start y coordinate of the row at
+     * position Y. Only the first {@link #startYCacheCount} entries are valid.
+     * Used to reduce calculation time on rendering.
      */
-    private final MutableIntIntMap startYCache = IntIntMaps.mutable.empty();
+    private int[] startYCache = new int[0];
+
+    /**
+     * The number of valid entries in {@link #startYCache}.
+     */
+    private int startYCacheCount = 0;
 
     /**
      * Local cached position of the row that is currently reordered.
@@ -131,7 +139,7 @@ public void handleLayerEvent(ILayerEvent event) {
                 if (structuralDiffs == null) {
                     // Assume everything changed
                     populateIndexOrder();
-                } else {
+                } else if (structuralDiffs.stream().anyMatch(diff -> diff.getDiffType() != DiffTypeEnum.CHANGE)) {
                     // only react on ADD or DELETE and not on CHANGE
                     StructuralChangeEventHelper.handleRowDelete(
                             structuralDiffs, this.underlying, this.rowIndexOrder, true);
@@ -244,18 +252,40 @@ public int getRowPositionByY(int y) {
 
     @Override
     public int getStartYOfRowPosition(int targetRowPosition) {
-        int cachedStartY = this.startYCache.getIfAbsent(targetRowPosition, -1);
-        if (cachedStartY != -1) {
-            return cachedStartY;
+        if (targetRowPosition <= 0) {
+            return 0;
         }
 
-        int aggregateWidth = 0;
-        for (int rowPosition = 0; rowPosition < targetRowPosition; rowPosition++) {
-            aggregateWidth += this.underlying.getRowHeightByPosition(localToUnderlyingRowPosition(rowPosition));
+        int lastPosition = Math.min(targetRowPosition, this.rowIndexOrder.size());
+        if (lastPosition >= this.startYCacheCount) {
+            if (this.startYCache.length <= lastPosition) {
+                this.startYCache = Arrays.copyOf(this.startYCache, this.rowIndexOrder.size() + 1);
+            }
+            if (this.startYCacheCount == 0) {
+                this.startYCache[0] = 0;
+                this.startYCacheCount = 1;
+            }
+            updateStartYCache(this.startYCacheCount, lastPosition + 1);
+            this.startYCacheCount = lastPosition + 1;
         }
+        return this.startYCache[lastPosition];
+    }
 
-        this.startYCache.put(targetRowPosition, aggregateWidth);
-        return aggregateWidth;
+    /**
+     * Recalculates the cached start y coordinates for the given range of
+     * positions based on the cached start y coordinate of the preceding
+     * position.
+     *
+     * @param fromPosition
+     *            the first position to recalculate, needs to be greater than 0
+     * @param toPosition
+     *            the position after the last position to recalculate
+     */
+    private void updateStartYCache(int fromPosition, int toPosition) {
+        for (int position = fromPosition; position < toPosition; position++) {
+            this.startYCache[position] = this.startYCache[position - 1]
+                    + this.underlying.getRowHeightByPosition(localToUnderlyingRowPosition(position - 1));
+        }
     }
 
     /**
@@ -267,10 +297,9 @@ protected void populateIndexOrder() {
         this.rowIndexOrder.clear();
         ILayer underlyingLayer = getUnderlyingLayer();
         for (int rowPosition = 0; rowPosition < underlyingLayer.getRowCount(); rowPosition++) {
-            int index = underlyingLayer.getRowIndexByPosition(rowPosition);
-            this.rowIndexOrder.add(index);
-            this.indexPositionMapping.put(index, rowPosition);
+            this.rowIndexOrder.add(underlyingLayer.getRowIndexByPosition(rowPosition));
         }
+        refreshIndexPositionMapping();
     }
 
     /**
@@ -287,6 +316,55 @@ protected void refreshIndexPositionMapping() {
         }
     }
 
+    /**
+     * Moves the block of consecutive positions in the internal row-index-order
+     * and updates the index-position-mapping and the cached start y
+     * coordinates. Only the positions between the source and the target of
+     * the block are touched, as the order and the start coordinates of all
+     * other positions do not change.
+     *
+     * @param fromPosition
+     *            the first position of the block to move
+     * @param count
+     *            the number of positions to move
+     * @param targetPosition
+     *            the position of the first moved row in the resulting order
+     */
+    private void moveIndexOrder(int fromPosition, int count, int targetPosition) {
+        if (fromPosition == targetPosition) {
+            return;
+        }
+
+        int[] block = new int[count];
+        for (int i = 0; i < count; i++) {
+            block[i] = this.rowIndexOrder.get(fromPosition + i);
+        }
+        if (fromPosition < targetPosition) {
+            for (int position = fromPosition; position < targetPosition; position++) {
+                this.rowIndexOrder.set(position, this.rowIndexOrder.get(position + count));
+            }
+        } else {
+            for (int position = fromPosition + count - 1; position >= targetPosition + count; position--) {
+                this.rowIndexOrder.set(position, this.rowIndexOrder.get(position - count));
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            this.rowIndexOrder.set(targetPosition + i, block[i]);
+        }
+
+        int from = Math.min(fromPosition, targetPosition);
+        int to = Math.max(fromPosition, targetPosition) + count;
+        for (int position = from; position < to; position++) {
+            this.indexPositionMapping.put(this.rowIndexOrder.get(position), position);
+        }
+
+        // the start y of the positions after the moved range is still the
+        // same, as the same rows are placed before them
+        if (this.startYCacheCount > from + 1) {
+            updateStartYCache(from + 1, Math.min(to, this.startYCacheCount));
+        }
+    }
+
     // Vertical features
 
     // Rows
@@ -362,14 +440,34 @@ private void moveRow(int fromRowPosition, int toRowPosition, boolean reorderToTo
             toRowPosition++;
         }
 
-        int fromRowIndex = this.rowIndexOrder.get(fromRowPosition);
-        this.rowIndexOrder.addAtIndex(toRowPosition, fromRowIndex);
-        this.rowIndexOrder.removeAtIndex(fromRowPosition + (fromRowPosition > toRowPosition ? 1 : 0));
+        // the target position is calculated on the order without the moved
+        // row
+        int targetPosition = (fromRowPosition < toRowPosition) ? toRowPosition - 1 : toRowPosition;
+        moveIndexOrder(fromRowPosition, 1, targetPosition);
+    }
 
-        // update index-position mapping
-        refreshIndexPositionMapping();
+    /**
+     * Moves the block of consecutive rows starting at the given from position
+     * to the specified edge of the given to position. The to position needs to
+     * be outside of the moved block.
+     *
+     * @param fromRowPosition
+     *            first row position of the block to move
+     * @param count
+     *            number of rows to move
+     * @param toRowPosition
+     *            position to move the rows to
+     * @param reorderToTopEdge
+     *            whether the move should be done to the top edge of the given
+     *            to position or not
+     */
+    private void moveRows(int fromRowPosition, int count, int toRowPosition, boolean reorderToTopEdge) {
+        if (!reorderToTopEdge) {
+            toRowPosition++;
+        }
 
-        invalidateCache();
+        int targetPosition = (fromRowPosition < toRowPosition) ? toRowPosition - count : toRowPosition;
+        moveIndexOrder(fromRowPosition, count, targetPosition);
     }
 
     /**
@@ -494,7 +592,13 @@ public void reorderMultipleRowPositions(int[] fromRowPositions, int toRowPositio
 
         final int fromRowPositionsCount = fromRowPositions.length;
 
-        if (toRowPosition > fromRowPositions[fromRowPositionsCount - 1]) {
+        boolean contiguous = fromRowPositions[fromRowPositionsCount - 1] - fromRowPositions[0] == fromRowPositionsCount - 1;
+
+        if (contiguous
+                && (toRowPosition > fromRowPositions[fromRowPositionsCount - 1] || toRowPosition < fromRowPositions[0])) {
+            // a contiguous block can be moved at once
+            moveRows(fromRowPositions[0], fromRowPositionsCount, toRowPosition, reorderToTopEdge);
+        } else if (toRowPosition > fromRowPositions[fromRowPositionsCount - 1]) {
             // Moving from top to bottom
             int firstRowPosition = fromRowPositions[0];
 
@@ -570,7 +674,7 @@ public void reorderMultipleRowIndexes(int[] fromRowIndexes, int toRowPosition, b
      * @since 1.6
      */
     protected void invalidateCache() {
-        this.startYCache.clear();
+        this.startYCacheCount = 0;
     }
 
     /**
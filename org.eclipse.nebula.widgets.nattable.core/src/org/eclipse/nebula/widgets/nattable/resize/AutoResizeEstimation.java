@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.resize;
+
+import org.eclipse.nebula.widgets.nattable.grid.command.AutoResizeColumnCommandHandler;
+
+/**
+ * Configuration of the strategy that is used by the
+ * {@link MaxCellBoundsHelper} to calculate the preferred column widths on
+ * auto resize. By default every cell of a column is measured via its
+ * painter, which needs a UI related calculation per cell and therefore does
+ * not scale for huge tables.
+ * <p>
+ * If an estimation strategy is configured, the display converted values of a
+ * column are scanned first, which is cheap as no UI related calculations are
+ * needed. Only the cells with the longest display values are then measured
+ * via their painter. The scan can additionally be limited to an evenly
+ * distributed sample of rows and can be performed in parallel for multiple
+ * columns. Rows that should always be measured exactly, e.g. the rows that
+ * are currently visible in the viewport, can be specified additionally.
+ * <p>
+ * Note that the estimation assumes that the preferred width of a cell grows
+ * with the length of its display value, which is true for text based
+ * painters. For cells whose width does not correlate with the display value
+ * the result can be smaller than the exact calculation.
+ * <p>
+ * Instances are immutable. The strategy is picked up by the
+ * {@link AutoResizeColumnCommandHandler} if it is registered for
+ * {@link ResizeConfigAttributes#AUTO_RESIZE_ESTIMATION}.
+ *
+ * @see ResizeConfigAttributes#AUTO_RESIZE_ESTIMATION
+ * @since 2.1
+ */
+public final class AutoResizeEstimation {
+
+    /**
+     * Strategy that measures every cell of a column. This is the default
+     * behavior.
+     */
+    public static final AutoResizeEstimation EXACT = new AutoResizeEstimation(0, 0, false, false);
+
+    private final int candidateCount;
+    private final int sampleSize;
+    private final boolean exactVisibleRows;
+    private final boolean parallelScan;
+
+    private AutoResizeEstimation(int candidateCount, int sampleSize, boolean exactVisibleRows, boolean parallelScan) {
+        this.candidateCount = candidateCount;
+        this.sampleSize = sampleSize;
+        this.exactVisibleRows = exactVisibleRows;
+        this.parallelScan = parallelScan;
+    }
+
+    /**
+     * Creates a strategy that only measures the cells with the longest display
+     * values per column.
+     *
+     * @param candidateCount
+     *            The number of cells per column with the longest display
+     *            values that should be measured via their painter. Needs to be
+     *            greater than 0.
+     * @return The estimation strategy that scans all rows.
+     */
+    public static AutoResizeEstimation longestValues(int candidateCount) {
+        if (candidateCount <= 0) {
+            throw new IllegalArgumentException("candidateCount needs to be greater than 0"); //$NON-NLS-1$
+        }
+        return new AutoResizeEstimation(candidateCount, 0, false, false);
+    }
+
+    /**
+     * Returns a copy of this strategy that only scans an evenly distributed
+     * sample of rows for the longest display values. This way the calculation
+     * is bounded independent of the number of rows.
+     *
+     * @param sampleSize
+     *            The maximum number of rows to scan per column, 0 to scan all
+     *            rows.
+     * @return The estimation strategy with the given sample size.
+     */
+    public AutoResizeEstimation withSampleSize(int sampleSize) {
+        if (sampleSize < 0) {
+            throw new IllegalArgumentException("sampleSize must not be negative"); //$NON-NLS-1$
+        }
+        return new AutoResizeEstimation(this.candidateCount, sampleSize, this.exactVisibleRows, this.parallelScan);
+    }
+
+    /**
+     * Returns a copy of this strategy that additionally measures the rows
+     * exactly that are visible in the viewport at the time the auto resize is
+     * triggered.
+     *
+     * @param exactVisibleRows
+     *            <code>true</code> if the visible rows should be measured
+     *            exactly.
+     * @return The estimation strategy with the given visible rows handling.
+     */
+    public AutoResizeEstimation withExactVisibleRows(boolean exactVisibleRows) {
+        return new AutoResizeEstimation(this.candidateCount, this.sampleSize, exactVisibleRows, this.parallelScan);
+    }
+
+    /**
+     * Returns a copy of this strategy that scans the display values of
+     * multiple columns in parallel. Only enable this if the data access of the
+     * layer stack and the configured display converters are thread safe for
+     * read operations. The measurement via the painters is always performed
+     * in the calling thread.
+     *
+     * @param parallelScan
+     *            <code>true</code> if the columns should be scanned in
+     *            parallel.
+     * @return The estimation strategy with the given parallel scan handling.
+     */
+    public AutoResizeEstimation withParallelScan(boolean parallelScan) {
+        return new AutoResizeEstimation(this.candidateCount, this.sampleSize, this.exactVisibleRows, parallelScan);
+    }
+
+    /**
+     * @return <code>true</code> if every cell is measured, <code>false</code>
+     *         if the preferred width is estimated.
+     */
+    public boolean isExact() {
+        return this.candidateCount <= 0;
+    }
+
+    /**
+     * @return The number of cells per column with the longest display values
+     *         that are measured via their painter, 0 if every cell is
+     *         measured.
+     */
+    public int getCandidateCount() {
+        return this.candidateCount;
+    }
+
+    /**
+     * @return The maximum number of rows that are scanned per column, 0 if all
+     *         rows are scanned.
+     */
+    public int getSampleSize() {
+        return this.sampleSize;
+    }
+
+    /**
+     * @return <code>true</code> if the rows visible in the viewport are
+     *         measured exactly.
+     */
+    public boolean isExactVisibleRows() {
+        return this.exactVisibleRows;
+    }
+
+    /**
+     * @return <code>true</code> if multiple columns are scanned in parallel.
+     */
+    public boolean isParallelScan() {
+        return this.parallelScan;
+    }
+
+}
@@ -12,7 +12,12 @@
  ******************************************************************************/
 package org.eclipse.nebula.widgets.nattable.resize;
 
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import org.eclipse.nebula.widgets.nattable.config.CellConfigAttributes;
 import org.eclipse.nebula.widgets.nattable.config.IConfigRegistry;
+import org.eclipse.nebula.widgets.nattable.data.convert.IDisplayConverter;
 import org.eclipse.nebula.widgets.nattable.grid.command.AutoResizeColumnCommandHandler;
 import org.eclipse.nebula.widgets.nattable.grid.command.AutoResizeRowCommandHandler;
 import org.eclipse.nebula.widgets.nattable.layer.ILayer;
@@ -93,40 +98,231 @@ public static int[] getPreferredColumnWidths(
     private static int getPreferredColumnWidth(ILayer layer, int columnPosition, IConfigRegistry configRegistry, GC gc) {
 
         int maxWidth = -1;
-        ICellPainter painter;
-        ILayerCell cell;
 
         for (int rowPosition = 0; rowPosition < layer.getRowCount(); rowPosition++) {
-            cell = layer.getCellByPosition(columnPosition, rowPosition);
-            if (cell != null) {
-                boolean atEndOfCellSpan = (cell.getOriginColumnPosition() + cell.getColumnSpan() - 1) == columnPosition;
-                if (atEndOfCellSpan) {
-                    painter = layer.getCellPainter(cell.getColumnPosition(), cell.getRowPosition(), cell, configRegistry);
-                    if (painter != null) {
-                        int preferredWidth = painter.getPreferredWidth(cell, gc, configRegistry);
+            int preferredWidth = getPreferredCellWidth(layer, columnPosition, rowPosition, configRegistry, gc);
+            maxWidth = (preferredWidth > maxWidth) ? preferredWidth : maxWidth;
+        }
 
-                        // Adjust width
-                        Rectangle bounds = cell.getBounds();
-                        bounds.width = preferredWidth;
-                        Rectangle adjustedCellBounds = cell
-                                .getLayer()
-                                .getLayerPainter()
-                                .adjustCellBounds(columnPosition, rowPosition, bounds);
-                        preferredWidth += preferredWidth - adjustedCellBounds.width;
+        return maxWidth;
+    }
+
+    /**
+     * Calculates the minimum width (in pixels) required to display the
+     * contents of a single cell in a column.
+     *
+     * @param layer
+     *            The layer to which the positions match.
+     * @param columnPosition
+     *            The column position of the cell.
+     * @param rowPosition
+     *            The row position of the cell.
+     * @param configRegistry
+     *            The {@link IConfigRegistry} to get the required configuration
+     *            values.
+     * @param gc
+     *            The {@link GC} needed for UI related calculations.
+     * @return The preferred width of the cell or -1 if there is no cell or the
+     *         cell does not end at the given column position.
+     */
+    private static int getPreferredCellWidth(ILayer layer, int columnPosition, int rowPosition, IConfigRegistry configRegistry, GC gc) {
+        ILayerCell cell = layer.getCellByPosition(columnPosition, rowPosition);
+        if (cell != null) {
+            boolean atEndOfCellSpan = (cell.getOriginColumnPosition() + cell.getColumnSpan() - 1) == columnPosition;
+            if (atEndOfCellSpan) {
+                ICellPainter painter = layer.getCellPainter(cell.getColumnPosition(), cell.getRowPosition(), cell, configRegistry);
+                if (painter != null) {
+                    int preferredWidth = painter.getPreferredWidth(cell, gc, configRegistry);
+
+                    // Adjust width
+                    Rectangle bounds = cell.getBounds();
+                    bounds.width = preferredWidth;
+                    Rectangle adjustedCellBounds = cell
+                            .getLayer()
+                            .getLayerPainter()
+                            .adjustCellBounds(columnPosition, rowPosition, bounds);
+                    preferredWidth += preferredWidth - adjustedCellBounds.width;
 
-                        if (cell.getColumnSpan() > 1) {
-                            int columnStartX = layer.getStartXOfColumnPosition(columnPosition);
-                            int cellStartX = layer.getStartXOfColumnPosition(cell.getOriginColumnPosition());
-                            preferredWidth = Math.max(0, preferredWidth - (columnStartX - cellStartX));
+                    if (cell.getColumnSpan() > 1) {
+                        int columnStartX = layer.getStartXOfColumnPosition(columnPosition);
+                        int cellStartX = layer.getStartXOfColumnPosition(cell.getOriginColumnPosition());
+                        preferredWidth = Math.max(0, preferredWidth - (columnStartX - cellStartX));
+                    }
+
+                    return preferredWidth;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Calculates the preferred column widths of the given columns based on the
+     * given {@link IConfigRegistry} and {@link AutoResizeEstimation}. If the
+     * estimation is not exact, the display values of the columns are scanned
+     * first and only the cells with the longest display values and the cells
+     * in the given exact rows are measured via their painters.
+     *
+     * @param configRegistry
+     *            The {@link IConfigRegistry} to get the required configuration
+     *            values.
+     * @param gcFactory
+     *            The {@link GCFactory} for creating a temporary {@link GC}
+     *            needed for UI related calculations without blocking the UI
+     *            thread.
+     * @param layer
+     *            The layer to which the column positions match.
+     * @param columnPositions
+     *            The column positions for which the preferred width should be
+     *            calculated.
+     * @param estimation
+     *            The {@link AutoResizeEstimation} to use. <code>null</code> or
+     *            {@link AutoResizeEstimation#EXACT} to measure every cell.
+     * @param exactRowPositions
+     *            The row positions that should always be measured, e.g. the
+     *            rows visible in the viewport. Can be <code>null</code>.
+     * @return The preferred column widths of the given columns or an empty
+     *         array if an error occurred on processing.
+     * @since 2.1
+     */
+    public static int[] getPreferredColumnWidths(
+            IConfigRegistry configRegistry, GCFactory gcFactory, ILayer layer, int[] columnPositions,
+            AutoResizeEstimation estimation, int[] exactRowPositions) {
+
+        if (estimation == null || estimation.isExact()) {
+            return getPreferredColumnWidths(configRegistry, gcFactory, layer, columnPositions);
+        }
+
+        // scan the display values without UI related calculations first
+        int[][] candidates = new int[columnPositions.length][];
+        IntStream columnIndexes = IntStream.range(0, columnPositions.length);
+        if (estimation.isParallelScan()) {
+            columnIndexes = columnIndexes.parallel();
+        }
+        columnIndexes.forEach(i -> candidates[i] = getWidthCandidateRowPositions(layer, columnPositions[i], configRegistry, estimation));
+
+        GC gc = gcFactory.createGC();
+        if (gc != null) {
+            int rowCount = layer.getRowCount();
+            int[] columnWidths = new int[columnPositions.length];
+            for (int i = 0; i < columnPositions.length; i++) {
+                int maxWidth = -1;
+                for (int rowPosition : candidates[i]) {
+                    maxWidth = Math.max(maxWidth, getPreferredCellWidth(layer, columnPositions[i], rowPosition, configRegistry, gc));
+                }
+                if (exactRowPositions != null) {
+                    for (int rowPosition : exactRowPositions) {
+                        if (rowPosition >= 0 && rowPosition < rowCount && Arrays.binarySearch(candidates[i], rowPosition) < 0) {
+                            maxWidth = Math.max(maxWidth, getPreferredCellWidth(layer, columnPositions[i], rowPosition, configRegistry, gc));
                         }
+                    }
+                }
+                columnWidths[i] = maxWidth;
+            }
+            gc.dispose();
+
+            return columnWidths;
+        } else {
+            return new int[0];
+        }
+    }
 
-                        maxWidth = (preferredWidth > maxWidth) ? preferredWidth : maxWidth;
+    /**
+     * Scans the display values of the given column and returns the positions
+     * of the rows with the longest display values. Only the rows of the sample
+     * configured in the given {@link AutoResizeEstimation} are scanned. No UI
+     * related calculations are performed, so this method can be called from a
+     * thread other than the UI thread if the data access is thread safe.
+     *
+     * @param layer
+     *            The layer to which the column position matches.
+     * @param columnPosition
+     *            The column position to scan.
+     * @param configRegistry
+     *            The {@link IConfigRegistry} to get the display converters.
+     * @param estimation
+     *            The {@link AutoResizeEstimation} that configures the number
+     *            of candidates and the sample size.
+     * @return The sorted row positions of the cells that should be measured.
+     */
+    static int[] getWidthCandidateRowPositions(ILayer layer, int columnPosition, IConfigRegistry configRegistry, AutoResizeEstimation estimation) {
+        int rowCount = layer.getRowCount();
+        int scanCount = rowCount;
+        if (estimation.getSampleSize() > 0 && estimation.getSampleSize() < rowCount) {
+            scanCount = estimation.getSampleSize();
+        }
+
+        // the length is stored in the upper 32 bits so the natural order of
+        // the values is the order by display value length
+        long[] top = new long[Math.min(estimation.getCandidateCount(), scanCount)];
+        int size = 0;
+        int minIndex = 0;
+
+        for (int i = 0; i < scanCount; i++) {
+            int rowPosition = (scanCount == rowCount) ? i : (int) ((long) i * rowCount / scanCount);
+            ILayerCell cell = layer.getCellByPosition(columnPosition, rowPosition);
+            if (cell == null
+                    || (cell.getOriginColumnPosition() + cell.getColumnSpan() - 1) != columnPosition) {
+                continue;
+            }
+
+            long value = ((long) getDisplayValueLength(cell, configRegistry) << 32) | rowPosition;
+            if (size < top.length) {
+                top[size++] = value;
+                if (value < top[minIndex]) {
+                    minIndex = size - 1;
+                }
+            } else if (value > top[minIndex]) {
+                top[minIndex] = value;
+                for (int j = 0; j < size; j++) {
+                    if (top[j] < top[minIndex]) {
+                        minIndex = j;
                     }
                 }
             }
         }
 
-        return maxWidth;
+        int[] rowPositions = new int[size];
+        for (int i = 0; i < size; i++) {
+            rowPositions[i] = (int) top[i];
+        }
+        Arrays.sort(rowPositions);
+        return rowPositions;
+    }
+
+    /**
+     * Returns the length of the longest line of the display value of the
+     * given cell.
+     *
+     * @param cell
+     *            The cell whose display value should be inspected.
+     * @param configRegistry
+     *            The {@link IConfigRegistry} to get the display converter.
+     * @return The length of the longest line of the display value.
+     */
+    private static int getDisplayValueLength(ILayerCell cell, IConfigRegistry configRegistry) {
+        Object value = cell.getDataValue();
+        IDisplayConverter displayConverter = configRegistry.getConfigAttribute(
+                CellConfigAttributes.DISPLAY_CONVERTER,
+                cell.getDisplayMode(),
+                cell.getConfigLabels());
+        if (displayConverter != null) {
+            value = displayConverter.canonicalToDisplayValue(cell, configRegistry, value);
+        }
+        if (value == null) {
+            return 0;
+        }
+
+        String text = value.toString();
+        int maxLength = 0;
+        int lineStart = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '\n') {
+                maxLength = Math.max(maxLength, i - lineStart);
+                lineStart = i + 1;
+            }
+        }
+        return Math.max(maxLength, text.length() - lineStart);
     }
 
     /**
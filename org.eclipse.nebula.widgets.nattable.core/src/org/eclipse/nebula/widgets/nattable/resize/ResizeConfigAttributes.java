@@ -0,0 +1,35 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.resize;
+
+import org.eclipse.nebula.widgets.nattable.style.ConfigAttribute;
+
+/**
+ * Configuration attributes that are used for resizing.
+ *
+ * @since 2.1
+ */
+public final class ResizeConfigAttributes {
+
+    private ResizeConfigAttributes() {
+        // private default constructor for constants class
+    }
+
+    /**
+     * Configuration attribute to specify the {@link AutoResizeEstimation} that
+     * should be used to calculate the preferred column widths on auto resize.
+     * If nothing is registered every cell is measured.
+     */
+    public static final ConfigAttribute<AutoResizeEstimation> AUTO_RESIZE_ESTIMATION = new ConfigAttribute<>();
+
+}
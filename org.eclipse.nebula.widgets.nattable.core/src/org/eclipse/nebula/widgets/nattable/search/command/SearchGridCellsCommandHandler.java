@@ -18,16 +18,35 @@
 import org.eclipse.nebula.widgets.nattable.layer.ILayerListener;
 import org.eclipse.nebula.widgets.nattable.search.event.SearchEvent;
 import org.eclipse.nebula.widgets.nattable.search.strategy.AbstractSearchStrategy;
+import org.eclipse.nebula.widgets.nattable.search.strategy.CellDisplayValueSearchIndex;
 import org.eclipse.nebula.widgets.nattable.selection.SelectionLayer;
 import org.eclipse.nebula.widgets.nattable.selection.command.SelectCellCommand;
 
 public class SearchGridCellsCommandHandler implements ILayerCommandHandler<SearchCommand> {
 
     private final SelectionLayer selectionLayer;
+    private final CellDisplayValueSearchIndex searchIndex;
     private PositionCoordinate searchResultCellCoordinate;
 
     public SearchGridCellsCommandHandler(SelectionLayer selectionLayer) {
+        this(selectionLayer, null);
+    }
+
+    /**
+     * Creates a command handler that uses the given search index for
+     * {@link AbstractSearchStrategy} implementations that have no search index
+     * set.
+     *
+     * @param selectionLayer
+     *            The {@link SelectionLayer} on which the search is performed.
+     * @param searchIndex
+     *            The {@link CellDisplayValueSearchIndex} of the given
+     *            {@link SelectionLayer}, can be <code>null</code>.
+     * @since 2.1
+     */
+    public SearchGridCellsCommandHandler(SelectionLayer selectionLayer, CellDisplayValueSearchIndex searchIndex) {
         this.selectionLayer = selectionLayer;
+        this.searchIndex = searchIndex;
     }
 
     @Override
@@ -65,6 +84,9 @@ public boolean doCommand(ILayer targetLayer, SearchCommand searchCommand) {
                 searchStrategy.setIncludeCollapsed(searchCommand.isIncludeCollapsed());
                 searchStrategy.setSearchDirection(searchCommand.getSearchDirection());
                 searchStrategy.setComparator(searchCommand.getComparator());
+                if (searchStrategy.getSearchIndex() == null && targetLayer == this.selectionLayer) {
+                    searchStrategy.setSearchIndex(this.searchIndex);
+                }
                 performActionOnResult = !searchStrategy.processResultInternally();
             }
 
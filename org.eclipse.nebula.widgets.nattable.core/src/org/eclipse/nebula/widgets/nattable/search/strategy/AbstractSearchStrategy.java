@@ -28,6 +28,10 @@ public abstract class AbstractSearchStrategy implements ISearchStrategy {
     protected boolean includeCollapsed;
     protected boolean columnFirst;
     protected Comparator<?> comparator;
+    /**
+     * @since 2.1
+     */
+    protected CellDisplayValueSearchIndex searchIndex;
 
     public void setContextLayer(ILayer contextLayer) {
         this.contextLayer = contextLayer;
@@ -123,6 +127,31 @@ public void setComparator(Comparator<?> comparator) {
         this.comparator = comparator;
     }
 
+    /**
+     *
+     * @return The {@link CellDisplayValueSearchIndex} that is used to skip
+     *         cells that do not match, or <code>null</code> if every cell is
+     *         checked.
+     * @since 2.1
+     */
+    public CellDisplayValueSearchIndex getSearchIndex() {
+        return this.searchIndex;
+    }
+
+    /**
+     * Set the {@link CellDisplayValueSearchIndex} that should be used to skip
+     * cells that do not match. The index needs to be created for the context
+     * layer of this strategy.
+     *
+     * @param searchIndex
+     *            The {@link CellDisplayValueSearchIndex} to use, can be
+     *            <code>null</code> to check every cell.
+     * @since 2.1
+     */
+    public void setSearchIndex(CellDisplayValueSearchIndex searchIndex) {
+        this.searchIndex = searchIndex;
+    }
+
     /**
      *
      * @return <code>false</code> if the result should be processed by the
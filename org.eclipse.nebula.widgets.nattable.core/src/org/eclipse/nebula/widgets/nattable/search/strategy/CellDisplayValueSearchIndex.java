@@ -0,0 +1,684 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.search.strategy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import org.eclipse.nebula.widgets.nattable.config.IConfigRegistry;
+import org.eclipse.nebula.widgets.nattable.coordinate.PositionCoordinate;
+import org.eclipse.nebula.widgets.nattable.coordinate.Range;
+import org.eclipse.nebula.widgets.nattable.edit.event.DataUpdateEvent;
+import org.eclipse.nebula.widgets.nattable.layer.ILayer;
+import org.eclipse.nebula.widgets.nattable.layer.ILayerListener;
+import org.eclipse.nebula.widgets.nattable.layer.IUniqueIndexLayer;
+import org.eclipse.nebula.widgets.nattable.layer.cell.ILayerCell;
+import org.eclipse.nebula.widgets.nattable.layer.event.CellVisualChangeEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.ILayerEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.IStructuralChangeEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.ResizeStructuralRefreshEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.RowUpdateEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.StructuralDiff;
+import org.eclipse.nebula.widgets.nattable.layer.event.StructuralDiff.DiffTypeEnum;
+import org.eclipse.nebula.widgets.nattable.search.command.SearchGridCellsCommandHandler;
+import org.eclipse.nebula.widgets.nattable.util.Scheduler;
+import org.eclipse.swt.widgets.Display;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Index of the display values that are used by the search strategies. The
+ * display values of all cells are converted once, column by column, and
+ * stored per column and row index with one entry per distinct value. A search
+ * then only needs to check every distinct value once and can skip all cells
+ * whose value does not match, instead of retrieving and converting the value
+ * of every cell on the UI thread.
+ * <p>
+ * As the layer stack is not thread safe, the display values are collected in
+ * chunks on the UI thread that created the index, while a background thread
+ * schedules the chunks, so the UI thread is never blocked for the whole
+ * build. If the index is not created on a UI thread, it is built directly on
+ * the calling thread.
+ * </p>
+ * <p>
+ * The index is only used to skip cells. Cells that are not indexed yet, or
+ * whose value was changed since they were indexed, are always checked the
+ * same way as without index, and so are the cells that the index reports as
+ * possible matches. This way the search result is the same with or without
+ * index, also while the index is built. Updates of single cells via
+ * {@link DataUpdateEvent}, {@link CellVisualChangeEvent} and
+ * {@link RowUpdateEvent} are applied incrementally, structural changes of the
+ * rows trigger a rebuild of the index in the background.
+ * </p>
+ * <p>
+ * The display value of a cell needs to be determined by its column and row
+ * index. If the display converter or the
+ * {@link ISearchStrategy#SKIP_SEARCH_RESULT_LABEL} depend on the position of
+ * a cell, the index should not be used.
+ * </p>
+ * <p>
+ * To use the index for searches triggered via SearchCommand, e.g. by the
+ * search dialog, it needs to be set to the
+ * {@link SearchGridCellsCommandHandler} of the SelectionLayer:
+ * </p>
+ *
+ * <pre>
+ * CellDisplayValueSearchIndex searchIndex = new CellDisplayValueSearchIndex(selectionLayer, configRegistry);
+ * selectionLayer.registerCommandHandler(new SearchGridCellsCommandHandler(selectionLayer, searchIndex));
+ * </pre>
+ *
+ * @since 2.1
+ */
+public class CellDisplayValueSearchIndex implements ILayerListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CellDisplayValueSearchIndex.class);
+
+    private static final Scheduler SCHEDULER = new Scheduler("CellDisplayValueSearchIndex"); //$NON-NLS-1$
+
+    /**
+     * Number of cells of a column that are collected at once on the UI
+     * thread.
+     */
+    private static final int CHUNK_SIZE = 4096;
+
+    private final IUniqueIndexLayer layer;
+
+    private final IConfigRegistry configRegistry;
+
+    /**
+     * The {@link Display} on whose thread the display values are collected,
+     * <code>null</code> if the index is built on the calling thread.
+     */
+    private final Display display;
+
+    /**
+     * The indexed columns per column index. A column is only added after it
+     * is completely indexed.
+     */
+    private final Map<Integer, ColumnValues> columns = new ConcurrentHashMap<>();
+
+    /**
+     * Cells whose values have changed since they were indexed, encoded via
+     * {@link #toKey(int, int)} of the column and row index.
+     */
+    private final Set<Long> dirtyCells = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Row indexes of rows whose values have changed since they were indexed.
+     */
+    private final Set<Integer> dirtyRows = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Incremented on every rebuild so running build processes of outdated
+     * states stop.
+     */
+    private volatile int generation;
+
+    private volatile boolean complete;
+
+    private Future<?> buildFuture;
+
+    /**
+     * Creates a {@link CellDisplayValueSearchIndex} for the given layer and
+     * starts to build the index in the background. Needs to be called on the
+     * UI thread to build the index in the background, otherwise the index is
+     * built directly.
+     *
+     * @param layer
+     *            The layer whose cells should be indexed, typically the
+     *            SelectionLayer that is used as context layer by the search
+     *            strategies.
+     * @param configRegistry
+     *            The {@link IConfigRegistry} to retrieve the display
+     *            converters.
+     */
+    public CellDisplayValueSearchIndex(IUniqueIndexLayer layer, IConfigRegistry configRegistry) {
+        this.layer = layer;
+        this.configRegistry = configRegistry;
+        this.display = Display.getCurrent();
+        this.layer.addLayerListener(this);
+        rebuild();
+    }
+
+    /**
+     * @return The layer whose cells are indexed.
+     */
+    public ILayer getLayer() {
+        return this.layer;
+    }
+
+    /**
+     * @return <code>true</code> if all columns are indexed.
+     */
+    public boolean isComplete() {
+        return this.complete;
+    }
+
+    /**
+     * Discards the current index and starts building a new one in the
+     * background, or builds it directly if the index was not created on a UI
+     * thread.
+     */
+    public synchronized void rebuild() {
+        int buildGeneration = ++this.generation;
+        this.complete = false;
+        this.columns.clear();
+        this.dirtyCells.clear();
+        this.dirtyRows.clear();
+        if (this.buildFuture != null) {
+            this.buildFuture.cancel(false);
+        }
+        if (this.display == null) {
+            build(buildGeneration);
+            this.buildFuture = CompletableFuture.completedFuture(null);
+        } else {
+            this.buildFuture = SCHEDULER.submit(() -> build(buildGeneration));
+        }
+    }
+
+    /**
+     * Stops building the index and removes the listener from the layer.
+     */
+    public synchronized void dispose() {
+        this.generation++;
+        if (this.buildFuture != null) {
+            this.buildFuture.cancel(false);
+        }
+        this.layer.removeLayerListener(this);
+        this.columns.clear();
+    }
+
+    /**
+     * Waits until the current build process is finished. If called on the UI
+     * thread, the events are processed while waiting, as the build process
+     * needs the UI thread to collect the values.
+     */
+    void awaitBuild() throws InterruptedException {
+        Future<?> future;
+        synchronized (this) {
+            future = this.buildFuture;
+        }
+        if (this.display != null && this.display == Display.getCurrent()) {
+            while (!future.isDone()) {
+                if (!this.display.readAndDispatch()) {
+                    Thread.sleep(1);
+                }
+            }
+        }
+        try {
+            future.get();
+        } catch (ExecutionException e) {
+            LOG.error("Error on building the search index", e); //$NON-NLS-1$
+        }
+    }
+
+    /**
+     * Builds the index column by column. The row indexes and the display
+     * values are collected in chunks on the UI thread, so the layer is never
+     * accessed concurrently. Between the chunks only value changes can occur,
+     * which are tracked as dirty cells, as row structure changes trigger a
+     * rebuild, which stops this build process.
+     */
+    private void build(int buildGeneration) {
+        try {
+            int[][] snapshot = runOnUIThread(() -> {
+                int columnCount = this.layer.getColumnCount();
+                int[] columnIndexes = new int[columnCount];
+                for (int columnPosition = 0; columnPosition < columnCount; columnPosition++) {
+                    columnIndexes[columnPosition] = this.layer.getColumnIndexByPosition(columnPosition);
+                }
+                int rowCount = this.layer.getRowCount();
+                int[] rowIndexes = new int[rowCount];
+                for (int rowPosition = 0; rowPosition < rowCount; rowPosition++) {
+                    rowIndexes[rowPosition] = this.layer.getRowIndexByPosition(rowPosition);
+                }
+                return new int[][] { columnIndexes, rowIndexes };
+            });
+            int[] columnIndexes = snapshot[0];
+            int[] rowIndexes = snapshot[1];
+            int maxRowIndex = -1;
+            for (int rowIndex : rowIndexes) {
+                maxRowIndex = Math.max(maxRowIndex, rowIndex);
+            }
+
+            for (int columnIndex : columnIndexes) {
+                if (columnIndex < 0) {
+                    continue;
+                }
+                ColumnValues values = new ColumnValues(maxRowIndex + 1);
+                for (int from = 0; from < rowIndexes.length; from += CHUNK_SIZE) {
+                    int to = Math.min(from + CHUNK_SIZE, rowIndexes.length);
+                    int chunkStart = from;
+                    boolean collected = runOnUIThread(() -> collectValues(
+                            buildGeneration, values, columnIndex, rowIndexes, chunkStart, to));
+                    if (!collected) {
+                        return;
+                    }
+                }
+                synchronized (this) {
+                    if (buildGeneration != this.generation) {
+                        return;
+                    }
+                    this.columns.put(columnIndex, values);
+                }
+            }
+            this.complete = buildGeneration == this.generation;
+        } catch (RuntimeException e) {
+            // the structure changed while building, which usually also
+            // triggers a rebuild, or the display was disposed
+            LOG.debug("Building the search index failed", e); //$NON-NLS-1$
+        }
+    }
+
+    /**
+     * Collects the display values of the given rows of a column. Needs to be
+     * called on the UI thread.
+     *
+     * @return <code>false</code> if the build process was cancelled.
+     */
+    private boolean collectValues(
+            int buildGeneration,
+            ColumnValues values,
+            int columnIndex,
+            int[] rowIndexes,
+            int from,
+            int to) {
+
+        if (buildGeneration != this.generation) {
+            return false;
+        }
+        // column structure changes do not trigger a rebuild, so the position
+        // needs to be determined per chunk, cells of a column that is not
+        // available anymore stay unindexed and are always checked
+        int columnPosition = this.layer.getColumnPositionByIndex(columnIndex);
+        if (columnPosition < 0) {
+            return true;
+        }
+        for (int rowPosition = from; rowPosition < to; rowPosition++) {
+            if (rowIndexes[rowPosition] >= 0) {
+                values.set(rowIndexes[rowPosition], CellDisplayValueSearchUtil.getSearchValue(
+                        this.layer, this.configRegistry, columnPosition, rowPosition));
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Executes the given operation synchronously on the UI thread, or on the
+     * current thread if the index was not created on a UI thread.
+     */
+    private <R> R runOnUIThread(Supplier<R> operation) {
+        if (this.display == null || this.display == Display.getCurrent()) {
+            return operation.get();
+        }
+        Object[] result = new Object[1];
+        RuntimeException[] failure = new RuntimeException[1];
+        this.display.syncExec(() -> {
+            try {
+                result[0] = operation.get();
+            } catch (RuntimeException e) {
+                failure[0] = e;
+            }
+        });
+        if (failure[0] != null) {
+            throw failure[0];
+        }
+        @SuppressWarnings("unchecked")
+        R r = (R) result[0];
+        return r;
+    }
+
+    @Override
+    public void handleLayerEvent(ILayerEvent event) {
+        if (event instanceof IStructuralChangeEvent) {
+            IStructuralChangeEvent structuralChangeEvent = (IStructuralChangeEvent) event;
+            if (structuralChangeEvent.isVerticalStructureChanged() && isRowStructureChanged(structuralChangeEvent)) {
+                rebuild();
+            } else if (structuralChangeEvent.isHorizontalStructureChanged()) {
+                // column indexes are stable on column structure changes, but
+                // columns might have been added that need to be indexed
+                if (this.complete && this.layer.getColumnCount() > this.columns.size()) {
+                    rebuild();
+                }
+            }
+        } else if (event instanceof RowUpdateEvent) {
+            RowUpdateEvent rowEvent = (RowUpdateEvent) event;
+            ILayer eventLayer = rowEvent.getLayer();
+            for (Range range : rowEvent.getRowPositionRanges()) {
+                for (int rowPosition = range.start; rowPosition < range.end; rowPosition++) {
+                    int rowIndex = eventLayer.getRowIndexByPosition(rowPosition);
+                    if (rowIndex >= 0) {
+                        this.dirtyRows.add(rowIndex);
+                    }
+                }
+            }
+        } else if (event instanceof DataUpdateEvent || event.getClass() == CellVisualChangeEvent.class) {
+            // selection and hover events are also CellVisualChangeEvents, only
+            // the events for value changes are processed
+            CellVisualChangeEvent cellEvent = (CellVisualChangeEvent) event;
+            ILayer eventLayer = cellEvent.getLayer();
+            int columnIndex = eventLayer.getColumnIndexByPosition(cellEvent.getColumnPosition());
+            int rowIndex = eventLayer.getRowIndexByPosition(cellEvent.getRowPosition());
+            if (columnIndex >= 0 && rowIndex >= 0) {
+                this.dirtyCells.add(toKey(columnIndex, rowIndex));
+            }
+        }
+    }
+
+    /**
+     * Checks if the given vertical structural change event indicates that rows
+     * were added, removed or reordered, which might change the values per row
+     * index. Resizing rows for example does not change the index.
+     */
+    private static boolean isRowStructureChanged(IStructuralChangeEvent event) {
+        Collection<StructuralDiff> rowDiffs = event.getRowDiffs();
+        if (rowDiffs == null) {
+            return !(event instanceof ResizeStructuralRefreshEvent);
+        }
+        for (StructuralDiff diff : rowDiffs) {
+            if (diff.getDiffType() != DiffTypeEnum.CHANGE) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Re-indexes the changed cells of the indexed columns. Needs to be called
+     * on the UI thread, as the cells are retrieved from the layer.
+     */
+    private void updateDirtyCells() {
+        if (!this.dirtyRows.isEmpty()) {
+            for (Iterator<Integer> it = this.dirtyRows.iterator(); it.hasNext();) {
+                int rowIndex = it.next();
+                int rowPosition = this.layer.getRowPositionByIndex(rowIndex);
+                if (rowPosition >= 0) {
+                    for (Map.Entry<Integer, ColumnValues> entry : this.columns.entrySet()) {
+                        int columnPosition = this.layer.getColumnPositionByIndex(entry.getKey());
+                        if (columnPosition >= 0) {
+                            entry.getValue().set(rowIndex, CellDisplayValueSearchUtil.getSearchValue(
+                                    this.layer, this.configRegistry, columnPosition, rowPosition));
+                        }
+                    }
+                    if (this.complete) {
+                        it.remove();
+                    }
+                }
+            }
+        }
+        if (!this.dirtyCells.isEmpty()) {
+            for (Iterator<Long> it = this.dirtyCells.iterator(); it.hasNext();) {
+                long key = it.next();
+                int columnIndex = (int) (key >>> 32);
+                int rowIndex = (int) key;
+                ColumnValues values = this.columns.get(columnIndex);
+                int columnPosition = this.layer.getColumnPositionByIndex(columnIndex);
+                int rowPosition = this.layer.getRowPositionByIndex(rowIndex);
+                if (values != null && columnPosition >= 0 && rowPosition >= 0) {
+                    values.set(rowIndex, CellDisplayValueSearchUtil.getSearchValue(
+                            this.layer, this.configRegistry, columnPosition, rowPosition));
+                    it.remove();
+                }
+            }
+        }
+    }
+
+    private static long toKey(int columnIndex, int rowIndex) {
+        return ((long) columnIndex << 32) | (rowIndex & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Creates a query for a search operation on the given layer. Needs to be
+     * called on the UI thread.
+     *
+     * @param contextLayer
+     *            The layer the searched positions belong to.
+     * @param matcher
+     *            Checks if a display value matches the search value.
+     * @return The query to check positions for possible matches.
+     */
+    Query createQuery(ILayer contextLayer, Predicate<String> matcher) {
+        updateDirtyCells();
+        return new Query(contextLayer, matcher);
+    }
+
+    /**
+     * Searches all cells of the indexed layer for the given value and passes
+     * the coordinates of all matching cells to the given consumer, row by row.
+     * Needs to be called on the UI thread.
+     *
+     * @param valueToMatch
+     *            The value to search for.
+     * @param comparator
+     *            The comparator to check for equality of the search value and
+     *            the display value of a cell.
+     * @param caseSensitive
+     *            Whether the search is case sensitive.
+     * @param wholeWord
+     *            Whether only whole words should match.
+     * @param regex
+     *            Whether the search value is a regular expression.
+     * @param resultConsumer
+     *            The consumer that receives the coordinates of the matching
+     *            cells as soon as they are found.
+     * @return The number of matching cells.
+     */
+    public int findAll(
+            Object valueToMatch,
+            Comparator<String> comparator,
+            boolean caseSensitive,
+            boolean wholeWord,
+            boolean regex,
+            Consumer<PositionCoordinate> resultConsumer) {
+        String stringValue = caseSensitive ? valueToMatch.toString() : valueToMatch.toString().toLowerCase();
+        Pattern pattern = regex ? Pattern.compile(stringValue) : null;
+        Query query = createQuery(this.layer, value -> CellDisplayValueSearchUtil.matches(
+                value, pattern, stringValue, comparator, caseSensitive, wholeWord, regex));
+
+        int found = 0;
+        int columnCount = this.layer.getColumnCount();
+        int rowCount = this.layer.getRowCount();
+        for (int rowPosition = 0; rowPosition < rowCount; rowPosition++) {
+            for (int columnPosition = 0; columnPosition < columnCount; columnPosition++) {
+                if (query.mayMatch(columnPosition, rowPosition)) {
+                    // spanned cells are only reported for their origin
+                    ILayerCell cell = this.layer.getCellByPosition(columnPosition, rowPosition);
+                    if (cell != null
+                            && (cell.getOriginColumnPosition() != columnPosition || cell.getOriginRowPosition() != rowPosition)) {
+                        continue;
+                    }
+                    String value = CellDisplayValueSearchUtil.getSearchValue(
+                            this.layer, this.configRegistry, columnPosition, rowPosition);
+                    if (value != null && query.matcher.test(value)) {
+                        resultConsumer.accept(new PositionCoordinate(this.layer, columnPosition, rowPosition));
+                        found++;
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * A single search operation. Caches the match result per distinct value
+     * and the index lookups per position.
+     */
+    class Query {
+
+        private final ILayer contextLayer;
+
+        final Predicate<String> matcher;
+
+        private final boolean checkDirty;
+
+        /**
+         * The data per column position of the context layer, created lazily.
+         */
+        private final ColumnQuery[] columnQueries;
+
+        private int[] rowIndexes;
+
+        Query(ILayer contextLayer, Predicate<String> matcher) {
+            this.contextLayer = contextLayer;
+            this.matcher = matcher;
+            this.checkDirty = !CellDisplayValueSearchIndex.this.dirtyCells.isEmpty()
+                    || !CellDisplayValueSearchIndex.this.dirtyRows.isEmpty();
+            this.columnQueries = new ColumnQuery[contextLayer.getColumnCount()];
+        }
+
+        /**
+         * Checks whether the cell at the given position of the context layer
+         * might match the search value.
+         *
+         * @return <code>false</code> if the cell does not match for sure,
+         *         <code>true</code> if the cell needs to be checked.
+         */
+        boolean mayMatch(int columnPosition, int rowPosition) {
+            if (columnPosition < 0 || columnPosition >= this.columnQueries.length) {
+                return true;
+            }
+            ColumnQuery columnQuery = this.columnQueries[columnPosition];
+            if (columnQuery == null) {
+                int columnIndex = this.contextLayer.getColumnIndexByPosition(columnPosition);
+                columnQuery = new ColumnQuery(columnIndex,
+                        (columnIndex >= 0) ? CellDisplayValueSearchIndex.this.columns.get(columnIndex) : null);
+                this.columnQueries[columnPosition] = columnQuery;
+            }
+            if (columnQuery.values == null) {
+                return true;
+            }
+
+            int rowIndex = getRowIndex(rowPosition);
+            int valueId = columnQuery.values.getValueId(rowIndex);
+            if (valueId < 0) {
+                return true;
+            }
+            if (this.checkDirty
+                    && (CellDisplayValueSearchIndex.this.dirtyRows.contains(rowIndex)
+                            || CellDisplayValueSearchIndex.this.dirtyCells.contains(toKey(columnQuery.columnIndex, rowIndex)))) {
+                return true;
+            }
+            return columnQuery.matches(valueId, this.matcher);
+        }
+
+        /**
+         * Returns the row index for the given position of the context layer,
+         * cached as the lookup might need to pass several layers.
+         */
+        private int getRowIndex(int rowPosition) {
+            if (this.rowIndexes == null) {
+                this.rowIndexes = new int[this.contextLayer.getRowCount()];
+                Arrays.fill(this.rowIndexes, Integer.MIN_VALUE);
+            }
+            if (rowPosition < 0 || rowPosition >= this.rowIndexes.length) {
+                return -1;
+            }
+            int rowIndex = this.rowIndexes[rowPosition];
+            if (rowIndex == Integer.MIN_VALUE) {
+                rowIndex = this.contextLayer.getRowIndexByPosition(rowPosition);
+                this.rowIndexes[rowPosition] = rowIndex;
+            }
+            return rowIndex;
+        }
+    }
+
+    /**
+     * The match results of the distinct values of a column for a single
+     * query.
+     */
+    private static class ColumnQuery {
+
+        final int columnIndex;
+        final ColumnValues values;
+        private final BitSet evaluated = new BitSet();
+        private final BitSet matched = new BitSet();
+
+        ColumnQuery(int columnIndex, ColumnValues values) {
+            this.columnIndex = columnIndex;
+            this.values = values;
+        }
+
+        boolean matches(int valueId, Predicate<String> matcher) {
+            if (!this.evaluated.get(valueId)) {
+                this.evaluated.set(valueId);
+                String value = this.values.getValue(valueId);
+                if (value != null && matcher.test(value)) {
+                    this.matched.set(valueId);
+                }
+            }
+            return this.matched.get(valueId);
+        }
+    }
+
+    /**
+     * The distinct display values of a column and the value id per row index.
+     */
+    private static class ColumnValues {
+
+        private final List<String> values = new ArrayList<>();
+
+        private final Map<String, Integer> valueIds = new HashMap<>();
+
+        /**
+         * The value id per row index, -1 for rows that are not indexed.
+         */
+        private int[] rowValueIds;
+
+        ColumnValues(int rowIndexCount) {
+            this.rowValueIds = new int[rowIndexCount];
+            Arrays.fill(this.rowValueIds, -1);
+            // value id 0 is used for cells that can not be found
+            this.values.add(null);
+        }
+
+        int getValueId(int rowIndex) {
+            return (rowIndex >= 0 && rowIndex < this.rowValueIds.length) ? this.rowValueIds[rowIndex] : -1;
+        }
+
+        String getValue(int valueId) {
+            return this.values.get(valueId);
+        }
+
+        void set(int rowIndex, String value) {
+            if (rowIndex >= this.rowValueIds.length) {
+                int oldLength = this.rowValueIds.length;
+                this.rowValueIds = Arrays.copyOf(this.rowValueIds, Math.max(rowIndex + 1, oldLength * 3 / 2));
+                Arrays.fill(this.rowValueIds, oldLength, this.rowValueIds.length, -1);
+            }
+            int valueId = 0;
+            if (value != null) {
+                valueId = this.valueIds.computeIfAbsent(value, v -> {
+                    this.values.add(v);
+                    return this.values.size() - 1;
+                });
+            }
+            this.rowValueIds[rowIndex] = valueId;
+        }
+    }
+}
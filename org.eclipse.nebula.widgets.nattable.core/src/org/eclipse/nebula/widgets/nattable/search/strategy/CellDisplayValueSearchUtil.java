@@ -128,6 +128,9 @@ static List<PositionCoordinate> getDescendingCellCoordinatesRowFirst(
      * @param regex
      * @param includeCollapsed
      *            TODO currently ignored
+     * @param searchIndex
+     *            The {@link CellDisplayValueSearchIndex} to skip non matching
+     *            cells, can be <code>null</code>.
      * @return
      * @throws PatternSyntaxException
      */
@@ -140,11 +143,17 @@ static PositionCoordinate findCell(
             final boolean caseSensitive,
             final boolean wholeWord,
             final boolean regex,
-            final boolean includeCollapsed) {
+            final boolean includeCollapsed,
+            final CellDisplayValueSearchIndex searchIndex) {
         String stringValue = caseSensitive ? valueToMatch.toString() : valueToMatch.toString().toLowerCase();
         Pattern pattern = regex ? Pattern.compile(stringValue) : null;
+        CellDisplayValueSearchIndex.Query query = createQuery(
+                searchIndex, layer, pattern, stringValue, comparator, caseSensitive, wholeWord, regex);
         for (int cellIndex = 0; cellIndex < cellsToSearch.length; cellIndex++) {
             final PositionCoordinate cellCoordinate = cellsToSearch[cellIndex];
+            if (query != null && !query.mayMatch(cellCoordinate.columnPosition, cellCoordinate.rowPosition)) {
+                continue;
+            }
             if (compare(
                     layer,
                     configRegistry,
@@ -175,6 +184,9 @@ static PositionCoordinate findCell(
      * @param regex
      * @param includeCollapsed
      *            TODO currently ignored
+     * @param searchIndex
+     *            The {@link CellDisplayValueSearchIndex} to skip non matching
+     *            cells, can be <code>null</code>.
      * @return
      * @throws PatternSyntaxException
      */
@@ -188,9 +200,12 @@ static PositionCoordinate findCell(
             final boolean wholeWord,
             final boolean regex,
             final boolean columnFirst,
-            final boolean includeCollapsed) {
+            final boolean includeCollapsed,
+            final CellDisplayValueSearchIndex searchIndex) {
         String stringValue = caseSensitive ? valueToMatch.toString() : valueToMatch.toString().toLowerCase();
         Pattern pattern = regex ? Pattern.compile(stringValue) : null;
+        CellDisplayValueSearchIndex.Query query = createQuery(
+                searchIndex, layer, pattern, stringValue, comparator, caseSensitive, wholeWord, regex);
         for (GridRectangle cellRectangle : cellRectangles) {
             int direction = cellRectangle.firstDim.size() > 0 || cellRectangle.secondDim.size() > 0 ? 1 : -1;
             for (int i = cellRectangle.firstDim.start; Math.abs(cellRectangle.firstDim.end - i) > 0; i += direction) {
@@ -208,7 +223,8 @@ static PositionCoordinate findCell(
                         wholeWord,
                         regex,
                         columnFirst,
-                        includeCollapsed);
+                        includeCollapsed,
+                        query);
                 if (result != null) {
                     return result;
                 }
@@ -234,6 +250,9 @@ static PositionCoordinate findCell(
      * @param regex
      * @param columnFirst
      * @param includeCollapsed
+     * @param query
+     *            The search index query to skip non matching cells, can be
+     *            <code>null</code>.
      * @return
      * @throws PatternSyntaxException
      */
@@ -251,7 +270,8 @@ private static PositionCoordinate findCell(
             boolean wholeWord,
             boolean regex,
             final boolean columnFirst,
-            boolean includeCollapsed) {
+            boolean includeCollapsed,
+            CellDisplayValueSearchIndex.Query query) {
 
         int columnPosition;
         int rowPosition;
@@ -264,6 +284,17 @@ private static PositionCoordinate findCell(
         }
 
         for (int i = secondDimStart; direction * (secondDimEnd - i) > 0; i += direction) {
+            if (query != null && !query.mayMatch(columnPosition, rowPosition)) {
+                // the index tells that the cell does not match, so there is
+                // no need to retrieve and convert the cell
+                if (columnFirst) {
+                    rowPosition += direction;
+                } else {
+                    columnPosition += direction;
+                }
+                continue;
+            }
+
             ILayerCell cellByPosition = layer.getCellByPosition(columnPosition, rowPosition);
 
             // on backwards search we only consider the origin position for
@@ -306,6 +337,23 @@ private static PositionCoordinate findCell(
         return null;
     }
 
+    private static CellDisplayValueSearchIndex.Query createQuery(
+            CellDisplayValueSearchIndex searchIndex,
+            ILayer layer,
+            Pattern pattern,
+            String stringValue,
+            Comparator<String> comparator,
+            boolean caseSensitive,
+            boolean wholeWord,
+            boolean regex) {
+        if (searchIndex == null) {
+            return null;
+        }
+        return searchIndex.createQuery(
+                layer,
+                value -> matches(value, pattern, stringValue, comparator, caseSensitive, wholeWord, regex));
+    }
+
     /**
      * Get an anchor for the search of the given cell.
      *
@@ -329,6 +377,34 @@ private static boolean compare(
             int columnPosition,
             int rowPosition) {
 
+        String dataValueString = getSearchValue(layer, configRegistry, columnPosition, rowPosition);
+        return dataValueString != null
+                && matches(dataValueString, pattern, stringValue, comparator, caseSensitive, wholeWord, regex);
+    }
+
+    /**
+     * Returns the display value of the cell at the given position that is
+     * used for searching.
+     *
+     * @param layer
+     *            The layer to which the positions belong.
+     * @param configRegistry
+     *            The {@link IConfigRegistry} to retrieve the display converter.
+     * @param columnPosition
+     *            The column position of the cell.
+     * @param rowPosition
+     *            The row position of the cell.
+     * @return The display value as String, or <code>null</code> if the cell
+     *         can not be found by a search, e.g. because it has the
+     *         {@link ISearchStrategy#SKIP_SEARCH_RESULT_LABEL} or the display
+     *         value is not {@link Comparable}.
+     */
+    static String getSearchValue(
+            ILayer layer,
+            IConfigRegistry configRegistry,
+            int columnPosition,
+            int rowPosition) {
+
         // Convert cell's data
         LabelStack labels = layer.getConfigLabelsByPosition(columnPosition, rowPosition);
         if (!labels.hasLabel(ISearchStrategy.SKIP_SEARCH_RESULT_LABEL)) {
@@ -344,25 +420,58 @@ private static boolean compare(
                 }
             }
 
-            // Compare with valueToMatch
             if (dataValue instanceof Comparable<?>) {
-                String dataValueString = caseSensitive ? dataValue.toString() : dataValue.toString().toLowerCase();
-                if (regex) {
-                    if (pattern.matcher(dataValueString).matches()) {
-                        return true;
-                    }
-                } else if (comparator.compare(stringValue, dataValueString) == 0) {
-                    return true;
-                } else if (!wholeWord && dataValueString.contains(stringValue)) {
+                return dataValue.toString();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks if the given display value matches the search value.
+     *
+     * @param dataValue
+     *            The display value of a cell.
+     * @param pattern
+     *            The compiled search value if regex is <code>true</code>.
+     * @param stringValue
+     *            The search value, lower case if the search is not case
+     *            sensitive.
+     * @param comparator
+     *            The comparator to check for equality.
+     * @param caseSensitive
+     *            Whether the search is case sensitive.
+     * @param wholeWord
+     *            Whether only whole words should match.
+     * @param regex
+     *            Whether the search value is a regular expression.
+     * @return <code>true</code> if the display value matches.
+     */
+    static boolean matches(
+            String dataValue,
+            Pattern pattern,
+            String stringValue,
+            Comparator<String> comparator,
+            boolean caseSensitive,
+            boolean wholeWord,
+            boolean regex) {
+
+        // Compare with valueToMatch
+        String dataValueString = caseSensitive ? dataValue : dataValue.toLowerCase();
+        if (regex) {
+            if (pattern.matcher(dataValueString).matches()) {
+                return true;
+            }
+        } else if (comparator.compare(stringValue, dataValueString) == 0) {
+            return true;
+        } else if (!wholeWord && dataValueString.contains(stringValue)) {
+            return true;
+        } else if (wholeWord) {
+            // we also need to check single words in a multi word value
+            String[] split = dataValueString.split("\\b"); //$NON-NLS-1$
+            for (String word : split) {
+                if (comparator.compare(stringValue, word) == 0) {
                     return true;
-                } else if (wholeWord) {
-                    // we also need to check single words in a multi word value
-                    String[] split = dataValueString.split("\\b"); //$NON-NLS-1$
-                    for (String word : split) {
-                        if (comparator.compare(stringValue, word) == 0) {
-                            return true;
-                        }
-                    }
                 }
             }
         }
@@ -175,7 +175,8 @@ public PositionCoordinate executeSearch(Object valueToMatch) {
                 isWholeWord(),
                 isRegex(),
                 isColumnFirst(),
-                isIncludeCollapsed());
+                isIncludeCollapsed(),
+                getSearchIndex());
     }
 
     /**
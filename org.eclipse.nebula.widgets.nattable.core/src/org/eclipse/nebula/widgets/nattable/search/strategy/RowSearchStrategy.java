@@ -81,7 +81,8 @@ public PositionCoordinate executeSearch(Object valueToMatch) {
                 isCaseSensitive(),
                 isWholeWord(),
                 isRegex(),
-                isIncludeCollapsed());
+                isIncludeCollapsed(),
+                getSearchIndex());
     }
 
     public void setStartingColumnPosition(int startingColumnPosition) {
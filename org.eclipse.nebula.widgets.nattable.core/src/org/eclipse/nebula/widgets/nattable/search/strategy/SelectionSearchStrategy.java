@@ -86,7 +86,8 @@ public PositionCoordinate executeSearch(Object valueToMatch) {
                 isCaseSensitive(),
                 isWholeWord(),
                 isRegex(),
-                isIncludeCollapsed());
+                isIncludeCollapsed(),
+                getSearchIndex());
 
         if (coordinate != null) {
             selectionLayer.moveSelectionAnchor(coordinate.columnPosition, coordinate.rowPosition);
@@ -0,0 +1,742 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.selection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.eclipse.collections.api.list.primitive.MutableIntList;
+import org.eclipse.collections.impl.factory.primitive.IntLists;
+import org.eclipse.nebula.widgets.nattable.coordinate.PositionCoordinate;
+import org.eclipse.nebula.widgets.nattable.coordinate.Range;
+import org.eclipse.nebula.widgets.nattable.layer.cell.ILayerCell;
+import org.eclipse.nebula.widgets.nattable.layer.event.IStructuralChangeEvent;
+import org.eclipse.swt.graphics.Rectangle;
+
+/**
+ * {@link ISelectionModel} that is optimized for huge selections, e.g. a lot of
+ * single cell selections created via ctrl-click, or a select all followed by
+ * deselections.
+ * <p>
+ * In contrast to the {@link SelectionModel} that stores the added rectangles
+ * in a list that needs to be scanned on every check, this model stores the
+ * selection as a coalesced region. The region is organized in horizontal
+ * bands of rows that share the same selected column intervals. The bands are
+ * indexed by their start row and the column intervals per band are sorted and
+ * disjoint, so point queries can be answered via binary search in
+ * <code>O(log n)</code>. Additionally the selected row and column ranges and
+ * the fully selected rows and columns are cached until the selection changes.
+ * </p>
+ * <p>
+ * As the selection is stored as a region, {@link #getSelections()} returns the
+ * disjoint rectangles of that region and not the rectangles that were added.
+ * Selections with negative coordinates are clipped at 0.
+ * </p>
+ * Coordinates are in <i>Selection Layer positions</i>
+ *
+ * @see SelectionLayer
+ * @since 2.1
+ */
+public class IndexedSelectionModel implements ISelectionModel {
+
+    private static final int[] EMPTY = new int[0];
+
+    protected final SelectionLayer selectionLayer;
+    private boolean multipleSelectionAllowed;
+
+    /**
+     * The bands of the selection region. The key is the first row of a band,
+     * the band ends at the next key. The value contains the selected column
+     * intervals of the band as pairs of start (inclusive) and end (exclusive).
+     * The intervals are sorted, disjoint and not adjacent. Adjacent bands never
+     * have equal intervals and the last band is always empty. The interval
+     * arrays are never modified after they are added to the map, so they can
+     * be shared between bands.
+     */
+    private final TreeMap<Integer, int[]> bands = new TreeMap<>();
+    private final ReadWriteLock bandsLock = new ReentrantReadWriteLock();
+
+    /**
+     * Cached selected row ranges as pairs of start and end, not clipped to the
+     * row count.
+     */
+    private volatile int[] selectedRowRanges;
+    /**
+     * Cached selected column ranges as pairs of start and end, not clipped to
+     * the column count.
+     */
+    private volatile int[] selectedColumnRanges;
+    private volatile FullySelectedCache fullySelectedRows;
+    private volatile FullySelectedCache fullySelectedColumns;
+
+    private boolean clearSelectionOnChange = true;
+
+    public IndexedSelectionModel(SelectionLayer selectionLayer) {
+        this(selectionLayer, true);
+    }
+
+    public IndexedSelectionModel(SelectionLayer selectionLayer, boolean multipleSelectionAllowed) {
+        this.selectionLayer = selectionLayer;
+        this.multipleSelectionAllowed = multipleSelectionAllowed;
+    }
+
+    @Override
+    public boolean isMultipleSelectionAllowed() {
+        return this.multipleSelectionAllowed;
+    }
+
+    @Override
+    public void setMultipleSelectionAllowed(boolean multipleSelectionAllowed) {
+        this.multipleSelectionAllowed = multipleSelectionAllowed;
+    }
+
+    @Override
+    public void addSelection(int columnPosition, int rowPosition) {
+        addSelectionIntoRegion(columnPosition, rowPosition, 1, 1);
+    }
+
+    @Override
+    public void addSelection(final Rectangle range) {
+        if (range != null) {
+            addSelectionIntoRegion(range.x, range.y, range.width, range.height);
+        }
+    }
+
+    private void addSelectionIntoRegion(int x, int y, int width, int height) {
+        this.bandsLock.writeLock().lock();
+        try {
+            if (this.multipleSelectionAllowed) {
+                modifyRegion(x, y, width, height, true);
+            } else {
+                this.bands.clear();
+                // as no multiple selection is allowed, ensure that only one
+                // column and one row will be selected
+                modifyRegion(x, y, 1, 1, true);
+            }
+            invalidateCaches();
+        } finally {
+            this.bandsLock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clearSelection() {
+        this.bandsLock.writeLock().lock();
+        try {
+            this.bands.clear();
+            invalidateCaches();
+        } finally {
+            this.bandsLock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clearSelection(int columnPosition, int rowPosition) {
+        clearSelection(new Rectangle(columnPosition, rowPosition, 1, 1));
+    }
+
+    @Override
+    public void clearSelection(Rectangle removedSelection) {
+        if (removedSelection != null) {
+            this.bandsLock.writeLock().lock();
+            try {
+                modifyRegion(
+                        removedSelection.x,
+                        removedSelection.y,
+                        removedSelection.width,
+                        removedSelection.height,
+                        false);
+                invalidateCaches();
+            } finally {
+                this.bandsLock.writeLock().unlock();
+            }
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        this.bandsLock.readLock().lock();
+        try {
+            return this.bands.isEmpty();
+        } finally {
+            this.bandsLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the disjoint rectangles that form the current selection region.
+     * The returned list is a copy.
+     */
+    @Override
+    public List<Rectangle> getSelections() {
+        List<Rectangle> selections = new ArrayList<>();
+
+        this.bandsLock.readLock().lock();
+        try {
+            Entry<Integer, int[]> previous = null;
+            for (Entry<Integer, int[]> band : this.bands.entrySet()) {
+                if (previous != null) {
+                    int y = previous.getKey();
+                    int height = band.getKey() - y;
+                    int[] intervals = previous.getValue();
+                    for (int i = 0; i < intervals.length; i += 2) {
+                        selections.add(new Rectangle(intervals[i], y, intervals[i + 1] - intervals[i], height));
+                    }
+                }
+                previous = band;
+            }
+        } finally {
+            this.bandsLock.readLock().unlock();
+        }
+
+        return selections;
+    }
+
+    // Cell features
+
+    @Override
+    public boolean isCellPositionSelected(int columnPosition, int rowPosition) {
+        ILayerCell cell = this.selectionLayer.getCellByPosition(columnPosition, rowPosition);
+        if (cell == null) {
+            return false;
+        }
+
+        int startColumn = cell.getOriginColumnPosition();
+        int endColumn = startColumn + cell.getColumnSpan();
+        int startRow = cell.getOriginRowPosition();
+        int endRow = startRow + cell.getRowSpan();
+
+        this.bandsLock.readLock().lock();
+        try {
+            if (intersects(getIntervals(startRow), startColumn, endColumn)) {
+                return true;
+            }
+            if (endRow - startRow > 1) {
+                // spanned cell, check the bands that start within the span
+                for (int[] intervals : this.bands.subMap(startRow, false, endRow, false).values()) {
+                    if (intersects(intervals, startColumn, endColumn)) {
+                        return true;
+                    }
+                }
+            }
+        } finally {
+            this.bandsLock.readLock().unlock();
+        }
+
+        return false;
+    }
+
+    // Column features
+
+    @Override
+    public int[] getSelectedColumnPositions() {
+        int[] ranges = getSelectedColumnRanges();
+        int columnCount = this.selectionLayer.getColumnCount();
+        MutableIntList selectedColumns = IntLists.mutable.empty();
+        for (int i = 0; i < ranges.length && ranges[i] < columnCount; i += 2) {
+            int end = Math.min(ranges[i + 1], columnCount);
+            for (int column = ranges[i]; column < end; column++) {
+                selectedColumns.add(column);
+            }
+        }
+        return selectedColumns.toArray();
+    }
+
+    @Override
+    public boolean isColumnPositionSelected(int columnPosition) {
+        return columnPosition < this.selectionLayer.getColumnCount()
+                && contains(getSelectedColumnRanges(), columnPosition);
+    }
+
+    @Override
+    public int[] getFullySelectedColumnPositions(int columnHeight) {
+        return toPositions(getFullySelectedColumns(columnHeight), this.selectionLayer.getColumnCount());
+    }
+
+    /**
+     * Are all cells in this column selected? The selected rows in the column
+     * need to be contiguous and cover at least the given column height.
+     */
+    @Override
+    public boolean isColumnPositionFullySelected(int columnPosition, int columnHeight) {
+        return columnPosition >= 0 && getFullySelectedColumns(columnHeight).get(columnPosition);
+    }
+
+    // Row features
+
+    @Override
+    public int getSelectedRowCount() {
+        int[] ranges = getSelectedRowRanges();
+        int rowCount = this.selectionLayer.getRowCount();
+        int count = 0;
+        for (int i = 0; i < ranges.length && ranges[i] < rowCount; i += 2) {
+            count += Math.min(ranges[i + 1], rowCount) - ranges[i];
+        }
+        return count;
+    }
+
+    @Override
+    public Set<Range> getSelectedRowPositions() {
+        int[] ranges = getSelectedRowRanges();
+        int rowCount = this.selectionLayer.getRowCount();
+        Set<Range> selectedRows = new HashSet<>();
+        for (int i = 0; i < ranges.length && ranges[i] < rowCount; i += 2) {
+            selectedRows.add(new Range(ranges[i], Math.min(ranges[i + 1], rowCount)));
+        }
+        return selectedRows;
+    }
+
+    @Override
+    public boolean isRowPositionSelected(int rowPosition) {
+        return rowPosition < this.selectionLayer.getRowCount()
+                && contains(getSelectedRowRanges(), rowPosition);
+    }
+
+    @Override
+    public int[] getFullySelectedRowPositions(int rowWidth) {
+        return toPositions(getFullySelectedRows(rowWidth), this.selectionLayer.getRowCount());
+    }
+
+    /**
+     * Are all cells in this row selected? The selected columns in the row need
+     * to be contiguous and cover at least the given row width.
+     */
+    @Override
+    public boolean isRowPositionFullySelected(int rowPosition, int rowWidth) {
+        this.bandsLock.readLock().lock();
+        try {
+            return isFullySelected(getIntervals(rowPosition), rowWidth);
+        } finally {
+            this.bandsLock.readLock().unlock();
+        }
+    }
+
+    // Region handling
+
+    /**
+     * Adds or removes the given rectangle to or from the selection region.
+     * Needs to be called with the write lock held.
+     */
+    private void modifyRegion(int x, int y, int width, int height, boolean add) {
+        // clamp the exclusive ends, x + width would overflow for regions that
+        // extend to Integer.MAX_VALUE like full column or row selections
+        int startColumn = Math.max(x, 0);
+        int endColumn = (int) Math.min((long) x + width, Integer.MAX_VALUE);
+        int startRow = Math.max(y, 0);
+        int endRow = (int) Math.min((long) y + height, Integer.MAX_VALUE);
+        if (startColumn >= endColumn || startRow >= endRow) {
+            return;
+        }
+
+        splitBand(startRow);
+        splitBand(endRow);
+
+        for (Entry<Integer, int[]> band : this.bands.subMap(startRow, true, endRow, false).entrySet()) {
+            band.setValue(add
+                    ? union(band.getValue(), startColumn, endColumn)
+                    : subtract(band.getValue(), startColumn, endColumn));
+        }
+
+        coalesceBands(startRow, endRow);
+    }
+
+    /**
+     * Ensures that a band starts at the given row.
+     */
+    private void splitBand(int row) {
+        if (!this.bands.containsKey(row)) {
+            Entry<Integer, int[]> floor = this.bands.floorEntry(row);
+            this.bands.put(row, (floor != null) ? floor.getValue() : EMPTY);
+        }
+    }
+
+    /**
+     * Removes bands in the given row range that have the same intervals as
+     * their predecessor, and leading empty bands.
+     */
+    private void coalesceBands(int startRow, int endRow) {
+        // start with the band before the modified range as it could be equal
+        Entry<Integer, int[]> before = this.bands.lowerEntry(startRow);
+        int[] previous = (before != null) ? before.getValue() : null;
+        Iterator<Entry<Integer, int[]>> it = this.bands.tailMap(startRow, true).entrySet().iterator();
+        while (it.hasNext()) {
+            Entry<Integer, int[]> band = it.next();
+            if (band.getKey() > endRow) {
+                break;
+            }
+            int[] intervals = band.getValue();
+            if ((previous == null) ? intervals.length == 0 : Arrays.equals(previous, intervals)) {
+                it.remove();
+            } else {
+                previous = intervals;
+            }
+        }
+    }
+
+    /**
+     * Needs to be called with the read or write lock held.
+     *
+     * @return The selected column intervals of the given row.
+     */
+    private int[] getIntervals(int row) {
+        Entry<Integer, int[]> band = this.bands.floorEntry(row);
+        return (band != null) ? band.getValue() : EMPTY;
+    }
+
+    private void invalidateCaches() {
+        this.selectedRowRanges = null;
+        this.selectedColumnRanges = null;
+        this.fullySelectedRows = null;
+        this.fullySelectedColumns = null;
+    }
+
+    private int[] getSelectedRowRanges() {
+        int[] ranges = this.selectedRowRanges;
+        if (ranges == null) {
+            this.bandsLock.readLock().lock();
+            try {
+                MutableIntList result = IntLists.mutable.empty();
+                int start = -1;
+                for (Entry<Integer, int[]> band : this.bands.entrySet()) {
+                    boolean selected = band.getValue().length > 0;
+                    if (selected && start < 0) {
+                        start = band.getKey();
+                    } else if (!selected && start >= 0) {
+                        result.add(start);
+                        result.add(band.getKey());
+                        start = -1;
+                    }
+                }
+                ranges = result.toArray();
+                // the cache is set while the read lock is held, so it can not
+                // override an invalidation
+                this.selectedRowRanges = ranges;
+            } finally {
+                this.bandsLock.readLock().unlock();
+            }
+        }
+        return ranges;
+    }
+
+    private int[] getSelectedColumnRanges() {
+        int[] ranges = this.selectedColumnRanges;
+        if (ranges == null) {
+            this.bandsLock.readLock().lock();
+            try {
+                // encode the intervals as long to sort them by start
+                int count = 0;
+                for (int[] intervals : this.bands.values()) {
+                    count += intervals.length / 2;
+                }
+                long[] encoded = new long[count];
+                int index = 0;
+                for (int[] intervals : this.bands.values()) {
+                    for (int i = 0; i < intervals.length; i += 2) {
+                        encoded[index++] = ((long) intervals[i] << 32) | (intervals[i + 1] & 0xFFFFFFFFL);
+                    }
+                }
+                Arrays.sort(encoded);
+
+                MutableIntList result = IntLists.mutable.empty();
+                for (long interval : encoded) {
+                    int start = (int) (interval >>> 32);
+                    int end = (int) interval;
+                    int last = result.size() - 1;
+                    if (last > 0 && start <= result.get(last)) {
+                        if (end > result.get(last)) {
+                            result.set(last, end);
+                        }
+                    } else {
+                        result.add(start);
+                        result.add(end);
+                    }
+                }
+                ranges = result.toArray();
+                this.selectedColumnRanges = ranges;
+            } finally {
+                this.bandsLock.readLock().unlock();
+            }
+        }
+        return ranges;
+    }
+
+    private BitSet getFullySelectedRows(int rowWidth) {
+        FullySelectedCache cache = this.fullySelectedRows;
+        if (cache == null || cache.size != rowWidth) {
+            this.bandsLock.readLock().lock();
+            try {
+                BitSet rows = new BitSet();
+                Entry<Integer, int[]> previous = null;
+                for (Entry<Integer, int[]> band : this.bands.entrySet()) {
+                    if (previous != null && isFullySelected(previous.getValue(), rowWidth)) {
+                        rows.set(previous.getKey(), band.getKey());
+                    }
+                    previous = band;
+                }
+                cache = new FullySelectedCache(rowWidth, rows);
+                this.fullySelectedRows = cache;
+            } finally {
+                this.bandsLock.readLock().unlock();
+            }
+        }
+        return cache.positions;
+    }
+
+    /**
+     * Calculates the fully selected columns by sweeping over the bands and
+     * tracking the row at which the selection of a column interval started.
+     * A column is fully selected if it contains exactly one contiguous run of
+     * selected rows that is at least as high as the given column height.
+     */
+    private BitSet getFullySelectedColumns(int columnHeight) {
+        FullySelectedCache cache = this.fullySelectedColumns;
+        if (cache == null || cache.size != columnHeight) {
+            this.bandsLock.readLock().lock();
+            try {
+                BitSet full = new BitSet();
+                BitSet ended = new BitSet();
+                BitSet multiple = new BitSet();
+
+                // active runs as triples of start column, end column and start
+                // row
+                MutableIntList active = IntLists.mutable.empty();
+                for (Entry<Integer, int[]> band : this.bands.entrySet()) {
+                    int row = band.getKey();
+                    int[] intervals = band.getValue();
+                    MutableIntList next = IntLists.mutable.empty();
+
+                    int[] bounds = getBounds(active, intervals);
+                    int activeIndex = 0;
+                    int intervalIndex = 0;
+                    for (int b = 0; b < bounds.length - 1; b++) {
+                        int start = bounds[b];
+                        int end = bounds[b + 1];
+                        while (activeIndex < active.size() && active.get(activeIndex + 1) <= start) {
+                            activeIndex += 3;
+                        }
+                        while (intervalIndex < intervals.length && intervals[intervalIndex + 1] <= start) {
+                            intervalIndex += 2;
+                        }
+                        boolean inActive = activeIndex < active.size() && active.get(activeIndex) <= start;
+                        boolean inBand = intervalIndex < intervals.length && intervals[intervalIndex] <= start;
+
+                        if (inActive && !inBand) {
+                            // the run ends
+                            for (int i = ended.nextSetBit(start); i >= 0 && i < end; i = ended.nextSetBit(i + 1)) {
+                                multiple.set(i);
+                            }
+                            ended.set(start, end);
+                            if (row - active.get(activeIndex + 2) >= columnHeight) {
+                                full.set(start, end);
+                            }
+                        } else if (inBand) {
+                            int startRow = inActive ? active.get(activeIndex + 2) : row;
+                            int last = next.size() - 3;
+                            if (last >= 0 && next.get(last + 1) == start && next.get(last + 2) == startRow) {
+                                next.set(last + 1, end);
+                            } else {
+                                next.add(start);
+                                next.add(end);
+                                next.add(startRow);
+                            }
+                        }
+                    }
+                    active = next;
+                }
+
+                full.andNot(multiple);
+                cache = new FullySelectedCache(columnHeight, full);
+                this.fullySelectedColumns = cache;
+            } finally {
+                this.bandsLock.readLock().unlock();
+            }
+        }
+        return cache.positions;
+    }
+
+    /**
+     * @return The sorted distinct boundaries of the given active runs and
+     *         column intervals.
+     */
+    private static int[] getBounds(MutableIntList active, int[] intervals) {
+        MutableIntList bounds = IntLists.mutable.empty();
+        for (int i = 0; i < active.size(); i += 3) {
+            bounds.add(active.get(i));
+            bounds.add(active.get(i + 1));
+        }
+        bounds.addAll(intervals);
+        return bounds.distinct().sortThis().toArray();
+    }
+
+    private static int[] toPositions(BitSet positions, int count) {
+        return positions.stream().filter(position -> position < count).toArray();
+    }
+
+    private static boolean isFullySelected(int[] intervals, int size) {
+        return intervals.length == 2 && intervals[1] - intervals[0] >= size;
+    }
+
+    /**
+     * @return The index of the first interval in the given intervals whose end
+     *         is greater than the given value, or the length of the array if
+     *         there is none.
+     */
+    private static int indexOfFirstEndAfter(int[] intervals, int value) {
+        int low = 0;
+        int high = intervals.length / 2;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (intervals[2 * mid + 1] > value) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return 2 * low;
+    }
+
+    private static boolean contains(int[] intervals, int value) {
+        int index = indexOfFirstEndAfter(intervals, value);
+        return index < intervals.length && intervals[index] <= value;
+    }
+
+    private static boolean intersects(int[] intervals, int start, int end) {
+        int index = indexOfFirstEndAfter(intervals, start);
+        return index < intervals.length && intervals[index] < end;
+    }
+
+    private static int[] union(int[] intervals, int start, int end) {
+        // adjacent intervals are merged too
+        int from = indexOfFirstEndAfter(intervals, start - 1);
+        int to = from;
+        int newStart = start;
+        int newEnd = end;
+        while (to < intervals.length && intervals[to] <= end) {
+            newStart = Math.min(newStart, intervals[to]);
+            newEnd = Math.max(newEnd, intervals[to + 1]);
+            to += 2;
+        }
+        if (to - from == 2 && intervals[from] == newStart && intervals[from + 1] == newEnd) {
+            // already contained
+            return intervals;
+        }
+
+        int[] result = new int[intervals.length - (to - from) + 2];
+        System.arraycopy(intervals, 0, result, 0, from);
+        result[from] = newStart;
+        result[from + 1] = newEnd;
+        System.arraycopy(intervals, to, result, from + 2, intervals.length - to);
+        return result;
+    }
+
+    private static int[] subtract(int[] intervals, int start, int end) {
+        int from = indexOfFirstEndAfter(intervals, start);
+        int to = from;
+        while (to < intervals.length && intervals[to] < end) {
+            to += 2;
+        }
+        if (from == to) {
+            // nothing to remove
+            return intervals;
+        }
+
+        boolean left = intervals[from] < start;
+        boolean right = intervals[to - 1] > end;
+        int[] result = new int[intervals.length - (to - from) + (left ? 2 : 0) + (right ? 2 : 0)];
+        System.arraycopy(intervals, 0, result, 0, from);
+        int index = from;
+        if (left) {
+            result[index++] = intervals[from];
+            result[index++] = start;
+        }
+        if (right) {
+            result[index++] = end;
+            result[index++] = intervals[to - 1];
+        }
+        System.arraycopy(intervals, to, result, index, intervals.length - to);
+        return result;
+    }
+
+    // Object methods
+
+    @Override
+    public String toString() {
+        return getSelections().toString();
+    }
+
+    @Override
+    public void handleLayerEvent(IStructuralChangeEvent event) {
+        if (this.clearSelectionOnChange) {
+            if (SelectionStructuralChangeHelper.isSelectionModified(event, this, this.selectionLayer)) {
+                this.selectionLayer.clear();
+            }
+        } else {
+            // keep the selection as is in case of changes, but remove the
+            // parts of the selection region that are outside of the layer
+            int columnCount = this.selectionLayer.getColumnCount();
+            int rowCount = this.selectionLayer.getRowCount();
+            this.bandsLock.writeLock().lock();
+            try {
+                modifyRegion(columnCount, 0, Integer.MAX_VALUE - columnCount, Integer.MAX_VALUE, false);
+                modifyRegion(0, rowCount, Integer.MAX_VALUE, Integer.MAX_VALUE - rowCount, false);
+                invalidateCaches();
+            } finally {
+                this.bandsLock.writeLock().unlock();
+            }
+
+            PositionCoordinate anchor = this.selectionLayer.getSelectionAnchor();
+            if (anchor.columnPosition >= columnCount || anchor.rowPosition >= rowCount) {
+                this.selectionLayer.setSelectionAnchor(SelectionLayer.NO_SELECTION, SelectionLayer.NO_SELECTION);
+            }
+        }
+    }
+
+    /**
+     *
+     * @param clearSelectionOnChange
+     *            <code>true</code> to simply clear the selection on structural
+     *            changes, <code>false</code> to keep the valid selection
+     *            (selection of cells that still exist)
+     */
+    public void setClearSelectionOnChange(boolean clearSelectionOnChange) {
+        this.clearSelectionOnChange = clearSelectionOnChange;
+    }
+
+    @Override
+    public Class<IStructuralChangeEvent> getLayerEventClass() {
+        return IStructuralChangeEvent.class;
+    }
+
+    /**
+     * Cached fully selected positions for a row width or column height.
+     */
+    private static final class FullySelectedCache {
+
+        private final int size;
+        private final BitSet positions;
+
+        FullySelectedCache(int size, BitSet positions) {
+            this.size = size;
+            this.positions = positions;
+        }
+    }
+}
@@ -15,7 +15,6 @@
 package org.eclipse.nebula.widgets.nattable.selection;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
@@ -29,8 +28,6 @@
 import org.eclipse.nebula.widgets.nattable.coordinate.Range;
 import org.eclipse.nebula.widgets.nattable.layer.cell.ILayerCell;
 import org.eclipse.nebula.widgets.nattable.layer.event.IStructuralChangeEvent;
-import org.eclipse.nebula.widgets.nattable.layer.event.StructuralDiff;
-import org.eclipse.nebula.widgets.nattable.layer.event.StructuralDiff.DiffTypeEnum;
 import org.eclipse.nebula.widgets.nattable.util.ArrayUtil;
 import org.eclipse.nebula.widgets.nattable.util.ObjectUtils;
 import org.eclipse.swt.graphics.Rectangle;
@@ -640,55 +637,8 @@ public String toString() {
     @Override
     public void handleLayerEvent(IStructuralChangeEvent event) {
         if (this.clearSelectionOnChange) {
-            if (event.isHorizontalStructureChanged()) {
-                if (event.getColumnDiffs() == null) {
-                    Collection<Rectangle> rectangles = event.getChangedPositionRectangles();
-                    for (Rectangle rectangle : rectangles) {
-                        Range changedRange = new Range(rectangle.y, rectangle.y + rectangle.height);
-                        if (selectedColumnModified(changedRange)) {
-                            this.selectionLayer.clear();
-                            break;
-                        }
-                    }
-                } else {
-                    for (StructuralDiff diff : event.getColumnDiffs()) {
-                        // DiffTypeEnum.CHANGE is used for resizing and
-                        // shouldn't result in clearing the selection
-                        if (diff.getDiffType() != DiffTypeEnum.CHANGE) {
-                            if (selectedColumnModified(diff.getBeforePositionRange())) {
-                                this.selectionLayer.clear();
-                                break;
-                            }
-                        }
-                    }
-                }
-            }
-
-            if (event.isVerticalStructureChanged()) {
-                // if there are no row diffs, it seems to be a complete refresh
-                if (event.getRowDiffs() == null) {
-                    Collection<Rectangle> rectangles = event.getChangedPositionRectangles();
-                    for (Rectangle rectangle : rectangles) {
-                        Range changedRange = new Range(rectangle.y, rectangle.y + rectangle.height);
-                        if (selectedRowModified(changedRange)) {
-                            this.selectionLayer.clear();
-                            break;
-                        }
-                    }
-                } else {
-                    // there are row diffs so we try to determine the diffs to
-                    // process
-                    for (StructuralDiff diff : event.getRowDiffs()) {
-                        // DiffTypeEnum.CHANGE is used for resizing and
-                        // shouldn't result in clearing the selection
-                        if (diff.getDiffType() != DiffTypeEnum.CHANGE) {
-                            if (selectedRowModified(diff.getBeforePositionRange())) {
-                                this.selectionLayer.clear();
-                                break;
-                            }
-                        }
-                    }
-                }
+            if (SelectionStructuralChangeHelper.isSelectionModified(event, this, this.selectionLayer)) {
+                this.selectionLayer.clear();
             }
         } else {
             // keep the selection as is in case of changes
@@ -711,28 +661,6 @@ public void handleLayerEvent(IStructuralChangeEvent event) {
         }
     }
 
-    private boolean selectedRowModified(Range changedRange) {
-        Set<Range> selectedRows = this.selectionLayer.getSelectedRowPositions();
-        for (Range rowRange : selectedRows) {
-            if (rowRange.overlap(changedRange)) {
-                return true;
-            }
-        }
-
-        // if the selection layer is empty, we should clear the selection also
-        return (this.selectionLayer.getRowCount() == 0 && !this.isEmpty());
-    }
-
-    private boolean selectedColumnModified(Range changedRange) {
-        for (int i = changedRange.start; i <= changedRange.end; i++) {
-            if (isColumnPositionSelected(i)) {
-                return true;
-            }
-        }
-
-        return false;
-    }
-
     /**
      *
      * @param clearSelectionOnChange
@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.selection;
+
+import java.util.Collection;
+
+import org.eclipse.nebula.widgets.nattable.coordinate.Range;
+import org.eclipse.nebula.widgets.nattable.layer.event.IStructuralChangeEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.StructuralDiff;
+import org.eclipse.nebula.widgets.nattable.layer.event.StructuralDiff.DiffTypeEnum;
+import org.eclipse.swt.graphics.Rectangle;
+
+/**
+ * Helper for the {@link ISelectionModel} implementations to check whether a
+ * structural change modifies the current selection.
+ *
+ * @since 2.1
+ */
+final class SelectionStructuralChangeHelper {
+
+    private SelectionStructuralChangeHelper() {
+        // private default constructor for helper class
+    }
+
+    /**
+     * Checks if the given structural change event modifies a selected column
+     * or row of the given {@link ISelectionModel}. Changes of type
+     * {@link DiffTypeEnum#CHANGE} are used for resizing and are therefore not
+     * treated as modification.
+     *
+     * @param event
+     *            The structural change event to check.
+     * @param selectionModel
+     *            The {@link ISelectionModel} whose selection should be
+     *            checked.
+     * @param selectionLayer
+     *            The {@link SelectionLayer} the selection model belongs to.
+     * @return <code>true</code> if the change modifies the selection and the
+     *         selection should be cleared, <code>false</code> if not.
+     */
+    static boolean isSelectionModified(
+            IStructuralChangeEvent event,
+            ISelectionModel selectionModel,
+            SelectionLayer selectionLayer) {
+
+        if (event.isHorizontalStructureChanged()) {
+            Collection<StructuralDiff> columnDiffs = event.getColumnDiffs();
+            if (columnDiffs == null) {
+                for (Rectangle rectangle : event.getChangedPositionRectangles()) {
+                    Range changedRange = new Range(rectangle.y, rectangle.y + rectangle.height);
+                    if (selectedColumnModified(selectionModel, changedRange)) {
+                        return true;
+                    }
+                }
+            } else {
+                for (StructuralDiff diff : columnDiffs) {
+                    if (diff.getDiffType() != DiffTypeEnum.CHANGE
+                            && selectedColumnModified(selectionModel, diff.getBeforePositionRange())) {
+                        return true;
+                    }
+                }
+            }
+        }
+
+        if (event.isVerticalStructureChanged()) {
+            // if there are no row diffs, it seems to be a complete refresh
+            Collection<StructuralDiff> rowDiffs = event.getRowDiffs();
+            if (rowDiffs == null) {
+                for (Rectangle rectangle : event.getChangedPositionRectangles()) {
+                    Range changedRange = new Range(rectangle.y, rectangle.y + rectangle.height);
+                    if (selectedRowModified(selectionModel, selectionLayer, changedRange)) {
+                        return true;
+                    }
+                }
+            } else {
+                for (StructuralDiff diff : rowDiffs) {
+                    if (diff.getDiffType() != DiffTypeEnum.CHANGE
+                            && selectedRowModified(selectionModel, selectionLayer, diff.getBeforePositionRange())) {
+                        return true;
+                    }
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean selectedRowModified(
+            ISelectionModel selectionModel,
+            SelectionLayer selectionLayer,
+            Range changedRange) {
+
+        for (Range rowRange : selectionLayer.getSelectedRowPositions()) {
+            if (rowRange.overlap(changedRange)) {
+                return true;
+            }
+        }
+
+        // if the selection layer is empty, we should clear the selection also
+        return (selectionLayer.getRowCount() == 0 && !selectionModel.isEmpty());
+    }
+
+    private static boolean selectedColumnModified(ISelectionModel selectionModel, Range changedRange) {
+        for (int i = changedRange.start; i <= changedRange.end; i++) {
+            if (selectionModel.isColumnPositionSelected(i)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,290 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.sort.index;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.eclipse.collections.api.list.primitive.MutableIntList;
+import org.eclipse.collections.impl.factory.primitive.IntLists;
+import org.eclipse.nebula.widgets.nattable.command.ILayerCommand;
+import org.eclipse.nebula.widgets.nattable.coordinate.PositionUtil;
+import org.eclipse.nebula.widgets.nattable.coordinate.Range;
+import org.eclipse.nebula.widgets.nattable.data.IDataProvider;
+import org.eclipse.nebula.widgets.nattable.edit.event.DataUpdateEvent;
+import org.eclipse.nebula.widgets.nattable.layer.AbstractLayerTransform;
+import org.eclipse.nebula.widgets.nattable.layer.ILayer;
+import org.eclipse.nebula.widgets.nattable.layer.IUniqueIndexLayer;
+import org.eclipse.nebula.widgets.nattable.layer.command.ConfigureScalingCommand;
+import org.eclipse.nebula.widgets.nattable.layer.event.ColumnStructuralRefreshEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.ILayerEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.ResizeStructuralRefreshEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.IStructuralChangeEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.RowStructuralRefreshEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.StructuralDiff;
+import org.eclipse.nebula.widgets.nattable.layer.event.StructuralDiff.DiffTypeEnum;
+import org.eclipse.nebula.widgets.nattable.sort.SortHeaderLayer;
+
+/**
+ * Layer that transforms the row positions of the underlying layer according
+ * to the row index permutation of an {@link IndexSortModel}. It is the core
+ * alternative to a GlazedLists SortedList and does not modify the underlying
+ * data. The row indexes of the underlying layer need to match the row indexes
+ * of the {@link IDataProvider} that is sorted by the {@link IndexSortModel},
+ * which is for example the case if it is placed directly on top of the body
+ * DataLayer.
+ * <p>
+ * The {@link IndexSortModel} needs to be also set to the
+ * {@link SortHeaderLayer} in the column header to enable sorting via column
+ * header clicks.
+ * </p>
+ *
+ * <pre>
+ * IndexSortModel sortModel = new IndexSortModel(bodyDataProvider, configRegistry, columnHeaderDataLayer);
+ * IndexSortLayer sortLayer = new IndexSortLayer(bodyDataLayer, sortModel);
+ * ...
+ * SortHeaderLayer&lt;?&gt; sortHeaderLayer = new SortHeaderLayer&lt;&gt;(columnHeaderLayer, sortModel);
+ * </pre>
+ *
+ * @since 2.1
+ */
+public class IndexSortLayer extends AbstractLayerTransform implements IUniqueIndexLayer {
+
+    private final IUniqueIndexLayer underlying;
+
+    private final IndexSortModel sortModel;
+
+    private final Runnable sortChangeListener = this::handleSortChange;
+
+    /**
+     * Caching of the starting y positions of the rows in sorted order.
+     * Position Y contains the start y coordinate of the row at position Y, the
+     * last element contains the height of the layer. <code>null</code> if not
+     * calculated yet.
+     */
+    private int[] startYCache;
+
+    /**
+     * Creates an {@link IndexSortLayer} on top of the given layer.
+     *
+     * @param underlyingLayer
+     *            The underlying layer whose row indexes match the row indexes
+     *            of the {@link IDataProvider} of the given sort model.
+     * @param sortModel
+     *            The {@link IndexSortModel} that provides the row index
+     *            order.
+     */
+    public IndexSortLayer(IUniqueIndexLayer underlyingLayer, IndexSortModel sortModel) {
+        super(underlyingLayer);
+        this.underlying = underlyingLayer;
+        this.sortModel = sortModel;
+        this.sortModel.addSortChangeListener(this.sortChangeListener);
+    }
+
+    /**
+     * @return The {@link IndexSortModel} that is used by this layer.
+     */
+    public IndexSortModel getSortModel() {
+        return this.sortModel;
+    }
+
+    @Override
+    public void handleLayerEvent(ILayerEvent event) {
+        if (event instanceof IStructuralChangeEvent) {
+            IStructuralChangeEvent structuralChangeEvent = (IStructuralChangeEvent) event;
+            if (structuralChangeEvent.isVerticalStructureChanged()) {
+                invalidateCache();
+                if (this.sortModel.isSorted() && isRowStructureChanged(structuralChangeEvent)) {
+                    // the rows changed, so the sort needs to be performed
+                    // again, the sort change triggers a refresh event
+                    this.sortModel.refresh();
+                    if (structuralChangeEvent.isHorizontalStructureChanged()) {
+                        fireLayerEvent(new ColumnStructuralRefreshEvent(this));
+                    }
+                    return;
+                }
+            }
+        } else if (event instanceof DataUpdateEvent && this.sortModel.isSorted()) {
+            DataUpdateEvent updateEvent = (DataUpdateEvent) event;
+            ILayer eventLayer = updateEvent.getLayer();
+            int columnIndex = eventLayer.getColumnIndexByPosition(updateEvent.getColumnPosition());
+            if (this.sortModel.isColumnIndexSorted(columnIndex)) {
+                this.sortModel.updateRows(eventLayer.getRowIndexByPosition(updateEvent.getRowPosition()));
+            }
+        }
+        super.handleLayerEvent(event);
+    }
+
+    /**
+     * Checks if the given vertical structural change event indicates that rows
+     * were added or removed, or that the whole row structure might have
+     * changed. Resizing rows for example does not require a re-sort.
+     *
+     * @param event
+     *            The vertical structural change event to check.
+     * @return <code>true</code> if the sorting needs to be performed again.
+     */
+    private boolean isRowStructureChanged(IStructuralChangeEvent event) {
+        if (this.underlying.getRowCount() != this.sortModel.getSortedRowCount()) {
+            return true;
+        }
+        Collection<StructuralDiff> rowDiffs = event.getRowDiffs();
+        if (rowDiffs == null) {
+            return !(event instanceof ResizeStructuralRefreshEvent);
+        }
+        for (StructuralDiff diff : rowDiffs) {
+            if (diff.getDiffType() != DiffTypeEnum.CHANGE) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean doCommand(ILayerCommand command) {
+        if (command instanceof ConfigureScalingCommand) {
+            // if we change the scaling, the cached start coordinates become
+            // invalid
+            invalidateCache();
+        }
+        return super.doCommand(command);
+    }
+
+    @Override
+    public void dispose() {
+        this.sortModel.removeSortChangeListener(this.sortChangeListener);
+        super.dispose();
+    }
+
+    private void handleSortChange() {
+        invalidateCache();
+        fireLayerEvent(new RowStructuralRefreshEvent(this));
+    }
+
+    // Columns
+
+    @Override
+    public int getColumnPositionByIndex(int columnIndex) {
+        return this.underlying.getColumnPositionByIndex(columnIndex);
+    }
+
+    // Rows
+
+    @Override
+    public int getRowIndexByPosition(int rowPosition) {
+        if (!this.sortModel.isSorted()) {
+            return super.getRowIndexByPosition(rowPosition);
+        }
+        return this.sortModel.getRowIndexByPosition(rowPosition);
+    }
+
+    @Override
+    public int getRowPositionByIndex(int rowIndex) {
+        if (!this.sortModel.isSorted()) {
+            return this.underlying.getRowPositionByIndex(rowIndex);
+        }
+        return this.sortModel.getRowPositionByIndex(rowIndex);
+    }
+
+    @Override
+    public int localToUnderlyingRowPosition(int localRowPosition) {
+        if (!this.sortModel.isSorted()) {
+            return super.localToUnderlyingRowPosition(localRowPosition);
+        }
+        int rowIndex = getRowIndexByPosition(localRowPosition);
+        return this.underlying.getRowPositionByIndex(rowIndex);
+    }
+
+    @Override
+    public int underlyingToLocalRowPosition(ILayer sourceUnderlyingLayer, int underlyingRowPosition) {
+        if (!this.sortModel.isSorted()) {
+            return super.underlyingToLocalRowPosition(sourceUnderlyingLayer, underlyingRowPosition);
+        }
+        int rowIndex = this.underlying.getRowIndexByPosition(underlyingRowPosition);
+        return getRowPositionByIndex(rowIndex);
+    }
+
+    @Override
+    public Collection<Range> underlyingToLocalRowPositions(ILayer sourceUnderlyingLayer, Collection<Range> underlyingRowPositionRanges) {
+        if (!this.sortModel.isSorted()) {
+            return super.underlyingToLocalRowPositions(sourceUnderlyingLayer, underlyingRowPositionRanges);
+        }
+        MutableIntList sortedRowPositions = IntLists.mutable.empty();
+        for (Range underlyingRowPositionRange : underlyingRowPositionRanges) {
+            for (int underlyingRowPosition = underlyingRowPositionRange.start; underlyingRowPosition < underlyingRowPositionRange.end; underlyingRowPosition++) {
+                int localRowPosition = underlyingToLocalRowPosition(sourceUnderlyingLayer, underlyingRowPosition);
+                if (localRowPosition >= 0) {
+                    sortedRowPositions.add(localRowPosition);
+                }
+            }
+        }
+
+        return PositionUtil.getRanges(sortedRowPositions.toSortedArray());
+    }
+
+    // Y
+
+    @Override
+    public int getRowPositionByY(int y) {
+        if (!this.sortModel.isSorted()) {
+            return super.getRowPositionByY(y);
+        }
+        int[] startY = getStartYCache();
+        int rowCount = startY.length - 1;
+        if (y < 0 || y >= startY[rowCount]) {
+            return -1;
+        }
+        int position = Arrays.binarySearch(startY, 0, rowCount, y);
+        if (position < 0) {
+            return -position - 2;
+        }
+        // skip rows with a height of 0
+        while (position < rowCount - 1 && startY[position + 1] == y) {
+            position++;
+        }
+        return position;
+    }
+
+    @Override
+    public int getStartYOfRowPosition(int rowPosition) {
+        if (!this.sortModel.isSorted()) {
+            return super.getStartYOfRowPosition(rowPosition);
+        }
+        int[] startY = getStartYCache();
+        if (rowPosition < 0 || rowPosition >= startY.length) {
+            return -1;
+        }
+        return startY[rowPosition];
+    }
+
+    private int[] getStartYCache() {
+        int[] startY = this.startYCache;
+        if (startY == null) {
+            int rowCount = getRowCount();
+            startY = new int[rowCount + 1];
+            for (int rowPosition = 0; rowPosition < rowCount; rowPosition++) {
+                startY[rowPosition + 1] = startY[rowPosition]
+                        + this.underlying.getRowHeightByPosition(localToUnderlyingRowPosition(rowPosition));
+            }
+            this.startYCache = startY;
+        }
+        return startY;
+    }
+
+    /**
+     * Clears the cached start y coordinates of the rows.
+     */
+    protected void invalidateCache() {
+        this.startYCache = null;
+    }
+}
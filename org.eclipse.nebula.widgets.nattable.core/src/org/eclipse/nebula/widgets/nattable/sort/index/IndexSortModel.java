@@ -0,0 +1,504 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.sort.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.nebula.widgets.nattable.config.DefaultComparator;
+import org.eclipse.nebula.widgets.nattable.config.IConfigRegistry;
+import org.eclipse.nebula.widgets.nattable.config.NullComparator;
+import org.eclipse.nebula.widgets.nattable.data.IDataProvider;
+import org.eclipse.nebula.widgets.nattable.layer.ILayer;
+import org.eclipse.nebula.widgets.nattable.layer.cell.ILayerCell;
+import org.eclipse.nebula.widgets.nattable.sort.ISortModel;
+import org.eclipse.nebula.widgets.nattable.sort.SortConfigAttributes;
+import org.eclipse.nebula.widgets.nattable.sort.SortDirectionEnum;
+import org.eclipse.nebula.widgets.nattable.sort.index.ParallelIntMergeSort.RowComparator;
+
+/**
+ * {@link ISortModel} that sorts the rows of an {@link IDataProvider} without
+ * modifying the underlying data. Instead of sorting the row objects, the sort
+ * result is stored as a permutation of row indexes, that is used by the
+ * {@link IndexSortLayer} to transform the row positions.
+ * <p>
+ * On sorting, the values of the sorted columns are extracted once into arrays.
+ * Numeric columns that use the {@link DefaultComparator} are stored in
+ * primitive arrays, other columns are compared via the {@link Comparator}
+ * configured for {@link SortConfigAttributes#SORT_COMPARATOR}. Rows with equal
+ * sort values keep their original order, so the sort result is stable.
+ * </p>
+ * <p>
+ * Updates of single values can be applied incrementally via
+ * {@link #updateRows(int...)}, which only re-sorts the updated rows and merges
+ * them into the existing order.
+ * </p>
+ *
+ * @see IndexSortLayer
+ * @since 2.1
+ */
+public class IndexSortModel implements ISortModel {
+
+    protected final IDataProvider dataProvider;
+    protected final IConfigRegistry configRegistry;
+    protected final ILayer columnHeaderDataLayer;
+
+    /**
+     * The indexes of the sorted columns in the order they were added to the
+     * sort.
+     */
+    private final List<Integer> sortedColumns = new ArrayList<>();
+
+    /**
+     * The sort directions of the sorted columns.
+     */
+    private final Map<Integer, SortDirectionEnum> sortDirections = new HashMap<>();
+
+    private final List<Runnable> sortChangeListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * The extracted sort keys of the current sort, <code>null</code> if not
+     * sorted.
+     */
+    private SortKey[] sortKeys;
+
+    /**
+     * The row indexes in sorted order. Position Y in the array contains the
+     * index of the row at position Y. <code>null</code> if not sorted.
+     */
+    private volatile int[] rowIndexOrder;
+
+    /**
+     * The inverse of {@link #rowIndexOrder}. Index X in the array contains the
+     * position of the row with index X. <code>null</code> if not sorted.
+     */
+    private volatile int[] rowPositionMapping;
+
+    private boolean parallelSortEnabled = true;
+
+    /**
+     * Creates an {@link IndexSortModel} that uses the {@link Comparator}s
+     * configured for the cells of the given column header data layer.
+     *
+     * @param dataProvider
+     *            The {@link IDataProvider} whose rows should be sorted.
+     * @param configRegistry
+     *            The {@link IConfigRegistry} to retrieve the configured
+     *            {@link Comparator}s. Can be <code>null</code> which means the
+     *            {@link DefaultComparator} is used for all columns.
+     * @param columnHeaderDataLayer
+     *            The column header data layer that is used to retrieve the
+     *            config labels of the column header cells. Can be
+     *            <code>null</code> which means the {@link DefaultComparator}
+     *            is used for all columns.
+     */
+    public IndexSortModel(IDataProvider dataProvider, IConfigRegistry configRegistry, ILayer columnHeaderDataLayer) {
+        this.dataProvider = dataProvider;
+        this.configRegistry = configRegistry;
+        this.columnHeaderDataLayer = columnHeaderDataLayer;
+    }
+
+    @Override
+    public List<Integer> getSortedColumnIndexes() {
+        return new ArrayList<>(this.sortedColumns);
+    }
+
+    @Override
+    public boolean isColumnIndexSorted(int columnIndex) {
+        return this.sortDirections.containsKey(columnIndex);
+    }
+
+    @Override
+    public SortDirectionEnum getSortDirection(int columnIndex) {
+        SortDirectionEnum direction = this.sortDirections.get(columnIndex);
+        return direction != null ? direction : SortDirectionEnum.NONE;
+    }
+
+    @Override
+    public int getSortOrder(int columnIndex) {
+        return this.sortedColumns.indexOf(columnIndex);
+    }
+
+    @SuppressWarnings("rawtypes")
+    @Override
+    public List<Comparator> getComparatorsForColumnIndex(int columnIndex) {
+        Comparator<?> comparator = getColumnComparator(columnIndex);
+        if (comparator == null) {
+            return Collections.emptyList();
+        }
+        return Collections.singletonList(comparator);
+    }
+
+    @Override
+    public Comparator<?> getColumnComparator(int columnIndex) {
+        if (this.configRegistry == null || this.columnHeaderDataLayer == null) {
+            return DefaultComparator.getInstance();
+        }
+
+        ILayerCell cell = this.columnHeaderDataLayer.getCellByPosition(columnIndex, 0);
+        if (cell == null) {
+            return DefaultComparator.getInstance();
+        }
+        Comparator<?> comparator = this.configRegistry.getConfigAttribute(
+                SortConfigAttributes.SORT_COMPARATOR,
+                cell.getDisplayMode(),
+                cell.getConfigLabels());
+
+        if (comparator == null) {
+            return DefaultComparator.getInstance();
+        }
+        return (comparator instanceof NullComparator) ? null : comparator;
+    }
+
+    @Override
+    public void sort(int columnIndex, SortDirectionEnum sortDirection, boolean accumulate) {
+        if (getColumnComparator(columnIndex) == null) {
+            // column is not sortable
+            return;
+        }
+
+        if (!accumulate) {
+            this.sortedColumns.clear();
+            this.sortDirections.clear();
+        }
+
+        this.sortedColumns.remove(Integer.valueOf(columnIndex));
+        this.sortDirections.remove(columnIndex);
+        if (sortDirection != null && sortDirection != SortDirectionEnum.NONE) {
+            this.sortedColumns.add(columnIndex);
+            this.sortDirections.put(columnIndex, sortDirection);
+        }
+
+        refresh();
+    }
+
+    @Override
+    public void clear() {
+        this.sortedColumns.clear();
+        this.sortDirections.clear();
+        refresh();
+    }
+
+    /**
+     * Extracts the sort values of the sorted columns again and performs a full
+     * sort of all rows. Needs to be called if the rows of the
+     * {@link IDataProvider} have changed structurally, e.g. if rows where
+     * added or removed.
+     */
+    public void refresh() {
+        if (this.sortedColumns.isEmpty()) {
+            this.sortKeys = null;
+            this.rowIndexOrder = null;
+            this.rowPositionMapping = null;
+        } else {
+            int rowCount = this.dataProvider.getRowCount();
+            SortKey[] keys = new SortKey[this.sortedColumns.size()];
+            for (int i = 0; i < keys.length; i++) {
+                int columnIndex = this.sortedColumns.get(i);
+                keys[i] = SortKey.create(
+                        this.dataProvider,
+                        columnIndex,
+                        rowCount,
+                        getColumnComparator(columnIndex),
+                        this.sortDirections.get(columnIndex) == SortDirectionEnum.DESC);
+            }
+
+            int[] order = sortRows(keys, rowCount);
+
+            this.sortKeys = keys;
+            applyOrder(order);
+        }
+        fireSortChanged();
+    }
+
+    /**
+     * Updates the sort after the values of the given rows have changed. Only
+     * the given rows are sorted again and merged into the existing order,
+     * which is considerably faster than a full sort if only a few rows have
+     * changed. If the number of rows has changed, a full sort is performed.
+     *
+     * @param rowIndexes
+     *            The indexes of the rows whose values have changed.
+     */
+    public void updateRows(int... rowIndexes) {
+        SortKey[] keys = this.sortKeys;
+        int[] order = this.rowIndexOrder;
+        if (keys == null || order == null || rowIndexes.length == 0) {
+            return;
+        }
+
+        int rowCount = this.dataProvider.getRowCount();
+        if (rowCount != order.length) {
+            refresh();
+            return;
+        }
+
+        BitSet updated = new BitSet(rowCount);
+        for (int rowIndex : rowIndexes) {
+            if (rowIndex >= 0 && rowIndex < rowCount) {
+                updated.set(rowIndex);
+            }
+        }
+        if (updated.isEmpty()) {
+            return;
+        }
+
+        for (SortKey key : keys) {
+            for (int row = updated.nextSetBit(0); row >= 0; row = updated.nextSetBit(row + 1)) {
+                if (!key.update(row, this.dataProvider.getDataValue(key.columnIndex, row))) {
+                    // the value type changed, e.g. from numeric to text
+                    refresh();
+                    return;
+                }
+            }
+        }
+
+        int[] mapping = this.rowPositionMapping;
+        int[] changed = updated.stream().toArray();
+        int[] oldPositions = new int[changed.length];
+        for (int i = 0; i < changed.length; i++) {
+            oldPositions[i] = mapping[changed[i]];
+        }
+        Arrays.sort(oldPositions);
+
+        // remove the updated rows from the current order
+        int[] remaining = new int[rowCount - changed.length];
+        int from = 0;
+        int to = 0;
+        for (int oldPosition : oldPositions) {
+            System.arraycopy(order, from, remaining, to, oldPosition - from);
+            to += oldPosition - from;
+            from = oldPosition + 1;
+        }
+        System.arraycopy(order, from, remaining, to, rowCount - from);
+
+        RowComparator comparator = createRowComparator(keys);
+        ParallelIntMergeSort.sort(changed, comparator, this.parallelSortEnabled);
+
+        // insert the updated rows at their new positions
+        int[] newOrder = new int[rowCount];
+        int minPosition = oldPositions[0];
+        int maxPosition = oldPositions[oldPositions.length - 1];
+        boolean moved = false;
+        from = 0;
+        to = 0;
+        for (int row : changed) {
+            int insert = findInsertPosition(remaining, from, row, comparator);
+            System.arraycopy(remaining, from, newOrder, to, insert - from);
+            to += insert - from;
+            from = insert;
+            if (mapping[row] != to) {
+                moved = true;
+            }
+            minPosition = Math.min(minPosition, to);
+            maxPosition = Math.max(maxPosition, to);
+            newOrder[to++] = row;
+        }
+        System.arraycopy(remaining, from, newOrder, to, remaining.length - from);
+
+        if (moved) {
+            // only the positions between the old and the new positions of
+            // the updated rows have changed
+            int[] newMapping = mapping.clone();
+            for (int position = minPosition; position <= maxPosition; position++) {
+                newMapping[newOrder[position]] = position;
+            }
+            this.rowPositionMapping = newMapping;
+            this.rowIndexOrder = newOrder;
+            fireSortChanged();
+        }
+    }
+
+    /**
+     * Binary search for the position in the given sorted array at which the
+     * given row needs to be inserted.
+     */
+    private static int findInsertPosition(int[] sorted, int from, int row, RowComparator comparator) {
+        int low = from;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(sorted[mid], row) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Sorts all rows by the given sort keys. If the first sort key supports
+     * sorting without a comparator, it is used for a presort and only the
+     * ranges of rows with equal values in the first key are sorted via
+     * comparator afterwards.
+     */
+    private int[] sortRows(SortKey[] keys, int rowCount) {
+        RowComparator comparator = createRowComparator(keys);
+        int[] order = keys[0].sortRows(this.parallelSortEnabled);
+        if (order == null) {
+            order = new int[rowCount];
+            for (int i = 0; i < rowCount; i++) {
+                order[i] = i;
+            }
+            ParallelIntMergeSort.sort(order, comparator, this.parallelSortEnabled);
+        } else if (keys.length > 1) {
+            SortKey first = keys[0];
+            int start = 0;
+            for (int i = 1; i <= rowCount; i++) {
+                if (i == rowCount || first.compare(order[start], order[i]) != 0) {
+                    if (i - start > 1) {
+                        ParallelIntMergeSort.sort(order, start, i, comparator, false);
+                    }
+                    start = i;
+                }
+            }
+        }
+        return order;
+    }
+
+    /**
+     * @return <code>true</code> if at least one column is sorted and the rows
+     *         are therefore transformed by this model.
+     */
+    public boolean isSorted() {
+        return this.rowIndexOrder != null;
+    }
+
+    /**
+     * @param rowPosition
+     *            The row position in the sorted order.
+     * @return The row index at the given sorted position, or -1 if the given
+     *         position is out of range.
+     */
+    public int getRowIndexByPosition(int rowPosition) {
+        int[] order = this.rowIndexOrder;
+        if (order == null) {
+            return (rowPosition >= 0 && rowPosition < this.dataProvider.getRowCount()) ? rowPosition : -1;
+        }
+        return (rowPosition >= 0 && rowPosition < order.length) ? order[rowPosition] : -1;
+    }
+
+    /**
+     * @param rowIndex
+     *            The row index.
+     * @return The position of the row with the given index in the sorted
+     *         order, or -1 if the given index is out of range.
+     */
+    public int getRowPositionByIndex(int rowIndex) {
+        int[] mapping = this.rowPositionMapping;
+        if (mapping == null) {
+            return (rowIndex >= 0 && rowIndex < this.dataProvider.getRowCount()) ? rowIndex : -1;
+        }
+        return (rowIndex >= 0 && rowIndex < mapping.length) ? mapping[rowIndex] : -1;
+    }
+
+    /**
+     * @return The number of rows in the current sort order, or -1 if not
+     *         sorted.
+     */
+    int getSortedRowCount() {
+        int[] order = this.rowIndexOrder;
+        return order != null ? order.length : -1;
+    }
+
+    /**
+     * @return A copy of the current row index order, or an empty array if not
+     *         sorted.
+     */
+    public int[] getRowIndexOrder() {
+        int[] order = this.rowIndexOrder;
+        return order != null ? order.clone() : new int[0];
+    }
+
+    /**
+     * @return <code>true</code> if sorting large data sets is performed in
+     *         parallel via the common ForkJoinPool.
+     */
+    public boolean isParallelSortEnabled() {
+        return this.parallelSortEnabled;
+    }
+
+    /**
+     * Configure whether sorting large data sets should be performed in
+     * parallel via the common ForkJoinPool. Should be disabled if the
+     * configured {@link Comparator}s are not thread-safe. Default is
+     * <code>true</code>.
+     *
+     * @param parallelSortEnabled
+     *            <code>true</code> to sort large data sets in parallel,
+     *            <code>false</code> to sort in the calling thread.
+     */
+    public void setParallelSortEnabled(boolean parallelSortEnabled) {
+        this.parallelSortEnabled = parallelSortEnabled;
+    }
+
+    /**
+     * Register a listener that is informed if the sort order has changed.
+     *
+     * @param listener
+     *            The listener to add.
+     */
+    void addSortChangeListener(Runnable listener) {
+        this.sortChangeListeners.add(listener);
+    }
+
+    /**
+     * @param listener
+     *            The listener to remove.
+     */
+    void removeSortChangeListener(Runnable listener) {
+        this.sortChangeListeners.remove(listener);
+    }
+
+    private void fireSortChanged() {
+        for (Runnable listener : this.sortChangeListeners) {
+            listener.run();
+        }
+    }
+
+    private void applyOrder(int[] order) {
+        int[] mapping = new int[order.length];
+        for (int position = 0; position < order.length; position++) {
+            mapping[order[position]] = position;
+        }
+        this.rowPositionMapping = mapping;
+        this.rowIndexOrder = order;
+    }
+
+    private static RowComparator createRowComparator(SortKey[] keys) {
+        if (keys.length == 1) {
+            SortKey key = keys[0];
+            return (row1, row2) -> {
+                int result = key.compare(row1, row2);
+                return (result != 0) ? result : Integer.compare(row1, row2);
+            };
+        }
+        return (row1, row2) -> {
+            for (SortKey key : keys) {
+                int result = key.compare(row1, row2);
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return Integer.compare(row1, row2);
+        };
+    }
+}
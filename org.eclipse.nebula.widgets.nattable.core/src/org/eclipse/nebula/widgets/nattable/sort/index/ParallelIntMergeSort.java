@@ -0,0 +1,205 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.sort.index;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Stable merge sort for <code>int</code> arrays that are ordered by a
+ * {@link RowComparator}. Large arrays are split into halves that are sorted
+ * in parallel in the common {@link ForkJoinPool}.
+ * <p>
+ * Used to sort row index permutations, e.g. by the {@link IndexSortModel} and
+ * the columnar data provider, without boxing the row indexes.
+ * </p>
+ *
+ * @since 2.1
+ */
+public final class ParallelIntMergeSort {
+
+    /**
+     * Arrays smaller than this are sorted via insertion sort.
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+
+    /**
+     * Ranges smaller than this are not split into parallel tasks.
+     */
+    static final int PARALLEL_THRESHOLD = 8192;
+
+    private ParallelIntMergeSort() {
+        // private default constructor for helper class
+    }
+
+    /**
+     * Compares two row indexes.
+     */
+    @FunctionalInterface
+    public interface RowComparator {
+
+        /**
+         * Compares the given rows.
+         *
+         * @param row1
+         *            The first row index.
+         * @param row2
+         *            The second row index.
+         * @return a negative integer, zero, or a positive integer as the first
+         *         row is ordered before, equal to, or after the second row.
+         */
+        int compare(int row1, int row2);
+    }
+
+    /**
+     * Sorts the given array in place.
+     *
+     * @param values
+     *            The values to sort.
+     * @param comparator
+     *            The comparator that defines the order of the values.
+     * @param parallel
+     *            <code>true</code> if large arrays should be sorted in
+     *            parallel, <code>false</code> if the sorting should be
+     *            performed completely in the calling thread.
+     */
+    public static void sort(int[] values, RowComparator comparator, boolean parallel) {
+        sort(values, 0, values.length, comparator, parallel);
+    }
+
+    /**
+     * Sorts the range <code>[from, to)</code> of the given array in place.
+     *
+     * @param values
+     *            The values to sort.
+     * @param from
+     *            The index of the first element to sort, inclusive.
+     * @param to
+     *            The index of the last element to sort, exclusive.
+     * @param comparator
+     *            The comparator that defines the order of the values.
+     * @param parallel
+     *            <code>true</code> if large ranges should be sorted in
+     *            parallel, <code>false</code> if the sorting should be
+     *            performed completely in the calling thread.
+     */
+    public static void sort(int[] values, int from, int to, RowComparator comparator, boolean parallel) {
+        if (to - from < 2) {
+            return;
+        }
+        if (to - from < INSERTION_SORT_THRESHOLD) {
+            insertionSort(values, from, to, comparator);
+            return;
+        }
+        int length = to - from;
+        int[] aux = Arrays.copyOfRange(values, from, to);
+        // sort a copy of the range if only a part of the array is sorted
+        int[] dest = (length == values.length) ? values : aux.clone();
+        if (parallel && length >= PARALLEL_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            ForkJoinPool.commonPool().invoke(new SortTask(aux, dest, 0, length, comparator));
+        } else {
+            mergeSort(aux, dest, 0, length, comparator);
+        }
+        if (dest != values) {
+            System.arraycopy(dest, 0, values, from, length);
+        }
+    }
+
+    /**
+     * Sorts the range <code>[low, high)</code> of <code>src</code> into
+     * <code>dest</code>. Both arrays need to contain the same values in the
+     * given range, <code>src</code> is used as scratch space.
+     */
+    private static void mergeSort(int[] src, int[] dest, int low, int high, RowComparator comparator) {
+        int length = high - low;
+        if (length < INSERTION_SORT_THRESHOLD) {
+            insertionSort(dest, low, high, comparator);
+            return;
+        }
+
+        int mid = (low + high) >>> 1;
+        mergeSort(dest, src, low, mid, comparator);
+        mergeSort(dest, src, mid, high, comparator);
+        merge(src, dest, low, mid, high, comparator);
+    }
+
+    private static void insertionSort(int[] dest, int low, int high, RowComparator comparator) {
+        for (int i = low + 1; i < high; i++) {
+            int value = dest[i];
+            int j = i - 1;
+            while (j >= low && comparator.compare(dest[j], value) > 0) {
+                dest[j + 1] = dest[j];
+                j--;
+            }
+            dest[j + 1] = value;
+        }
+    }
+
+    /**
+     * Merges the sorted ranges <code>[low, mid)</code> and
+     * <code>[mid, high)</code> of <code>src</code> into <code>dest</code>.
+     */
+    private static void merge(int[] src, int[] dest, int low, int mid, int high, RowComparator comparator) {
+        // already ordered, simply copy
+        if (comparator.compare(src[mid - 1], src[mid]) <= 0) {
+            System.arraycopy(src, low, dest, low, high - low);
+            return;
+        }
+
+        for (int i = low, p = low, q = mid; i < high; i++) {
+            if (q >= high || (p < mid && comparator.compare(src[p], src[q]) <= 0)) {
+                dest[i] = src[p++];
+            } else {
+                dest[i] = src[q++];
+            }
+        }
+    }
+
+    /**
+     * Parallel variant of
+     * {@link ParallelIntMergeSort#mergeSort(int[], int[], int, int, RowComparator)}.
+     */
+    private static class SortTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int[] src;
+        private final int[] dest;
+        private final int low;
+        private final int high;
+        private final transient RowComparator comparator;
+
+        SortTask(int[] src, int[] dest, int low, int high, RowComparator comparator) {
+            this.src = src;
+            this.dest = dest;
+            this.low = low;
+            this.high = high;
+            this.comparator = comparator;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.high - this.low < PARALLEL_THRESHOLD) {
+                mergeSort(this.src, this.dest, this.low, this.high, this.comparator);
+                return;
+            }
+
+            int mid = (this.low + this.high) >>> 1;
+            invokeAll(
+                    new SortTask(this.dest, this.src, this.low, mid, this.comparator),
+                    new SortTask(this.dest, this.src, mid, this.high, this.comparator));
+            merge(this.src, this.dest, this.low, mid, this.high, this.comparator);
+        }
+    }
+}
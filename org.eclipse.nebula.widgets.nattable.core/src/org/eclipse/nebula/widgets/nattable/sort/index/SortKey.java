@@ -0,0 +1,340 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.sort.index;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+
+import org.eclipse.nebula.widgets.nattable.config.DefaultComparator;
+import org.eclipse.nebula.widgets.nattable.data.IDataProvider;
+
+/**
+ * The sort key of a single column. The column values are extracted once from
+ * the {@link IDataProvider} so the sort itself only operates on arrays that
+ * are accessed by row index. Numeric columns that are sorted with the
+ * {@link DefaultComparator} are stored in primitive arrays, all other columns
+ * keep the extracted values and compare them with the configured
+ * {@link Comparator}.
+ */
+abstract class SortKey {
+
+    protected final int columnIndex;
+    protected final boolean descending;
+
+    SortKey(int columnIndex, boolean descending) {
+        this.columnIndex = columnIndex;
+        this.descending = descending;
+    }
+
+    /**
+     * Compares the values of the given rows, taking the sort direction into
+     * account.
+     *
+     * @param row1
+     *            The first row index.
+     * @param row2
+     *            The second row index.
+     * @return the comparison result in the sort direction of this key
+     */
+    abstract int compare(int row1, int row2);
+
+    /**
+     * Updates the stored value for the given row.
+     *
+     * @param row
+     *            The row index.
+     * @param value
+     *            The new value.
+     * @return <code>false</code> if the value can not be stored in this key,
+     *         e.g. because a primitive key receives a non-numeric value.
+     */
+    abstract boolean update(int row, Object value);
+
+    /**
+     * Sorts all row indexes by the values of this key without using a
+     * comparator, which is considerably faster than a comparator based sort.
+     * Rows with equal values are sorted by row index.
+     *
+     * @param parallel
+     *            <code>true</code> if the sort may be performed in parallel.
+     * @return the sorted row indexes, or <code>null</code> if this key does
+     *         not support a sort without comparator.
+     */
+    int[] sortRows(boolean parallel) {
+        return null;
+    }
+
+    /**
+     * Extracts the sort key for the given column from the data provider.
+     *
+     * @param dataProvider
+     *            The data provider to extract the values from.
+     * @param columnIndex
+     *            The column index.
+     * @param rowCount
+     *            The number of rows to extract.
+     * @param comparator
+     *            The comparator configured for the column.
+     * @param descending
+     *            <code>true</code> if the column is sorted descending.
+     * @return the sort key for the column
+     */
+    @SuppressWarnings("unchecked")
+    static SortKey create(IDataProvider dataProvider, int columnIndex, int rowCount, Comparator<?> comparator, boolean descending) {
+        Object[] values = new Object[rowCount];
+        boolean integral = true;
+        boolean numeric = true;
+        for (int row = 0; row < rowCount; row++) {
+            Object value = dataProvider.getDataValue(columnIndex, row);
+            values[row] = value;
+            if (value != null && numeric) {
+                if (!isIntegral(value)) {
+                    integral = false;
+                    numeric = isFloatingPoint(value);
+                }
+            }
+        }
+
+        if (comparator instanceof DefaultComparator) {
+            if (integral) {
+                return new LongKey(columnIndex, descending, values);
+            } else if (numeric) {
+                return new DoubleKey(columnIndex, descending, values);
+            }
+        }
+        return new ObjectKey(columnIndex, descending, values, (Comparator<Object>) comparator);
+    }
+
+    static boolean isIntegral(Object value) {
+        return value instanceof Integer
+                || value instanceof Long
+                || value instanceof Short
+                || value instanceof Byte;
+    }
+
+    static boolean isFloatingPoint(Object value) {
+        return value instanceof Double || value instanceof Float;
+    }
+
+    /**
+     * Compares the null state of two values, <code>null</code> values are
+     * sorted first like in the {@link DefaultComparator}.
+     */
+    static int compareNulls(boolean null1, boolean null2) {
+        if (null1 == null2) {
+            return 0;
+        }
+        return null1 ? -1 : 1;
+    }
+
+    /**
+     * Sort key for integral values.
+     */
+    static class LongKey extends SortKey {
+
+        private final long[] values;
+        private final BitSet nulls = new BitSet();
+
+        LongKey(int columnIndex, boolean descending, Object[] objects) {
+            super(columnIndex, descending);
+            this.values = new long[objects.length];
+            for (int row = 0; row < objects.length; row++) {
+                update(row, objects[row]);
+            }
+        }
+
+        @Override
+        int compare(int row1, int row2) {
+            int result;
+            boolean null1 = this.nulls.get(row1);
+            boolean null2 = this.nulls.get(row2);
+            if (null1 || null2) {
+                result = compareNulls(null1, null2);
+            } else {
+                result = Long.compare(this.values[row1], this.values[row2]);
+            }
+            return this.descending ? -result : result;
+        }
+
+        @Override
+        boolean update(int row, Object value) {
+            if (value == null) {
+                this.nulls.set(row);
+                this.values[row] = 0;
+                return true;
+            } else if (isIntegral(value)) {
+                this.nulls.clear(row);
+                this.values[row] = ((Number) value).longValue();
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Values that fit into an int are sorted via a stable LSD radix sort.
+         * As the rows are added in ascending order, rows with equal values
+         * are sorted by row index.
+         */
+        @Override
+        int[] sortRows(boolean parallel) {
+            int rowCount = this.values.length;
+            int nullCount = this.nulls.cardinality();
+            int length = rowCount - nullCount;
+            int[] keys = new int[length];
+            int[] rows = new int[length];
+            int i = 0;
+            for (int row = 0; row < rowCount; row++) {
+                if (!this.nulls.get(row)) {
+                    long value = this.values[row];
+                    if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+                        return null;
+                    }
+                    int key = this.descending ? ~((int) value) : (int) value;
+                    // flip the sign bit to sort the keys unsigned
+                    keys[i] = key ^ Integer.MIN_VALUE;
+                    rows[i] = row;
+                    i++;
+                }
+            }
+
+            rows = radixSort(keys, rows);
+
+            // null values are sorted first, so they are last on descending
+            int[] order = new int[rowCount];
+            System.arraycopy(rows, 0, order, this.descending ? 0 : nullCount, length);
+            int nullPosition = this.descending ? length : 0;
+            for (int row = this.nulls.nextSetBit(0); row >= 0; row = this.nulls.nextSetBit(row + 1)) {
+                order[nullPosition++] = row;
+            }
+            return order;
+        }
+    }
+
+    private static final int RADIX_BITS = 11;
+    private static final int RADIX_MASK = (1 << RADIX_BITS) - 1;
+
+    /**
+     * Stable LSD radix sort of the given rows by the given unsigned keys.
+     *
+     * @param keys
+     *            The keys to sort by, modified by this method.
+     * @param rows
+     *            The rows that belong to the keys.
+     * @return The rows sorted by their keys.
+     */
+    static int[] radixSort(int[] keys, int[] rows) {
+        int length = keys.length;
+        int[] keyBuffer = new int[length];
+        int[] rowBuffer = new int[length];
+        int[] counts = new int[RADIX_MASK + 2];
+        for (int shift = 0; shift < Integer.SIZE; shift += RADIX_BITS) {
+            Arrays.fill(counts, 0);
+            for (int key : keys) {
+                counts[((key >>> shift) & RADIX_MASK) + 1]++;
+            }
+            // skip the pass if all keys have the same digit
+            if (length == 0 || counts[((keys[0] >>> shift) & RADIX_MASK) + 1] == length) {
+                continue;
+            }
+            for (int d = 1; d < counts.length; d++) {
+                counts[d] += counts[d - 1];
+            }
+            for (int i = 0; i < length; i++) {
+                int key = keys[i];
+                int target = counts[(key >>> shift) & RADIX_MASK]++;
+                keyBuffer[target] = key;
+                rowBuffer[target] = rows[i];
+            }
+            int[] tmp = keys;
+            keys = keyBuffer;
+            keyBuffer = tmp;
+            tmp = rows;
+            rows = rowBuffer;
+            rowBuffer = tmp;
+        }
+        return rows;
+    }
+
+    /**
+     * Sort key for floating point values.
+     */
+    static class DoubleKey extends SortKey {
+
+        private final double[] values;
+        private final BitSet nulls = new BitSet();
+
+        DoubleKey(int columnIndex, boolean descending, Object[] objects) {
+            super(columnIndex, descending);
+            this.values = new double[objects.length];
+            for (int row = 0; row < objects.length; row++) {
+                update(row, objects[row]);
+            }
+        }
+
+        @Override
+        int compare(int row1, int row2) {
+            int result;
+            boolean null1 = this.nulls.get(row1);
+            boolean null2 = this.nulls.get(row2);
+            if (null1 || null2) {
+                result = compareNulls(null1, null2);
+            } else {
+                result = Double.compare(this.values[row1], this.values[row2]);
+            }
+            return this.descending ? -result : result;
+        }
+
+        @Override
+        boolean update(int row, Object value) {
+            if (value == null) {
+                this.nulls.set(row);
+                this.values[row] = 0;
+                return true;
+            } else if (isIntegral(value) || isFloatingPoint(value)) {
+                this.nulls.clear(row);
+                this.values[row] = ((Number) value).doubleValue();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Sort key for values that are compared with a {@link Comparator}.
+     */
+    static class ObjectKey extends SortKey {
+
+        private final Object[] values;
+        private final Comparator<Object> comparator;
+
+        ObjectKey(int columnIndex, boolean descending, Object[] values, Comparator<Object> comparator) {
+            super(columnIndex, descending);
+            this.values = values;
+            this.comparator = comparator;
+        }
+
+        @Override
+        int compare(int row1, int row2) {
+            return this.descending
+                    ? this.comparator.compare(this.values[row2], this.values[row1])
+                    : this.comparator.compare(this.values[row1], this.values[row2]);
+        }
+
+        @Override
+        boolean update(int row, Object value) {
+            this.values[row] = value;
+            return true;
+        }
+    }
+}
@@ -230,7 +230,7 @@ public FixedSummaryRowLayer(
                 if (event.convertToLocal(FixedSummaryRowLayer.this)) {
                     FixedSummaryRowLayer.this.handleLayerEvent(event.cloneEvent());
                 } else if (event instanceof IVisualChangeEvent) {
-                    clearCache();
+                    getValueCache().clearCache();
                 }
             });
         }
@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.summaryrow;
+
+/**
+ * Specialization of {@link ISummaryProvider} that maintains the summary values
+ * as running state, which is updated by deltas instead of summarizing all
+ * values of a column again. The {@link SummaryRowLayer} informs registered
+ * implementations about data updates, inserted rows and deleted rows. If a
+ * delta can not be applied incrementally, the implementation needs to discard
+ * its state, so the next call to {@link #summarize(int)} performs a full
+ * calculation.
+ *
+ * @since 2.1
+ */
+public interface IIncrementalSummaryProvider extends ISummaryProvider {
+
+    /**
+     * Informs about a value that was added to the column, e.g. because a row
+     * was inserted.
+     *
+     * @param columnIndex
+     *            The index of the column to which the value was added.
+     * @param value
+     *            The added value.
+     */
+    void valueAdded(int columnIndex, Object value);
+
+    /**
+     * Informs about a value that was removed from the column, e.g. because a
+     * row was deleted.
+     *
+     * @param columnIndex
+     *            The index of the column from which the value was removed.
+     * @param value
+     *            The removed value.
+     */
+    void valueRemoved(int columnIndex, Object value);
+
+    /**
+     * Informs about a value in the column that was updated.
+     *
+     * @param columnIndex
+     *            The index of the column in which the value was updated.
+     * @param oldValue
+     *            The value before the update.
+     * @param newValue
+     *            The value after the update.
+     */
+    default void valueUpdated(int columnIndex, Object oldValue, Object newValue) {
+        valueRemoved(columnIndex, oldValue);
+        valueAdded(columnIndex, newValue);
+    }
+
+    /**
+     * Informs about a row object that was removed. As the deleted row object
+     * is not accessible via the data provider anymore, implementations need to
+     * extract the column value themselves or discard the state of the column.
+     *
+     * @param columnIndex
+     *            The index of the column that is affected.
+     * @param rowObject
+     *            The removed row object.
+     */
+    void rowObjectRemoved(int columnIndex, Object rowObject);
+
+    /**
+     * Discards the running state of all columns, so the next call to
+     * {@link #summarize(int)} performs a full calculation. Called if the data
+     * was changed in a way that can not be handled incrementally, e.g. on a
+     * structural refresh.
+     */
+    void invalidate();
+
+}
@@ -0,0 +1,327 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.summaryrow;
+
+import org.eclipse.collections.api.map.primitive.MutableIntObjectMap;
+import org.eclipse.collections.impl.map.mutable.primitive.IntObjectHashMap;
+import org.eclipse.nebula.widgets.nattable.data.IColumnAccessor;
+import org.eclipse.nebula.widgets.nattable.data.IDataProvider;
+
+/**
+ * {@link IIncrementalSummaryProvider} that calculates the sum, count, minimum,
+ * maximum or average of the Number values in a column. The first call to
+ * {@link #summarize(int)} for a column iterates all rows of the
+ * {@link IDataProvider} like the {@link SummationSummaryProvider}. Afterwards
+ * the running state is updated by the deltas reported by the
+ * {@link SummaryRowLayer}, so subsequent summary calculations do not need to
+ * access the data again. If a delta can not be applied, e.g. the current
+ * minimum was removed, the state of the column is discarded and calculated
+ * again on the next request.
+ * <p>
+ * The running sum accumulates floating point rounding errors with every
+ * delta. To keep the {@link Aggregation#SUM} and {@link Aggregation#AVERAGE}
+ * results close to a full calculation, the state of a column is discarded
+ * after a fixed number of deltas and calculated again from the data.
+ * <p>
+ * Like the {@link SummationSummaryProvider} a strict provider returns
+ * {@link ISummaryProvider#DEFAULT_SUMMARY_VALUE} if a column contains non
+ * Number values, while a non strict provider ignores them.
+ *
+ * @since 2.1
+ */
+public class IncrementalSummaryProvider implements IIncrementalSummaryProvider {
+
+    /**
+     * The aggregations supported by the {@link IncrementalSummaryProvider}.
+     */
+    public enum Aggregation {
+        /**
+         * The sum of the values as Double.
+         */
+        SUM,
+        /**
+         * The number of Number values as Integer.
+         */
+        COUNT,
+        /**
+         * The minimum of the values as Double.
+         */
+        MIN,
+        /**
+         * The maximum of the values as Double.
+         */
+        MAX,
+        /**
+         * The average of the values as Double.
+         */
+        AVERAGE
+    }
+
+    /**
+     * Number of deltas after which the running state of a column is discarded
+     * for aggregations based on the running sum, to limit the accumulated
+     * rounding error.
+     */
+    static final int REBASE_INTERVAL = 1000;
+
+    private final IDataProvider dataProvider;
+    private final Aggregation aggregation;
+    private final boolean strict;
+    private final IColumnAccessor<Object> columnAccessor;
+
+    /**
+     * The running state per column index.
+     */
+    private final MutableIntObjectMap<SummaryState> states = new IntObjectHashMap<>();
+
+    /**
+     * Counter of the applied modifications, used to detect deltas that were
+     * reported while a full calculation was running.
+     */
+    private long modificationCount;
+
+    /**
+     * Create a new strict {@link IncrementalSummaryProvider}.
+     *
+     * @param dataProvider
+     *            The {@link IDataProvider} that should be used for the full
+     *            calculation.
+     * @param aggregation
+     *            The {@link Aggregation} to calculate.
+     */
+    public IncrementalSummaryProvider(IDataProvider dataProvider, Aggregation aggregation) {
+        this(dataProvider, aggregation, true, null);
+    }
+
+    /**
+     * Create a new {@link IncrementalSummaryProvider}.
+     *
+     * @param dataProvider
+     *            The {@link IDataProvider} that should be used for the full
+     *            calculation.
+     * @param aggregation
+     *            The {@link Aggregation} to calculate.
+     * @param strict
+     *            If strict is set to <code>true</code> and one or more of the
+     *            values in the column is not of type Number, then
+     *            {@link ISummaryProvider#DEFAULT_SUMMARY_VALUE} will be
+     *            returned. If strict is set to <code>false</code>, the non
+     *            Number values are ignored.
+     */
+    public IncrementalSummaryProvider(IDataProvider dataProvider, Aggregation aggregation, boolean strict) {
+        this(dataProvider, aggregation, strict, null);
+    }
+
+    /**
+     * Create a new {@link IncrementalSummaryProvider}.
+     *
+     * @param dataProvider
+     *            The {@link IDataProvider} that should be used for the full
+     *            calculation.
+     * @param aggregation
+     *            The {@link Aggregation} to calculate.
+     * @param strict
+     *            If strict is set to <code>true</code> and one or more of the
+     *            values in the column is not of type Number, then
+     *            {@link ISummaryProvider#DEFAULT_SUMMARY_VALUE} will be
+     *            returned. If strict is set to <code>false</code>, the non
+     *            Number values are ignored.
+     * @param columnAccessor
+     *            The {@link IColumnAccessor} that is used to extract the column
+     *            values of deleted row objects. Can be <code>null</code>, which
+     *            results in a full calculation after row objects were deleted.
+     */
+    @SuppressWarnings("unchecked")
+    public IncrementalSummaryProvider(IDataProvider dataProvider, Aggregation aggregation, boolean strict, IColumnAccessor<?> columnAccessor) {
+        this.dataProvider = dataProvider;
+        this.aggregation = aggregation;
+        this.strict = strict;
+        this.columnAccessor = (IColumnAccessor<Object>) columnAccessor;
+    }
+
+    @Override
+    public Object summarize(int columnIndex) {
+        SummaryState state;
+        long modifications;
+        synchronized (this) {
+            state = this.states.get(columnIndex);
+            if (state != null) {
+                return state.getResult();
+            }
+            modifications = this.modificationCount;
+        }
+
+        state = new SummaryState();
+        int rowCount = this.dataProvider.getRowCount();
+        for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
+            state.add(this.dataProvider.getDataValue(columnIndex, rowIndex));
+        }
+
+        synchronized (this) {
+            // only keep the state if no delta was reported in the meantime, as
+            // it is unknown whether the delta is already contained
+            if (modifications == this.modificationCount) {
+                this.states.put(columnIndex, state);
+            }
+            return state.getResult();
+        }
+    }
+
+    @Override
+    public synchronized void valueAdded(int columnIndex, Object value) {
+        this.modificationCount++;
+        SummaryState state = this.states.get(columnIndex);
+        if (state != null) {
+            state.add(value);
+            rebaseIfNecessary(columnIndex, state);
+        }
+    }
+
+    @Override
+    public synchronized void valueRemoved(int columnIndex, Object value) {
+        this.modificationCount++;
+        SummaryState state = this.states.get(columnIndex);
+        if (state != null) {
+            if (state.remove(value)) {
+                rebaseIfNecessary(columnIndex, state);
+            } else {
+                this.states.remove(columnIndex);
+            }
+        }
+    }
+
+    /**
+     * Discards the state of the given column if the running sum is used for
+     * the result and {@link #REBASE_INTERVAL} deltas were applied to it.
+     */
+    private void rebaseIfNecessary(int columnIndex, SummaryState state) {
+        if ((this.aggregation == Aggregation.SUM || this.aggregation == Aggregation.AVERAGE)
+                && ++state.deltas >= REBASE_INTERVAL) {
+            this.states.remove(columnIndex);
+        }
+    }
+
+    @Override
+    public synchronized void valueUpdated(int columnIndex, Object oldValue, Object newValue) {
+        valueRemoved(columnIndex, oldValue);
+        valueAdded(columnIndex, newValue);
+    }
+
+    @Override
+    public synchronized void rowObjectRemoved(int columnIndex, Object rowObject) {
+        if (this.columnAccessor != null) {
+            valueRemoved(columnIndex, this.columnAccessor.getDataValue(rowObject, columnIndex));
+        } else {
+            this.modificationCount++;
+            this.states.remove(columnIndex);
+        }
+    }
+
+    @Override
+    public synchronized void invalidate() {
+        this.modificationCount++;
+        this.states.clear();
+    }
+
+    /**
+     * @return The {@link Aggregation} calculated by this provider.
+     */
+    public Aggregation getAggregation() {
+        return this.aggregation;
+    }
+
+    /**
+     * The running state of a single column.
+     */
+    private class SummaryState {
+
+        private int count;
+        private int nonNumberCount;
+        private double sum;
+        private double min = Double.POSITIVE_INFINITY;
+        private int minCount;
+        private double max = Double.NEGATIVE_INFINITY;
+        private int maxCount;
+        private int deltas;
+
+        void add(Object value) {
+            if (!(value instanceof Number)) {
+                this.nonNumberCount++;
+                return;
+            }
+            double v = ((Number) value).doubleValue();
+            this.count++;
+            this.sum += v;
+            if (v < this.min) {
+                this.min = v;
+                this.minCount = 1;
+            } else if (v == this.min) {
+                this.minCount++;
+            }
+            if (v > this.max) {
+                this.max = v;
+                this.maxCount = 1;
+            } else if (v == this.max) {
+                this.maxCount++;
+            }
+        }
+
+        /**
+         * @return <code>false</code> if the state can not be updated
+         *         incrementally and needs to be calculated again.
+         */
+        boolean remove(Object value) {
+            if (!(value instanceof Number)) {
+                this.nonNumberCount--;
+                return this.nonNumberCount >= 0;
+            }
+            double v = ((Number) value).doubleValue();
+            this.count--;
+            this.sum -= v;
+            if (v == this.min && --this.minCount == 0 && this.count > 0
+                    && IncrementalSummaryProvider.this.aggregation == Aggregation.MIN) {
+                return false;
+            }
+            if (v == this.max && --this.maxCount == 0 && this.count > 0
+                    && IncrementalSummaryProvider.this.aggregation == Aggregation.MAX) {
+                return false;
+            }
+            if (this.count == 0) {
+                this.sum = 0;
+                this.min = Double.POSITIVE_INFINITY;
+                this.max = Double.NEGATIVE_INFINITY;
+            }
+            return this.count >= 0;
+        }
+
+        Object getResult() {
+            if (IncrementalSummaryProvider.this.strict && this.nonNumberCount > 0) {
+                return DEFAULT_SUMMARY_VALUE;
+            }
+            switch (IncrementalSummaryProvider.this.aggregation) {
+                case SUM:
+                    return this.sum;
+                case COUNT:
+                    return this.count;
+                case MIN:
+                    return (this.count > 0) ? this.min : DEFAULT_SUMMARY_VALUE;
+                case MAX:
+                    return (this.count > 0) ? this.max : DEFAULT_SUMMARY_VALUE;
+                case AVERAGE:
+                    return (this.count > 0) ? this.sum / this.count : DEFAULT_SUMMARY_VALUE;
+                default:
+                    return DEFAULT_SUMMARY_VALUE;
+            }
+        }
+    }
+}
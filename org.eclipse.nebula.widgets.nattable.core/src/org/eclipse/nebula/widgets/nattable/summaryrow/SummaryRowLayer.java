@@ -14,10 +14,15 @@
 package org.eclipse.nebula.widgets.nattable.summaryrow;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 
 import org.eclipse.nebula.widgets.nattable.command.DisposeResourcesCommand;
 import org.eclipse.nebula.widgets.nattable.command.ILayerCommand;
 import org.eclipse.nebula.widgets.nattable.config.IConfigRegistry;
+import org.eclipse.nebula.widgets.nattable.coordinate.Range;
+import org.eclipse.nebula.widgets.nattable.edit.event.DataUpdateEvent;
 import org.eclipse.nebula.widgets.nattable.layer.AbstractLayerTransform;
 import org.eclipse.nebula.widgets.nattable.layer.DataLayer;
 import org.eclipse.nebula.widgets.nattable.layer.IDpiConverter;
@@ -28,8 +33,18 @@
 import org.eclipse.nebula.widgets.nattable.layer.cell.ILayerCell;
 import org.eclipse.nebula.widgets.nattable.layer.cell.LayerCell;
 import org.eclipse.nebula.widgets.nattable.layer.command.ConfigureScalingCommand;
+import org.eclipse.nebula.widgets.nattable.layer.event.ColumnDeleteEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.ColumnInsertEvent;
 import org.eclipse.nebula.widgets.nattable.layer.event.ILayerEvent;
 import org.eclipse.nebula.widgets.nattable.layer.event.IVisualChangeEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.PropertyUpdateEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.ResizeStructuralRefreshEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.RowDeleteEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.RowInsertEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.RowObjectDeleteEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.RowUpdateEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.StructuralRefreshEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.VisualRefreshEvent;
 import org.eclipse.nebula.widgets.nattable.resize.command.MultiRowResizeCommand;
 import org.eclipse.nebula.widgets.nattable.resize.command.RowResizeCommand;
 import org.eclipse.nebula.widgets.nattable.resize.event.RowResizeEvent;
@@ -54,6 +69,10 @@
  * Example: column with index 1 will have the
  * DEFAULT_SUMMARY_COLUMN_CONFIG_LABEL_PREFIX + 1 label applied. Styling and
  * {@link ISummaryProvider} can be hooked up to these labels.
+ * <p>
+ * Registered {@link IIncrementalSummaryProvider}s are informed about data
+ * updates, inserted rows and deleted rows, so they can update their summary
+ * values without summarizing all values of a column again.
  *
  * @see DefaultSummaryRowConfiguration
  */
@@ -241,13 +260,7 @@ private Object calculateNewSummaryValue(final int columnPosition, boolean calcul
                 getSummaryRowPosition(),
                 calculateInBackground,
                 () -> {
-                    LabelStack labelStack = getConfigLabelsByPositionWithoutTransformation(columnPosition, getSummaryRowPosition());
-                    String[] configLabels = labelStack.toArray(ArrayUtil.STRING_TYPE_ARRAY);
-
-                    final ISummaryProvider summaryProvider = SummaryRowLayer.this.configRegistry.getConfigAttribute(
-                            SummaryRowConfigAttributes.SUMMARY_PROVIDER,
-                            DisplayMode.NORMAL,
-                            configLabels);
+                    final ISummaryProvider summaryProvider = getSummaryProvider(columnPosition);
 
                     // If there is no Summary provider - skip processing
                     if (summaryProvider == ISummaryProvider.NONE || summaryProvider == null) {
@@ -258,6 +271,25 @@ private Object calculateNewSummaryValue(final int columnPosition, boolean calcul
                 });
     }
 
+    /**
+     * Returns the {@link ISummaryProvider} that is registered for the summary
+     * cell in the given column.
+     *
+     * @param columnPosition
+     *            The column position of the summary cell.
+     * @return The {@link ISummaryProvider} for the given column or
+     *         <code>null</code> if none is registered.
+     */
+    private ISummaryProvider getSummaryProvider(int columnPosition) {
+        LabelStack labelStack = getConfigLabelsByPositionWithoutTransformation(columnPosition, getSummaryRowPosition());
+        String[] configLabels = labelStack.toArray(ArrayUtil.STRING_TYPE_ARRAY);
+
+        return this.configRegistry.getConfigAttribute(
+                SummaryRowConfigAttributes.SUMMARY_PROVIDER,
+                DisplayMode.NORMAL,
+                configLabels);
+    }
+
     /**
      * Checks if the given row position is the position of the summary row.
      *
@@ -327,21 +359,110 @@ public boolean doCommand(ILayerCommand command) {
     @Override
     public void handleLayerEvent(ILayerEvent event) {
         if (event instanceof IVisualChangeEvent) {
-            clearCache();
+            updateIncrementalSummaries(event);
+            // only clear the value cache, the running state of the
+            // incremental summary providers was updated above
+            this.valueCache.clearCache();
         }
         super.handleLayerEvent(event);
     }
 
+    /**
+     * Informs the registered {@link IIncrementalSummaryProvider}s about the
+     * data modifications reported by the given event. Data updates, inserted
+     * rows and deleted row objects are reported as deltas, other modifications
+     * of the data cause a full calculation.
+     * <p>
+     * Note: The event is processed before it is converted to this layer, so
+     * the positions match the underlying layer, whose positions are equal to
+     * the indexes. Events that are not fired by the underlying layer, e.g.
+     * events of a horizontal dependency, are ignored, as they are reported by
+     * the underlying layer too.
+     *
+     * @param event
+     *            The event to process.
+     * @since 2.1
+     */
+    protected void updateIncrementalSummaries(ILayerEvent event) {
+        if (!(event instanceof IVisualChangeEvent)
+                || ((IVisualChangeEvent) event).getLayer() != this.underlyingLayer) {
+            return;
+        }
+
+        if (event instanceof DataUpdateEvent) {
+            DataUpdateEvent updateEvent = (DataUpdateEvent) event;
+            int columnPosition = updateEvent.getColumnPosition();
+            ISummaryProvider provider = getSummaryProvider(columnPosition);
+            if (provider instanceof IIncrementalSummaryProvider) {
+                ((IIncrementalSummaryProvider) provider).valueUpdated(
+                        columnPosition, updateEvent.getOldValue(), updateEvent.getNewValue());
+            }
+        } else if (event instanceof RowInsertEvent) {
+            Collection<Range> rowRanges = ((RowInsertEvent) event).getRowPositionRanges();
+            for (int columnPosition = 0; columnPosition < this.underlyingLayer.getColumnCount(); columnPosition++) {
+                ISummaryProvider provider = getSummaryProvider(columnPosition);
+                if (provider instanceof IIncrementalSummaryProvider) {
+                    for (Range range : rowRanges) {
+                        for (int rowPosition = range.start; rowPosition < range.end; rowPosition++) {
+                            ((IIncrementalSummaryProvider) provider).valueAdded(
+                                    columnPosition, this.underlyingLayer.getDataValueByPosition(columnPosition, rowPosition));
+                        }
+                    }
+                }
+            }
+        } else if (event instanceof RowObjectDeleteEvent) {
+            Collection<Object> deleted = ((RowObjectDeleteEvent) event).getDeletedObjects().values();
+            for (int columnPosition = 0; columnPosition < this.underlyingLayer.getColumnCount(); columnPosition++) {
+                ISummaryProvider provider = getSummaryProvider(columnPosition);
+                if (provider instanceof IIncrementalSummaryProvider) {
+                    for (Object rowObject : deleted) {
+                        ((IIncrementalSummaryProvider) provider).rowObjectRemoved(columnPosition, rowObject);
+                    }
+                }
+            }
+        } else if (event instanceof RowDeleteEvent
+                || event instanceof RowUpdateEvent
+                || event instanceof ColumnInsertEvent
+                || event instanceof ColumnDeleteEvent
+                || event instanceof PropertyUpdateEvent
+                || event instanceof VisualRefreshEvent
+                || (event instanceof StructuralRefreshEvent && !(event instanceof ResizeStructuralRefreshEvent))) {
+            // the modified values are unknown, so the incremental summary
+            // providers need to perform a full calculation
+            invalidateIncrementalSummaries();
+        }
+    }
+
+    /**
+     * Discards the running state of the registered
+     * {@link IIncrementalSummaryProvider}s, so the next summary calculation
+     * performs a full calculation.
+     */
+    private void invalidateIncrementalSummaries() {
+        Set<IIncrementalSummaryProvider> providers = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int columnPosition = 0; columnPosition < this.underlyingLayer.getColumnCount(); columnPosition++) {
+            ISummaryProvider provider = getSummaryProvider(columnPosition);
+            if (provider instanceof IIncrementalSummaryProvider) {
+                providers.add((IIncrementalSummaryProvider) provider);
+            }
+        }
+        providers.forEach(IIncrementalSummaryProvider::invalidate);
+    }
+
     /**
      * Clear the internal cache to trigger new calculations.
      * <p>
      * Usually it is not necessary to call this method manually. But for certain
      * use cases it might be useful, e.g. changing the summary provider
      * implementation at runtime.
+     * <p>
+     * The running state of registered {@link IIncrementalSummaryProvider}s is
+     * discarded too.
      *
      * @see CalculatedValueCache#clearCache()
      */
     public void clearCache() {
+        invalidateIncrementalSummaries();
         this.valueCache.clearCache();
     }
 
@@ -353,10 +474,14 @@ public void clearCache() {
      * Usually it is not necessary to call this method manually. But for certain
      * use cases it might be useful, e.g. changing the summary provider
      * implementation at runtime.
+     * <p>
+     * The running state of registered {@link IIncrementalSummaryProvider}s is
+     * discarded too.
      *
      * @see CalculatedValueCache#killCache()
      */
     public void killCache() {
+        invalidateIncrementalSummaries();
         this.valueCache.killCache();
     }
 
@@ -168,21 +168,31 @@ public CalculatedValueCache(ILayer layer, boolean useColumnAsKey, boolean useRow
     public Object getCalculatedValue(final int columnPosition, final int rowPosition,
             boolean calculateInBackground, final ICalculator calculator) {
 
-        ICalculatedValueCacheKey key = null;
+        return getCalculatedValue(columnPosition, rowPosition, createKey(columnPosition, rowPosition),
+                calculateInBackground, calculator);
+    }
+
+    /**
+     * Creates the {@link ICalculatedValueCacheKey} for the given coordinates
+     * based on the key configuration of this {@link CalculatedValueCache}.
+     *
+     * @param columnPosition
+     *            The column position of the cell.
+     * @param rowPosition
+     *            The row position of the cell.
+     * @return The {@link ICalculatedValueCacheKey} for the given coordinates.
+     */
+    private ICalculatedValueCacheKey createKey(int columnPosition, int rowPosition) {
         if (this.useColumnAsKey && this.useRowAsKey) {
-            key = new CoordinateValueCacheKey(columnPosition, rowPosition);
+            return new CoordinateValueCacheKey(columnPosition, rowPosition);
         } else if (this.useColumnAsKey && !this.useRowAsKey) {
-            key = new PositionValueCacheKey(columnPosition);
+            return new PositionValueCacheKey(columnPosition);
         } else if (!this.useColumnAsKey && this.useRowAsKey) {
-            key = new PositionValueCacheKey(rowPosition);
-        } else {
-            throw new IllegalStateException(
-                    "CalculatedValueCacheKey is configured to not use column or row position. " //$NON-NLS-1$
-                            + "Use getCalculatedValue() with ICalculatedValueCacheKey parameter instead."); //$NON-NLS-1$
+            return new PositionValueCacheKey(rowPosition);
         }
-
-        return getCalculatedValue(columnPosition, rowPosition, key,
-                calculateInBackground, calculator);
+        throw new IllegalStateException(
+                "CalculatedValueCacheKey is configured to not use column or row position. " //$NON-NLS-1$
+                        + "Use getCalculatedValue() with ICalculatedValueCacheKey parameter instead."); //$NON-NLS-1$
     }
 
     @Override
@@ -238,6 +248,24 @@ public void clearCache() {
         this.cache.clear();
     }
 
+    /**
+     * Clears the cached value for the given coordinates so it gets
+     * recalculated on the next access. Like {@link #clearCache()} the
+     * previous value is kept in the cache copy, so it can still be shown
+     * while the recalculation is performed in the background.
+     *
+     * @param columnPosition
+     *            The column position of the cell whose value should be
+     *            cleared.
+     * @param rowPosition
+     *            The row position of the cell whose value should be cleared.
+     *
+     * @since 2.1
+     */
+    public void clearCache(int columnPosition, int rowPosition) {
+        this.cache.remove(createKey(columnPosition, rowPosition));
+    }
+
     @Override
     public void killCache() {
         this.cache.clear();
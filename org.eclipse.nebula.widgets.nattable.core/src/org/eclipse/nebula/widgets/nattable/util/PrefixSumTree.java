@@ -0,0 +1,157 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.util;
+
+/**
+ * Fenwick tree (binary indexed tree) over a fixed number of int values. It
+ * supports updating a single value and calculating the sum of the first
+ * <i>n</i> values in <code>O(log n)</code>. For non-negative values it
+ * additionally supports the inverse operation of finding the value that
+ * contains a given sum in <code>O(log n)</code>.
+ * <p>
+ * This implementation is not thread-safe.
+ * </p>
+ *
+ * @since 2.1
+ */
+public class PrefixSumTree {
+
+    /**
+     * The values, needed to calculate the delta on {@link #set(int, int)}.
+     */
+    private final int[] values;
+
+    /**
+     * The Fenwick tree, 1-based. Each entry <code>tree[i]</code> contains the
+     * sum of the values in the range <code>(i - lowbit(i), i]</code>.
+     */
+    private final int[] tree;
+
+    /**
+     * Highest power of two that is less or equal to the number of values, used
+     * as the start step for {@link #findIndex(int)}.
+     */
+    private final int highestStep;
+
+    /**
+     * Creates a {@link PrefixSumTree} for the given values in
+     * <code>O(n)</code>.
+     *
+     * @param values
+     *            The values to create the tree for. The array is copied.
+     */
+    public PrefixSumTree(int[] values) {
+        this.values = values.clone();
+        this.tree = new int[values.length + 1];
+        for (int i = 1; i <= values.length; i++) {
+            this.tree[i] += values[i - 1];
+            int parent = i + (i & -i);
+            if (parent <= values.length) {
+                this.tree[parent] += this.tree[i];
+            }
+        }
+        this.highestStep = values.length > 0 ? Integer.highestOneBit(values.length) : 0;
+    }
+
+    /**
+     * @return The number of values in this tree.
+     */
+    public int size() {
+        return this.values.length;
+    }
+
+    /**
+     * @param index
+     *            The index of the value to return.
+     * @return The value at the given index.
+     */
+    public int get(int index) {
+        return this.values[index];
+    }
+
+    /**
+     * Sets the value at the given index.
+     *
+     * @param index
+     *            The index of the value to set.
+     * @param value
+     *            The new value.
+     */
+    public void set(int index, int value) {
+        add(index, value - this.values[index]);
+    }
+
+    /**
+     * Adds the given delta to the value at the given index.
+     *
+     * @param index
+     *            The index of the value to change.
+     * @param delta
+     *            The delta to add.
+     */
+    public void add(int index, int delta) {
+        if (delta != 0) {
+            this.values[index] += delta;
+            for (int i = index + 1; i < this.tree.length; i += i & -i) {
+                this.tree[i] += delta;
+            }
+        }
+    }
+
+    /**
+     * Returns the sum of the first <code>count</code> values, which means the
+     * values at the indexes <code>0</code> to <code>count - 1</code>.
+     *
+     * @param count
+     *            The number of values to sum up.
+     * @return The sum of the first <code>count</code> values.
+     */
+    public int prefixSum(int count) {
+        int sum = 0;
+        for (int i = count; i > 0; i -= i & -i) {
+            sum += this.tree[i];
+        }
+        return sum;
+    }
+
+    /**
+     * @return The sum of all values.
+     */
+    public int total() {
+        return prefixSum(this.values.length);
+    }
+
+    /**
+     * Returns the index of the value that contains the given sum, which is the
+     * smallest index for which <code>prefixSum(index + 1) &gt; sum</code>.
+     * Values that are 0 are therefore skipped. Only works correctly if all
+     * values are non-negative.
+     *
+     * @param sum
+     *            The sum to search for.
+     * @return The index of the value that contains the given sum, or
+     *         {@link #size()} if the sum is greater or equal to the total.
+     */
+    public int findIndex(int sum) {
+        int index = 0;
+        int remaining = sum;
+        for (int step = this.highestStep; step > 0; step >>= 1) {
+            int next = index + step;
+            if (next < this.tree.length && this.tree[next] <= remaining) {
+                index = next;
+                remaining -= this.tree[next];
+            }
+        }
+        return index;
+    }
+}
@@ -79,6 +79,7 @@ public class ViewportLayer extends AbstractLayerTransform implements IUniqueInde
     private int minimumOriginColumnPosition = 0;
     private int minimumOriginRowPosition = 0;
     private boolean viewportOff = false;
+    private boolean scrollBlittingEnabled = false;
     private PixelCoordinate savedOrigin = new PixelCoordinate(0, 0);
 
     // split viewport support
@@ -435,9 +436,14 @@ public void setOriginX(int newOriginX) {
         newOriginX = boundsCheckOriginX(adjustOriginX(newOriginX));
 
         if (newOriginX != this.origin.getX()) {
+            int delta = newOriginX - this.origin.getX();
             invalidateHorizontalStructure();
             this.origin = new PixelCoordinate(newOriginX, this.origin.getY());
-            fireScrollEvent();
+            if (this.scrollBlittingEnabled) {
+                fireLayerEvent(new ScrollEvent(this, delta, 0));
+            } else {
+                fireScrollEvent();
+            }
         }
     }
 
@@ -452,9 +458,14 @@ public void setOriginY(int newOriginY) {
         newOriginY = boundsCheckOriginY(adjustOriginY(newOriginY));
 
         if (newOriginY != this.origin.getY()) {
+            int delta = newOriginY - this.origin.getY();
             invalidateVerticalStructure();
             this.origin = new PixelCoordinate(this.origin.getX(), newOriginY);
-            fireScrollEvent();
+            if (this.scrollBlittingEnabled) {
+                fireLayerEvent(new ScrollEvent(this, 0, delta));
+            } else {
+                fireScrollEvent();
+            }
         }
     }
 
@@ -1768,6 +1779,44 @@ public void setVerticalScrollbarEnabled(boolean enabled) {
         this.verticalScrollbarEnabled = enabled;
     }
 
+    /**
+     * Enable/disable scroll blitting for this ViewportLayer.
+     * <p>
+     * If enabled, scrolling via {@link #setOriginX(int)} or
+     * {@link #setOriginY(int)} fires a {@link ScrollEvent} that carries the
+     * scrolled pixel distance. The NatTable uses that information to move the
+     * already painted pixels of the viewport area and only repaints the
+     * exposed strip together with the regions that scroll along, e.g. the
+     * row header or frozen columns on vertical scrolling. Otherwise every
+     * scroll operation triggers a repaint of the whole client area.
+     * </p>
+     * <p>
+     * Note: Only enable this if the cells in the viewport are rendered
+     * independent of the viewport origin, e.g. there are no painters that
+     * render content relative to the visible part of a spanned cell.
+     * </p>
+     *
+     * @param enabled
+     *            <code>true</code> to enable scroll blitting,
+     *            <code>false</code> to repaint the whole client area on
+     *            scrolling.
+     * @since 2.1
+     */
+    public void setScrollBlittingEnabled(boolean enabled) {
+        this.scrollBlittingEnabled = enabled;
+    }
+
+    /**
+     * @return <code>true</code> if scrolling fires {@link ScrollEvent}s that
+     *         carry the scrolled pixel distance so the NatTable is able to
+     *         move the painted pixels instead of repainting the whole client
+     *         area, <code>false</code> if not.
+     * @since 2.1
+     */
+    public boolean isScrollBlittingEnabled() {
+        return this.scrollBlittingEnabled;
+    }
+
     /**
      * @return <code>true</code> because the {@link ViewportLayer} is intended
      *         to be a dynamic size layer.
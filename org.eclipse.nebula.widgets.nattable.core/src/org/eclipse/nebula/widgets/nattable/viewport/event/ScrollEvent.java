@@ -20,12 +20,70 @@
 
 public class ScrollEvent extends StructuralRefreshEvent {
 
+    private final ViewportLayer viewportLayer;
+    private final int deltaX;
+    private final int deltaY;
+
     public ScrollEvent(ViewportLayer viewportLayer) {
+        this(viewportLayer, 0, 0);
+    }
+
+    /**
+     * Creates a {@link ScrollEvent} that carries the pixel distance the
+     * viewport origin was moved. A delta of 0 in both directions means that
+     * the distance is unknown and the event needs to be handled as a generic
+     * structural refresh.
+     *
+     * @param viewportLayer
+     *            The {@link ViewportLayer} that was scrolled.
+     * @param deltaX
+     *            The number of pixels the origin was moved horizontally.
+     *            Positive if the content moved to the left.
+     * @param deltaY
+     *            The number of pixels the origin was moved vertically.
+     *            Positive if the content moved up.
+     * @since 2.1
+     */
+    public ScrollEvent(ViewportLayer viewportLayer, int deltaX, int deltaY) {
         super(viewportLayer);
+        this.viewportLayer = viewportLayer;
+        this.deltaX = deltaX;
+        this.deltaY = deltaY;
     }
 
     protected ScrollEvent(ScrollEvent event) {
         super(event);
+        this.viewportLayer = event.viewportLayer;
+        this.deltaX = event.deltaX;
+        this.deltaY = event.deltaY;
+    }
+
+    /**
+     * @return The {@link ViewportLayer} that was scrolled. In contrast to
+     *         {@link #getLayer()} this does not change while the event is
+     *         converted up the layer stack.
+     * @since 2.1
+     */
+    public ViewportLayer getViewportLayer() {
+        return this.viewportLayer;
+    }
+
+    /**
+     * @return The number of pixels the viewport origin was moved
+     *         horizontally, or 0 if unknown or not moved.
+     * @since 2.1
+     */
+    public int getDeltaX() {
+        return this.deltaX;
+    }
+
+    /**
+     * @return The number of pixels the viewport origin was moved vertically,
+     *         or 0 if unknown or not moved.
+     * @since 2.1
+     */
+    public int getDeltaY() {
+        return this.deltaY;
     }
 
     @Override
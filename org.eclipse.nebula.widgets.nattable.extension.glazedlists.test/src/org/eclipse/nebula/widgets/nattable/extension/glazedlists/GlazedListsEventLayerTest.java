@@ -12,6 +12,7 @@
  ******************************************************************************/
 package org.eclipse.nebula.widgets.nattable.extension.glazedlists;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -27,6 +28,7 @@
 import org.eclipse.nebula.widgets.nattable.extension.glazedlists.fixture.DataLayerFixture;
 import org.eclipse.nebula.widgets.nattable.extension.glazedlists.fixture.LayerListenerFixture;
 import org.eclipse.nebula.widgets.nattable.layer.event.PropertyUpdateEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.RowInsertEvent;
 import org.eclipse.nebula.widgets.nattable.layer.event.RowStructuralRefreshEvent;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -106,4 +108,64 @@ public void propertyChangeEventshouldBePropagatedImmediately() throws Exception
 
         assertNotNull(this.listenerFixture.getReceivedEvent(PropertyUpdateEvent.class));
     }
+
+    @Test
+    public void shouldFireDetailEventsInAdaptiveMode() throws Exception {
+        this.layerUnderTest.setAdaptiveEventHandling(true);
+        assertTrue(this.layerUnderTest.isAdaptiveEventHandling());
+
+        CountDownLatch countDownLatch = new CountDownLatch(1);
+        this.listenerFixture.setCountDownLatch(countDownLatch);
+        this.listFixture.getReadWriteLock().writeLock().lock();
+        try {
+            this.listFixture.add(0, RowDataFixture.getInstance("T1", "A"));
+            this.listFixture.add(0, RowDataFixture.getInstance("T2", "A"));
+        } finally {
+            this.listFixture.getReadWriteLock().writeLock().unlock();
+        }
+        boolean completed = countDownLatch.await(500, TimeUnit.MILLISECONDS);
+
+        assertTrue(completed, "Timeout - no event received");
+        RowInsertEvent event = (RowInsertEvent) this.listenerFixture.getReceivedEvent(RowInsertEvent.class);
+        assertNotNull(event);
+        assertEquals(1, this.listenerFixture.getEventsCount());
+
+        assertEquals(2, this.layerUnderTest.getReceivedEventCount());
+        assertEquals(1, this.layerUnderTest.getConflatedEventCount());
+        assertEquals(1, this.layerUnderTest.getDispatchedEventCount());
+    }
+
+    @Test
+    public void shouldNotDispatchInAdaptiveModeIfDeactivated() throws Exception {
+        this.layerUnderTest.setAdaptiveIntervalBounds(10L, 50L);
+        this.layerUnderTest.setAdaptiveEventHandling(true);
+        this.layerUnderTest.deactivate();
+
+        this.listFixture.add(RowDataFixture.getInstance("T1", "A"));
+        Thread.sleep(100);
+        assertEquals(0, this.listenerFixture.getEventsCount());
+
+        CountDownLatch countDownLatch = new CountDownLatch(1);
+        this.listenerFixture.setCountDownLatch(countDownLatch);
+        this.layerUnderTest.activate();
+        boolean completed = countDownLatch.await(500, TimeUnit.MILLISECONDS);
+
+        assertTrue(completed, "Timeout - no event received");
+        assertNotNull(this.listenerFixture.getReceivedEvent(RowInsertEvent.class));
+    }
+
+    @Test
+    public void shouldDiscardEventsInAdaptiveMode() throws Exception {
+        this.layerUnderTest.setAdaptiveEventHandling(true);
+        this.layerUnderTest.deactivate();
+
+        this.listFixture.add(RowDataFixture.getInstance("T1", "A"));
+        this.layerUnderTest.discardEventsToProcess();
+        this.layerUnderTest.activate();
+        Thread.sleep(100);
+
+        assertEquals(0, this.listenerFixture.getEventsCount());
+        assertEquals(1, this.layerUnderTest.getReceivedEventCount());
+        assertEquals(0, this.layerUnderTest.getDispatchedEventCount());
+    }
 }
@@ -0,0 +1,183 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.extension.glazedlists;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.nebula.widgets.nattable.coordinate.Range;
+import org.eclipse.nebula.widgets.nattable.layer.event.ILayerEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.RowDeleteEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.RowInsertEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.RowStructuralRefreshEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.RowUpdateEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ca.odell.glazedlists.EventList;
+import ca.odell.glazedlists.GlazedLists;
+
+public class RowChangeConflaterTest {
+
+    private EventList<String> list;
+    private RowChangeConflater<String> conflater;
+    private List<String> snapshot;
+
+    @BeforeEach
+    public void setup() {
+        this.list = GlazedLists.eventList(new ArrayList<String>());
+        for (int i = 0; i < 20; i++) {
+            this.list.add("row" + i);
+        }
+        this.snapshot = new ArrayList<>(this.list);
+        this.conflater = new RowChangeConflater<>(1000);
+        this.list.addListEventListener(this.conflater::addListEvent);
+    }
+
+    @Test
+    public void shouldConflateInserts() {
+        this.list.add(0, "a");
+        this.list.add(5, "b");
+        this.list.add(0, "c");
+
+        List<ILayerEvent> events = this.conflater.drainEvents(null);
+        assertEquals(1, events.size());
+        assertEquals(
+                Arrays.asList(new Range(0, 2), new Range(6, 7)),
+                ((RowInsertEvent) events.get(0)).getRowPositionRanges());
+        assertFalse(this.conflater.hasChanges());
+    }
+
+    @Test
+    public void shouldConflateDeletes() {
+        this.list.remove(3);
+        this.list.remove(3);
+        this.list.remove(0);
+        this.list.subList(10, 12).clear();
+
+        List<ILayerEvent> events = this.conflater.drainEvents(null);
+        assertEquals(1, events.size());
+        assertEquals(
+                Arrays.asList(new Range(0, 1), new Range(3, 5), new Range(13, 15)),
+                ((RowDeleteEvent) events.get(0)).getRowPositionRanges());
+    }
+
+    @Test
+    public void shouldTransformUpdates() {
+        this.list.set(5, "u5");
+        this.list.set(10, "u10");
+        this.list.add(0, "a");
+        this.list.remove(7);
+
+        List<ILayerEvent> events = this.conflater.drainEvents(null);
+        assertEquals(3, events.size());
+        assertTrue(events.get(0) instanceof RowInsertEvent);
+        assertTrue(events.get(1) instanceof RowDeleteEvent);
+        // u5 is now at 6, u10 at 10
+        assertEquals(
+                Arrays.asList(new Range(6, 11)),
+                ((RowUpdateEvent) events.get(2)).getRowPositionRanges());
+    }
+
+    @Test
+    public void shouldFallBackToRefresh() {
+        this.conflater.setMaxStructuralChanges(3);
+        this.list.add("a");
+        this.list.add("b");
+        this.list.set(0, "c");
+        this.list.add("d");
+        this.list.add("e");
+
+        List<ILayerEvent> events = this.conflater.drainEvents(null);
+        assertEquals(1, events.size());
+        assertTrue(events.get(0) instanceof RowStructuralRefreshEvent);
+
+        // the next interval starts with details again
+        this.list.add("f");
+        events = this.conflater.drainEvents(null);
+        assertEquals(1, events.size());
+        assertTrue(events.get(0) instanceof RowInsertEvent);
+    }
+
+    @Test
+    public void shouldProduceConsistentEventsForRandomChanges() {
+        Random random = new Random(42);
+        for (int run = 0; run < 50; run++) {
+            int counter = 0;
+            for (int change = 0; change < 20; change++) {
+                int type = random.nextInt(3);
+                if (type == 0 || this.list.isEmpty()) {
+                    this.list.add(random.nextInt(this.list.size() + 1), "new" + run + "_" + counter++);
+                } else if (type == 1) {
+                    int from = random.nextInt(this.list.size());
+                    int to = Math.min(this.list.size(), from + 1 + random.nextInt(3));
+                    this.list.subList(from, to).clear();
+                } else {
+                    int index = random.nextInt(this.list.size());
+                    this.list.set(index, this.list.get(index) + "*");
+                }
+            }
+
+            List<String> replayed = replay(this.snapshot, this.conflater.drainEvents(null));
+            assertEquals(this.list.size(), replayed.size());
+            for (int i = 0; i < replayed.size(); i++) {
+                String expected = this.list.get(i);
+                String actual = replayed.get(i);
+                if (actual == null) {
+                    assertTrue(expected.startsWith("new" + run + "_"), "not inserted: " + expected);
+                } else {
+                    assertTrue(expected.startsWith(actual), "expected " + expected + " but was " + actual);
+                }
+            }
+            this.snapshot = new ArrayList<>(this.list);
+        }
+    }
+
+    @Test
+    public void shouldShiftIndexes() {
+        assertArrayEquals(new int[] { 1 }, RowChangeConflater.shift(new int[] { 0 }, new int[] { 0 }));
+        assertArrayEquals(new int[] { 7 }, RowChangeConflater.shift(new int[] { 5 }, new int[] { 3, 4 }));
+        assertArrayEquals(new int[] { 0, 4 }, RowChangeConflater.shift(new int[] { 0, 2 }, new int[] { 2, 3 }));
+        assertArrayEquals(new int[] { 1, 2, 5 }, RowChangeConflater.union(new int[] { 1, 5 }, new int[] { 1, 2 }));
+    }
+
+    /**
+     * Applies the given events to a copy of the given list. Inserted rows are
+     * added as <code>null</code>.
+     */
+    private static List<String> replay(List<String> original, List<ILayerEvent> events) {
+        List<String> result = new ArrayList<>(original);
+        for (ILayerEvent event : events) {
+            if (event instanceof RowDeleteEvent) {
+                List<Range> ranges = new ArrayList<>(((RowDeleteEvent) event).getRowPositionRanges());
+                for (int i = ranges.size() - 1; i >= 0; i--) {
+                    result.subList(ranges.get(i).start, ranges.get(i).end).clear();
+                }
+            } else if (event instanceof RowInsertEvent) {
+                for (Range range : ((RowInsertEvent) event).getRowPositionRanges()) {
+                    for (int i = range.start; i < range.end; i++) {
+                        result.add(i, null);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -19,7 +19,10 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.nebula.widgets.nattable.config.ConfigRegistry;
 import org.eclipse.nebula.widgets.nattable.config.DefaultComparator;
@@ -32,6 +35,7 @@
 import org.eclipse.nebula.widgets.nattable.extension.glazedlists.groupBy.GroupByComparator;
 import org.eclipse.nebula.widgets.nattable.extension.glazedlists.groupBy.GroupByConfigAttributes;
 import org.eclipse.nebula.widgets.nattable.extension.glazedlists.groupBy.GroupByDataLayer;
+import org.eclipse.nebula.widgets.nattable.extension.glazedlists.groupBy.GroupByDataLayer.GroupDescriptorMatcher;
 import org.eclipse.nebula.widgets.nattable.extension.glazedlists.groupBy.GroupByModel;
 import org.eclipse.nebula.widgets.nattable.extension.glazedlists.groupBy.GroupByObject;
 import org.eclipse.nebula.widgets.nattable.extension.glazedlists.groupBy.summary.SummationGroupBySummaryProvider;
@@ -42,6 +46,7 @@
 import org.eclipse.nebula.widgets.nattable.layer.cell.AggregateConfigLabelAccumulator;
 import org.eclipse.nebula.widgets.nattable.layer.cell.ColumnLabelAccumulator;
 import org.eclipse.nebula.widgets.nattable.layer.cell.IConfigLabelAccumulator;
+import org.eclipse.nebula.widgets.nattable.layer.event.PropertyUpdateEvent;
 import org.eclipse.nebula.widgets.nattable.sort.ISortModel;
 import org.eclipse.nebula.widgets.nattable.sort.SortConfigAttributes;
 import org.eclipse.nebula.widgets.nattable.sort.SortDirectionEnum;
@@ -50,6 +55,7 @@
 import org.junit.Test;
 
 import ca.odell.glazedlists.EventList;
+import ca.odell.glazedlists.FilterList;
 import ca.odell.glazedlists.GlazedLists;
 import ca.odell.glazedlists.SortedList;
 import ca.odell.glazedlists.event.ListEvent;
@@ -1071,4 +1077,134 @@ public void testClearCollapsedStateOnReGrouping() {
         assertEquals(28, this.dataLayer.getRowCount());
     }
 
+    private GroupByObject createGroup(Object... columnIndexAndValues) {
+        Map<Integer, Object> descriptor = new LinkedHashMap<>();
+        for (int i = 0; i < columnIndexAndValues.length; i += 2) {
+            descriptor.put((Integer) columnIndexAndValues[i], columnIndexAndValues[i + 1]);
+        }
+        return new GroupByObject(columnIndexAndValues[columnIndexAndValues.length - 1], descriptor);
+    }
+
+    private List<Person> getExpectedItemsInGroup(GroupByObject group) {
+        return new ArrayList<>(new FilterList<>(this.sortedList, new GroupDescriptorMatcher<>(group, this.columnPropertyAccessor)));
+    }
+
+    @Test
+    public void testItemsInGroupMatchGroupDescriptor() {
+        GroupByObject simpsons = createGroup(1, "Simpson");
+        GroupByObject flanders = createGroup(1, "Flanders");
+        GroupByObject homer = createGroup(1, "Simpson", 0, "Homer");
+        GroupByObject unknown = createGroup(1, "Wiggum");
+
+        assertEquals(getExpectedItemsInGroup(simpsons), this.dataLayer.getItemsInGroup(simpsons));
+        assertEquals(getExpectedItemsInGroup(flanders), this.dataLayer.getItemsInGroup(flanders));
+        assertEquals(getExpectedItemsInGroup(homer), this.dataLayer.getItemsInGroup(homer));
+        assertTrue(this.dataLayer.getItemsInGroup(unknown).isEmpty());
+    }
+
+    @Test
+    public void testItemsInGroupAfterListChanges() {
+        GroupByObject simpsons = createGroup(1, "Simpson");
+        GroupByObject flanders = createGroup(1, "Flanders");
+        GroupByObject homer = createGroup(1, "Simpson", 0, "Homer");
+        assertEquals(10, this.dataLayer.getItemsInGroup(simpsons).size());
+        assertEquals(getExpectedItemsInGroup(homer), this.dataLayer.getItemsInGroup(homer));
+
+        // append
+        Person p = PersonService.createPersonWithAddress(4711);
+        p.setFirstName("Homer");
+        p.setLastName("Simpson");
+        this.sortedList.add(p);
+        this.dataLayer.clearCache();
+        assertEquals(getExpectedItemsInGroup(simpsons), this.dataLayer.getItemsInGroup(simpsons));
+        assertEquals(getExpectedItemsInGroup(homer), this.dataLayer.getItemsInGroup(homer));
+
+        // insert in the middle
+        Person p2 = PersonService.createPersonWithAddress(4712);
+        p2.setLastName("Flanders");
+        this.sortedList.add(0, p2);
+        this.dataLayer.clearCache();
+        assertEquals(getExpectedItemsInGroup(flanders), this.dataLayer.getItemsInGroup(flanders));
+
+        // delete
+        this.sortedList.remove(this.getExpectedItemsInGroup(simpsons).get(2));
+        this.dataLayer.clearCache();
+        assertEquals(getExpectedItemsInGroup(simpsons), this.dataLayer.getItemsInGroup(simpsons));
+        assertEquals(getExpectedItemsInGroup(homer), this.dataLayer.getItemsInGroup(homer));
+
+        // update that changes the group
+        Person simpson = getExpectedItemsInGroup(simpsons).get(0);
+        simpson.setLastName("Flanders");
+        this.sortedList.set(this.sortedList.indexOf(simpson), simpson);
+        this.dataLayer.clearCache();
+        assertEquals(getExpectedItemsInGroup(simpsons), this.dataLayer.getItemsInGroup(simpsons));
+        assertEquals(getExpectedItemsInGroup(flanders), this.dataLayer.getItemsInGroup(flanders));
+    }
+
+    @Test
+    public void testItemsInGroupAfterInPlaceChange() {
+        GroupByObject simpsons = createGroup(1, "Simpson");
+        GroupByObject flanders = createGroup(1, "Flanders");
+        assertEquals(10, this.dataLayer.getItemsInGroup(simpsons).size());
+        assertEquals(8, this.dataLayer.getItemsInGroup(flanders).size());
+
+        // change the grouped property via the layer, like an edit via
+        // UpdateDataCommand
+        Person simpson = getExpectedItemsInGroup(simpsons).get(0);
+        this.dataLayer.setDataValue(1, this.dataLayer.getTreeList().indexOf(simpson), "Flanders");
+        this.dataLayer.clearCache();
+
+        assertEquals(9, this.dataLayer.getItemsInGroup(simpsons).size());
+        assertEquals(9, this.dataLayer.getItemsInGroup(flanders).size());
+        assertEquals(getExpectedItemsInGroup(simpsons), this.dataLayer.getItemsInGroup(simpsons));
+        assertEquals(getExpectedItemsInGroup(flanders), this.dataLayer.getItemsInGroup(flanders));
+
+        // change the grouped property in place and inform via a
+        // PropertyUpdateEvent
+        simpson.setLastName("Simpson");
+        this.dataLayer.handleLayerEvent(new PropertyUpdateEvent<>(this.dataLayer, simpson, "lastName", "Flanders", "Simpson"));
+
+        assertEquals(getExpectedItemsInGroup(simpsons), this.dataLayer.getItemsInGroup(simpsons));
+        assertEquals(getExpectedItemsInGroup(flanders), this.dataLayer.getItemsInGroup(flanders));
+
+        // change the grouped property in place without any notification
+        simpson.setLastName("Flanders");
+        this.dataLayer.killCache();
+
+        assertEquals(9, this.dataLayer.getItemsInGroup(simpsons).size());
+        assertEquals(getExpectedItemsInGroup(flanders), this.dataLayer.getItemsInGroup(flanders));
+    }
+
+    @Test
+    public void testItemsInGroupUpdatedIncrementally() {
+        AtomicInteger accessCount = new AtomicInteger();
+        IColumnPropertyAccessor<Person> countingAccessor = new ReflectiveColumnPropertyAccessor<Person>(this.propertyNames) {
+            @Override
+            public Object getDataValue(Person rowObj, int columnIndex) {
+                accessCount.incrementAndGet();
+                return super.getDataValue(rowObj, columnIndex);
+            }
+        };
+        this.dataLayer = new GroupByDataLayer<>(this.groupByModel, this.sortedList, countingAccessor, this.configRegistry);
+
+        GroupByObject simpsons = createGroup(1, "Simpson");
+        GroupByObject flanders = createGroup(1, "Flanders");
+        assertEquals(getExpectedItemsInGroup(simpsons), this.dataLayer.getItemsInGroup(simpsons));
+
+        // insert in the middle of a group and update an element in place via
+        // a list event, clearCache() keeps the index
+        accessCount.set(0);
+        Person p = PersonService.createPersonWithAddress(4711);
+        p.setLastName("Simpson");
+        this.sortedList.add(this.sortedList.indexOf(getExpectedItemsInGroup(simpsons).get(3)), p);
+        Person flanders0 = getExpectedItemsInGroup(flanders).get(0);
+        flanders0.setLastName("Simpson");
+        this.sortedList.set(this.sortedList.indexOf(flanders0), flanders0);
+        this.dataLayer.clearCache();
+
+        assertEquals(getExpectedItemsInGroup(simpsons), this.dataLayer.getItemsInGroup(simpsons));
+        assertEquals(getExpectedItemsInGroup(flanders), this.dataLayer.getItemsInGroup(flanders));
+        assertTrue("index was rebuilt", accessCount.get() < this.sortedList.size());
+    }
+
 }
@@ -14,7 +14,10 @@
 
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
+import java.util.List;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.nebula.widgets.nattable.command.DisposeResourcesCommand;
 import org.eclipse.nebula.widgets.nattable.command.ILayerCommand;
@@ -22,7 +25,10 @@
 import org.eclipse.nebula.widgets.nattable.layer.IUniqueIndexLayer;
 import org.eclipse.nebula.widgets.nattable.layer.event.ILayerEvent;
 import org.eclipse.nebula.widgets.nattable.layer.event.PropertyUpdateEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.RowDeleteEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.RowInsertEvent;
 import org.eclipse.nebula.widgets.nattable.layer.event.RowStructuralRefreshEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.RowUpdateEvent;
 import org.eclipse.nebula.widgets.nattable.layer.event.VisualRefreshEvent;
 import org.eclipse.nebula.widgets.nattable.util.Scheduler;
 import org.eclipse.swt.widgets.Display;
@@ -43,6 +49,15 @@
  * <p>
  * PropertyChangeEvent(s) are propagated immediately as a
  * {@link PropertyUpdateEvent}.
+ * </p>
+ * <p>
+ * For lists with a high update frequency the adaptive event handling can be
+ * enabled via {@link #setAdaptiveEventHandling(boolean)}. In that mode the
+ * GlazedLists events are conflated into precise {@link RowDeleteEvent}s,
+ * {@link RowInsertEvent}s and {@link RowUpdateEvent}s, a new dispatch is only
+ * triggered if the UI thread has processed the previous one, and the interval
+ * is adjusted dynamically to the time the UI thread needs for processing.
+ * </p>
  *
  * @param <T>
  *            Type of the bean in the backing list.
@@ -51,9 +66,32 @@
         extends AbstractLayerTransform
         implements IUniqueIndexLayer, ListEventListener<T>, PropertyChangeListener {
 
+    /**
+     * The default minimum interval in milliseconds used in adaptive mode.
+     *
+     * @since 2.1
+     */
+    public static final long DEFAULT_MIN_INTERVAL = 20L;
+
+    /**
+     * The default maximum interval in milliseconds used in adaptive mode.
+     *
+     * @since 2.1
+     */
+    public static final long DEFAULT_MAX_INTERVAL = 1000L;
+
+    /**
+     * The default maximum number of inserted and deleted rows that are
+     * conflated into detailed events in adaptive mode before falling back to a
+     * {@link RowStructuralRefreshEvent}.
+     *
+     * @since 2.1
+     */
+    public static final int DEFAULT_MAX_STRUCTURAL_CHANGES = 1000;
+
     private static final Scheduler scheduler = new Scheduler("GlazedListsEventLayer"); //$NON-NLS-1$
     private final IUniqueIndexLayer underlying;
-    private final ScheduledFuture<?> future;
+    private ScheduledFuture<?> future;
     private EventList<T> eventList;
     private boolean testMode = false;
     private boolean structuralChangeEventsToProcess = false;
@@ -62,6 +100,37 @@
 
     private boolean active = true;
 
+    /**
+     * Flag to configure whether the adaptive event handling is enabled.
+     */
+    private volatile boolean adaptive = false;
+    /**
+     * The conflater that collects the list changes in adaptive mode.
+     */
+    private final RowChangeConflater<T> conflater = new RowChangeConflater<>(DEFAULT_MAX_STRUCTURAL_CHANGES);
+    /**
+     * Flag to indicate that a dispatch is scheduled in the UI thread that was
+     * not processed yet. Used for back-pressure in adaptive mode.
+     */
+    private final AtomicBoolean dispatchPending = new AtomicBoolean();
+    /**
+     * Lock to synchronize the (re-)scheduling of the event notifier with
+     * termination and mode changes.
+     */
+    private final Object scheduleLock = new Object();
+    private volatile long minInterval = DEFAULT_MIN_INTERVAL;
+    private volatile long maxInterval = DEFAULT_MAX_INTERVAL;
+    private volatile long currentInterval = DEFAULT_MIN_INTERVAL;
+    /**
+     * The time in milliseconds the UI thread needed to process the last
+     * dispatch in adaptive mode.
+     */
+    private volatile long lastDispatchDuration;
+
+    private final AtomicLong receivedEventCount = new AtomicLong();
+    private final AtomicLong conflatedEventCount = new AtomicLong();
+    private final AtomicLong dispatchedEventCount = new AtomicLong();
+
     public GlazedListsEventLayer(IUniqueIndexLayer underlyingLayer, EventList<T> eventList) {
         super(underlyingLayer);
         this.underlying = underlyingLayer;
@@ -81,6 +150,7 @@ public GlazedListsEventLayer(IUniqueIndexLayer underlyingLayer, EventList<T> eve
     protected Runnable getEventNotifier() {
         return () -> {
             if (GlazedListsEventLayer.this.eventsToProcess && GlazedListsEventLayer.this.active) {
+                GlazedListsEventLayer.this.dispatchedEventCount.incrementAndGet();
                 ILayerEvent layerEvent;
                 if (GlazedListsEventLayer.this.structuralChangeEventsToProcess) {
                     layerEvent = new RowStructuralRefreshEvent(getUnderlyingLayer());
@@ -99,6 +169,17 @@ protected Runnable getEventNotifier() {
 
     @Override
     public void listChanged(ListEvent<T> event) {
+        this.receivedEventCount.incrementAndGet();
+        if (this.adaptive) {
+            if (this.conflater.addListEvent(event)) {
+                this.conflatedEventCount.incrementAndGet();
+            }
+            return;
+        }
+
+        if (this.eventsToProcess) {
+            this.conflatedEventCount.incrementAndGet();
+        }
         while (event.next()) {
             int eventType = event.getType();
             if (eventType == ListEvent.DELETE || eventType == ListEvent.INSERT) {
@@ -123,6 +204,74 @@ public void propertyChange(PropertyChangeEvent event) {
         fireEventFromSWTDisplayThread(updateEvent);
     }
 
+    /**
+     * The task that is scheduled in adaptive mode. Triggers the dispatch of
+     * the collected changes if the UI thread is not behind, adjusts the
+     * interval and schedules itself again.
+     */
+    private void adaptiveTick() {
+        if (this.terminated || !this.adaptive) {
+            return;
+        }
+
+        boolean backPressure = false;
+        if (this.active && this.conflater.hasChanges()) {
+            if (this.dispatchPending.compareAndSet(false, true)) {
+                if (!this.testMode && Display.getCurrent() == null) {
+                    Display.getDefault().asyncExec(this::dispatchConflatedChanges);
+                } else {
+                    dispatchConflatedChanges();
+                }
+            } else {
+                // the UI thread did not process the last dispatch yet, keep
+                // collecting
+                backPressure = true;
+            }
+        }
+
+        long interval = this.currentInterval;
+        if (backPressure) {
+            interval = interval * 2;
+        } else {
+            interval = Math.max(interval / 2, 2 * this.lastDispatchDuration);
+        }
+        this.currentInterval = Math.min(Math.max(interval, this.minInterval), this.maxInterval);
+
+        synchronized (this.scheduleLock) {
+            if (!this.terminated && this.adaptive) {
+                this.future = scheduler.schedule(this::adaptiveTick, this.currentInterval);
+            }
+        }
+    }
+
+    /**
+     * Fires the events for the changes collected in adaptive mode. Needs to be
+     * called in the UI thread. The events are created while holding the read
+     * lock of the {@link EventList}, so they reflect a consistent list state.
+     * The lock is released before the events are fired, as listeners might
+     * need to acquire the write lock or wait for threads that do.
+     */
+    private void dispatchConflatedChanges() {
+        long start = System.currentTimeMillis();
+        try {
+            List<ILayerEvent> events;
+            this.eventList.getReadWriteLock().readLock().lock();
+            try {
+                events = this.conflater.drainEvents(getUnderlyingLayer());
+            } finally {
+                this.eventList.getReadWriteLock().readLock().unlock();
+            }
+
+            for (ILayerEvent event : events) {
+                this.dispatchedEventCount.incrementAndGet();
+                fireLayerEvent(event);
+            }
+        } finally {
+            this.lastDispatchDuration = System.currentTimeMillis() - start;
+            this.dispatchPending.set(false);
+        }
+    }
+
     /**
      * Fires the given {@link ILayerEvent} on the SWT Display thread in case
      * {@link #testMode} is <code>false</code>. Needed because the GlazedLists
@@ -144,8 +293,10 @@ protected void fireEventFromSWTDisplayThread(final ILayerEvent event) {
     @Override
     public boolean doCommand(ILayerCommand command) {
         if (!this.terminated && command instanceof DisposeResourcesCommand) {
-            this.terminated = true;
-            scheduler.unschedule(this.future);
+            synchronized (this.scheduleLock) {
+                this.terminated = true;
+                scheduler.unschedule(this.future);
+            }
         }
         return super.doCommand(command);
     }
@@ -234,6 +385,139 @@ public boolean isActive() {
     public void discardEventsToProcess() {
         this.eventsToProcess = false;
         this.structuralChangeEventsToProcess = false;
+        this.conflater.clear();
+    }
+
+    /**
+     * Enables or disables the adaptive event handling. By default the adaptive
+     * event handling is disabled and a {@link RowStructuralRefreshEvent} or
+     * {@link VisualRefreshEvent} is fired every 100ms if there were changes.
+     * <p>
+     * If the adaptive event handling is enabled, the GlazedLists events are
+     * conflated into precise {@link RowDeleteEvent}s, {@link RowInsertEvent}s
+     * and {@link RowUpdateEvent}s. If more rows are inserted or deleted than
+     * configured via {@link #setMaxConflatedStructuralChanges(int)} a
+     * {@link RowStructuralRefreshEvent} is fired instead. A new dispatch to
+     * the UI thread is only triggered if the previous one was processed, so
+     * changes are collected while the UI thread is behind. The interval is
+     * adjusted between the configured minimum and maximum interval, it is
+     * increased while the UI thread is behind and decreased otherwise.
+     * </p>
+     *
+     * @param adaptive
+     *            <code>true</code> to enable the adaptive event handling,
+     *            <code>false</code> to use the fixed interval refresh.
+     * @see #setAdaptiveIntervalBounds(long, long)
+     * @since 2.1
+     */
+    public void setAdaptiveEventHandling(boolean adaptive) {
+        synchronized (this.scheduleLock) {
+            if (this.terminated || this.adaptive == adaptive) {
+                return;
+            }
+
+            scheduler.unschedule(this.future);
+            this.adaptive = adaptive;
+            if (adaptive) {
+                if (this.eventsToProcess) {
+                    // the details of already received changes are unknown
+                    this.conflater.markFullRefresh();
+                    this.eventsToProcess = false;
+                    this.structuralChangeEventsToProcess = false;
+                }
+                this.currentInterval = this.minInterval;
+                this.future = scheduler.schedule(this::adaptiveTick, 0L);
+            } else {
+                if (this.conflater.hasChanges()) {
+                    this.conflater.clear();
+                    this.eventsToProcess = true;
+                    this.structuralChangeEventsToProcess = true;
+                }
+                this.future = scheduler.scheduleAtFixedRate(getEventNotifier(), 0L, 100L);
+            }
+        }
+    }
+
+    /**
+     * @return <code>true</code> if the adaptive event handling is enabled,
+     *         <code>false</code> if the fixed interval refresh is used.
+     * @since 2.1
+     */
+    public boolean isAdaptiveEventHandling() {
+        return this.adaptive;
+    }
+
+    /**
+     * Configure the interval bounds used in adaptive mode. Default is
+     * {@value #DEFAULT_MIN_INTERVAL} to {@value #DEFAULT_MAX_INTERVAL}
+     * milliseconds.
+     *
+     * @param minInterval
+     *            The minimum interval in milliseconds, which is used if the UI
+     *            thread processes the events fast enough.
+     * @param maxInterval
+     *            The maximum interval in milliseconds, which is used if the UI
+     *            thread is behind.
+     * @since 2.1
+     */
+    public void setAdaptiveIntervalBounds(long minInterval, long maxInterval) {
+        if (minInterval <= 0 || maxInterval < minInterval) {
+            throw new IllegalArgumentException("invalid interval bounds"); //$NON-NLS-1$
+        }
+        this.minInterval = minInterval;
+        this.maxInterval = maxInterval;
+    }
+
+    /**
+     * @return The interval in milliseconds that is currently used in adaptive
+     *         mode.
+     * @since 2.1
+     */
+    public long getCurrentInterval() {
+        return this.currentInterval;
+    }
+
+    /**
+     * Configure the maximum number of inserted and deleted rows that are
+     * conflated into detailed events in adaptive mode. If more rows are
+     * inserted or deleted within one dispatch interval, a
+     * {@link RowStructuralRefreshEvent} is fired instead. Default is
+     * {@value #DEFAULT_MAX_STRUCTURAL_CHANGES}.
+     *
+     * @param maxStructuralChanges
+     *            The maximum number of inserted and deleted rows to conflate.
+     * @since 2.1
+     */
+    public void setMaxConflatedStructuralChanges(int maxStructuralChanges) {
+        this.conflater.setMaxStructuralChanges(maxStructuralChanges);
+    }
+
+    /**
+     * @return The number of GlazedLists {@link ListEvent}s received by this
+     *         layer.
+     * @since 2.1
+     */
+    public long getReceivedEventCount() {
+        return this.receivedEventCount.get();
+    }
+
+    /**
+     * @return The number of received GlazedLists {@link ListEvent}s that were
+     *         conflated with previously received events that were not
+     *         dispatched yet.
+     * @since 2.1
+     */
+    public long getConflatedEventCount() {
+        return this.conflatedEventCount.get();
+    }
+
+    /**
+     * @return The number of NatTable events fired by this layer for received
+     *         GlazedLists {@link ListEvent}s.
+     * @since 2.1
+     */
+    public long getDispatchedEventCount() {
+        return this.dispatchedEventCount.get();
     }
 
     // Columns
@@ -0,0 +1,331 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.extension.glazedlists;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.collections.api.list.primitive.MutableIntList;
+import org.eclipse.collections.api.set.primitive.MutableIntSet;
+import org.eclipse.collections.impl.factory.primitive.IntLists;
+import org.eclipse.collections.impl.factory.primitive.IntSets;
+import org.eclipse.nebula.widgets.nattable.coordinate.PositionUtil;
+import org.eclipse.nebula.widgets.nattable.coordinate.Range;
+import org.eclipse.nebula.widgets.nattable.layer.ILayer;
+import org.eclipse.nebula.widgets.nattable.layer.event.ILayerEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.RowDeleteEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.RowInsertEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.RowStructuralRefreshEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.RowUpdateEvent;
+
+import ca.odell.glazedlists.event.ListEvent;
+
+/**
+ * Collects the changes of multiple GlazedLists {@link ListEvent}s and
+ * conflates them into a minimal sequence of NatTable events. Consecutive
+ * deletes and consecutive inserts are merged into a single
+ * {@link RowDeleteEvent} or {@link RowInsertEvent} by transforming the row
+ * indexes accordingly. Updates are collected as a set of row indexes in the
+ * latest list state and are fired as one {@link RowUpdateEvent} after the
+ * structural changes. If more structural changes than configured are
+ * collected, the details are dropped and a single
+ * {@link RowStructuralRefreshEvent} is fired instead.
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ *
+ * @param <T>
+ *            Type of the bean in the backing list.
+ * @see GlazedListsEventLayer#setAdaptiveEventHandling(boolean)
+ */
+class RowChangeConflater<T> {
+
+    /**
+     * The collected structural changes in the order they need to be fired.
+     * Two consecutive changes never have the same type.
+     */
+    private final List<StructuralChange> structuralChanges = new ArrayList<>();
+
+    /**
+     * The updated row indexes, related to the latest list state.
+     */
+    private MutableIntSet updates = IntSets.mutable.empty();
+
+    /**
+     * The number of collected structural changed row indexes.
+     */
+    private int structuralChangeCount;
+
+    /**
+     * The maximum number of structural changed row indexes that are collected
+     * before falling back to a full refresh.
+     */
+    private int maxStructuralChanges;
+
+    /**
+     * Flag to indicate that the details are dropped and a full refresh needs
+     * to be fired.
+     */
+    private boolean fullRefresh;
+
+    /**
+     * The number of {@link ListEvent}s that were added since the last
+     * {@link #drainEvents(ILayer)}.
+     */
+    private int listEventCount;
+
+    /**
+     *
+     * @param maxStructuralChanges
+     *            The maximum number of structural changed row indexes that are
+     *            collected before falling back to a full refresh.
+     */
+    RowChangeConflater(int maxStructuralChanges) {
+        this.maxStructuralChanges = maxStructuralChanges;
+    }
+
+    /**
+     * @param maxStructuralChanges
+     *            The maximum number of structural changed row indexes that are
+     *            collected before falling back to a full refresh.
+     */
+    synchronized void setMaxStructuralChanges(int maxStructuralChanges) {
+        this.maxStructuralChanges = maxStructuralChanges;
+    }
+
+    /**
+     * Adds the changes of the given {@link ListEvent}. The event is iterated
+     * completely, so it can not be processed afterwards anymore.
+     *
+     * @param event
+     *            The {@link ListEvent} to add.
+     * @return <code>true</code> if the event was conflated with already
+     *         collected changes, <code>false</code> if it is the first event
+     *         since the last {@link #drainEvents(ILayer)}.
+     */
+    synchronized boolean addListEvent(ListEvent<T> event) {
+        boolean conflated = this.listEventCount > 0;
+        this.listEventCount++;
+
+        int currentEventType = -1;
+        // as the delete events in GlazedLists are containing indexes that are
+        // related to prior deletes of the same block, we need to transform
+        // them to the list state before the block, like it is done in the
+        // DetailGlazedListsEventLayer
+        int deleteCount = 0;
+        MutableIntList indexes = IntLists.mutable.empty();
+        while (event.next()) {
+            int eventType = event.getType();
+            if (currentEventType != eventType) {
+                addChanges(currentEventType, indexes.toArray());
+                indexes.clear();
+                deleteCount = 0;
+                currentEventType = eventType;
+            }
+
+            if (eventType == ListEvent.DELETE) {
+                indexes.add(event.getIndex() + deleteCount);
+                deleteCount++;
+            } else {
+                indexes.add(event.getIndex());
+            }
+        }
+        addChanges(currentEventType, indexes.toArray());
+
+        return conflated;
+    }
+
+    /**
+     * Marks that a full refresh is needed, e.g. because the changes could not
+     * be tracked.
+     */
+    synchronized void markFullRefresh() {
+        this.listEventCount++;
+        dropDetails();
+    }
+
+    /**
+     * @return <code>true</code> if there are collected changes that need to be
+     *         fired.
+     */
+    synchronized boolean hasChanges() {
+        return this.listEventCount > 0;
+    }
+
+    /**
+     * Discards all collected changes.
+     */
+    synchronized void clear() {
+        this.structuralChanges.clear();
+        this.updates = IntSets.mutable.empty();
+        this.structuralChangeCount = 0;
+        this.fullRefresh = false;
+        this.listEventCount = 0;
+    }
+
+    /**
+     * Creates the NatTable events for the collected changes and resets this
+     * conflater.
+     *
+     * @param layer
+     *            The layer that should be set as source of the created events.
+     * @return The events to fire in the given order.
+     */
+    synchronized List<ILayerEvent> drainEvents(ILayer layer) {
+        List<ILayerEvent> events = new ArrayList<>();
+        if (this.fullRefresh) {
+            events.add(new RowStructuralRefreshEvent(layer));
+        } else {
+            for (StructuralChange change : this.structuralChanges) {
+                List<Range> ranges = PositionUtil.getRanges(change.indexes);
+                if (change.type == ListEvent.DELETE) {
+                    events.add(new RowDeleteEvent(layer, ranges));
+                } else {
+                    events.add(new RowInsertEvent(layer, ranges));
+                }
+            }
+            if (!this.updates.isEmpty()) {
+                events.add(new RowUpdateEvent(layer, new Range(this.updates.min(), this.updates.max() + 1)));
+            }
+        }
+        clear();
+        return events;
+    }
+
+    private void addChanges(int eventType, int[] indexes) {
+        if (indexes.length == 0 || this.fullRefresh) {
+            return;
+        }
+
+        if (eventType == ListEvent.UPDATE) {
+            this.updates.addAll(indexes);
+            return;
+        }
+
+        this.structuralChangeCount += indexes.length;
+        if (this.structuralChangeCount > this.maxStructuralChanges) {
+            dropDetails();
+            return;
+        }
+
+        StructuralChange last = this.structuralChanges.isEmpty()
+                ? null
+                : this.structuralChanges.get(this.structuralChanges.size() - 1);
+
+        if (eventType == ListEvent.DELETE) {
+            this.updates = removeDeleted(this.updates, indexes);
+            if (last != null && last.type == ListEvent.DELETE) {
+                // the new indexes are related to the state after the last
+                // deletes, transform them to the state before
+                last.indexes = union(last.indexes, shift(indexes, last.indexes));
+                return;
+            }
+        } else {
+            this.updates = IntSets.mutable.with(shift(this.updates.toSortedArray(), indexes));
+            if (last != null && last.type == ListEvent.INSERT) {
+                // the last inserted indexes are shifted by the new inserts
+                last.indexes = union(shift(last.indexes, indexes), indexes);
+                return;
+            }
+        }
+        this.structuralChanges.add(new StructuralChange(eventType, indexes));
+    }
+
+    private void dropDetails() {
+        this.fullRefresh = true;
+        this.structuralChanges.clear();
+        this.updates = IntSets.mutable.empty();
+    }
+
+    /**
+     * Transforms the given sorted indexes by the given sorted shift indexes.
+     * Every index is increased by the number of shift indexes that are placed
+     * before it in the transformed state. Used to transform indexes by
+     * inserted indexes, and to transform indexes after deletes to the state
+     * before the deletes.
+     *
+     * @param indexes
+     *            The sorted indexes to transform.
+     * @param shiftIndexes
+     *            The sorted indexes that cause the shift.
+     * @return The transformed indexes.
+     */
+    static int[] shift(int[] indexes, int[] shiftIndexes) {
+        int[] result = new int[indexes.length];
+        int shift = 0;
+        for (int i = 0; i < indexes.length; i++) {
+            while (shift < shiftIndexes.length && shiftIndexes[shift] <= indexes[i] + shift) {
+                shift++;
+            }
+            result[i] = indexes[i] + shift;
+        }
+        return result;
+    }
+
+    /**
+     * @return The sorted union of the given sorted indexes.
+     */
+    static int[] union(int[] first, int[] second) {
+        MutableIntList result = IntLists.mutable.empty();
+        int i = 0;
+        int j = 0;
+        while (i < first.length || j < second.length) {
+            int value;
+            if (j >= second.length || (i < first.length && first[i] < second[j])) {
+                value = first[i++];
+            } else {
+                value = second[j++];
+            }
+            if (result.isEmpty() || result.getLast() != value) {
+                result.add(value);
+            }
+        }
+        return result.toArray();
+    }
+
+    /**
+     * Removes the deleted indexes from the given updates and decreases the
+     * remaining indexes by the number of deleted indexes before them.
+     */
+    private static MutableIntSet removeDeleted(MutableIntSet updates, int[] deleted) {
+        MutableIntSet result = IntSets.mutable.empty();
+        updates.forEach(index -> {
+            int pos = Arrays.binarySearch(deleted, index);
+            if (pos < 0) {
+                result.add(index - (-pos - 1));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * A collected structural change.
+     */
+    private static final class StructuralChange {
+
+        private final int type;
+
+        /**
+         * The sorted changed row indexes. For deletes related to the list
+         * state before the deletion, for inserts related to the list state
+         * after the insertion.
+         */
+        private int[] indexes;
+
+        StructuralChange(int type, int[] indexes) {
+            this.type = type;
+            this.indexes = indexes;
+        }
+    }
+}
@@ -45,6 +45,7 @@
 import org.eclipse.nebula.widgets.nattable.layer.cell.ILayerCell;
 import org.eclipse.nebula.widgets.nattable.layer.event.ILayerEvent;
 import org.eclipse.nebula.widgets.nattable.layer.event.IVisualChangeEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.PropertyUpdateEvent;
 import org.eclipse.nebula.widgets.nattable.layer.event.RowStructuralRefreshEvent;
 import org.eclipse.nebula.widgets.nattable.sort.ISortModel;
 import org.eclipse.nebula.widgets.nattable.sort.SortDirectionEnum;
@@ -141,6 +142,14 @@
 
     private final Map<GroupByObject, List<T>> itemsByGroup = new ConcurrentHashMap<>();
 
+    /**
+     * Index that partitions the elements of the {@link #eventList} by the
+     * grouped column values. <code>null</code> if
+     * {@link #getGroupDescriptorMatcher(GroupByObject, IColumnAccessor)} is
+     * overridden, as the index is not able to apply a custom matcher.
+     */
+    private final GroupByIndex<T> groupByIndex;
+
     /**
      * The internal {@link TreeList.ExpansionModel} that is used by default if
      * no custom one is used. Otherwise <code>null</code>. Needed to cleanup
@@ -457,6 +466,7 @@ public GroupByDataLayer(
 
         this.eventList = eventList;
         this.columnAccessor = columnAccessor;
+        this.groupByIndex = hasCustomGroupDescriptorMatcher() ? null : new GroupByIndex<>(eventList, columnAccessor);
 
         groupByModel.addObserver(this);
 
@@ -751,8 +761,14 @@ public IGroupBySummaryProvider<T> getGroupBySummaryProvider(LabelStack labelStac
         return null;
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public void handleLayerEvent(ILayerEvent event) {
+        if (event instanceof PropertyUpdateEvent) {
+            // a grouped property might have been changed in place
+            elementChanged(((PropertyUpdateEvent<T>) event).getSourceBean());
+        }
+
         if (event instanceof IVisualChangeEvent) {
             clearCache();
         }
@@ -760,6 +776,37 @@ public void handleLayerEvent(ILayerEvent event) {
         super.handleLayerEvent(event);
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public void setDataValue(int columnIndex, int rowIndex, Object newValue) {
+        super.setDataValue(columnIndex, rowIndex, newValue);
+
+        // the updated property might be grouped
+        Object rowObject = this.treeData.getDataAtIndex(rowIndex);
+        if (!(rowObject instanceof GroupByObject)) {
+            elementChanged((T) rowObject);
+        }
+    }
+
+    /**
+     * Informs this layer that properties of the given element were changed in
+     * place, e.g. on a {@link PropertyUpdateEvent} of the
+     * GlazedListsEventLayer on top of this layer. If a grouped property was
+     * changed, the element is moved to its new group without rebuilding the
+     * index of the group items. Updates via this layer and
+     * {@link PropertyUpdateEvent}s passed to
+     * {@link #handleLayerEvent(ILayerEvent)} are handled automatically.
+     *
+     * @param element
+     *            The element whose properties were changed.
+     * @since 2.1
+     */
+    public void elementChanged(T element) {
+        if (this.groupByIndex != null && element != null) {
+            this.groupByIndex.rekey(element);
+        }
+    }
+
     /**
      * Clear the internal cache to trigger new calculations.
      * <p>
@@ -785,7 +832,10 @@ public void clearCache() {
      * <p>
      * Usually it is not necessary to call this method manually. But for certain
      * use cases it might be useful, e.g. changing the summary provider
-     * implementation at runtime.
+     * implementation at runtime. It also rebuilds the index of the group
+     * items, which is necessary if grouped properties were changed in place
+     * without a list event, a {@link PropertyUpdateEvent} or an update via
+     * this layer.
      *
      * @see CalculatedValueCache#killCache()
      */
@@ -796,6 +846,11 @@ public void killCache() {
         // clear the local cached items to re-calculate with the correct
         // children
         this.itemsByGroup.clear();
+        // bean properties might have been changed in place without any
+        // notification, so the group partitions need to be rebuilt
+        if (this.groupByIndex != null) {
+            this.groupByIndex.clear();
+        }
     }
 
     @Override
@@ -830,6 +885,9 @@ public boolean doCommand(ILayerCommand command) {
             this.treeFormat.clearComparatorCache();
             this.valueCache.killCache();
             this.valueCache.dispose();
+            if (this.groupByIndex != null) {
+                this.groupByIndex.dispose();
+            }
         }
 
         return super.doCommand(command);
@@ -921,6 +979,15 @@ public void cleanupCollapsed(Collection<Object> groupByObjects) {
      * <p>
      * Note: This method returns a new list and is therefore thread safe.
      * </p>
+     * <p>
+     * The items are taken from an index that partitions the underlying list
+     * once and is updated from the list changes, so retrieving the items of
+     * all groups does not need to iterate the whole list per group. Grouped
+     * properties that are changed in place are tracked if they are updated via
+     * this layer or notified via a list update or a
+     * {@link PropertyUpdateEvent}. Otherwise {@link #killCache()} needs to be
+     * called to rebuild the index.
+     * </p>
      *
      * @param group
      *            The {@link GroupByObject} for which the children should be
@@ -935,6 +1002,9 @@ public List<T> getItemsInGroup(GroupByObject group) {
 
             this.eventList.getReadWriteLock().readLock().lock();
             try {
+                if (this.groupByIndex != null) {
+                    return this.groupByIndex.getItemsInGroup(g);
+                }
                 FilterList<T> filterList = new FilterList<>(this.eventList, getGroupDescriptorMatcher(g, this.columnAccessor));
                 return new ArrayList<>(filterList);
             } finally {
@@ -960,6 +1030,26 @@ protected Matcher<T> getGroupDescriptorMatcher(GroupByObject group, IColumnAcces
         return new GroupDescriptorMatcher<>(group, columnAccessor);
     }
 
+    /**
+     * Checks if {@link #getGroupDescriptorMatcher(GroupByObject, IColumnAccessor)}
+     * is overridden in a subclass. In that case the group index can not be
+     * used, as it is not able to apply the custom matching logic.
+     *
+     * @return <code>true</code> if a subclass overrides
+     *         {@link #getGroupDescriptorMatcher(GroupByObject, IColumnAccessor)}.
+     */
+    private boolean hasCustomGroupDescriptorMatcher() {
+        for (Class<?> type = getClass(); type != GroupByDataLayer.class; type = type.getSuperclass()) {
+            try {
+                type.getDeclaredMethod("getGroupDescriptorMatcher", GroupByObject.class, IColumnAccessor.class); //$NON-NLS-1$
+                return true;
+            } catch (NoSuchMethodException e) {
+                // not overridden in this class
+            }
+        }
+        return false;
+    }
+
     /**
      * To find out if an element is part of a group
      */
@@ -0,0 +1,358 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.extension.glazedlists.groupBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.nebula.widgets.nattable.data.IColumnAccessor;
+
+import ca.odell.glazedlists.EventList;
+import ca.odell.glazedlists.event.ListEvent;
+import ca.odell.glazedlists.event.ListEventListener;
+
+/**
+ * Index that partitions the elements of an {@link EventList} by the values of
+ * the grouped columns. A partition is created lazily for every combination of
+ * column indexes that is requested via {@link GroupByObject} descriptors in a
+ * single pass over the list. Afterwards the partitions are updated from the
+ * list events. Inserted and updated elements are placed next to the nearest
+ * element of the same group in the list, so the order of the elements in a
+ * group always matches the order in the list. Reorderings and large changes
+ * discard the partitions, so they are created again on the next request.
+ * <p>
+ * The index keeps a copy of the list in the state the partitions reflect, to
+ * identify deleted and updated elements by their index, and the group key of
+ * every element, so an element whose grouped values were changed in place can
+ * be moved to its new group via {@link #rekey(Object)} or an update event.
+ * </p>
+ * <p>
+ * Callers need to hold the read lock of the {@link EventList} when requesting
+ * the elements of a group.
+ * </p>
+ *
+ * @param <T>
+ *            The type of the elements in the list.
+ */
+class GroupByIndex<T> implements ListEventListener<T> {
+
+    /**
+     * The maximum number of changes in a single list event that are applied
+     * incrementally. Larger changes discard the partitions.
+     */
+    static final int MAX_INCREMENTAL_CHANGES = 256;
+
+    private final EventList<T> eventList;
+    private final IColumnAccessor<T> columnAccessor;
+
+    /**
+     * The partitions per combination of column indexes.
+     */
+    private final Map<List<Integer>, Partition<T>> partitions = new HashMap<>();
+
+    /**
+     * The elements of the list in the state that is reflected by the
+     * partitions. Only filled while partitions exist.
+     */
+    private final List<T> elements = new ArrayList<>();
+
+    GroupByIndex(EventList<T> eventList, IColumnAccessor<T> columnAccessor) {
+        this.eventList = eventList;
+        this.columnAccessor = columnAccessor;
+        this.eventList.addListEventListener(this);
+    }
+
+    /**
+     * @param group
+     *            The {@link GroupByObject} whose elements are requested.
+     * @return A new list that contains the elements of the list whose column
+     *         values match the descriptor of the given group.
+     */
+    synchronized List<T> getItemsInGroup(GroupByObject group) {
+        List<Integer> columnIndexes = new ArrayList<>(group.getDescriptor().keySet());
+        Partition<T> partition = this.partitions.get(columnIndexes);
+        if (partition == null) {
+            partition = createPartition(columnIndexes);
+            this.partitions.put(columnIndexes, partition);
+        }
+        List<T> items = partition.groups.get(new ArrayList<>(group.getDescriptor().values()));
+        return (items != null) ? new ArrayList<>(items) : new ArrayList<>();
+    }
+
+    private Partition<T> createPartition(List<Integer> columnIndexes) {
+        if (this.partitions.isEmpty()) {
+            this.elements.clear();
+            this.elements.addAll(this.eventList);
+        }
+
+        Partition<T> partition = new Partition<>(columnIndexes);
+        for (T element : this.elements) {
+            List<Object> key = getKey(element, columnIndexes);
+            partition.groups.computeIfAbsent(key, k -> new ArrayList<>()).add(element);
+            partition.keys.put(element, key);
+        }
+        return partition;
+    }
+
+    private List<Object> getKey(T element, List<Integer> columnIndexes) {
+        Object[] values = new Object[columnIndexes.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = this.columnAccessor.getDataValue(element, columnIndexes.get(i));
+        }
+        return Arrays.asList(values);
+    }
+
+    @Override
+    public synchronized void listChanged(ListEvent<T> listChanges) {
+        if (this.partitions.isEmpty()) {
+            return;
+        }
+
+        if (listChanges.isReordering()
+                || !applyChanges(listChanges)
+                || this.elements.size() != listChanges.getSourceList().size()) {
+            clear();
+        }
+        listChanges.reset();
+    }
+
+    /**
+     * Applies the given list changes to the partitions.
+     *
+     * @return <code>false</code> if the changes could not be applied
+     *         incrementally and the partitions need to be discarded.
+     */
+    private boolean applyChanges(ListEvent<T> listChanges) {
+        int changes = 0;
+        while (listChanges.next()) {
+            if (++changes > MAX_INCREMENTAL_CHANGES) {
+                return false;
+            }
+        }
+        listChanges.reset();
+
+        // the indexes of the changes are in increasing order and relative to
+        // the list with all previous changes applied, which is the state of
+        // the local copy of the elements
+        EventList<T> sourceList = listChanges.getSourceList();
+        while (listChanges.next()) {
+            int type = listChanges.getType();
+            int index = listChanges.getIndex();
+            if (type == ListEvent.INSERT) {
+                T element = sourceList.get(index);
+                this.elements.add(index, element);
+                for (Partition<T> partition : this.partitions.values()) {
+                    insert(partition, element, getKey(element, partition.columnIndexes), index);
+                }
+            } else if (type == ListEvent.DELETE) {
+                T element = this.elements.remove(index);
+                for (Partition<T> partition : this.partitions.values()) {
+                    if (!remove(partition, element)) {
+                        return false;
+                    }
+                }
+            } else {
+                T element = sourceList.get(index);
+                T oldElement = this.elements.set(index, element);
+                for (Partition<T> partition : this.partitions.values()) {
+                    if (!update(partition, oldElement, element, index)) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Moves the given element to the groups that match its current column
+     * values, e.g. after a grouped property was changed in place without a
+     * list event.
+     *
+     * @param element
+     *            The element whose column values were changed.
+     */
+    synchronized void rekey(T element) {
+        int index = -1;
+        for (Partition<T> partition : this.partitions.values()) {
+            List<Object> oldKey = partition.keys.get(element);
+            if (oldKey == null) {
+                // not part of the list
+                return;
+            }
+            List<Object> newKey = getKey(element, partition.columnIndexes);
+            if (!oldKey.equals(newKey)) {
+                if (index < 0) {
+                    index = indexOfIdentity(this.elements, element);
+                }
+                remove(partition, element);
+                insert(partition, element, newKey, index);
+            }
+        }
+    }
+
+    /**
+     * Adds the given element at the given list index to the group of the given
+     * key.
+     */
+    private void insert(Partition<T> partition, T element, List<Object> key, int index) {
+        List<T> items = partition.groups.computeIfAbsent(key, k -> new ArrayList<>());
+        items.add(getPositionInGroup(partition, items, key, index), element);
+        partition.keys.put(element, key);
+    }
+
+    /**
+     * Removes the given element from its group.
+     *
+     * @return <code>false</code> if the element was not found in its group.
+     */
+    private boolean remove(Partition<T> partition, T element) {
+        List<Object> key = partition.keys.get(element);
+        List<T> items = (key != null) ? partition.groups.get(key) : null;
+        int position = (items != null) ? indexOfIdentity(items, element) : -1;
+        if (position < 0) {
+            return false;
+        }
+        items.remove(position);
+        if (items.isEmpty()) {
+            partition.groups.remove(key);
+        }
+        if (indexOfIdentity(items, element) < 0) {
+            // the same element might be contained multiple times
+            partition.keys.remove(element);
+        }
+        return true;
+    }
+
+    /**
+     * Replaces the old element at the given list index with the new element.
+     * The old element is identified by the key it was added with, so updates
+     * of grouped properties that were performed in place move the element to
+     * its new group.
+     *
+     * @return <code>false</code> if the old element was not found in its
+     *         group.
+     */
+    private boolean update(Partition<T> partition, T oldElement, T newElement, int index) {
+        List<Object> oldKey = partition.keys.get(oldElement);
+        List<Object> newKey = getKey(newElement, partition.columnIndexes);
+        if (oldKey != null && oldKey.equals(newKey)) {
+            List<T> items = partition.groups.get(oldKey);
+            int position = indexOfIdentity(items, oldElement);
+            if (position < 0) {
+                return false;
+            }
+            items.set(position, newElement);
+            if (oldElement != newElement && indexOfIdentity(items, oldElement) < 0) {
+                partition.keys.remove(oldElement);
+            }
+            partition.keys.put(newElement, newKey);
+            return true;
+        }
+
+        if (!remove(partition, oldElement)) {
+            return false;
+        }
+        insert(partition, newElement, newKey, index);
+        return true;
+    }
+
+    /**
+     * Determines the position in the given group for an element at the given
+     * list index, by searching the nearest element of the same group in the
+     * local copy of the list.
+     */
+    private int getPositionInGroup(Partition<T> partition, List<T> items, List<Object> key, int index) {
+        if (items.isEmpty()) {
+            return 0;
+        }
+
+        for (int distance = 1;; distance++) {
+            int before = index - distance;
+            int after = index + distance;
+            if (before < 0 && after >= this.elements.size()) {
+                return items.size();
+            }
+            if (before >= 0) {
+                T element = this.elements.get(before);
+                if (key.equals(partition.keys.get(element))) {
+                    int position = indexOfIdentity(items, element);
+                    if (position >= 0) {
+                        return position + 1;
+                    }
+                }
+            }
+            if (after < this.elements.size()) {
+                T element = this.elements.get(after);
+                if (key.equals(partition.keys.get(element))) {
+                    int position = indexOfIdentity(items, element);
+                    if (position >= 0) {
+                        return position;
+                    }
+                }
+            }
+        }
+    }
+
+    private static <T> int indexOfIdentity(List<T> items, T element) {
+        for (int i = 0; i < items.size(); i++) {
+            if (items.get(i) == element) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Discards all partitions.
+     */
+    synchronized void clear() {
+        this.partitions.clear();
+        this.elements.clear();
+    }
+
+    /**
+     * Removes this index from the list listeners.
+     */
+    void dispose() {
+        this.eventList.removeListEventListener(this);
+        clear();
+    }
+
+    /**
+     * The groups of the elements for one combination of column indexes.
+     */
+    private static class Partition<T> {
+
+        final List<Integer> columnIndexes;
+
+        /**
+         * The elements per column values, in the order of the list.
+         */
+        final Map<List<Object>, List<T>> groups = new HashMap<>();
+
+        /**
+         * The column values every element was grouped by.
+         */
+        final Map<T, List<Object>> keys = new IdentityHashMap<>();
+
+        Partition(List<Integer> columnIndexes) {
+            this.columnIndexes = columnIndexes;
+        }
+    }
+
+}
@@ -0,0 +1,173 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.extension.poi;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Date;
+import java.util.GregorianCalendar;
+
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.eclipse.nebula.widgets.nattable.config.CellConfigAttributes;
+import org.eclipse.nebula.widgets.nattable.config.ConfigRegistry;
+import org.eclipse.nebula.widgets.nattable.config.DefaultNatTableStyleConfiguration;
+import org.eclipse.nebula.widgets.nattable.config.IConfigRegistry;
+import org.eclipse.nebula.widgets.nattable.data.IDataProvider;
+import org.eclipse.nebula.widgets.nattable.export.ExportConfigAttributes;
+import org.eclipse.nebula.widgets.nattable.layer.DataLayer;
+import org.eclipse.nebula.widgets.nattable.layer.cell.ILayerCell;
+import org.eclipse.nebula.widgets.nattable.style.CellStyleAttributes;
+import org.eclipse.nebula.widgets.nattable.style.DisplayMode;
+import org.eclipse.nebula.widgets.nattable.style.Style;
+import org.eclipse.nebula.widgets.nattable.util.GUIHelper;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PoiExcelExporterTest {
+
+    private static final int ROW_COUNT = 20;
+    private static final String DATE_FORMAT = "yyyy-mm-dd";
+    private static final String ROW_LABEL_PREFIX = "ROW_";
+
+    private DataLayer dataLayer;
+    private IConfigRegistry configRegistry;
+
+    private int initialCellStyles;
+    private int initialFonts;
+
+    @Before
+    public void setup() throws IOException {
+        this.dataLayer = new DataLayer(new IDataProvider() {
+
+            @Override
+            public Object getDataValue(int columnIndex, int rowIndex) {
+                return (columnIndex == 0) ? getDate(rowIndex) : "Row " + rowIndex;
+            }
+
+            @Override
+            public void setDataValue(int columnIndex, int rowIndex, Object newValue) {
+                // read-only
+            }
+
+            @Override
+            public int getColumnCount() {
+                return 2;
+            }
+
+            @Override
+            public int getRowCount() {
+                return ROW_COUNT;
+            }
+        });
+        // every row gets its own background color and therefore its own cell
+        // styles
+        this.dataLayer.setConfigLabelAccumulator(
+                (configLabels, columnPosition, rowPosition) -> configLabels.add(ROW_LABEL_PREFIX + rowPosition));
+
+        this.configRegistry = new ConfigRegistry();
+        new DefaultNatTableStyleConfiguration().configureRegistry(this.configRegistry);
+        this.configRegistry.registerConfigAttribute(ExportConfigAttributes.DATE_FORMAT, DATE_FORMAT);
+        for (int row = 0; row < ROW_COUNT; row++) {
+            Style style = new Style();
+            style.setAttributeValue(CellStyleAttributes.BACKGROUND_COLOR, GUIHelper.getColor(row * 10, 255 - row * 10, 0));
+            this.configRegistry.registerConfigAttribute(
+                    CellConfigAttributes.CELL_STYLE,
+                    style,
+                    DisplayMode.NORMAL,
+                    ROW_LABEL_PREFIX + row);
+        }
+
+        try (Workbook workbook = new HSSFWorkbook()) {
+            this.initialCellStyles = workbook.getNumCellStyles();
+            this.initialFonts = workbook.getNumberOfFontsAsInt();
+        }
+    }
+
+    private static Date getDate(int rowIndex) {
+        return new GregorianCalendar(2020, 0, rowIndex + 1).getTime();
+    }
+
+    private Workbook export(PoiExcelExporter exporter) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        exporter.exportBegin(outputStream);
+        exporter.exportLayerBegin(outputStream, "Test");
+        for (int row = 0; row < this.dataLayer.getRowCount(); row++) {
+            exporter.exportRowBegin(outputStream, row);
+            for (int column = 0; column < this.dataLayer.getColumnCount(); column++) {
+                ILayerCell cell = this.dataLayer.getCellByPosition(column, row);
+                exporter.exportCell(outputStream, cell.getDataValue(), cell, this.configRegistry);
+            }
+            exporter.exportRowEnd(outputStream, row);
+        }
+        exporter.exportLayerEnd(outputStream, "Test");
+        exporter.exportEnd(outputStream);
+
+        return new HSSFWorkbook(new ByteArrayInputStream(outputStream.toByteArray()));
+    }
+
+    @Test
+    public void shouldCreateCellStylePerStyleAttributes() throws IOException {
+        try (Workbook workbook = export(new HSSFExcelExporter(null))) {
+            assertEquals(this.initialCellStyles + 2 * ROW_COUNT, workbook.getNumCellStyles());
+
+            Sheet sheet = workbook.getSheetAt(0);
+            for (int row = 0; row < ROW_COUNT; row++) {
+                Cell cell = sheet.getRow(row).getCell(0);
+                assertEquals(DATE_FORMAT, cell.getCellStyle().getDataFormatString());
+                assertEquals(getDate(row), cell.getDateCellValue());
+            }
+        }
+    }
+
+    @Test
+    public void shouldKeepDataFormatIfCellStylePoolIsExhausted() throws IOException {
+        HSSFExcelExporter exporter = new HSSFExcelExporter(null);
+        exporter.setMaxCellStyles(5);
+
+        try (Workbook workbook = export(exporter)) {
+            // 5 pooled cell styles and one fallback cell style for the date
+            // format and one for cells without data format
+            assertEquals(this.initialCellStyles + 5 + 2, workbook.getNumCellStyles());
+
+            Sheet sheet = workbook.getSheetAt(0);
+            for (int row = 0; row < ROW_COUNT; row++) {
+                Cell dateCell = sheet.getRow(row).getCell(0);
+                assertEquals(DATE_FORMAT, dateCell.getCellStyle().getDataFormatString());
+                assertEquals(getDate(row), dateCell.getDateCellValue());
+                assertEquals("Row " + row, sheet.getRow(row).getCell(1).getStringCellValue());
+            }
+        }
+    }
+
+    @Test
+    public void shouldShareFontsBetweenCellStyles() throws IOException {
+        try (Workbook workbook = export(new HSSFExcelExporter(null))) {
+            // all cells use the same font and foreground color
+            assertEquals(this.initialFonts + 1, workbook.getNumberOfFontsAsInt());
+
+            Sheet sheet = workbook.getSheetAt(0);
+            int fontIndex = sheet.getRow(0).getCell(0).getCellStyle().getFontIndexAsInt();
+            for (int row = 0; row < ROW_COUNT; row++) {
+                for (int column = 0; column < 2; column++) {
+                    assertEquals(fontIndex, sheet.getRow(row).getCell(column).getCellStyle().getFontIndexAsInt());
+                }
+            }
+        }
+    }
+}
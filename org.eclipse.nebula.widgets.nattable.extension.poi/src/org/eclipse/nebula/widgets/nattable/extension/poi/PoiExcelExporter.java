@@ -18,13 +18,16 @@
 import java.io.OutputStream;
 import java.text.NumberFormat;
 import java.text.ParseException;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.apache.poi.ss.SpreadsheetVersion;
 import org.apache.poi.ss.usermodel.BorderStyle;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellStyle;
@@ -69,9 +72,23 @@ public abstract class PoiExcelExporter implements ILayerExporter {
 
     private static final Logger LOG = LoggerFactory.getLogger(PoiExcelExporter.class);
 
+    /**
+     * The number of cell styles that are kept free in the workbook for the
+     * fallback styles that are used once the cell style pool is exhausted.
+     */
+    private static final int FALLBACK_CELL_STYLES = 16;
+
     private final IOutputStreamProvider outputStreamProvider;
 
     private Map<ExcelCellStyleAttributes, CellStyle> xlCellStyles;
+    private Map<List<Object>, Font> xlFonts;
+    private Map<String, CellStyle> xlFallbackCellStyles;
+    private int cellStylePoolSize;
+    private int maxCellStyles = Integer.MAX_VALUE;
+
+    private long exportStartTime;
+    private int exportedRowCount;
+    private int exportedCellCount;
 
     protected Workbook xlWorkbook;
     protected int sheetNumber;
@@ -110,7 +127,13 @@ public OutputStream getOutputStream(Shell shell) {
     @Override
     public void exportBegin(OutputStream outputStream) throws IOException {
         this.xlCellStyles = new HashMap<>();
+        this.xlFonts = new HashMap<>();
+        this.xlFallbackCellStyles = new HashMap<>();
         this.xlWorkbook = createWorkbook();
+        this.cellStylePoolSize = getCellStylePoolSize(this.xlWorkbook);
+        this.exportStartTime = System.nanoTime();
+        this.exportedRowCount = 0;
+        this.exportedCellCount = 0;
         // the hidden column positions are determined by inspection so
         // it needs to be cleared at the beginning
         this.hiddenColumnPositions.clear();
@@ -118,9 +141,24 @@ public void exportBegin(OutputStream outputStream) throws IOException {
 
     @Override
     public void exportEnd(OutputStream outputStream) throws IOException {
-        this.xlWorkbook.write(outputStream);
+        try {
+            this.xlWorkbook.write(outputStream);
+        } finally {
+            disposeWorkbook(this.xlWorkbook);
+        }
+
+        if (LOG.isDebugEnabled()) {
+            long duration = Math.max(1, (System.nanoTime() - this.exportStartTime) / 1_000_000);
+            LOG.debug("Exported {} rows and {} cells in {} ms ({} rows/s)", //$NON-NLS-1$
+                    this.exportedRowCount,
+                    this.exportedCellCount,
+                    duration,
+                    (this.exportedRowCount * 1000L) / duration);
+        }
 
         this.xlCellStyles = null;
+        this.xlFonts = null;
+        this.xlFallbackCellStyles = null;
         this.xlWorkbook = null;
         this.sheetNumber = 0;
         this.xlSheet = null;
@@ -157,6 +195,7 @@ public void exportRowBegin(OutputStream outputStream, int rowPosition) throws IO
         }
 
         this.currentRow++;
+        this.exportedRowCount++;
     }
 
     @Override
@@ -186,6 +225,7 @@ public void exportCell(
             }
         }
         int rowPosition = cell.getRowPosition();
+        this.exportedCellCount++;
 
         if (this.applyColumnWidths && cell.getColumnSpan() == 1) {
             this.xlSheet.setColumnWidth(columnPosition, getPoiColumnWidth(cell.getBounds().width) + getPoiColumnWidth(5));
@@ -336,10 +376,15 @@ private CellStyle getExcelCellStyle(
             String dataFormat, int hAlign, int vAlign,
             boolean vertical, boolean wrap, boolean border) {
 
-        CellStyle xlCellStyle = this.xlCellStyles.get(
-                new ExcelCellStyleAttributes(fg, bg, fontData, dataFormat, hAlign, vAlign, vertical, wrap, border));
+        ExcelCellStyleAttributes attributes =
+                new ExcelCellStyleAttributes(fg, bg, fontData, dataFormat, hAlign, vAlign, vertical, wrap, border);
+        CellStyle xlCellStyle = this.xlCellStyles.get(attributes);
 
         if (xlCellStyle == null) {
+            if (this.xlCellStyles.size() >= this.cellStylePoolSize) {
+                return getFallbackCellStyle(dataFormat);
+            }
+
             xlCellStyle = this.xlWorkbook.createCellStyle();
 
             if (this.applyBackgroundColor) {
@@ -348,11 +393,7 @@ private CellStyle getExcelCellStyle(
                 xlCellStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
             }
 
-            Font xlFont = this.xlWorkbook.createFont();
-            setFontColor(xlFont, fg);
-            xlFont.setFontName(fontData.getName());
-            xlFont.setFontHeightInPoints((short) fontData.getHeight());
-            xlCellStyle.setFont(xlFont);
+            xlCellStyle.setFont(getExcelFont(fg, fontData));
 
             if (vertical)
                 xlCellStyle.setRotation((short) 90);
@@ -395,12 +436,73 @@ private CellStyle getExcelCellStyle(
                 xlCellStyle.setDataFormat(createHelper.createDataFormat().getFormat(dataFormat));
             }
 
-            this.xlCellStyles.put(
-                    new ExcelCellStyleAttributes(fg, bg, fontData, dataFormat, hAlign, vAlign, vertical, wrap, border), xlCellStyle);
+            this.xlCellStyles.put(attributes, xlCellStyle);
         }
         return xlCellStyle;
     }
 
+    /**
+     * Returns the Excel font for the given foreground color and font data.
+     * Fonts are shared between all cell styles that only differ in other
+     * attributes, as the number of fonts in a workbook is limited too.
+     */
+    private Font getExcelFont(Color fg, FontData fontData) {
+        List<Object> key = Arrays.asList(fg, fontData);
+        Font xlFont = this.xlFonts.get(key);
+        if (xlFont == null) {
+            xlFont = this.xlWorkbook.createFont();
+            setFontColor(xlFont, fg);
+            xlFont.setFontName(fontData.getName());
+            xlFont.setFontHeightInPoints((short) fontData.getHeight());
+            this.xlFonts.put(key, xlFont);
+        }
+        return xlFont;
+    }
+
+    /**
+     * Returns the cell style that is used for cells whose style attributes do
+     * not fit into the cell style pool anymore. Only the data format is
+     * retained, so date values are still exported as dates.
+     */
+    private CellStyle getFallbackCellStyle(String dataFormat) {
+        CellStyle xlCellStyle = this.xlFallbackCellStyles.get(dataFormat);
+        if (xlCellStyle == null) {
+            if (this.xlFallbackCellStyles.isEmpty()) {
+                LOG.warn("The cell style pool of {} styles is exhausted, further cell styles are exported without formatting", //$NON-NLS-1$
+                        this.cellStylePoolSize);
+            }
+
+            if (this.xlFallbackCellStyles.size() >= FALLBACK_CELL_STYLES) {
+                return this.xlWorkbook.getCellStyleAt(0);
+            }
+
+            xlCellStyle = this.xlWorkbook.createCellStyle();
+            if (dataFormat != null) {
+                CreationHelper createHelper = this.xlWorkbook.getCreationHelper();
+                xlCellStyle.setDataFormat(createHelper.createDataFormat().getFormat(dataFormat));
+            }
+            this.xlFallbackCellStyles.put(dataFormat, xlCellStyle);
+        }
+        return xlCellStyle;
+    }
+
+    /**
+     * Calculates the number of distinct cell styles that can be created for
+     * the given workbook. It is the configured maximum number of cell styles,
+     * limited by the number of cell styles the workbook format supports minus
+     * the styles that already exist in the new workbook and the styles that are
+     * reserved for fallback styles.
+     *
+     * @param workbook
+     *            The workbook that is created for the export.
+     * @return The number of cell styles that can be created for the export.
+     */
+    private int getCellStylePoolSize(Workbook workbook) {
+        SpreadsheetVersion version = workbook.getSpreadsheetVersion();
+        int available = version.getMaxCellStyles() - workbook.getNumCellStyles() - FALLBACK_CELL_STYLES;
+        return Math.max(0, Math.min(this.maxCellStyles, available));
+    }
+
     /**
      *
      * @param cell
@@ -541,8 +643,42 @@ public void setApplyCellBorders(boolean apply) {
         this.applyCellBorders = apply;
     }
 
+    /**
+     * Configure the maximum number of distinct cell styles that are created
+     * for an export. Cells with equal {@link ExcelCellStyleAttributes} share
+     * the same cell style. Once the pool is exhausted, further style
+     * combinations are exported with a plain style that only keeps the data
+     * format. The pool is always limited by the number of cell styles the
+     * workbook format supports, which is the default.
+     *
+     * @param maxCellStyles
+     *            The maximum number of distinct cell styles to create.
+     * @since 2.1
+     */
+    public void setMaxCellStyles(int maxCellStyles) {
+        this.maxCellStyles = maxCellStyles;
+    }
+
     protected abstract Workbook createWorkbook();
 
+    /**
+     * Releases the resources of the given workbook after it was written to the
+     * output stream. The default implementation does nothing. Subclasses that
+     * create a streaming workbook, e.g. an <code>SXSSFWorkbook</code> that
+     * keeps only a window of rows in memory and flushes the others to
+     * temporary files, should override this method to delete the temporary
+     * files.
+     *
+     * @param workbook
+     *            The workbook that was written.
+     * @throws IOException
+     *             if releasing the workbook resources fails.
+     * @since 2.1
+     */
+    protected void disposeWorkbook(Workbook workbook) throws IOException {
+        // nothing to do for in-memory workbooks
+    }
+
     protected abstract void setFillForegroundColor(CellStyle xlCellStyle, Color swtColor);
 
     protected abstract void setFontColor(Font xlFont, Color swtColor);